@@ -3,6 +3,7 @@
 import static io.quarkus.builder.Execution.log;
 
 import java.time.LocalTime;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
@@ -29,6 +30,8 @@ public final class BuildContext {
     private final Execution execution;
     private final AtomicInteger dependencies;
     private volatile boolean running;
+    // the items produced by a cacheable step, to be stored in the build step cache
+    private volatile List<BuildStepCache.Produced> produced;
 
     BuildContext(ClassLoader classLoader, final StepInfo stepInfo, final Execution execution) {
         this.classLoader = classLoader;
@@ -215,6 +218,10 @@ private void doProduce(ItemId id, BuildItem value) {
             }
         }
         execution.getMetrics().buildItemProduced(stepInfo, value);
+        final List<BuildStepCache.Produced> produced = this.produced;
+        if (produced != null) {
+            produced.add(new BuildStepCache.Produced(id.getType(), value));
+        }
     }
 
     void depFinished() {
@@ -239,7 +246,12 @@ void run() {
                 ClassLoader old = currentThread.getContextClassLoader();
                 try {
                     Thread.currentThread().setContextClassLoader(classLoader);
-                    buildStep.execute(this);
+                    final BuildStepCache cache = execution.getBuildStepCache();
+                    if (cache != null && buildStep instanceof CacheableBuildStep) {
+                        executeCacheable(cache, (CacheableBuildStep) buildStep);
+                    } else {
+                        buildStep.execute(this);
+                    }
                 } catch (Throwable t) {
                     final List<Diagnostic> list = execution.getDiagnostics();
                     list.add(new Diagnostic(Diagnostic.Level.ERROR, t, null, "Build step %s threw an exception", buildStep));
@@ -264,4 +276,31 @@ void run() {
             execution.depFinished();
         }
     }
+
+    private void executeCacheable(BuildStepCache cache, CacheableBuildStep buildStep) {
+        final String key = cache.key(buildStep, stepInfo, execution);
+        if (key == null) {
+            buildStep.execute(this);
+            return;
+        }
+        final List<BuildStepCache.Produced> cached = cache.read(key, classLoader);
+        if (cached != null) {
+            log.tracef("Producing the cached items of step \"%s\"", buildStep);
+            for (BuildStepCache.Produced item : cached) {
+                doProduce(new ItemId(item.type()), item.item());
+            }
+            execution.getMetrics().buildStepCacheLookup(stepInfo, true);
+            return;
+        }
+        execution.getMetrics().buildStepCacheLookup(stepInfo, false);
+        produced = Collections.synchronizedList(new ArrayList<>());
+        try {
+            buildStep.execute(this);
+            if (!execution.isErrorReported()) {
+                cache.write(key, List.copyOf(produced));
+            }
+        } finally {
+            produced = null;
+        }
+    }
 }
@@ -45,6 +45,10 @@ public class BuildMetrics {
     // build step id -> produced build items
     private final ConcurrentMap<String, List<String>> buildItemsExtended;
     private final AtomicInteger idGenerator;
+    // build step id -> whether its produced items were served from the build step cache
+    private final ConcurrentMap<String, Boolean> cachedSteps;
+    private final AtomicInteger cacheHits = new AtomicInteger();
+    private final AtomicInteger cacheMisses = new AtomicInteger();
 
     public BuildMetrics(String buildTargetName) {
         boolean enabled = Boolean.getBoolean(BUILDER_METRICS_ENABLED)
@@ -54,6 +58,7 @@ public BuildMetrics(String buildTargetName) {
         if (enabled) {
             this.idGenerator = new AtomicInteger();
             this.records = new ConcurrentHashMap<>();
+            this.cachedSteps = new ConcurrentHashMap<>();
             if (Boolean.getBoolean(BUILDER_METRICS_EXTENDED_CAPTURE)) {
                 this.buildItemsExtended = new ConcurrentHashMap<>();
                 this.buildItems = null;
@@ -64,6 +69,7 @@ public BuildMetrics(String buildTargetName) {
         } else {
             this.idGenerator = null;
             this.records = null;
+            this.cachedSteps = null;
             this.buildItemsExtended = null;
             this.buildItems = null;
         }
@@ -88,6 +94,39 @@ public void buildStepFinished(StepInfo stepInfo, String thread, LocalTime starte
         }
     }
 
+    /**
+     * Records a lookup of the items produced by a cacheable build step in the build step cache.
+     *
+     * @param hit whether the items were served from the cache, in which case the step was not executed
+     */
+    public void buildStepCacheLookup(StepInfo stepInfo, boolean hit) {
+        if (hit) {
+            cacheHits.incrementAndGet();
+        } else {
+            cacheMisses.incrementAndGet();
+        }
+        if (enabled()) {
+            cachedSteps.put(stepInfo.getBuildStep().getId(), hit);
+        }
+    }
+
+    public int getCacheHits() {
+        return cacheHits.get();
+    }
+
+    public int getCacheMisses() {
+        return cacheMisses.get();
+    }
+
+    /**
+     * @return the ratio of the lookups in the build step cache that were hits, or {@code 0} if there was no lookup
+     */
+    public double getCacheHitRate() {
+        int hits = cacheHits.get();
+        int lookups = hits + cacheMisses.get();
+        return lookups == 0 ? 0 : (double) hits / lookups;
+    }
+
     public void buildItemProduced(StepInfo stepInfo, BuildItem buildItem) {
         if (enabled()) {
             if (buildItems != null) {
@@ -145,6 +184,10 @@ public int compare(BuildStepRecord o1, BuildStepRecord o2) {
                     }
                 }
                 recObject.put("dependents", dependentsArray);
+                Boolean cached = cachedSteps.get(rec.stepInfo.getBuildStep().getId());
+                if (cached != null) {
+                    recObject.put("cached", cached.booleanValue());
+                }
                 if (buildItemsExtended != null) {
                     List<String> items = buildItemsExtended.get(rec.stepInfo.getBuildStep().getId());
                     if (items != null) {
@@ -191,6 +234,15 @@ public int compare(BuildStepRecord o1, BuildStepRecord o2) {
             }
             json.put("itemsCount", itemsCount);
 
+            int hits = cacheHits.get();
+            int misses = cacheMisses.get();
+            if (hits + misses > 0) {
+                json.put("cache", Json.object()
+                        .put("hits", hits)
+                        .put("misses", misses)
+                        .put("hitRatePercent", Math.round(getCacheHitRate() * 100)));
+            }
+
             try (BufferedWriter writer = new BufferedWriter(new FileWriter(file.toFile(), StandardCharsets.UTF_8))) {
                 json.appendTo(writer);
             }
@@ -0,0 +1,233 @@
+package io.quarkus.builder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.builder.item.BuildItem;
+import io.quarkus.builder.item.MultiBuildItem;
+
+/**
+ * An on-disk cache of the items produced by the {@link CacheableBuildStep cacheable build steps}.
+ * <p>
+ * The items are keyed by the SHA-256 hash of the Quarkus version, of the identifier of the step, of the serialized form
+ * of its consumed items, and of the inputs it adds to its fingerprint. The cache is enabled by setting the
+ * {@value #BUILDER_CACHE_DIRECTORY} system property to the directory of the cache.
+ * <p>
+ * The items are stored with {@link CacheFiles}: items that cannot be read, e.g. because one of their classes changed, are
+ * deleted and the step is executed again.
+ */
+public final class BuildStepCache {
+
+    public static final String BUILDER_CACHE_DIRECTORY = "quarkus.builder.cache.directory";
+
+    private static final Logger LOG = Logger.getLogger(BuildStepCache.class.getName());
+
+    // bump when the format of the key or of the entries changes
+    private static final int VERSION = 1;
+
+    private final Path directory;
+
+    BuildStepCache(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * @return the cache configured by the {@value #BUILDER_CACHE_DIRECTORY} system property, or {@code null} if it is
+     *         not set
+     */
+    static BuildStepCache create() {
+        String directory = System.getProperty(BUILDER_CACHE_DIRECTORY);
+        return directory == null || directory.isBlank() ? null : new BuildStepCache(Path.of(directory));
+    }
+
+    /**
+     * @return the key of the items produced by the given step, or {@code null} if one of its consumed items is not
+     *         serializable
+     */
+    String key(CacheableBuildStep buildStep, StepInfo stepInfo, Execution execution) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        List<ItemId> consumes = new ArrayList<>(stepInfo.getConsumes());
+        consumes.sort(Comparator.comparing(id -> id.getType().getName()));
+        try (ObjectOutputStream out = new ObjectOutputStream(
+                new DigestOutputStream(OutputStream.nullOutputStream(), digest))) {
+            out.writeInt(VERSION);
+            out.writeInt(Runtime.version().feature());
+            out.writeUTF(Version.getVersion());
+            out.writeUTF(buildStep.getId());
+            for (ItemId id : consumes) {
+                out.writeUTF(id.getType().getName());
+                if (id.isMulti()) {
+                    List<MultiBuildItem> items = execution.getMultis().get(id);
+                    out.writeInt(items.size());
+                    for (BuildItem item : items) {
+                        if (!writeItem(out, item)) {
+                            LOG.debugf("Build step %s is not cached, %s is not serializable", buildStep, id);
+                            return null;
+                        }
+                    }
+                } else if (!writeItem(out, execution.getSingles().get(id))) {
+                    LOG.debugf("Build step %s is not cached, %s is not serializable", buildStep, id);
+                    return null;
+                }
+            }
+            buildStep.fingerprint(new DigestFingerprint(out));
+        } catch (IOException e) {
+            LOG.debugf(e, "Build step %s is not cached, unable to compute its fingerprint", buildStep);
+            return null;
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static boolean writeItem(ObjectOutputStream out, BuildItem item) throws IOException {
+        if (item == null) {
+            out.writeBoolean(false);
+            return true;
+        }
+        if (!(item instanceof Serializable)) {
+            return false;
+        }
+        out.writeBoolean(true);
+        out.writeObject(item);
+        return true;
+    }
+
+    /**
+     * @return the items produced for the given key, or {@code null} if they are not cached
+     */
+    List<Produced> read(String key, ClassLoader classLoader) {
+        return CacheFiles.read(file(key), stream -> {
+            try (ObjectInputStream in = new ClassLoaderObjectInputStream(stream, classLoader)) {
+                int size = in.readInt();
+                List<Produced> produced = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    Class<? extends BuildItem> type = ((Class<?>) in.readObject()).asSubclass(BuildItem.class);
+                    produced.add(new Produced(type, type.cast(in.readObject())));
+                }
+                return produced;
+            }
+        });
+    }
+
+    /**
+     * Stores the items produced for the given key, unless one of them is not serializable.
+     */
+    void write(String key, List<Produced> produced) {
+        for (Produced item : produced) {
+            if (!(item.item() instanceof Serializable)) {
+                LOG.debugf("The items produced for %s are not cached, %s is not serializable", key, item.type());
+                return;
+            }
+        }
+        Path file = file(key);
+        try {
+            CacheFiles.write(file, stream -> {
+                ObjectOutputStream out = new ObjectOutputStream(stream);
+                out.writeInt(produced.size());
+                for (Produced item : produced) {
+                    out.writeObject(item.type());
+                    out.writeObject(item.item());
+                }
+                out.flush();
+            });
+        } catch (IOException e) {
+            LOG.debugf(e, "Unable to cache the build items in %s", file);
+        }
+    }
+
+    private Path file(String key) {
+        return directory.resolve(key.substring(0, 2)).resolve(key + ".bin");
+    }
+
+    /**
+     * An item produced by a build step, along with the type it was produced as.
+     */
+    record Produced(Class<? extends BuildItem> type, BuildItem item) {
+    }
+
+    private static final class DigestFingerprint implements CacheableBuildStep.Fingerprint {
+
+        private final ObjectOutputStream out;
+
+        DigestFingerprint(ObjectOutputStream out) {
+            this.out = out;
+        }
+
+        @Override
+        public CacheableBuildStep.Fingerprint put(String name, String value) {
+            try {
+                out.writeUTF(name);
+                out.writeBoolean(value != null);
+                if (value != null) {
+                    out.writeUTF(value);
+                }
+            } catch (IOException e) {
+                // never thrown when writing to the digest
+                throw new IllegalStateException(e);
+            }
+            return this;
+        }
+
+        @Override
+        public CacheableBuildStep.Fingerprint put(String name, byte[] content) {
+            try {
+                out.writeUTF(name);
+                out.writeInt(content.length);
+                out.write(content);
+            } catch (IOException e) {
+                // never thrown when writing to the digest
+                throw new IllegalStateException(e);
+            }
+            return this;
+        }
+
+        @Override
+        public CacheableBuildStep.Fingerprint put(String name, Path file) throws IOException {
+            out.writeUTF(name);
+            out.writeLong(Files.size(file));
+            try (InputStream in = Files.newInputStream(file)) {
+                in.transferTo(out);
+            }
+            return this;
+        }
+    }
+
+    private static final class ClassLoaderObjectInputStream extends ObjectInputStream {
+
+        private final ClassLoader classLoader;
+
+        ClassLoaderObjectInputStream(InputStream in, ClassLoader classLoader) throws IOException {
+            super(in);
+            this.classLoader = classLoader;
+        }
+
+        @Override
+        protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+            try {
+                return Class.forName(desc.getName(), false, classLoader);
+            } catch (ClassNotFoundException e) {
+                return super.resolveClass(desc);
+            }
+        }
+    }
+}
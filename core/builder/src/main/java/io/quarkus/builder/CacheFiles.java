@@ -0,0 +1,87 @@
+package io.quarkus.builder;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Reads and writes the entries of the on-disk caches shared by concurrent builds.
+ * <p>
+ * An entry is written to a temporary file then moved to its final location, so that concurrent builds never read a
+ * partially written entry. An entry that cannot be read is deleted, for the build to compute and write it again.
+ */
+public final class CacheFiles {
+
+    private static final Logger LOG = Logger.getLogger(CacheFiles.class.getName());
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private CacheFiles() {
+    }
+
+    /**
+     * @return the content read from the given entry, or {@code null} if there is no such entry or if it cannot be read
+     */
+    public static <T> T read(Path file, ContentReader<T> reader) {
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(file), BUFFER_SIZE)) {
+            return reader.read(in);
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException | ClassNotFoundException | RuntimeException e) {
+            LOG.debugf(e, "Discarding the cache entry %s", file);
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException ignored) {
+                // another build may replace it
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Writes the given entry, replacing the existing one if any.
+     */
+    public static void write(Path file, ContentWriter writer) throws IOException {
+        Path tmp = null;
+        try {
+            Files.createDirectories(file.getParent());
+            tmp = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(tmp), BUFFER_SIZE)) {
+                writer.write(out);
+            }
+            try {
+                Files.move(tmp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+            tmp = null;
+        } finally {
+            if (tmp != null) {
+                try {
+                    Files.deleteIfExists(tmp);
+                } catch (IOException ignored) {
+                    // best effort
+                }
+            }
+        }
+    }
+
+    @FunctionalInterface
+    public interface ContentReader<T> {
+        T read(InputStream in) throws IOException, ClassNotFoundException;
+    }
+
+    @FunctionalInterface
+    public interface ContentWriter {
+        void write(OutputStream out) throws IOException;
+    }
+}
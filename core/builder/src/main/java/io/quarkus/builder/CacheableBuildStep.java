@@ -0,0 +1,66 @@
+package io.quarkus.builder;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * A build step whose produced items only depend on its consumed items and on the inputs it adds to its fingerprint.
+ * <p>
+ * When the build step cache is enabled, the produced items of a cacheable step are stored once it succeeds, and they
+ * are produced again without executing the step by the next builds with the same fingerprint. The fingerprint covers
+ * the identifier of the step, the consumed items and the inputs added by {@link #fingerprint(Fingerprint)}, e.g. the
+ * hashes of the classes it reads, the configuration values it uses, or the dependencies of the application.
+ * <p>
+ * A step is only cached if all its consumed and produced items are {@link java.io.Serializable}. It must not have any
+ * side effect other than producing its items, since it is not executed when its items are served from the cache.
+ * <p>
+ * Build steps declared with {@code @BuildStep(cacheable = true)} are made cacheable by the extension loader, which adds
+ * the bytecode of their declaring class to their fingerprint.
+ *
+ * @see BuildStepCache
+ */
+public interface CacheableBuildStep extends BuildStep {
+
+    /**
+     * Adds the inputs of this step which are not consumed build items to its fingerprint.
+     *
+     * @param fingerprint the fingerprint of this step (not {@code null})
+     * @throws IOException if an input could not be read
+     */
+    default void fingerprint(Fingerprint fingerprint) throws IOException {
+    }
+
+    /**
+     * The inputs of a cacheable build step.
+     */
+    interface Fingerprint {
+
+        /**
+         * Adds a named value, e.g. a configuration value.
+         *
+         * @param name the name of the input (not {@code null})
+         * @param value the value (may be {@code null})
+         * @return this fingerprint
+         */
+        Fingerprint put(String name, String value);
+
+        /**
+         * Adds a named content, e.g. the bytecode of a class.
+         *
+         * @param name the name of the input (not {@code null})
+         * @param content the content (not {@code null})
+         * @return this fingerprint
+         */
+        Fingerprint put(String name, byte[] content);
+
+        /**
+         * Adds the content of a file, e.g. a dependency of the application.
+         *
+         * @param name the name of the input (not {@code null})
+         * @param file the file (not {@code null})
+         * @return this fingerprint
+         * @throws IOException if the file could not be read
+         */
+        Fingerprint put(String name, Path file) throws IOException;
+    }
+}
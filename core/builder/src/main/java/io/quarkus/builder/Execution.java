@@ -40,6 +40,7 @@ final class Execution {
     private volatile boolean done;
 
     private final BuildMetrics metrics;
+    private final BuildStepCache buildStepCache;
 
     static {
         try {
@@ -71,6 +72,7 @@ final class Execution {
             done = true;
 
         metrics = new BuildMetrics(buildTargetName);
+        buildStepCache = BuildStepCache.create();
     }
 
     private static int defineMaxPoolSize(final int availableProcessors, final int corePoolSize) {
@@ -186,6 +188,13 @@ BuildMetrics getMetrics() {
         return metrics;
     }
 
+    /**
+     * @return the build step cache, or {@code null} if it is not enabled
+     */
+    BuildStepCache getBuildStepCache() {
+        return buildStepCache;
+    }
+
     void depFinished() {
         final int count = lastStepCount.decrementAndGet();
         log.tracef("End step completed; %d remaining", count);
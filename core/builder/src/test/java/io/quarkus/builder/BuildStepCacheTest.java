@@ -0,0 +1,132 @@
+package io.quarkus.builder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.Serializable;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.quarkus.builder.item.SimpleBuildItem;
+
+public class BuildStepCacheTest {
+
+    public static final class InputItem extends SimpleBuildItem implements Serializable {
+        final String value;
+
+        public InputItem(String value) {
+            this.value = value;
+        }
+    }
+
+    public static final class OutputItem extends SimpleBuildItem implements Serializable {
+        final String value;
+
+        public OutputItem(String value) {
+            this.value = value;
+        }
+    }
+
+    public static final class NonSerializableItem extends SimpleBuildItem {
+    }
+
+    @TempDir
+    Path cacheDirectory;
+
+    final AtomicInteger executions = new AtomicInteger();
+
+    @BeforeEach
+    public void enableCache() {
+        System.setProperty(BuildStepCache.BUILDER_CACHE_DIRECTORY, cacheDirectory.toString());
+    }
+
+    @AfterEach
+    public void disableCache() {
+        System.clearProperty(BuildStepCache.BUILDER_CACHE_DIRECTORY);
+    }
+
+    @Test
+    public void testReuseOutputsWhenInputsAreUnchanged() throws Exception {
+        BuildResult first = build("foo", "1");
+        assertThat(first.consume(OutputItem.class).value).isEqualTo("FOO");
+        assertThat(first.getMetrics().getCacheMisses()).isEqualTo(1);
+
+        BuildResult second = build("foo", "1");
+        assertThat(second.consume(OutputItem.class).value).isEqualTo("FOO");
+        assertThat(second.getMetrics().getCacheHits()).isEqualTo(1);
+        assertThat(second.getMetrics().getCacheHitRate()).isEqualTo(1.0);
+        assertThat(executions).hasValue(1);
+    }
+
+    @Test
+    public void testExecuteWhenConsumedItemChanged() throws Exception {
+        build("foo", "1");
+        BuildResult result = build("bar", "1");
+        assertThat(result.consume(OutputItem.class).value).isEqualTo("BAR");
+        assertThat(result.getMetrics().getCacheMisses()).isEqualTo(1);
+        assertThat(executions).hasValue(2);
+    }
+
+    @Test
+    public void testExecuteWhenFingerprintChanged() throws Exception {
+        build("foo", "1");
+        build("foo", "2");
+        assertThat(executions).hasValue(2);
+    }
+
+    @Test
+    public void testNonSerializableInputsAreNotCached() throws Exception {
+        for (int i = 0; i < 2; i++) {
+            final BuildChainBuilder builder = BuildChain.builder();
+            builder.addBuildStep(new CacheableBuildStep() {
+                @Override
+                public void execute(BuildContext context) {
+                    executions.incrementAndGet();
+                    context.produce(new OutputItem("foo"));
+                }
+
+                @Override
+                public String getId() {
+                    return "non-serializable";
+                }
+            }).consumes(NonSerializableItem.class).produces(OutputItem.class).build();
+            builder.addInitial(NonSerializableItem.class);
+            builder.addFinal(OutputItem.class);
+            BuildResult result = builder.build().createExecutionBuilder("my-app.jar")
+                    .produce(new NonSerializableItem())
+                    .execute();
+            assertThat(result.getMetrics().getCacheHits() + result.getMetrics().getCacheMisses()).isZero();
+        }
+        assertThat(executions).hasValue(2);
+    }
+
+    private BuildResult build(String input, String version) throws Exception {
+        final BuildChainBuilder builder = BuildChain.builder();
+        builder.addBuildStep(new CacheableBuildStep() {
+            @Override
+            public void execute(BuildContext context) {
+                executions.incrementAndGet();
+                context.produce(new OutputItem(context.consume(InputItem.class).value.toUpperCase()));
+            }
+
+            @Override
+            public void fingerprint(Fingerprint fingerprint) {
+                fingerprint.put("version", version);
+            }
+
+            @Override
+            public String getId() {
+                return "upper-case";
+            }
+        }).consumes(InputItem.class).produces(OutputItem.class).build();
+        builder.addInitial(InputItem.class);
+        builder.addFinal(OutputItem.class);
+        return builder.build().createExecutionBuilder("my-app.jar")
+                .produce(new InputItem(input))
+                .execute();
+    }
+}
@@ -0,0 +1,64 @@
+package io.quarkus.builder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class CacheFilesTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    public void testWriteThenRead() throws IOException {
+        Path file = directory.resolve("ab").resolve("entry");
+        assertThat(CacheFiles.read(file, CacheFilesTest::readString)).isNull();
+
+        CacheFiles.write(file, out -> out.write("first".getBytes(StandardCharsets.UTF_8)));
+        CacheFiles.write(file, out -> out.write("second".getBytes(StandardCharsets.UTF_8)));
+
+        assertThat(CacheFiles.read(file, CacheFilesTest::readString)).isEqualTo("second");
+        try (var files = Files.list(file.getParent())) {
+            assertThat(files).containsExactly(file);
+        }
+    }
+
+    @Test
+    public void testUnreadableEntryIsDeleted() throws IOException {
+        Path file = directory.resolve("entry");
+        Files.writeString(file, "corrupted");
+
+        assertThat(CacheFiles.<String> read(file, in -> {
+            throw new IOException("corrupted");
+        })).isNull();
+        assertThat(file).doesNotExist();
+    }
+
+    @Test
+    public void testFailedWriteKeepsTheExistingEntry() throws IOException {
+        Path file = directory.resolve("entry");
+        CacheFiles.write(file, out -> out.write("valid".getBytes(StandardCharsets.UTF_8)));
+
+        assertThatThrownBy(() -> CacheFiles.write(file, out -> {
+            out.write("partial".getBytes(StandardCharsets.UTF_8));
+            throw new IOException("failed");
+        })).isInstanceOf(IOException.class);
+
+        assertThat(CacheFiles.read(file, CacheFilesTest::readString)).isEqualTo("valid");
+        try (var files = Files.list(directory)) {
+            assertThat(files).containsExactly(file);
+        }
+    }
+
+    private static String readString(InputStream in) throws IOException {
+        return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+    }
+}
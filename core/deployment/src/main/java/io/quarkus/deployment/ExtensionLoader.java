@@ -14,6 +14,7 @@
 import static java.util.Arrays.asList;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
 import java.lang.reflect.AnnotatedElement;
@@ -59,6 +60,7 @@
 import io.quarkus.builder.BuildChainBuilder;
 import io.quarkus.builder.BuildContext;
 import io.quarkus.builder.BuildStepBuilder;
+import io.quarkus.builder.CacheableBuildStep;
 import io.quarkus.builder.ConsumeFlag;
 import io.quarkus.builder.ConsumeFlags;
 import io.quarkus.builder.ProduceFlag;
@@ -773,6 +775,17 @@ private static Consumer<BuildChainBuilder> loadStepsFromClass(Class<?> clazz,
                 throw reportError(method, "Unsupported method return type " + returnType);
             }
 
+            final boolean cacheable = buildStep.cacheable();
+            if (cacheable) {
+                // recorded bytecode is not a build item and configuration is not part of the fingerprint
+                if (isRecorder) {
+                    throw reportError(method, "A cacheable build step cannot record bytecode");
+                }
+                if (!methodConsumingConfigPhases.isEmpty()) {
+                    throw reportError(method, "A cacheable build step cannot inject configuration");
+                }
+            }
+
             if (methodConsumingConfigPhases.contains(ConfigPhase.RUN_TIME)) {
                 if (isRecorder && recordAnnotation.value() == ExecutionTime.STATIC_INIT) {
                     throw reportError(method,
@@ -836,7 +849,7 @@ private static Consumer<BuildChainBuilder> loadStepsFromClass(Class<?> clazz,
             MethodHandle methodHandle = unreflect(method, lookup);
             chainConfig = chainConfig
                     .andThen(bcb -> {
-                        BuildStepBuilder bsb = bcb.addBuildStep(new io.quarkus.builder.BuildStep() {
+                        io.quarkus.builder.BuildStep step = new io.quarkus.builder.BuildStep() {
                             public void execute(final BuildContext bc) {
                                 Object[] ctorArgs = new Object[ctorParamFns.size()];
                                 for (int i = 0; i < ctorArgs.length; i++) {
@@ -923,13 +936,50 @@ public String getId() {
                             public String toString() {
                                 return name;
                             }
-                        });
+                        };
+                        BuildStepBuilder bsb = bcb.addBuildStep(cacheable ? cacheable(step, clazz) : step);
                         finalStepConfig.accept(bsb);
                     });
         }
         return chainConfig;
     }
 
+    /**
+     * Wraps the given step so that its produced items are served from the build step cache when its consumed items, the
+     * bytecode of its class and the Quarkus version are unchanged.
+     *
+     * @param step the build step (must not be {@code null})
+     * @param clazz the class declaring the build step (must not be {@code null})
+     * @return the cacheable build step
+     */
+    static CacheableBuildStep cacheable(io.quarkus.builder.BuildStep step, Class<?> clazz) {
+        return new CacheableBuildStep() {
+            public void execute(final BuildContext bc) {
+                step.execute(bc);
+            }
+
+            @Override
+            public void fingerprint(Fingerprint fingerprint) throws IOException {
+                final String resource = clazz.getName().replace('.', '/') + ".class";
+                try (InputStream in = clazz.getClassLoader().getResourceAsStream(resource)) {
+                    if (in == null) {
+                        throw new IOException("Unable to read " + resource);
+                    }
+                    fingerprint.put(resource, in.readAllBytes());
+                }
+            }
+
+            @Override
+            public String getId() {
+                return step.getId();
+            }
+
+            public String toString() {
+                return step.toString();
+            }
+        };
+    }
+
     private static MethodHandle unreflect(Method method, MethodHandles.Lookup lookup) {
         try {
             return lookup.unreflect(method);
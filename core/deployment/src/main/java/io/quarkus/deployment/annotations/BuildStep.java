@@ -76,4 +76,20 @@
      * @return the supplier class array
      */
     Class<? extends BooleanSupplier>[] onlyIfNot() default {};
+
+    /**
+     * Whether the items produced by this build step may be reused by the next builds when its inputs are unchanged.
+     * <p>
+     * The inputs of a cacheable step are its consumed items, the bytecode of its class and the Quarkus version. The
+     * step is only served from the cache if all its consumed and produced items are {@link java.io.Serializable}, and
+     * it must not have any side effect other than producing its items. A cacheable step cannot be annotated with
+     * {@link Record} nor inject configuration, since recorded bytecode and configuration are not part of its inputs.
+     * <p>
+     * The cache is only used when the {@value io.quarkus.builder.BuildStepCache#BUILDER_CACHE_DIRECTORY} system
+     * property is set.
+     *
+     * @return {@code true} if the produced items may be served from the build step cache
+     * @see io.quarkus.builder.CacheableBuildStep
+     */
+    boolean cacheable() default false;
 }
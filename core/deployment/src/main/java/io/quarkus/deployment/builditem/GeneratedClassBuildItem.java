@@ -1,5 +1,7 @@
 package io.quarkus.deployment.builditem;
 
+import java.io.Serializable;
+
 import io.quarkus.builder.item.MultiBuildItem;
 
 /**
@@ -15,13 +17,13 @@
  * </ul>
  * These generated classes are typically added to the application's class path or packaged into the final artifact.
  */
-public final class GeneratedClassBuildItem extends MultiBuildItem {
+public final class GeneratedClassBuildItem extends MultiBuildItem implements Serializable {
 
     final boolean applicationClass;
     final String name;
-    String binaryName;
-    String internalName;
-    String packageName;
+    transient String binaryName;
+    transient String internalName;
+    transient String packageName;
     final byte[] classData;
     final String source;
 
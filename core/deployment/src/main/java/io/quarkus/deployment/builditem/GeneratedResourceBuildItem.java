@@ -1,11 +1,13 @@
 package io.quarkus.deployment.builditem;
 
+import java.io.Serializable;
+
 import io.quarkus.builder.item.MultiBuildItem;
 
 /**
  * Representing a resource file generated during the build
  */
-public final class GeneratedResourceBuildItem extends MultiBuildItem {
+public final class GeneratedResourceBuildItem extends MultiBuildItem implements Serializable {
     final String name;
     final byte[] data;
 
@@ -1,9 +1,11 @@
 package io.quarkus.deployment.builditem;
 
+import java.io.Serializable;
+
 import io.quarkus.builder.item.SimpleBuildItem;
 
 /**
  * Indicates the pre-init should be executed in GeneratedMain.
  */
-public final class PreInitBuildItem extends SimpleBuildItem {
+public final class PreInitBuildItem extends SimpleBuildItem implements Serializable {
 }
@@ -1,5 +1,6 @@
 package io.quarkus.deployment.builditem;
 
+import java.io.Serializable;
 import java.util.Objects;
 
 import io.quarkus.builder.item.MultiBuildItem;
@@ -15,7 +16,8 @@
  * <p>
  * The tasks are submitted to the thread pool in the priority order: a lower value for priority will be submitted first.
  */
-public final class PreInitRunnableBuildItem extends MultiBuildItem implements Comparable<PreInitRunnableBuildItem> {
+public final class PreInitRunnableBuildItem extends MultiBuildItem
+        implements Serializable, Comparable<PreInitRunnableBuildItem> {
 
     public static final int DEFAULT_PRIORITY = 100;
 
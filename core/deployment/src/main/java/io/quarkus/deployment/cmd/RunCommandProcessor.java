@@ -37,7 +37,7 @@ public void defaultJavaCommand(PackageConfig packageConfig,
             // todo: legacy JAR should be using runnerSuffix()
             case LEGACY_JAR -> jar.getOutputDirectory()
                     .resolve(jar.getBaseName() + packageConfig.computedRunnerSuffix() + ".jar");
-            case FAST_JAR, MUTABLE_JAR, AOT_JAR -> jar.getOutputDirectory()
+            case FAST_JAR, MUTABLE_JAR, AOT_JAR, INDEXED_JAR -> jar.getOutputDirectory()
                     .resolve(DEFAULT_FAST_JAR_DIRECTORY_NAME).resolve(QUARKUS_RUN_JAR);
         };
 
@@ -9,6 +9,7 @@
 import io.quarkus.runtime.annotations.ConfigPhase;
 import io.quarkus.runtime.annotations.ConfigRoot;
 import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
 
 /**
  * Class loading
@@ -74,4 +75,17 @@ public interface ClassLoadingConfig {
     @ConfigDocMapKey("group-id:artifact-id")
     Map<String, Set<String>> removedResources();
 
+    /**
+     * Whether the classes listed in the {@code first-request} phase of the {@code META-INF/quarkus-preload-classes.txt}
+     * files are loaded and initialized on a background thread right after the application has started,
+     * so that the first requests do not pay for it.
+     * <p>
+     * These phases are recorded by running the production application with the
+     * {@code -Dquarkus.class-loading.record-file=<file>} system property, for instance while running the integration tests.
+     * <p>
+     * This setting has no impact on dev mode and native executables.
+     */
+    @WithDefault("true")
+    boolean preloadFirstRequestClasses();
+
 }
@@ -0,0 +1,201 @@
+package io.quarkus.deployment.dev;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Stream;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.deployment.dev.filesystem.watch.FileChangeCallback;
+import io.quarkus.deployment.dev.filesystem.watch.FileChangeEvent;
+import io.quarkus.deployment.dev.filesystem.watch.WatchServiceFileSystemWatcher;
+
+/**
+ * Tracks the files changed in the source, resource and class directories of the application, so that a scan only
+ * checks the changed files instead of walking these directories.
+ * <p>
+ * Each {@link Cursor} records the paths changed since it was last {@link Cursor#poll(Path) polled} for a given root, so
+ * that live reload and continuous testing can consume the changes independently. A root is watched the first time it is
+ * polled, and the first poll of a root, or a poll after events were lost, requires a full scan.
+ */
+final class FileChangeTracker implements Closeable {
+
+    private static final Logger log = Logger.getLogger(FileChangeTracker.class);
+
+    private final WatchServiceFileSystemWatcher watcher;
+    private final FileChangeCallback callback = this::handleChanges;
+    private final Set<Path> watchedRoots = ConcurrentHashMap.newKeySet();
+    private final List<Cursor> cursors = new CopyOnWriteArrayList<>();
+
+    FileChangeTracker() {
+        this.watcher = new WatchServiceFileSystemWatcher("Quarkus Dev Mode Watcher", true);
+    }
+
+    /**
+     * @return a new cursor, tracking the changes independently of the other cursors
+     */
+    Cursor cursor() {
+        Cursor cursor = new Cursor();
+        cursors.add(cursor);
+        return cursor;
+    }
+
+    private boolean watch(Path root) {
+        if (watchedRoots.contains(root)) {
+            return true;
+        }
+        synchronized (this) {
+            if (watchedRoots.contains(root)) {
+                return true;
+            }
+            try {
+                watcher.watchDirectoryRecursively(root, callback);
+            } catch (RuntimeException e) {
+                log.debugf(e, "Unable to watch %s, it will be scanned for changes", root);
+                return false;
+            }
+            watchedRoots.add(root);
+            return true;
+        }
+    }
+
+    /**
+     * Requires the given root to be scanned by all the cursors, e.g. because the files it contains were written by a
+     * compilation whose events may not have been received yet.
+     */
+    void invalidate(Path root) {
+        Path absoluteRoot = root.toAbsolutePath().normalize();
+        for (Cursor cursor : cursors) {
+            cursor.overflow(absoluteRoot);
+        }
+    }
+
+    private void handleChanges(Collection<FileChangeEvent> changes) {
+        for (FileChangeEvent change : changes) {
+            Path file = change.getFile();
+            if (change.getType() == FileChangeEvent.Type.OVERFLOW) {
+                for (Cursor cursor : cursors) {
+                    cursor.overflow(file);
+                }
+                continue;
+            }
+            List<Path> changed;
+            if (change.getType() == FileChangeEvent.Type.ADDED && Files.isDirectory(file)) {
+                // the files created before the directory was watched are not reported
+                try (Stream<Path> walk = Files.walk(file)) {
+                    changed = walk.toList();
+                } catch (IOException | UncheckedIOException e) {
+                    log.debugf(e, "Unable to walk %s", file);
+                    for (Cursor cursor : cursors) {
+                        cursor.overflow(file);
+                    }
+                    continue;
+                }
+            } else {
+                changed = List.of(file);
+            }
+            for (Cursor cursor : cursors) {
+                cursor.changed(changed);
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        cursors.clear();
+        watcher.close();
+    }
+
+    /**
+     * The changes consumed by a scan.
+     */
+    final class Cursor {
+
+        // guarded by this, root -> paths changed since the last poll
+        private final Map<Path, Set<Path>> changes = new HashMap<>();
+
+        /**
+         * Returns the paths changed under the given root since the last poll, and starts tracking the changes of the
+         * root the first time it is polled. The changed paths include the deleted paths, and the content of the added
+         * directories. They are resolved against the given root.
+         *
+         * @return the paths changed under the given root, or {@code null} if the root must be scanned, e.g. because it
+         *         was never polled, or because some changes may have been lost
+         */
+        Set<Path> poll(Path root) {
+            Path absoluteRoot = root.toAbsolutePath().normalize();
+            if (!Files.isDirectory(absoluteRoot)) {
+                // the watch keys of a deleted root are cancelled, it is watched again if it is created again
+                synchronized (this) {
+                    changes.remove(absoluteRoot);
+                }
+                if (watchedRoots.remove(absoluteRoot)) {
+                    watcher.unwatchPath(absoluteRoot, callback);
+                }
+                return null;
+            }
+            synchronized (this) {
+                Set<Path> changed = changes.get(absoluteRoot);
+                if (changed != null) {
+                    if (changed.isEmpty()) {
+                        return Set.of();
+                    }
+                    changes.put(absoluteRoot, new HashSet<>());
+                    // the scans compare the paths relative to the root as it was given
+                    Set<Path> ret = new HashSet<>(changed.size());
+                    for (Path path : changed) {
+                        ret.add(root.resolve(absoluteRoot.relativize(path)));
+                    }
+                    return ret;
+                }
+            }
+            // watch the root before it is scanned, so that no change is missed
+            if (watch(absoluteRoot)) {
+                synchronized (this) {
+                    changes.put(absoluteRoot, new HashSet<>());
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Requires the given root to be scanned by the next poll of this cursor, e.g. because the changes it returned
+         * could not be processed.
+         */
+        void invalidate(Path root) {
+            overflow(root.toAbsolutePath().normalize());
+        }
+
+        private synchronized void changed(List<Path> paths) {
+            for (Map.Entry<Path, Set<Path>> entry : changes.entrySet()) {
+                for (Path path : paths) {
+                    if (path.startsWith(entry.getKey())) {
+                        entry.getValue().add(path);
+                    }
+                }
+            }
+        }
+
+        private synchronized void overflow(Path directory) {
+            for (Iterator<Path> iterator = changes.keySet().iterator(); iterator.hasNext();) {
+                Path root = iterator.next();
+                if (directory.startsWith(root) || root.startsWith(directory)) {
+                    log.debugf("Some changes of %s were lost, it will be scanned", root);
+                    iterator.remove();
+                }
+            }
+        }
+    }
+}
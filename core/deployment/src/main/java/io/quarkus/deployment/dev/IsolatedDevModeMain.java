@@ -94,7 +94,9 @@ private synchronized void firstStart() {
                         .setConfiguredInstrumentationEnabled(
                                 runner.getConfigValue("quarkus.live-reload.instrumentation", Boolean.class).orElse(false))
                         .setLiveReloadEnabled(
-                                runner.getConfigValue("quarkus.live-reload.enabled", Boolean.class).orElse(false));
+                                runner.getConfigValue("quarkus.live-reload.enabled", Boolean.class).orElse(false))
+                        .setWatchServiceEnabled(
+                                runner.getConfigValue("quarkus.live-reload.watch-service", Boolean.class).orElse(true));
                 firstStartCompleted = true;
                 notifyListenersAfterStart();
 
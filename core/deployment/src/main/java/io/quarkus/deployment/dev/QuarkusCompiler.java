@@ -111,6 +111,18 @@ public QuarkusCompiler(CuratedApplication application,
         }
     }
 
+    /**
+     * Creates a compiler without compilation context, the providers are given a {@code null} context.
+     */
+    // for tests
+    QuarkusCompiler(List<CompilationProvider> compilationProviders) {
+        this.compilationProviders = compilationProviders;
+        this.allHandledExtensions = new HashSet<>();
+        for (CompilationProvider compilationProvider : compilationProviders) {
+            this.allHandledExtensions.addAll(compilationProvider.handledExtensions());
+        }
+    }
+
     private void parseClassPath(final String devModeRunnerJarCanonicalPath,
             final Set<File> classPathElements,
             final Deque<Path> toParse,
@@ -143,6 +143,16 @@ public class RuntimeUpdatesProcessor implements HotReplacementContext, Closeable
     private Timer testClassChangeTimer;
     volatile StatusLine compileOutput;
 
+    /**
+     * Tracks the changed files, so that the scans do not need to walk the source, resource and class directories.
+     * {@code null} if watch events are not used, e.g. because they are not reliable on this OS.
+     */
+    private volatile FileChangeTracker fileChangeTracker;
+    /**
+     * The changes of the source files, shared by live reload and continuous testing like their timestamps
+     */
+    private volatile FileChangeTracker.Cursor sourceChanges;
+
     public RuntimeUpdatesProcessor(Path applicationRoot, DevModeContext context, QuarkusCompiler compiler,
             DevModeType devModeType, BiConsumer<Set<String>, ClassScanResult> restartCallback,
             BiConsumer<DevModeContext.ModuleInfo, String> copyResourceNotification,
@@ -646,6 +656,59 @@ public RuntimeUpdatesProcessor setConfiguredInstrumentationEnabled(boolean confi
         return this;
     }
 
+    /**
+     * Whether the changes are detected with watch events, so that a scan only checks the changed files. The watch
+     * events are only used on Linux, the directories are walked on each scan on the other OS, where the JDK watch
+     * service may poll the file system.
+     */
+    public RuntimeUpdatesProcessor setWatchServiceEnabled(boolean watchServiceEnabled) {
+        scanLock.lock();
+        try {
+            if (watchServiceEnabled && IS_LINUX && fileChangeTracker == null) {
+                FileChangeTracker tracker;
+                try {
+                    tracker = new FileChangeTracker();
+                } catch (RuntimeException e) {
+                    log.debug("Unable to watch the file changes, the directories will be scanned", e);
+                    return this;
+                }
+                sourceChanges = tracker.cursor();
+                main.classChanges = tracker.cursor();
+                main.resourceChanges = tracker.cursor();
+                test.classChanges = tracker.cursor();
+                test.resourceChanges = tracker.cursor();
+                fileChangeTracker = tracker;
+            } else if (!watchServiceEnabled && fileChangeTracker != null) {
+                closeFileChangeTracker();
+            }
+        } finally {
+            scanLock.unlock();
+        }
+        return this;
+    }
+
+    private void closeFileChangeTracker() {
+        FileChangeTracker tracker = fileChangeTracker;
+        fileChangeTracker = null;
+        sourceChanges = null;
+        main.classChanges = null;
+        main.resourceChanges = null;
+        test.classChanges = null;
+        test.resourceChanges = null;
+        try {
+            tracker.close();
+        } catch (IOException e) {
+            //ignore
+        }
+    }
+
+    /**
+     * @return the paths changed under the given root since the last scan, or {@code null} if the root must be walked
+     */
+    private static Set<Path> pollChanges(FileChangeTracker.Cursor cursor, Path root) {
+        return cursor != null ? cursor.poll(root) : null;
+    }
+
     @Override
     public void addPreScanStep(Runnable runnable) {
         preScanSteps.add(runnable);
@@ -757,21 +820,28 @@ ClassScanResult checkForChangedClasses(QuarkusCompiler compiler,
         record RecompilableLocationsBySourcePath(Path sourcePath, Set<File> changedFiles, Set<File> changedDependencies) {
         }
         record ChangeDetectionResult(DevModeContext.ModuleInfo moduleInfo,
-                List<RecompilableLocationsBySourcePath> changedLocations) {
+                List<RecompilableLocationsBySourcePath> changedLocations, Set<Path> sourcesChanged) {
         }
         List<ChangeDetectionResult> changeDetectionResults = new ArrayList<>();
         Set<DotName> knownRecompilationTargets = new HashSet<>();
 
         for (DevModeContext.ModuleInfo module : context.getAllModules()) {
-            ChangeDetectionResult changeDetectionResult = new ChangeDetectionResult(module, new ArrayList<>());
+            ChangeDetectionResult changeDetectionResult = new ChangeDetectionResult(module, new ArrayList<>(),
+                    new HashSet<>());
 
             for (Path sourcePath : cuf.apply(module).getSourcePaths()) {
                 if (!Files.exists(sourcePath)) {
                     continue;
                 }
 
+                final Set<Path> changes = pollChanges(sourceChanges, sourcePath);
+                if (changes == null || !changes.isEmpty()) {
+                    // a deleted source file is detected when scanning the class files
+                    changeDetectionResult.sourcesChanged().add(sourcePath);
+                }
                 final Set<File> changedSourceFiles;
-                try (final Stream<Path> sourcesStream = Files.walk(sourcePath)) {
+                try (final Stream<Path> sourcesStream = changes == null ? Files.walk(sourcePath)
+                        : changes.stream().filter(Files::isRegularFile)) {
                     changedSourceFiles = sourcesStream
                             .parallel()
                             .filter(p -> matchingHandledExtension(p).isPresent()
@@ -816,7 +886,8 @@ && sourceFileWasRecentModified(p, firstScan, firstScan))
             }
         }
 
-        for (ChangeDetectionResult changeDetectionResult : changeDetectionResults) {
+        for (int moduleIndex = 0; moduleIndex < changeDetectionResults.size(); moduleIndex++) {
+            final ChangeDetectionResult changeDetectionResult = changeDetectionResults.get(moduleIndex);
             final List<Path> moduleChangedSourceFilePaths = new ArrayList<>();
             for (RecompilableLocationsBySourcePath recompilableLocationsBySourcePath : changeDetectionResult
                     .changedLocations()) {
@@ -875,6 +946,12 @@ && sourceFileWasRecentModified(p, firstScan, firstScan))
                                 compileProblem = e;
                             }
                             getCompileOutput().setMessage(e.getMessage());
+                            //the changes of this module and of the modules that are not compiled yet were consumed
+                            //so their sources are walked by the next scan, and compiled again
+                            for (ChangeDetectionResult notCompiled : changeDetectionResults.subList(moduleIndex,
+                                    changeDetectionResults.size())) {
+                                invalidateSourcePaths(notCompiled.sourcesChanged());
+                            }
                             return classScanResult;
                         }
                         boolean timestampsChanged = false;
@@ -895,14 +972,16 @@ && sourceFileWasRecentModified(p, firstScan, firstScan))
                     //now we re-update the underlying timestamps, to the values we just compiled
                     //if the file has changed in the meantime it will be picked up in the next
                     //scan
-                    //note that if compile failed these are not updated, so failing files will always be re-compiled
+                    //note that if compile failed these are not updated, and the source paths are walked by the next scan
+                    //so failing files will always be re-compiled
                     for (Map.Entry<File, Long> entry : compileTimestamps.entrySet()) {
                         sourceFileTimestamps.put(entry.getKey().toPath(), entry.getValue());
                     }
+                    invalidateClassesPaths(cuf.apply(changeDetectionResult.moduleInfo()));
                 }
             }
             checkForClassFilesChangesInModule(changeDetectionResult.moduleInfo(), moduleChangedSourceFilePaths,
-                    firstScan, classScanResult,
+                    !changeDetectionResult.sourcesChanged().isEmpty(), firstScan, classScanResult,
                     cuf, timestampSet);
         }
 
@@ -933,8 +1012,35 @@ public Throwable getCompileProblem() {
         return compileProblem;
     }
 
+    /**
+     * The class files written by a compilation are scanned by the next scans of live reload and continuous testing,
+     * even if their watch events were not received yet.
+     */
+    private void invalidateClassesPaths(DevModeContext.CompilationUnit compilationUnit) {
+        FileChangeTracker tracker = fileChangeTracker;
+        if (tracker == null || compilationUnit.getClassesPath() == null) {
+            return;
+        }
+        for (String folder : compilationUnit.getClassesPath().split(File.pathSeparator)) {
+            tracker.invalidate(Paths.get(folder));
+        }
+    }
+
+    /**
+     * The given source paths are walked by the next scan, even if no file changed in the meantime.
+     */
+    private void invalidateSourcePaths(Set<Path> sourcePaths) {
+        FileChangeTracker.Cursor cursor = sourceChanges;
+        if (cursor == null) {
+            return;
+        }
+        for (Path sourcePath : sourcePaths) {
+            cursor.invalidate(sourcePath);
+        }
+    }
+
     private void checkForClassFilesChangesInModule(DevModeContext.ModuleInfo module, List<Path> moduleChangedSourceFiles,
-            boolean isInitialRun, ClassScanResult classScanResult,
+            boolean sourcesChanged, boolean isInitialRun, ClassScanResult classScanResult,
             Function<DevModeContext.ModuleInfo, DevModeContext.CompilationUnit> cuf, TimestampSet timestampSet) {
         if (cuf.apply(module).getClassesPath() == null) {
             return;
@@ -946,7 +1052,10 @@ private void checkForClassFilesChangesInModule(DevModeContext.ModuleInfo module,
                 if (!Files.exists(moduleClassesPath)) {
                     continue;
                 }
-                try (final Stream<Path> classesStream = Files.walk(moduleClassesPath)) {
+                final Set<Path> changes = pollChanges(timestampSet.classChanges, moduleClassesPath);
+                // the classes of changed source files are all checked, to find the removed inner classes
+                try (final Stream<Path> classesStream = changes == null || sourcesChanged ? Files.walk(moduleClassesPath)
+                        : changes.stream().filter(Files::isRegularFile)) {
                     final Set<Path> classFilePaths = classesStream
                             .parallel()
                             .filter(path -> path.toString().endsWith(CLASS_EXTENSION))
@@ -1091,12 +1200,41 @@ Set<String> checkForFileChange(Function<DevModeContext.ModuleInfo, DevModeContex
                     .filter(Files::exists)
                     .filter(Files::isReadable)
                     .collect(Collectors.toList());
+            // the paths changed under the roots, or null if the roots must be walked
+            Set<Path> changes = new HashSet<>();
+            for (Path root : roots) {
+                Set<Path> rootChanges = pollChanges(timestampSet.resourceChanges, root);
+                if (rootChanges == null) {
+                    changes = null;
+                } else if (changes != null) {
+                    changes.addAll(rootChanges);
+                }
+            }
+            final Set<Path> changedPaths = changes;
             //copy all modified non-hot deployment files over
             if (doCopy) {
-                final Set<Path> seen = new HashSet<>(moduleResources);
+                final Set<Path> seen;
+                if (changedPaths == null) {
+                    seen = new HashSet<>(moduleResources);
+                } else {
+                    seen = new HashSet<>();
+                    for (Path root : roots) {
+                        for (Path path : changedPaths) {
+                            if (path.startsWith(root) && !Files.exists(path)) {
+                                Path relative = root.relativize(path);
+                                if (roots.stream().noneMatch(r -> Files.exists(r.resolve(relative)))) {
+                                    // the target of a deleted directory contains the targets of its files
+                                    Path target = outputDir.resolve(relative);
+                                    moduleResources.stream().filter(t -> t.startsWith(target)).forEach(seen::add);
+                                }
+                            }
+                        }
+                    }
+                }
                 try {
                     for (Path root : roots) {
-                        try (final Stream<Path> walk = Files.walk(root)) {
+                        try (final Stream<Path> walk = changedPaths == null ? Files.walk(root)
+                                : changedPaths.stream().filter(path -> path.startsWith(root) && Files.exists(path))) {
                             walk.forEach(path -> {
                                 try {
                                     Path relative = root.relativize(path);
@@ -1152,6 +1290,11 @@ Set<String> checkForFileChange(Function<DevModeContext.ModuleInfo, DevModeContex
                     // The watched path does not come from the current compilation unit
                     continue;
                 }
+                if (!isAbsolute && changedPaths != null
+                        && changedPaths.stream().noneMatch(watchedPath.filePath::startsWith)) {
+                    // Neither the watched path nor one of its parent directories has changed
+                    continue;
+                }
                 boolean pathCurrentlyExisting = false;
                 boolean pathPreviouslyExisting = false;
                 if (Files.exists(watchedPath.filePath)) {
@@ -1442,6 +1585,9 @@ public static void setLastStartIndex(IndexView lastStartIndex) {
     @Override
     public void close() throws IOException {
         compiler.close();
+        if (fileChangeTracker != null) {
+            closeFileChangeTracker();
+        }
         if (testClassChangeWatcher != null) {
             testClassChangeWatcher.close();
         }
@@ -1479,6 +1625,10 @@ static class TimestampSet {
         final Map<Path, Path> classFilePathToSourceFilePath = new ConcurrentHashMap<>();
         volatile Map<Path, WatchedPath> watchedPaths = new ConcurrentHashMap<>();
 
+        // The changes of the class and resource files, null if the directories are walked
+        volatile FileChangeTracker.Cursor classChanges;
+        volatile FileChangeTracker.Cursor resourceChanges;
+
         // The current paths and predicates from all HotDeploymentWatchedFileBuildItems
         volatile Map<String, Boolean> watchedFilePaths;
         volatile List<Entry<Predicate<String>, Boolean>> watchedFilePredicates;
@@ -58,6 +58,10 @@ public static enum Type {
          * A file was modified in a directory.
          */
         MODIFIED,
+        /**
+         * Events were lost for the directory, any file it contains may have been added, removed or modified.
+         */
+        OVERFLOW,
     }
 
 }
@@ -77,6 +77,11 @@ public void run() {
                             final Set<Path> addedFiles = new HashSet<>();
                             final Set<Path> deletedFiles = new HashSet<>();
                             for (WatchEvent<?> event : events) {
+                                if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                                    results.add(new FileChangeEvent(((Path) key.watchable()).toAbsolutePath(),
+                                            FileChangeEvent.Type.OVERFLOW));
+                                    continue;
+                                }
                                 Path eventPath = (Path) event.context();
                                 Path targetFile = ((Path) key.watchable()).resolve(eventPath).toAbsolutePath();
                                 FileChangeEvent.Type type;
@@ -101,7 +106,6 @@ public void run() {
                                 }
                                 results.add(new FileChangeEvent(targetFile, type));
                             }
-                            key.pollEvents().clear();
 
                             //now we need to prune the results, to remove duplicates
                             //e.g. if the file is modified after creation we only want to
@@ -110,6 +114,9 @@ public void run() {
                             while (it.hasNext()) {
                                 FileChangeEvent event = it.next();
 
+                                if (event.getType() == FileChangeEvent.Type.OVERFLOW) {
+                                    continue;
+                                }
                                 if (!pathData.isMonitored(event.getFile())) {
                                     it.remove();
                                     continue;
@@ -0,0 +1,125 @@
+package io.quarkus.deployment.dev.testing;
+
+import java.io.Serializable;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.objectweb.asm.AnnotationVisitor;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.TypePath;
+
+import io.quarkus.gizmo.Gizmo;
+
+/**
+ * The hashes of the bodies of the methods of a class, and of the rest of the class, which are used to find the methods
+ * that changed when a class is recompiled.
+ * <p>
+ * The debug information is ignored, so that a change that only moves the lines of a method does not change the other
+ * methods. The constructors and the static initializer are part of the structure of the class, as they are not traced.
+ */
+final class ClassFingerprint implements Serializable {
+
+    private final String className;
+    private final byte[] structure;
+    private final Map<String, byte[]> methods;
+
+    private ClassFingerprint(String className, byte[] structure, Map<String, byte[]> methods) {
+        this.className = className;
+        this.structure = structure;
+        this.methods = methods;
+    }
+
+    static ClassFingerprint of(byte[] classFile) {
+        ClassReader reader = new ClassReader(classFile);
+        ClassWriter structureWriter = new ClassWriter(0);
+        Map<String, ClassWriter> methodWriters = new HashMap<>();
+        reader.accept(new ClassVisitor(Gizmo.ASM_API_VERSION, structureWriter) {
+            @Override
+            public MethodVisitor visitMethod(int access, String name, String descriptor, String signature,
+                    String[] exceptions) {
+                MethodVisitor structureVisitor = super.visitMethod(access, name, descriptor, signature, exceptions);
+                if (name.equals("<init>") || name.equals("<clinit>")) {
+                    return structureVisitor;
+                }
+                ClassWriter methodWriter = new ClassWriter(0);
+                methodWriter.visit(Opcodes.V17, Opcodes.ACC_PUBLIC, reader.getClassName(), null, "java/lang/Object",
+                        null);
+                methodWriters.put(name + descriptor, methodWriter);
+                // the annotations may change the behavior of the other classes, so they are part of the structure
+                return new MethodVisitor(Gizmo.ASM_API_VERSION,
+                        methodWriter.visitMethod(access, name, descriptor, signature, exceptions)) {
+                    @Override
+                    public AnnotationVisitor visitAnnotationDefault() {
+                        return structureVisitor.visitAnnotationDefault();
+                    }
+
+                    @Override
+                    public AnnotationVisitor visitAnnotation(String descriptor, boolean visible) {
+                        return structureVisitor.visitAnnotation(descriptor, visible);
+                    }
+
+                    @Override
+                    public AnnotationVisitor visitTypeAnnotation(int typeRef, TypePath typePath, String descriptor,
+                            boolean visible) {
+                        return structureVisitor.visitTypeAnnotation(typeRef, typePath, descriptor, visible);
+                    }
+
+                    @Override
+                    public void visitAnnotableParameterCount(int parameterCount, boolean visible) {
+                        structureVisitor.visitAnnotableParameterCount(parameterCount, visible);
+                    }
+
+                    @Override
+                    public AnnotationVisitor visitParameterAnnotation(int parameter, String descriptor,
+                            boolean visible) {
+                        return structureVisitor.visitParameterAnnotation(parameter, descriptor, visible);
+                    }
+                };
+            }
+        }, ClassReader.SKIP_DEBUG | ClassReader.SKIP_FRAMES);
+
+        Map<String, byte[]> methods = new HashMap<>(methodWriters.size());
+        for (Map.Entry<String, ClassWriter> entry : methodWriters.entrySet()) {
+            methods.put(entry.getKey(), hash(entry.getValue().toByteArray()));
+        }
+        return new ClassFingerprint(reader.getClassName().replace('/', '.'), hash(structureWriter.toByteArray()), methods);
+    }
+
+    private static byte[] hash(byte[] data) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(data);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    String getClassName() {
+        return className;
+    }
+
+    /**
+     * @return the names and descriptors of the methods whose body changed since the previous fingerprint of the class,
+     *         or {@code null} if the structure of the class changed
+     */
+    Set<String> changedMethods(ClassFingerprint previous) {
+        if (!Arrays.equals(structure, previous.structure)) {
+            return null;
+        }
+        Set<String> changed = new HashSet<>();
+        for (Map.Entry<String, byte[]> entry : methods.entrySet()) {
+            if (!Arrays.equals(entry.getValue(), previous.methods.get(entry.getKey()))) {
+                changed.add(entry.getKey());
+            }
+        }
+        return changed;
+    }
+}
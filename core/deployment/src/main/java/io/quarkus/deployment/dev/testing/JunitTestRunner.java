@@ -17,7 +17,6 @@
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
-import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -26,8 +25,6 @@
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeSet;
-import java.util.concurrent.LinkedBlockingDeque;
-import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -104,6 +101,8 @@ public class JunitTestRunner {
     private static final String ARCHUNIT_FIELDSOURCE_FQCN = "com.tngtech.archunit.junit.FieldSource";
     private static final String FACADE_CLASS_LOADER_NAME = "io.quarkus.test.junit.classloading.FacadeClassLoader";
     private static final String TEST_DISCOVERY_PROPERTY = "quarkus.continuous-tests-discovery";
+    private static final List<String> TEST_PORT_PROPERTIES = List.of("quarkus.http.test-port",
+            "quarkus.http.test-ssl-port", "quarkus.management.test-port");
 
     private final long runId;
     private final DevModeContext.ModuleInfo moduleInfo;
@@ -122,6 +121,8 @@ public class JunitTestRunner {
     private final List<String> excludeEngines;
     private final boolean failingTestsOnly;
     private final TestType testType;
+    private final boolean traceMethods;
+    private final int parallelClasses;
 
     private volatile boolean testsRunning = false;
     private volatile boolean aborted;
@@ -150,6 +151,8 @@ public JunitTestRunner(Builder builder) {
         this.excludeEngines = builder.excludeEngines;
         this.failingTestsOnly = builder.failingTestsOnly;
         this.testType = builder.testType;
+        this.traceMethods = builder.traceMethods;
+        this.parallelClasses = builder.parallelClasses;
     }
 
     public Runnable prepare() {
@@ -172,6 +175,15 @@ public Runnable prepare() {
             LauncherDiscoveryRequestBuilder launchBuilder = LauncherDiscoveryRequestBuilder.request()
                     .selectors(quarkusTestClasses.testClasses.stream().map(DiscoverySelectors::selectClass)
                             .collect(Collectors.toList()));
+            if (parallelClasses > 1) {
+                // the test classes run in parallel each start their own application, see discoverTestClasses()
+                launchBuilder.configurationParameter("junit.jupiter.execution.parallel.enabled", "true")
+                        .configurationParameter("junit.jupiter.execution.parallel.mode.default", "same_thread")
+                        .configurationParameter("junit.jupiter.execution.parallel.mode.classes.default", "concurrent")
+                        .configurationParameter("junit.jupiter.execution.parallel.config.strategy", "fixed")
+                        .configurationParameter("junit.jupiter.execution.parallel.config.fixed.parallelism",
+                                String.valueOf(parallelClasses));
+            }
             launchBuilder.filters(new PostDiscoveryFilter() {
                 @Override
                 public FilterResult apply(TestDescriptor testDescriptor) {
@@ -179,8 +191,20 @@ public FilterResult apply(TestDescriptor testDescriptor) {
                     return FilterResult.included(null);
                 }
             });
+            testClassUsages.setMethodLevel(traceMethods);
             if (classScanResult != null) {
-                launchBuilder.filters(testClassUsages.getTestsToRun(classScanResult.getChangedClassNames(), testState));
+                // recorded before the classes are loaded, so that a change made during the run is detected by the next run
+                Map<String, Set<String>> changedMethods = testClassUsages
+                        .updateFingerprints(classScanResult.getChangedClasses());
+                testClassUsages.updateFingerprints(classScanResult.getAddedClasses());
+                testClassUsages.removeFingerprints(classScanResult.getDeletedClassNames());
+                launchBuilder.filters(testClassUsages.getTestsToRun(classScanResult.getChangedClassNames(), changedMethods,
+                        testState));
+            } else if (traceMethods && Files.isDirectory(Paths.get(moduleInfo.getMain().getClassesPath()))) {
+                try (Stream<Path> files = Files.walk(Paths.get(moduleInfo.getMain().getClassesPath()))) {
+                    testClassUsages.updateFingerprints(
+                            files.filter(p -> p.getFileName().toString().endsWith(".class")).toList());
+                }
             }
             if (!includeTags.isEmpty()) {
                 launchBuilder.filters(TagFilter.includeTags(new ArrayList<>(includeTags)));
@@ -223,6 +247,7 @@ public FilterResult apply(TestDescriptor testDescriptor) {
                 @Override
                 public void run() {
                     final ClassLoader origCl = Thread.currentThread().getContextClassLoader();
+                    Map<String, String> previousTestPorts = Map.of();
                     try {
                         synchronized (JunitTestRunner.this) {
                             testsRunning = true;
@@ -230,32 +255,38 @@ public void run() {
                         log.debug("Starting test run with " + testPlan.countTestIdentifiers((s) -> true) + " tests");
                         QuarkusConsole.addOutputFilter(logHandler);
 
-                        final Deque<Set<String>> touchedClasses = new LinkedBlockingDeque<>();
+                        final TouchedClasses touchedClasses = new TouchedClasses();
                         Map<TestIdentifier, Long> startTimes = new HashMap<>();
-                        final AtomicReference<Set<String>> startupClasses = new AtomicReference<>();
                         TracingHandler.setTracingHandler(new TracingHandler.TraceListener() {
                             @Override
                             public void touched(String className) {
-                                Set<String> set = touchedClasses.peek();
-                                if (set != null) {
-                                    set.add(className);
-                                }
+                                touchedClasses.touched(className);
+                            }
+
+                            @Override
+                            public void touched(String className, String method) {
+                                touchedClasses.touched(className, TestClassUsages.methodUsage(className, method));
                             }
 
                             @Override
                             public void quarkusStarting() {
-                                startupClasses.set(touchedClasses.peek());
+                                touchedClasses.quarkusStarting();
                             }
                         });
 
                         Map<String, Map<UniqueId, TestResult>> resultsByClass = new HashMap<>();
-                        AtomicReference<TestIdentifier> currentNonDynamicTest = new AtomicReference<>();
+                        // the dynamic tests are run by the thread running their parent
+                        ThreadLocal<TestIdentifier> currentNonDynamicTest = new ThreadLocal<>();
 
                         Thread.currentThread().setContextClassLoader(tcl);
+                        if (parallelClasses > 1) {
+                            previousTestPorts = useRandomTestPorts();
+                        }
+                        // the listener is called concurrently when the test classes are run in parallel
                         launcher.execute(testPlan, new TestExecutionListener() {
 
                             @Override
-                            public void executionStarted(TestIdentifier testIdentifier) {
+                            public synchronized void executionStarted(TestIdentifier testIdentifier) {
                                 if (aborted) {
                                     return;
                                 }
@@ -272,11 +303,11 @@ public void executionStarted(TestIdentifier testIdentifier) {
                                 for (TestRunListener listener : listeners) {
                                     listener.testStarted(testIdentifier, testClassName);
                                 }
-                                touchedClasses.push(Collections.synchronizedSet(new HashSet<>()));
+                                touchedClasses.push();
                             }
 
                             @Override
-                            public void executionSkipped(TestIdentifier testIdentifier, String reason) {
+                            public synchronized void executionSkipped(TestIdentifier testIdentifier, String reason) {
                                 if (aborted) {
                                     return;
                                 }
@@ -298,11 +329,11 @@ public void executionSkipped(TestIdentifier testIdentifier, String reason) {
                                         }
                                     }
                                 }
-                                touchedClasses.push(Collections.synchronizedSet(new HashSet<>()));
+                                touchedClasses.push();
                             }
 
                             @Override
-                            public void dynamicTestRegistered(TestIdentifier testIdentifier) {
+                            public synchronized void dynamicTestRegistered(TestIdentifier testIdentifier) {
                                 dynamicIds.add(UniqueId.parse(testIdentifier.getUniqueId()));
                                 for (TestRunListener listener : listeners) {
                                     listener.dynamicTestRegistered(testIdentifier);
@@ -310,7 +341,7 @@ public void dynamicTestRegistered(TestIdentifier testIdentifier) {
                             }
 
                             @Override
-                            public void executionFinished(TestIdentifier testIdentifier,
+                            public synchronized void executionFinished(TestIdentifier testIdentifier,
                                     TestExecutionResult testExecutionResult) {
                                 if (aborted) {
                                     return;
@@ -327,12 +358,13 @@ public void executionFinished(TestIdentifier testIdentifier,
                                 String testClassName = testClass.getName();
 
                                 if (testExecutionResult.getStatus() != TestExecutionResult.Status.ABORTED) {
-                                    for (Set<String> i : touchedClasses) {
+                                    for (Set<String> i : touchedClasses.enclosing()) {
                                         //also add the parent touched classes
                                         touched.addAll(i);
                                     }
-                                    if (startupClasses.get() != null) {
-                                        touched.addAll(startupClasses.get());
+                                    Set<String> startupClasses = touchedClasses.startupClasses();
+                                    if (startupClasses != null) {
+                                        touched.addAll(startupClasses);
                                     }
                                     if (testIdentifier.getSource().map(ClassSource.class::isInstance).orElse(false)) {
                                         testClassUsages.updateTestData(testClassName, touched);
@@ -425,6 +457,7 @@ public void reportingEntryPublished(TestIdentifier testIdentifier, ReportEntry e
                     } finally {
                         try {
                             TracingHandler.setTracingHandler(null);
+                            restoreProperties(previousTestPorts);
                             QuarkusConsole.removeOutputFilter(logHandler);
                             Thread.currentThread().setContextClassLoader(old);
                             tcl.close();
@@ -451,6 +484,29 @@ public void reportingEntryPublished(TestIdentifier testIdentifier, ReportEntry e
         }
     }
 
+    /**
+     * The applications of the test classes run in parallel cannot listen on the same ports, so they use random ones.
+     *
+     * @return the previous values of the properties
+     */
+    private static Map<String, String> useRandomTestPorts() {
+        Map<String, String> previous = new HashMap<>();
+        for (String property : TEST_PORT_PROPERTIES) {
+            previous.put(property, System.setProperty(property, "0"));
+        }
+        return previous;
+    }
+
+    private static void restoreProperties(Map<String, String> previous) {
+        for (Map.Entry<String, String> e : previous.entrySet()) {
+            if (e.getValue() == null) {
+                System.clearProperty(e.getKey());
+            } else {
+                System.setProperty(e.getKey(), e.getValue());
+            }
+        }
+    }
+
     private static List<String> toTagList(TestIdentifier testIdentifier) {
         return testIdentifier
                 .getTags()
@@ -758,17 +814,24 @@ private DiscoveryResult discoverTestClasses() {
         }
         try {
             Class fclClazz = firstDeploymentClassLoader.loadClass(FACADE_CLASS_LOADER_NAME);
-            Constructor constructor = fclClazz.getConstructor(ClassLoader.class, boolean.class, CuratedApplication.class,
-                    Map.class,
-                    Set.class,
-                    String.class);
 
             // Passing in the test classes is necessary because in dev mode getAnnotations() on the class returns an empty array, for some reason (plus it saves rediscovery effort)
             String classPath = moduleInfo.getMain()
                     .getClassesPath() + File.pathSeparator + moduleInfo.getTest().get().getClassesPath();
-            classLoaderForLoadingTests = (ClassLoader) constructor.newInstance(Thread.currentThread()
-                    .getContextClassLoader(), true, testApplication, profiles, quarkusTestClassesForFacadeClassLoader,
-                    classPath);
+            if (parallelClasses > 1) {
+                // the test classes run in parallel cannot share an application, so each one gets its own
+                Constructor constructor = fclClazz.getConstructor(ClassLoader.class, boolean.class,
+                        CuratedApplication.class, Map.class, Set.class, String.class, boolean.class);
+                classLoaderForLoadingTests = (ClassLoader) constructor.newInstance(Thread.currentThread()
+                        .getContextClassLoader(), true, testApplication, profiles, quarkusTestClassesForFacadeClassLoader,
+                        classPath, true);
+            } else {
+                Constructor constructor = fclClazz.getConstructor(ClassLoader.class, boolean.class,
+                        CuratedApplication.class, Map.class, Set.class, String.class);
+                classLoaderForLoadingTests = (ClassLoader) constructor.newInstance(Thread.currentThread()
+                        .getContextClassLoader(), true, testApplication, profiles, quarkusTestClassesForFacadeClassLoader,
+                        classPath);
+            }
             // We only want to close classloaders if they're facade loaders we made, so squirrel away an instance to close on this path
             classLoaderToClose = (Closeable) classLoaderForLoadingTests;
 
@@ -830,7 +893,7 @@ public String apply(Class<?> aClass) {
                     ClassReader cr = new ClassReader(classData);
                     ClassWriter writer = new QuarkusClassWriter(cr,
                             ClassWriter.COMPUTE_FRAMES | ClassWriter.COMPUTE_MAXS);
-                    cr.accept(new TestTracingProcessor.TracingClassVisitor(writer, i), 0);
+                    cr.accept(new TestTracingProcessor.TracingClassVisitor(writer, i, traceMethods), 0);
                     transformedClasses.put(resourceName, writer.toByteArray());
                 } catch (Exception e) {
                     log.error("Failed to instrument " + i + " for usage tracking", e);
@@ -974,6 +1037,8 @@ static class Builder {
         private List<String> includeEngines = Collections.emptyList();
         private List<String> excludeEngines = Collections.emptyList();
         private boolean failingTestsOnly;
+        private boolean traceMethods;
+        private int parallelClasses = 1;
 
         public Builder setRunId(long runId) {
             this.runId = runId;
@@ -990,6 +1055,16 @@ public Builder setTestType(TestType testType) {
             return this;
         }
 
+        public Builder setTraceMethods(boolean traceMethods) {
+            this.traceMethods = traceMethods;
+            return this;
+        }
+
+        public Builder setParallelClasses(int parallelClasses) {
+            this.parallelClasses = parallelClasses;
+            return this;
+        }
+
         // TODO we now ignore what gets set here and make our own, how to handle that?
         public Builder setTestApplication(CuratedApplication testApplication) {
             this.testApplication = testApplication;
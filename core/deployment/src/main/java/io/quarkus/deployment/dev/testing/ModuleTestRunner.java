@@ -60,6 +60,9 @@ Runnable prepare(ClassScanResult classScanResult, boolean reRunFailures, long ru
                         .setIncludeEngines(testSupport.includeEngines)
                         .setExcludeEngines(testSupport.excludeEngines)
                         .setTestType(testSupport.testType)
+                        .setTraceMethods(testSupport.getConfig() != null && testSupport.getConfig()
+                                .impactGranularity() == TestConfig.ImpactGranularity.METHOD)
+                        .setParallelClasses(testSupport.getConfig() != null ? testSupport.getConfig().parallelClasses() : 1)
                         .setModuleInfo(moduleInfo)
                         .addListener(listener)
                         .setFailingTestsOnly(classScanResult != null && testSupport.brokenOnlyMode); //broken only mode is only when changes are made, not for forced runs
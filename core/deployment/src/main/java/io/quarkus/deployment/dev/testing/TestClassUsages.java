@@ -1,12 +1,17 @@
 package io.quarkus.deployment.dev.testing;
 
+import java.io.IOException;
 import java.io.Serializable;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 
+import org.jboss.logging.Logger;
 import org.junit.platform.engine.FilterResult;
 import org.junit.platform.engine.TestDescriptor;
 import org.junit.platform.engine.TestSource;
@@ -17,8 +22,58 @@
 
 public class TestClassUsages implements Serializable {
 
+    private static final Logger log = Logger.getLogger(TestClassUsages.class);
+
     private final Map<ClassAndMethod, Set<String>> classNames = new HashMap<>();
     private final Map<String, Set<String>> classLevel = new HashMap<>();
+    /**
+     * The fingerprints of the application classes as they were when the tests last ran, only recorded when the methods
+     * called by the tests are traced
+     */
+    private final Map<String, ClassFingerprint> fingerprints = new HashMap<>();
+    private boolean methodLevel;
+
+    /**
+     * Sets if the tests record the methods they called, along with the classes they used. The usages recorded with a
+     * different granularity are discarded, so that the tests that used a changed class are run again.
+     */
+    public synchronized void setMethodLevel(boolean methodLevel) {
+        if (this.methodLevel != methodLevel) {
+            this.methodLevel = methodLevel;
+            classNames.clear();
+            classLevel.clear();
+            fingerprints.clear();
+        }
+    }
+
+    /**
+     * Records the fingerprints of the given class files, which must be done before the tests load the classes.
+     *
+     * @return the methods that changed in each class, or {@code null} for the classes whose structure changed or which had
+     *         no fingerprint yet
+     */
+    public synchronized Map<String, Set<String>> updateFingerprints(Collection<Path> classFiles) {
+        Map<String, Set<String>> changedMethods = new HashMap<>();
+        if (!methodLevel) {
+            return changedMethods;
+        }
+        for (Path classFile : classFiles) {
+            ClassFingerprint fingerprint;
+            try {
+                fingerprint = ClassFingerprint.of(Files.readAllBytes(classFile));
+            } catch (IOException | RuntimeException e) {
+                log.debugf(e, "Unable to compute the fingerprint of %s", classFile);
+                continue;
+            }
+            ClassFingerprint previous = fingerprints.put(fingerprint.getClassName(), fingerprint);
+            changedMethods.put(fingerprint.getClassName(), previous == null ? null : fingerprint.changedMethods(previous));
+        }
+        return changedMethods;
+    }
+
+    public synchronized void removeFingerprints(Collection<String> classNames) {
+        fingerprints.keySet().removeAll(classNames);
+    }
 
     public synchronized void updateTestData(String currentclass, UniqueId test, Set<String> touched) {
         Set<String> aggregate = touched;
@@ -39,6 +94,16 @@ public synchronized void merge(TestClassUsages newData) {
     }
 
     public synchronized PostDiscoveryFilter getTestsToRun(Set<String> changedClasses, TestState testState) {
+        return getTestsToRun(changedClasses, Map.of(), testState);
+    }
+
+    /**
+     * @param changedMethods the methods that changed in the changed classes, as returned by
+     *        {@link #updateFingerprints(Collection)}. The tests that used a changed class which has no entry, or a
+     *        {@code null} entry, are run again.
+     */
+    public synchronized PostDiscoveryFilter getTestsToRun(Set<String> changedClasses, Map<String, Set<String>> changedMethods,
+            TestState testState) {
 
         Set<UniqueId> touchedIds = new HashSet<>();
         //classes that have at least one test
@@ -50,7 +115,7 @@ public synchronized PostDiscoveryFilter getTestsToRun(Set<String> changedClasses
                     testClassesToRun.add(entry.getKey().className);
                 } else {
                     for (String i : changedClasses) {
-                        if (entry.getValue().contains(i)) {
+                        if (isAffected(entry.getValue(), i, changedMethods.get(i))) {
                             touchedIds.add(entry.getKey().uniqueId);
                             testClassesToRun.add(entry.getKey().className);
                             break;
@@ -104,6 +169,25 @@ public FilterResult apply(TestDescriptor testDescriptor) {
         };
     }
 
+    private static boolean isAffected(Set<String> touched, String changedClass, Set<String> changedMethods) {
+        if (changedMethods == null) {
+            return touched.contains(changedClass);
+        }
+        for (String method : changedMethods) {
+            if (touched.contains(methodUsage(changedClass, method))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return the usage recorded when a test calls the given method, along with the usage of its class
+     */
+    static String methodUsage(String className, String method) {
+        return className + "#" + method;
+    }
+
     private static final class ClassAndMethod implements Serializable {
         private final String className;
         private final UniqueId uniqueId;
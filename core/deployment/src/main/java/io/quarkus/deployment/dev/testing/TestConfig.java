@@ -175,6 +175,28 @@ public interface TestConfig {
     @WithDefault("all")
     TestType type();
 
+    /**
+     * The granularity of the code usages recorded for each test, which are used by continuous testing to only run the
+     * tests affected by a change, this can be either:
+     * <p>
+     * class: A test is run again if one of the classes it used changed
+     * method: A test is run again if one of the methods it called changed. If the fields, the constructors, the
+     * annotations or the signatures of a class changed, then all the tests that used the class are run again.
+     */
+    @WithDefault("class")
+    ImpactGranularity impactGranularity();
+
+    /**
+     * The number of test classes that continuous testing runs in parallel.
+     * <p>
+     * When this is more than 1, each {@code @QuarkusTest} class starts its own application, even if it shares its
+     * profile and its test resources with other classes, and the applications listen on random ports. This uses more
+     * memory and more startup time, so it only pays off when there are enough test classes to run. The tests of a
+     * given class are still run sequentially, and the test classes must not depend on each other.
+     */
+    @WithDefault("1")
+    int parallelClasses();
+
     /**
      * If this is true then only the tests from the main application module will be run (i.e. the module that is currently
      * running mvn quarkus:dev).
@@ -271,4 +293,9 @@ enum Mode {
         ENABLED,
         DISABLED
     }
+
+    enum ImpactGranularity {
+        CLASS,
+        METHOD
+    }
 }
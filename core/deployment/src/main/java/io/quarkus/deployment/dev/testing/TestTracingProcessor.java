@@ -118,11 +118,12 @@ void startTesting(TestConfig config, LiveReloadBuildItem liveReloadBuildItem,
 
     @BuildStep(onlyIf = IsTest.class)
     public void instrumentTestClasses(CombinedIndexBuildItem combinedIndexBuildItem,
-            LaunchModeBuildItem launchModeBuildItem,
+            LaunchModeBuildItem launchModeBuildItem, TestConfig config,
             BuildProducer<BytecodeTransformerBuildItem> transformerProducer) {
         if (!launchModeBuildItem.isAuxiliaryApplication()) {
             return;
         }
+        boolean traceMethods = config.impactGranularity() == TestConfig.ImpactGranularity.METHOD;
 
         for (ClassInfo clazz : combinedIndexBuildItem.getIndex().getKnownClasses()) {
             String theClassName = clazz.name().toString();
@@ -133,7 +134,7 @@ public void instrumentTestClasses(CombinedIndexBuildItem combinedIndexBuildItem,
                                 new BiFunction<String, ClassVisitor, ClassVisitor>() {
                                     @Override
                                     public ClassVisitor apply(String s, ClassVisitor classVisitor) {
-                                        return new TracingClassVisitor(classVisitor, theClassName);
+                                        return new TracingClassVisitor(classVisitor, theClassName, traceMethods);
                                     }
                                 })
                         .setCacheable(true)
@@ -166,10 +167,16 @@ public boolean isAppClass(String className) {
 
     public static class TracingClassVisitor extends ClassVisitor {
         private final String theClassName;
+        private final boolean traceMethods;
 
         public TracingClassVisitor(ClassVisitor classVisitor, String theClassName) {
+            this(classVisitor, theClassName, false);
+        }
+
+        public TracingClassVisitor(ClassVisitor classVisitor, String theClassName, boolean traceMethods) {
             super(Gizmo.ASM_API_VERSION, classVisitor);
             this.theClassName = theClassName;
+            this.traceMethods = traceMethods;
         }
 
         @Override
@@ -184,9 +191,16 @@ public MethodVisitor visitMethod(int access, String name, String descriptor,
                 public void visitCode() {
                     super.visitCode();
                     visitLdcInsn(theClassName);
-                    visitMethodInsn(Opcodes.INVOKESTATIC,
-                            TracingHandler.class.getName().replace(".", "/"), "trace",
-                            "(Ljava/lang/String;)V", false);
+                    if (traceMethods) {
+                        visitLdcInsn(name + descriptor);
+                        visitMethodInsn(Opcodes.INVOKESTATIC,
+                                TracingHandler.class.getName().replace(".", "/"), "trace",
+                                "(Ljava/lang/String;Ljava/lang/String;)V", false);
+                    } else {
+                        visitMethodInsn(Opcodes.INVOKESTATIC,
+                                TracingHandler.class.getName().replace(".", "/"), "trace",
+                                "(Ljava/lang/String;)V", false);
+                    }
                 }
             };
         }
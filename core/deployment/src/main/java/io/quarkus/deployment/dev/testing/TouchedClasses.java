@@ -0,0 +1,104 @@
+package io.quarkus.deployment.dev.testing;
+
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+
+/**
+ * The classes and methods used by the tests being run, as traced by the application.
+ * <p>
+ * Each thread running tests has its own stack of usages, with one entry per test or container being executed, so
+ * that test classes run in parallel do not share their usages. A usage traced by a thread that runs no test, such as
+ * an I/O thread serving a request sent by a test, cannot be attributed to one of the tests when several of them run at
+ * the same time, so it is attributed to all of them.
+ */
+final class TouchedClasses {
+
+    private final Map<Thread, Deque<Set<String>>> running = new ConcurrentHashMap<>();
+    private final Map<Thread, Set<String>> startup = new ConcurrentHashMap<>();
+
+    /**
+     * Starts recording the usages of a test or container executed by the current thread.
+     */
+    void push() {
+        running.computeIfAbsent(Thread.currentThread(), t -> new ConcurrentLinkedDeque<>())
+                .push(Collections.synchronizedSet(new HashSet<>()));
+    }
+
+    /**
+     * Stops recording the usages of the last test or container executed by the current thread.
+     *
+     * @return the usages recorded since the matching {@link #push()}
+     */
+    Set<String> pop() {
+        Thread thread = Thread.currentThread();
+        Deque<Set<String>> stack = running.get(thread);
+        if (stack == null) {
+            return new HashSet<>();
+        }
+        Set<String> touched = stack.pop();
+        if (stack.isEmpty()) {
+            running.remove(thread);
+        }
+        return touched;
+    }
+
+    /**
+     * @return the usages of the containers enclosing the test executed by the current thread
+     */
+    Iterable<Set<String>> enclosing() {
+        Deque<Set<String>> stack = running.get(Thread.currentThread());
+        return stack == null ? List.of() : stack;
+    }
+
+    void touched(String... usages) {
+        Deque<Set<String>> stack = running.get(Thread.currentThread());
+        if (stack != null) {
+            add(stack, usages);
+        } else {
+            for (Deque<Set<String>> other : running.values()) {
+                add(other, usages);
+            }
+        }
+    }
+
+    /**
+     * Records that the classes used from now on by the current test are used to start the application, so that they
+     * are attributed to all the tests run by the current thread on this application.
+     */
+    void quarkusStarting() {
+        Thread thread = Thread.currentThread();
+        Deque<Set<String>> stack = running.get(thread);
+        if (stack == null && running.size() == 1) {
+            // started by another thread on behalf of the only test being run
+            Map.Entry<Thread, Deque<Set<String>>> only = running.entrySet().iterator().next();
+            thread = only.getKey();
+            stack = only.getValue();
+        }
+        Set<String> touched = stack == null ? null : stack.peek();
+        if (touched == null) {
+            startup.remove(thread);
+        } else {
+            startup.put(thread, touched);
+        }
+    }
+
+    /**
+     * @return the classes used to start the application the current thread runs tests on, or {@code null} if unknown
+     */
+    Set<String> startupClasses() {
+        return startup.get(Thread.currentThread());
+    }
+
+    private static void add(Deque<Set<String>> stack, String... usages) {
+        Set<String> touched = stack.peek();
+        if (touched != null) {
+            Collections.addAll(touched, usages);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package io.quarkus.deployment.index;
 
+import java.io.Closeable;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.UncheckedIOException;
@@ -12,7 +13,12 @@
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.function.Function;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.jboss.jandex.Index;
 import org.jboss.jandex.IndexView;
@@ -50,6 +56,7 @@
 import io.quarkus.runtime.annotations.ConfigPhase;
 import io.quarkus.runtime.annotations.ConfigRoot;
 import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
 import io.smallrye.config.WithParentName;
 
 public class ApplicationArchiveBuildStep {
@@ -90,6 +97,28 @@ interface IndexDependencyConfig {
         }
     }
 
+    /**
+     * Dependency index cache
+     */
+    @ConfigMapping(prefix = "quarkus.index-cache")
+    @ConfigRoot(phase = ConfigPhase.BUILD_TIME)
+    interface IndexCacheConfiguration {
+        /**
+         * Whether the indexes of the dependencies that do not contain a Jandex index are cached on disk, so that the
+         * dependencies are not indexed again by the next builds.
+         */
+        @WithDefault("true")
+        boolean enabled();
+
+        /**
+         * The directory of the cache, which can be shared by the builds of several applications.
+         * <p>
+         * Defaults to the {@code .cache/quarkus/jandex} directory of the local Maven repository, or to the
+         * {@code caches/quarkus/jandex} directory of the Gradle user home when the dependencies are resolved by Gradle.
+         */
+        Optional<Path> directory();
+    }
+
     @BuildStep
     void addConfiguredIndexedDependencies(IndexDependencyConfiguration config,
             BuildProducer<IndexDependencyBuildItem> indexDependencyBuildItemBuildProducer) {
@@ -108,7 +137,8 @@ ApplicationArchivesBuildItem build(
             List<IndexDependencyBuildItem> indexDependencyBuildItems,
             LiveReloadBuildItem liveReloadContext,
             CurateOutcomeBuildItem curateOutcomeBuildItem,
-            ClassLoadingConfig classLoadingConfig) throws IOException {
+            ClassLoadingConfig classLoadingConfig,
+            IndexCacheConfiguration indexCacheConfig) throws IOException {
 
         IndexCache indexCache = liveReloadContext.getContextObject(IndexCache.class);
         if (indexCache == null) {
@@ -124,9 +154,22 @@ ApplicationArchivesBuildItem build(
         // Add resources removed from the classpath by extensions
         removedResources.putAll(curateOutcomeBuildItem.getApplicationModel().getRemovedResources());
 
-        List<ApplicationArchive> applicationArchives = scanForOtherIndexes(buildCloseables,
-                appMarkers, root, additionalApplicationArchiveBuildItem, indexDependencyBuildItems, indexCache,
-                curateOutcomeBuildItem, removedResources);
+        PersistentIndexCache persistentIndexCache = null;
+        if (indexCacheConfig.enabled()) {
+            persistentIndexCache = new PersistentIndexCache(indexCacheConfig.directory()
+                    .orElseGet(() -> PersistentIndexCache.defaultDirectory(curateOutcomeBuildItem.getApplicationModel())));
+        }
+
+        List<ApplicationArchive> applicationArchives;
+        try (ArchiveIndexer indexer = new ArchiveIndexer(indexCache, persistentIndexCache)) {
+            applicationArchives = scanForOtherIndexes(buildCloseables,
+                    appMarkers, root, additionalApplicationArchiveBuildItem, indexDependencyBuildItems, indexer,
+                    curateOutcomeBuildItem, removedResources);
+        }
+        if (persistentIndexCache != null) {
+            LOGGER.debugf("Dependency index cache: %d hits, %d misses", persistentIndexCache.getHits(),
+                    persistentIndexCache.getMisses());
+        }
 
         final OpenPathTree tree;
         if (root.getRootDirectories().size() == 1) {
@@ -149,11 +192,12 @@ ApplicationArchivesBuildItem build(
     private List<ApplicationArchive> scanForOtherIndexes(QuarkusBuildCloseablesBuildItem buildCloseables,
             List<AdditionalApplicationArchiveMarkerBuildItem> appMarkers,
             ArchiveRootBuildItem root, List<AdditionalApplicationArchiveBuildItem> additionalApplicationArchives,
-            List<IndexDependencyBuildItem> indexDependencyBuildItem, IndexCache indexCache,
+            List<IndexDependencyBuildItem> indexDependencyBuildItem, ArchiveIndexer indexer,
             CurateOutcomeBuildItem curateOutcomeBuildItem, Map<ArtifactKey, Set<String>> removedResources)
             throws IOException {
 
-        List<ApplicationArchive> appArchives = new ArrayList<>();
+        // the jars are indexed in parallel, the archives are completed once all of them are submitted
+        List<CompletableFuture<ApplicationArchive>> appArchives = new ArrayList<>();
         Set<Path> indexedPaths = new HashSet<>();
 
         //get paths that are included via marker files
@@ -163,27 +207,38 @@ private List<ApplicationArchive> scanForOtherIndexes(QuarkusBuildCloseablesBuild
             markers.add(marker.endsWith("/") ? marker.substring(0, marker.length() - 1) : marker);
         }
         markers.add(IndexingUtil.JANDEX_INDEX);
-        addMarkerFilePaths(markers, root, indexedPaths, appArchives, indexCache, removedResources);
+        addMarkerFilePaths(markers, root, indexedPaths, appArchives, indexer, removedResources);
 
         //get paths that are included via index-dependencies
         addIndexDependencyPaths(indexDependencyBuildItem, root, indexedPaths, appArchives, buildCloseables,
-                indexCache, curateOutcomeBuildItem, removedResources);
+                indexer, curateOutcomeBuildItem, removedResources);
 
         for (AdditionalApplicationArchiveBuildItem i : additionalApplicationArchives) {
             for (Path apPath : i.getResolvedPaths()) {
                 if (!root.getResolvedPaths().contains(apPath) && indexedPaths.add(apPath)) {
-                    appArchives.add(createApplicationArchive(buildCloseables, indexCache, apPath, null,
+                    appArchives.add(createApplicationArchive(buildCloseables, indexer, apPath, null,
                             removedResources));
                 }
             }
         }
 
-        return appArchives;
+        List<ApplicationArchive> result = new ArrayList<>(appArchives.size());
+        for (CompletableFuture<ApplicationArchive> appArchive : appArchives) {
+            try {
+                result.add(appArchive.join());
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+        return result;
     }
 
     private void addIndexDependencyPaths(List<IndexDependencyBuildItem> indexDependencyBuildItems, ArchiveRootBuildItem root,
-            Set<Path> indexedDeps, List<ApplicationArchive> appArchives,
-            QuarkusBuildCloseablesBuildItem buildCloseables, IndexCache indexCache,
+            Set<Path> indexedDeps, List<CompletableFuture<ApplicationArchive>> appArchives,
+            QuarkusBuildCloseablesBuildItem buildCloseables, ArchiveIndexer indexer,
             CurateOutcomeBuildItem curateOutcomeBuildItem,
             Map<ArtifactKey, Set<String>> removedResources) {
         if (indexDependencyBuildItems.isEmpty()) {
@@ -209,7 +264,7 @@ private void addIndexDependencyPaths(List<IndexDependencyBuildItem> indexDepende
                             && !root.getResolvedPaths().contains(path)
                             && indexedDeps.add(path)) {
                         try {
-                            appArchives.add(createApplicationArchive(buildCloseables, indexCache, path, dep,
+                            appArchives.add(createApplicationArchive(buildCloseables, indexer, path, dep,
                                     removedResources));
                         } catch (IOException e) {
                             throw new UncheckedIOException(e);
@@ -220,27 +275,26 @@ private void addIndexDependencyPaths(List<IndexDependencyBuildItem> indexDepende
         }
     }
 
-    private static ApplicationArchive createApplicationArchive(QuarkusBuildCloseablesBuildItem buildCloseables,
-            IndexCache indexCache, Path dep, ResolvedDependency resolvedDependency,
+    private static CompletableFuture<ApplicationArchive> createApplicationArchive(
+            QuarkusBuildCloseablesBuildItem buildCloseables,
+            ArchiveIndexer indexer, Path dep, ResolvedDependency resolvedDependency,
             Map<ArtifactKey, Set<String>> removedResources)
             throws IOException {
         LOGGER.debugf("Indexing dependency: %s", dep);
         final Set<String> removed = resolvedDependency != null ? removedResources.get(resolvedDependency.getKey()) : null;
-        final OpenPathTree openTree;
-        final IndexView index;
         if (Files.isDirectory(dep)) {
-            openTree = new DirectoryPathTree(dep);
-            index = indexPathTree(openTree, removed);
-        } else {
-            openTree = buildCloseables.add(PathTree.ofArchive(dep).open());
-            index = handleJarPath(dep, indexCache, removed);
+            final OpenPathTree openTree = new DirectoryPathTree(dep);
+            final IndexView index = indexPathTree(openTree, removed);
+            return CompletableFuture.completedFuture(new ApplicationArchiveImpl(index, openTree, resolvedDependency));
         }
-        return new ApplicationArchiveImpl(index, openTree, resolvedDependency);
+        final OpenPathTree openTree = buildCloseables.add(PathTree.ofArchive(dep).open());
+        return indexer.indexJar(dep, removed, removed == null && openTree.contains(IndexingUtil.JANDEX_INDEX))
+                .thenApply(index -> new ApplicationArchiveImpl(index, openTree, resolvedDependency));
     }
 
     private static void addMarkerFilePaths(Set<String> applicationArchiveMarkers,
-            ArchiveRootBuildItem root, Set<Path> indexedPaths, List<ApplicationArchive> appArchives,
-            IndexCache indexCache, Map<ArtifactKey, Set<String>> removed)
+            ArchiveRootBuildItem root, Set<Path> indexedPaths, List<CompletableFuture<ApplicationArchive>> appArchives,
+            ArchiveIndexer indexer, Map<ArtifactKey, Set<String>> removed)
             throws IOException {
         final QuarkusClassLoader cl = ((QuarkusClassLoader) Thread.currentThread().getContextClassLoader());
         final Set<ArtifactKey> indexedElements = new HashSet<>();
@@ -267,16 +321,23 @@ private static void addMarkerFilePaths(Set<String> applicationArchiveMarkers,
                         if (root.isExcludedFromIndexing(rootPath)) {
                             return null;
                         }
-                        Index index = indexCache.cache.get(rootPath);
-                        if (index == null) {
-                            try {
-                                index = IndexingUtil.indexTree(tree, removed.get(dependencyKey));
-                            } catch (IOException ioe) {
-                                throw new UncheckedIOException(ioe);
+                        final Set<String> removedResources = removed.get(dependencyKey);
+                        if (removedResources == null && tree.contains(IndexingUtil.JANDEX_INDEX)) {
+                            Index index = indexer.indexCache.cache.get(rootPath);
+                            if (index == null) {
+                                try {
+                                    index = IndexingUtil.indexTree(tree, null);
+                                } catch (IOException ioe) {
+                                    throw new UncheckedIOException(ioe);
+                                }
+                                indexer.indexCache.cache.put(rootPath, index);
                             }
-                            indexCache.cache.put(rootPath, index);
+                            appArchives.add(CompletableFuture.completedFuture(
+                                    new ApplicationArchiveImpl(index, tree, cpe.getResolvedDependency())));
+                        } else {
+                            appArchives.add(indexer.indexJar(rootPath, removedResources, false)
+                                    .thenApply(index -> new ApplicationArchiveImpl(index, tree, cpe.getResolvedDependency())));
                         }
-                        appArchives.add(new ApplicationArchiveImpl(index, tree, cpe.getResolvedDependency()));
                         return null;
                     }
 
@@ -293,7 +354,7 @@ private static void addMarkerFilePaths(Set<String> applicationArchiveMarkers,
                         return new ApplicationArchiveImpl(index, tree, cpe.getResolvedDependency());
                     });
                     if (archive != null) {
-                        appArchives.add(archive);
+                        appArchives.add(CompletableFuture.completedFuture(archive));
                     }
                     return null;
                 });
@@ -324,17 +385,64 @@ public void visitPath(PathVisit visit) {
         return indexer.complete();
     }
 
-    private static Index handleJarPath(Path path, IndexCache indexCache, Set<String> removed) {
-        return indexCache.cache.computeIfAbsent(path, new Function<Path, Index>() {
-            @Override
-            public Index apply(Path path) {
-                try {
-                    return IndexingUtil.indexJar(path, removed);
-                } catch (IOException e) {
-                    throw new RuntimeException("Failed to process " + path, e);
-                }
+    /**
+     * Indexes the dependency jars, looking up their indexes in the dev mode and persistent caches first.
+     * <p>
+     * The jars that contain a Jandex index are read synchronously, the other ones are indexed in parallel.
+     */
+    private static final class ArchiveIndexer implements Closeable {
+
+        private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+
+        final IndexCache indexCache;
+        private final PersistentIndexCache persistentIndexCache;
+        private ExecutorService executor;
+
+        ArchiveIndexer(IndexCache indexCache, PersistentIndexCache persistentIndexCache) {
+            this.indexCache = indexCache;
+            this.persistentIndexCache = persistentIndexCache;
+        }
+
+        CompletableFuture<Index> indexJar(Path path, Set<String> removed, boolean hasIndex) {
+            Index index = indexCache.cache.get(path);
+            if (index != null) {
+                return CompletableFuture.completedFuture(index);
             }
-        });
+            if (hasIndex) {
+                return CompletableFuture.completedFuture(index(path, removed, false));
+            }
+            return CompletableFuture.supplyAsync(() -> index(path, removed, true), executor());
+        }
+
+        private Index index(Path path, Set<String> removed, boolean cached) {
+            try {
+                Index index = cached && persistentIndexCache != null
+                        ? persistentIndexCache.get(path, removed, () -> IndexingUtil.indexJar(path, removed))
+                        : IndexingUtil.indexJar(path, removed);
+                indexCache.cache.put(path, index);
+                return index;
+            } catch (IOException e) {
+                throw new RuntimeException("Failed to process " + path, e);
+            }
+        }
+
+        private synchronized ExecutorService executor() {
+            if (executor == null) {
+                executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), r -> {
+                    Thread thread = new Thread(r, "quarkus-dependency-indexer-" + THREAD_COUNT.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+            }
+            return executor;
+        }
+
+        @Override
+        public synchronized void close() {
+            if (executor != null) {
+                executor.shutdown();
+            }
+        }
     }
 
     /**
@@ -342,6 +450,6 @@ public Index apply(Path path) {
      * to re-index them each time. We cache them here to reduce the hot reload time.
      */
     private static final class IndexCache {
-        final Map<Path, Index> cache = new HashMap<>();
+        final Map<Path, Index> cache = new ConcurrentHashMap<>();
     }
 }
@@ -0,0 +1,146 @@
+package io.quarkus.deployment.index;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jboss.jandex.Index;
+import org.jboss.jandex.IndexReader;
+import org.jboss.jandex.IndexWriter;
+import org.jboss.logging.Logger;
+
+import io.quarkus.bootstrap.model.ApplicationModel;
+import io.quarkus.builder.CacheFiles;
+import io.quarkus.maven.dependency.ResolvedDependency;
+
+/**
+ * An on-disk cache of the Jandex indexes of the dependencies, shared by the builds of all the applications.
+ * <p>
+ * The indexes are keyed by the SHA-256 hash of the content of the jar, so that a jar rebuilt with the same coordinates,
+ * e.g. a snapshot, is never served a stale index. The key also includes the resources removed from the jar, the Jandex
+ * version, and the Java version, which selects the multi-release classes that are indexed.
+ * <p>
+ * The indexes are stored with {@link CacheFiles}: two builds indexing the same jar concurrently write the same index, and
+ * an index that cannot be read is deleted and the jar is indexed again.
+ */
+final class PersistentIndexCache {
+
+    private static final Logger LOGGER = Logger.getLogger(PersistentIndexCache.class);
+
+    private static final String JANDEX_VERSION = Objects
+            .requireNonNullElse(Index.class.getPackage().getImplementationVersion(), "unknown");
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Path directory;
+    private final AtomicInteger hits = new AtomicInteger();
+    private final AtomicInteger misses = new AtomicInteger();
+
+    PersistentIndexCache(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * @return the default directory of the cache: the {@code .cache/quarkus/jandex} directory of the local Maven
+     *         repository, or the {@code caches/quarkus/jandex} directory of the Gradle user home when the dependencies
+     *         are resolved by Gradle
+     */
+    static Path defaultDirectory(ApplicationModel applicationModel) {
+        for (ResolvedDependency dependency : applicationModel.getDependencies()) {
+            for (Path path : dependency.getResolvedPaths()) {
+                String location = path.toString().replace('\\', '/');
+                int caches = location.indexOf("/caches/modules-2/");
+                if (caches >= 0) {
+                    return Path.of(location.substring(0, caches), "caches", "quarkus", "jandex");
+                }
+            }
+        }
+        String localRepository = System.getProperty("maven.repo.local");
+        Path repository = localRepository != null ? Path.of(localRepository)
+                : Path.of(System.getProperty("user.home"), ".m2", "repository");
+        return repository.resolve(".cache").resolve("quarkus").resolve("jandex");
+    }
+
+    /**
+     * @return the cached index of the given jar, or the index computed by the given indexer, which is then cached
+     */
+    Index get(Path jar, Set<String> removed, IndexFunction indexer) throws IOException {
+        String key;
+        try {
+            key = key(jar, removed);
+        } catch (IOException e) {
+            LOGGER.debugf(e, "Unable to hash %s, the index is not cached", jar);
+            return indexer.index();
+        }
+        Path file = directory.resolve(key.substring(0, 2)).resolve(key + ".idx");
+        Index index = read(file);
+        if (index != null) {
+            hits.incrementAndGet();
+            return index;
+        }
+        misses.incrementAndGet();
+        index = indexer.index();
+        write(file, index);
+        return index;
+    }
+
+    int getHits() {
+        return hits.get();
+    }
+
+    int getMisses() {
+        return misses.get();
+    }
+
+    static String key(Path jar, Set<String> removed) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        try (InputStream in = Files.newInputStream(jar)) {
+            byte[] buffer = new byte[BUFFER_SIZE];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+        }
+        StringBuilder suffix = new StringBuilder()
+                .append('\n').append(JANDEX_VERSION)
+                .append('\n').append(Runtime.version().feature());
+        if (removed != null) {
+            for (String resource : new TreeSet<>(removed)) {
+                suffix.append('\n').append(resource);
+            }
+        }
+        digest.update(suffix.toString().getBytes(StandardCharsets.UTF_8));
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static Index read(Path file) {
+        return CacheFiles.read(file, in -> new IndexReader(in).read());
+    }
+
+    private static void write(Path file, Index index) {
+        try {
+            CacheFiles.write(file, out -> new IndexWriter(out).write(index));
+        } catch (IOException e) {
+            LOGGER.debugf(e, "Unable to cache the index in %s", file);
+        }
+    }
+
+    @FunctionalInterface
+    interface IndexFunction {
+        Index index() throws IOException;
+    }
+}
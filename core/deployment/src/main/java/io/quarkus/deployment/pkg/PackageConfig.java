@@ -1,6 +1,7 @@
 package io.quarkus.deployment.pkg;
 
 import java.nio.file.Path;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
 import java.util.Map;
@@ -296,6 +297,52 @@ interface AotConfig {
              */
             Optional<AotPhase> phase();
 
+            /**
+             * Configuration of the training run performed when the AOT file is generated during the build.
+             */
+            TrainingConfig training();
+
+            /**
+             * Configuration of the training run performed when the AOT file is generated during the build.
+             */
+            @ConfigGroup
+            interface TrainingConfig {
+                /**
+                 * A file containing HTTP requests to replay against the application while the AOT file is recorded
+                 * during the build.
+                 * <p>
+                 * When set, the application is not stopped right after startup: it serves the requests of this file,
+                 * and is then shut down, so that the classes loaded and the method profiles collected while serving
+                 * an actual workload are part of the AOT file.
+                 * <p>
+                 * Each line is either a request such as {@code GET /hello} or {@code POST /greetings {"name":"foo"}},
+                 * or a line of an HTTP access log in the common or combined format, from which the request line is
+                 * extracted.
+                 * Empty lines and lines starting with {@code #} are ignored.
+                 * <p>
+                 * Relative paths are resolved against the directory of the project.
+                 */
+                Optional<Path> workload();
+
+                /**
+                 * The number of times the workload is replayed.
+                 */
+                @WithDefault("10")
+                int iterations();
+
+                /**
+                 * The content type of the request bodies of the workload.
+                 */
+                @WithDefault("application/json")
+                String contentType();
+
+                /**
+                 * The maximum time to wait for the application to start, and then to stop and write the AOT file.
+                 */
+                @WithDefault("60s")
+                Duration timeout();
+            }
+
             enum AotType {
                 AUTO,
                 AOT,
@@ -402,6 +449,14 @@ enum JarType {
              * loading delegated to JDK class loader).
              */
             AOT_JAR(true, "aot-jar", "aot-fast-jar"),
+            /**
+             * The "indexed JAR" packaging type.
+             * <p>
+             * Similar to fast-jar, but all the classes and resources of the application are also stored in a single
+             * uncompressed archive, with a precomputed index, from which they are read at runtime without having to open
+             * and decompress the jars.
+             */
+            INDEXED_JAR(true, "indexed-jar"),
             /**
              * The "Uber-JAR" packaging type.
              */
@@ -22,6 +22,7 @@ public class FastJarFormat {
 
     static final String GENERATED_BYTECODE_JAR = "generated-bytecode.jar";
     static final String TRANSFORMED_BYTECODE_JAR = "transformed-bytecode.jar";
+    static final String INDEXED_ARCHIVE = "quarkus-application.qar";
 
     /**
      * Returns a JAR file name to be used for a content of a dependency, depending on whether the resolved path
@@ -0,0 +1,184 @@
+package io.quarkus.deployment.pkg.steps;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.deployment.pkg.PackageConfig.JarConfig.AotConfig.TrainingConfig;
+
+/**
+ * Runs the application while the JVM records a startup optimizer archive, replays a workload against it,
+ * and shuts it down gracefully so that the archive is written on exit.
+ */
+final class AotTrainingRun {
+
+    private static final Logger log = Logger.getLogger(AotTrainingRun.class);
+
+    // the request line of the common and combined access log formats, e.g. "GET /hello HTTP/1.1"
+    private static final Pattern ACCESS_LOG_REQUEST_LINE = Pattern.compile("\"([A-Z]+) (\\S+) HTTP/[0-9.]+\"");
+    private static final String LOCALHOST = "localhost";
+
+    private final TrainingConfig config;
+    private final List<Request> workload;
+
+    private AotTrainingRun(TrainingConfig config, List<Request> workload) {
+        this.config = config;
+        this.workload = workload;
+    }
+
+    static AotTrainingRun of(TrainingConfig config, Path workloadFile) throws IOException {
+        if (!Files.isReadable(workloadFile)) {
+            throw new IllegalArgumentException("The AOT training workload file " + workloadFile + " is not readable");
+        }
+        return new AotTrainingRun(config, parseWorkload(Files.readAllLines(workloadFile, StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * @param command the command launching the application, which records the archive on exit
+     * @return the archive, or {@code null} if it was not created
+     */
+    Path run(List<String> command, Path workingDirectory, Path archivePath, Path logFile) throws IOException {
+        int port = findFreePort();
+        List<String> trainingCommand = new ArrayList<>(command.size() + 2);
+        // the system properties have to be set before the -jar argument
+        int jarIndex = command.indexOf("-jar");
+        trainingCommand.addAll(command.subList(0, jarIndex));
+        trainingCommand.add("-Dquarkus.http.host=" + LOCALHOST);
+        trainingCommand.add("-Dquarkus.http.port=" + port);
+        trainingCommand.addAll(command.subList(jarIndex, command.size()));
+        if (log.isDebugEnabled()) {
+            log.debugf("Launching training run: '%s'", String.join(" ", trainingCommand));
+        }
+
+        Process process = new ProcessBuilder(trainingCommand)
+                .directory(workingDirectory.toFile())
+                .redirectErrorStream(true)
+                .redirectOutput(logFile.toFile())
+                .start();
+        try {
+            if (!awaitStartup(process, port)) {
+                log.warnf("The application did not start within %s during the AOT training run, see %s", config.timeout(),
+                        logFile);
+                return null;
+            }
+            replay(port);
+
+            // a graceful shutdown is required for the JVM to write the archive
+            process.destroy();
+            if (!process.waitFor(config.timeout().toMillis(), TimeUnit.MILLISECONDS)) {
+                log.warnf("The application did not stop within %s at the end of the AOT training run, see %s",
+                        config.timeout(), logFile);
+                return null;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } finally {
+            if (process.isAlive()) {
+                process.destroyForcibly();
+            }
+        }
+        return Files.exists(archivePath) ? archivePath : null;
+    }
+
+    private boolean awaitStartup(Process process, int port) throws InterruptedException {
+        long deadline = System.nanoTime() + config.timeout().toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                return false;
+            }
+            try (Socket socket = new Socket()) {
+                socket.connect(new InetSocketAddress(LOCALHOST, port), 500);
+                return true;
+            } catch (IOException e) {
+                Thread.sleep(100);
+            }
+        }
+        return false;
+    }
+
+    private void replay(int port) throws InterruptedException {
+        HttpClient client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        int sent = 0;
+        int failed = 0;
+        for (int i = 0; i < config.iterations(); i++) {
+            for (Request request : workload) {
+                URI uri = URI.create("http://" + LOCALHOST + ":" + port + request.path());
+                HttpRequest.Builder builder = HttpRequest.newBuilder(uri).timeout(config.timeout());
+                if (request.body() == null) {
+                    builder.method(request.method(), HttpRequest.BodyPublishers.noBody());
+                } else {
+                    builder.header("Content-Type", config.contentType())
+                            .method(request.method(), HttpRequest.BodyPublishers.ofString(request.body()));
+                }
+                sent++;
+                try {
+                    HttpResponse<Void> response = client.send(builder.build(), HttpResponse.BodyHandlers.discarding());
+                    if (response.statusCode() >= 400) {
+                        failed++;
+                        log.debugf("Training request %s %s failed with status %d", request.method(), request.path(),
+                                response.statusCode());
+                    }
+                } catch (IOException e) {
+                    failed++;
+                    log.debugf(e, "Training request %s %s failed", request.method(), request.path());
+                }
+            }
+        }
+        if (failed > 0) {
+            log.warnf("%d of the %d requests of the AOT training run failed", failed, sent);
+        } else {
+            log.infof("Replayed %d requests during the AOT training run", sent);
+        }
+    }
+
+    static List<Request> parseWorkload(List<String> lines) {
+        List<Request> requests = new ArrayList<>(lines.size());
+        for (String line : lines) {
+            line = line.trim();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            Matcher accessLog = ACCESS_LOG_REQUEST_LINE.matcher(line);
+            if (accessLog.find()) {
+                requests.add(new Request(accessLog.group(1), accessLog.group(2), null));
+                continue;
+            }
+            String[] parts = line.split("\\s+", 3);
+            if (parts.length < 2 || !parts[1].startsWith("/")) {
+                throw new IllegalArgumentException("Invalid AOT training request '" + line
+                        + "', expected a method followed by a path, and optionally a body");
+            }
+            requests.add(new Request(parts[0].toUpperCase(Locale.ROOT), parts[1], parts.length == 3 ? parts[2] : null));
+        }
+        return requests;
+    }
+
+    private static int findFreePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    record Request(String method, String path, String body) {
+    }
+}
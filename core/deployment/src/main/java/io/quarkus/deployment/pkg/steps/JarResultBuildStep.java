@@ -39,6 +39,7 @@
 import io.quarkus.deployment.pkg.builditem.UberJarMergedResourceBuildItem;
 import io.quarkus.deployment.pkg.jar.AotFastJarBuilder;
 import io.quarkus.deployment.pkg.jar.FastJarBuilder;
+import io.quarkus.deployment.pkg.jar.IndexedFastJarBuilder;
 import io.quarkus.deployment.pkg.jar.LegacyThinJarBuilder;
 import io.quarkus.deployment.pkg.jar.NativeImageSourceJarBuilder;
 import io.quarkus.deployment.pkg.jar.UberJarBuilder;
@@ -157,6 +158,20 @@ public JarBuildItem buildRunnerJar(CurateOutcomeBuildItem curateOutcomeBuildItem
                     removedArtifactKeys,
                     buildExecutor,
                     jvmRequirements).build();
+            case INDEXED_JAR -> new IndexedFastJarBuilder(curateOutcomeBuildItem,
+                    outputTargetBuildItem,
+                    applicationInfo,
+                    packageConfig,
+                    mainClassBuildItem,
+                    applicationArchivesBuildItem,
+                    additionalApplicationArchiveBuildItems,
+                    transformedClasses,
+                    generatedClasses,
+                    generatedResources,
+                    parentFirstArtifactKeys,
+                    removedArtifactKeys,
+                    buildExecutor,
+                    jvmRequirements).build();
             case AOT_JAR -> new AotFastJarBuilder(curateOutcomeBuildItem,
                     outputTargetBuildItem,
                     applicationInfo,
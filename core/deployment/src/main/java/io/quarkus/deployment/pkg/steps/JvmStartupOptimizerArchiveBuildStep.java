@@ -17,12 +17,14 @@
 import org.jboss.logging.Logger;
 
 import io.quarkus.bootstrap.util.IoUtils;
+import io.quarkus.bootstrap.workspace.WorkspaceModule;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.builditem.LaunchModeBuildItem;
 import io.quarkus.deployment.pkg.PackageConfig;
 import io.quarkus.deployment.pkg.builditem.ArtifactResultBuildItem;
 import io.quarkus.deployment.pkg.builditem.CompiledJavaVersionBuildItem;
+import io.quarkus.deployment.pkg.builditem.CurateOutcomeBuildItem;
 import io.quarkus.deployment.pkg.builditem.JarBuildItem;
 import io.quarkus.deployment.pkg.builditem.JvmStartupOptimizerArchiveContainerImageBuildItem;
 import io.quarkus.deployment.pkg.builditem.JvmStartupOptimizerArchiveRequestedBuildItem;
@@ -139,6 +141,7 @@ private JvmStartupOptimizerArchiveType determineTypeFromJavaVersion(
     public void build(Optional<JvmStartupOptimizerArchiveRequestedBuildItem> requested,
             JarBuildItem jarResult, OutputTargetBuildItem outputTarget, PackageConfig packageConfig,
             CompiledJavaVersionBuildItem compiledJavaVersion,
+            CurateOutcomeBuildItem curateOutcome,
             Optional<JvmStartupOptimizerArchiveContainerImageBuildItem> jvmStartupOptimizerArchiveContainerImage,
             BuildProducer<JvmStartupOptimizerArchiveResultBuildItem> jvmStartupOptimizerArchive,
             BuildProducer<ArtifactResultBuildItem> artifactResult) throws Exception {
@@ -165,7 +168,17 @@ public void build(Optional<JvmStartupOptimizerArchiveRequestedBuildItem> request
         JvmStartupOptimizerArchiveType archiveType = requested.get().getType();
         log.infof("Launching %s creation process.", archiveType);
         boolean isFastJar = packageConfig.jar().type().usesFastJarLayout();
-        if (archiveType == JvmStartupOptimizerArchiveType.AppCDS) {
+        PackageConfig.JarConfig.AotConfig.TrainingConfig trainingConfig = packageConfig.jar().aot().training();
+        if (trainingConfig.workload().isPresent() && containerImage != null) {
+            log.warnf("The AOT training workload is ignored as the %s file is created in a container", archiveType);
+        }
+        if (trainingConfig.workload().isPresent() && containerImage == null) {
+            AotTrainingRun trainingRun = AotTrainingRun.of(trainingConfig,
+                    resolveWorkload(trainingConfig.workload().get(), curateOutcome, outputTarget));
+            archivePath = createFromTrainingRun(archiveType, trainingRun, jarResult, javaBinPath, isFastJar,
+                    packageConfig.jar().aot().additionalRecordingArgs().orElse(List.of()),
+                    requested.get().getDir().resolve("training.log"));
+        } else if (archiveType == JvmStartupOptimizerArchiveType.AppCDS) {
             archivePath = createAppCDSFromExit(jarResult, outputTarget, javaBinPath, containerImage,
                     isFastJar);
         } else if (archiveType == JvmStartupOptimizerArchiveType.AOT) {
@@ -354,6 +367,51 @@ private List<String> createAotCommand(JarBuildItem jarResult, OutputTargetBuildI
         return command;
     }
 
+    private static Path resolveWorkload(Path workload, CurateOutcomeBuildItem curateOutcome,
+            OutputTargetBuildItem outputTarget) {
+        if (workload.isAbsolute()) {
+            return workload;
+        }
+        WorkspaceModule module = curateOutcome.getApplicationModel().getApplicationModule();
+        if (module != null && module.getModuleDir() != null) {
+            return module.getModuleDir().toPath().resolve(workload);
+        }
+        // the output directory is usually in the directory of the project
+        return outputTarget.getOutputDirectory().getParent().resolve(workload);
+    }
+
+    /**
+     * @return The path of the created archive or null if the file was not created
+     */
+    private Path createFromTrainingRun(JvmStartupOptimizerArchiveType archiveType, AotTrainingRun trainingRun,
+            JarBuildItem jarResult, String javaBinPath, boolean isFastJar, List<String> additionalRecordingArgs,
+            Path logFile) throws IOException {
+        ArchivePathsContainer pathsContainer;
+        List<String> command = new ArrayList<>();
+        command.add(javaBinPath);
+        if (archiveType == JvmStartupOptimizerArchiveType.AppCDS) {
+            pathsContainer = ArchivePathsContainer.appCDSFromQuarkusJar(jarResult.getPath());
+            command.add("-XX:ArchiveClassesAtExit=" + pathsContainer.resultingFile.getFileName().toString());
+        } else {
+            if (Runtime.version().feature() < 25) {
+                throw new IllegalStateException(
+                        "AOT cache generation requires building with JDK 25 or newer (see JEP 514). ");
+            }
+            pathsContainer = ArchivePathsContainer.aotFromQuarkusJar(jarResult.getPath());
+            // the AOT cache includes the method profiles collected during the training run (see JEP 515)
+            command.add("-XX:AOTCacheOutput=" + pathsContainer.resultingFile.getFileName().toString());
+            command.addAll(additionalRecordingArgs);
+        }
+        // contrary to the other modes, the application is not stopped right after startup
+        command.add("-jar");
+        if (isFastJar) {
+            command.add(FastJarFormat.QUARKUS_RUN_JAR);
+        } else {
+            command.add(jarResult.getPath().getFileName().toString());
+        }
+        return trainingRun.run(command, pathsContainer.workingDirectory, pathsContainer.resultingFile, logFile);
+    }
+
     private Path launchArchiveCreateCommand(Path workingDirectory, Path archivePath, List<String> command) {
         if (log.isDebugEnabled()) {
             log.debugf("Launching command: '%s'", String.join(" ", command));
@@ -73,6 +73,7 @@
 import io.quarkus.runtime.StartupTask;
 import io.quarkus.runtime.annotations.IgnoreProperty;
 import io.quarkus.runtime.annotations.RelaxedValidation;
+import io.quarkus.runtime.recording.CompactValueDecoder;
 import io.quarkus.runtime.types.GenericArrayTypeImpl;
 import io.quarkus.runtime.types.ParameterizedTypeImpl;
 import io.quarkus.runtime.types.WildcardTypeImpl;
@@ -113,6 +114,17 @@ public class BytecodeRecorderImpl implements RecorderContext {
 
     private static final MethodDescriptor COLLECTION_ADD = ofMethod(Collection.class, "add", boolean.class, Object.class);
     private static final MethodDescriptor MAP_PUT = ofMethod(Map.class, "put", Object.class, Object.class, Object.class);
+    private static final MethodDescriptor COMPACT_ADD_ALL = ofMethod(CompactValueDecoder.class, "addAll", void.class,
+            Collection.class, String.class);
+    private static final MethodDescriptor COMPACT_PUT_ALL = ofMethod(CompactValueDecoder.class, "putAll", void.class,
+            Map.class, String.class);
+    private static final MethodDescriptor COMPACT_FILL = ofMethod(CompactValueDecoder.class, "fill", void.class,
+            Object.class, int.class, String.class);
+    /**
+     * The minimum number of simple values of a collection, map or array that are decoded from constants, instead of being
+     * loaded one by one by the generated bytecode
+     */
+    private static final int COMPACT_VALUES_THRESHOLD = 16;
     public static final String CREATE_ARRAY = "$quarkus$createArray";
 
     private final boolean staticInit;
@@ -898,6 +910,25 @@ ResultHandle doLoad(MethodContext context, MethodCreator method, ResultHandle ar
             };
         } else if (expectedType.isArray()) {
             int length = Array.getLength(param);
+            List<Object> values = new ArrayList<>(length);
+            for (int i = 0; i < length; ++i) {
+                values.add(Array.get(param, i));
+            }
+            List<CompactValueEncoder.Chunk> chunks = compactValueChunks(values, 1);
+            if (chunks != null) {
+                //large arrays of simple values are decoded from a few constants
+                return new DeferredArrayStoreParameter(param, expectedType) {
+                    @Override
+                    ResultHandle createValue(MethodContext context, MethodCreator method, ResultHandle array) {
+                        ResultHandle out = method.newArray(expectedType.getComponentType(), length);
+                        for (CompactValueEncoder.Chunk chunk : chunks) {
+                            method.invokeStaticMethod(COMPACT_FILL, out, method.load(chunk.offset()),
+                                    method.load(chunk.encoded()));
+                        }
+                        return out;
+                    }
+                };
+            }
             DeferredParameter[] components = new DeferredParameter[length];
 
             for (int i = 0; i < length; ++i) {
@@ -1136,7 +1167,13 @@ private DeferredParameter loadComplexObject(Object param, Map<Object, DeferredPa
         List<SerializationStep> ctorSetupSteps = new ArrayList<>();
 
         boolean relaxedOk = false;
-        if (param instanceof Collection) {
+        List<SerializationStep> compactSteps;
+        if (param instanceof Collection<?> collection
+                && (compactSteps = compactValueSteps(new ArrayList<>(collection), 1, COMPACT_ADD_ALL)) != null) {
+            //large collections of simple values are decoded from a few constants
+            setupSteps.addAll(compactSteps);
+            relaxedOk = true;
+        } else if (param instanceof Collection) {
             //if this is a collection we want to serialize every element
             for (Object i : (Collection) param) {
                 DeferredParameter val = i != null
@@ -1158,7 +1195,11 @@ public void prepare(MethodContext context) {
             }
             relaxedOk = true;
         }
-        if (param instanceof Map) {
+        if (param instanceof Map<?, ?> map
+                && (compactSteps = compactValueSteps(flatten(map), 2, COMPACT_PUT_ALL)) != null) {
+            setupSteps.addAll(compactSteps);
+            relaxedOk = true;
+        } else if (param instanceof Map) {
             //map works the same as collection
             for (Map.Entry<?, ?> i : ((Map<?, ?>) param).entrySet()) {
                 DeferredParameter key = i.getKey() != null
@@ -1607,6 +1648,56 @@ ResultHandle createValue(MethodContext context, MethodCreator method, ResultHand
         };
     }
 
+    /**
+     * @return the steps that add the given values to a collection or a map with one call per chunk of encoded values, or
+     *         {@code null} if the values are not all simple values, or too few to benefit from it
+     */
+    private List<SerializationStep> compactValueSteps(List<Object> values, int groupSize, MethodDescriptor decoder) {
+        List<CompactValueEncoder.Chunk> chunks = compactValueChunks(values, groupSize);
+        if (chunks == null) {
+            return null;
+        }
+        List<SerializationStep> steps = new ArrayList<>(chunks.size());
+        for (CompactValueEncoder.Chunk chunk : chunks) {
+            steps.add(new SerializationStep() {
+                @Override
+                public void handle(MethodContext context, MethodCreator method, DeferredArrayStoreParameter out) {
+                    method.invokeStaticMethod(decoder, context.loadDeferred(out), method.load(chunk.encoded()));
+                }
+
+                @Override
+                public void prepare(MethodContext context) {
+                }
+            });
+        }
+        return steps;
+    }
+
+    private List<CompactValueEncoder.Chunk> compactValueChunks(List<Object> values, int groupSize) {
+        if (values.size() < COMPACT_VALUES_THRESHOLD * groupSize) {
+            return null;
+        }
+        for (Object value : values) {
+            if (!CompactValueEncoder.isSimpleValue(value)) {
+                return null;
+            }
+            //substituted and loaded values must be recorded as usual
+            if (value != null && (substitutions.containsKey(value.getClass()) || findLoaded(value) != null)) {
+                return null;
+            }
+        }
+        return CompactValueEncoder.encode(values, groupSize);
+    }
+
+    private static List<Object> flatten(Map<?, ?> map) {
+        List<Object> values = new ArrayList<>(map.size() * 2);
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            values.add(entry.getKey());
+            values.add(entry.getValue());
+        }
+        return values;
+    }
+
     private static List<Parameter> extractConstructorParameterNames(Constructor<?> selectedCtor,
             Map<String, Integer> constructorParamNameMap) {
         List<Parameter> unnamed = Collections.emptyList();
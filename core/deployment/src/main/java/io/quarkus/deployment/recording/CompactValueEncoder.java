@@ -0,0 +1,132 @@
+package io.quarkus.deployment.recording;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import io.quarkus.runtime.recording.CompactValueDecoder;
+
+/**
+ * Encodes simple values as string constants that are decoded at startup by {@link CompactValueDecoder}.
+ * <p>
+ * The values are split into chunks that each fit in a constant of the class file.
+ */
+final class CompactValueEncoder {
+
+    /**
+     * The maximum length of a constant of the class file, in modified UTF-8 bytes
+     */
+    static final int MAX_CHUNK_LENGTH = 65535;
+
+    private static final Set<Class<?>> SIMPLE_TYPES = Set.of(String.class, Integer.class, Long.class, Short.class,
+            Byte.class, Boolean.class, Character.class, Float.class, Double.class);
+
+    private CompactValueEncoder() {
+    }
+
+    /**
+     * @return {@code true} if the given value is {@code null}, a string or a boxed primitive
+     */
+    static boolean isSimpleValue(Object value) {
+        return value == null || SIMPLE_TYPES.contains(value.getClass());
+    }
+
+    /**
+     * Encodes the given simple values.
+     *
+     * @param values the values to encode
+     * @param groupSize the number of consecutive values that must be decoded together, e.g. 2 for the keys and values of
+     *        a map
+     * @return the chunks of encoded values, or {@code null} if a group of values is too large to be encoded
+     */
+    static List<Chunk> encode(List<?> values, int groupSize) {
+        List<Chunk> chunks = new ArrayList<>();
+        StringBuilder chunk = new StringBuilder();
+        int chunkLength = 0;
+        int chunkOffset = 0;
+        StringBuilder group = new StringBuilder();
+        for (int i = 0; i < values.size(); i += groupSize) {
+            group.setLength(0);
+            for (int j = i; j < i + groupSize; j++) {
+                if (!encode(values.get(j), group)) {
+                    return null;
+                }
+            }
+            int groupLength = utfLength(group);
+            if (groupLength > MAX_CHUNK_LENGTH) {
+                return null;
+            }
+            if (chunkLength + groupLength > MAX_CHUNK_LENGTH) {
+                chunks.add(new Chunk(chunkOffset, chunk.toString()));
+                chunk.setLength(0);
+                chunkLength = 0;
+                chunkOffset = i;
+            }
+            chunk.append(group);
+            chunkLength += groupLength;
+        }
+        if (!chunk.isEmpty()) {
+            chunks.add(new Chunk(chunkOffset, chunk.toString()));
+        }
+        return chunks;
+    }
+
+    private static boolean encode(Object value, StringBuilder out) {
+        if (value == null) {
+            out.append(CompactValueDecoder.NULL);
+        } else if (value instanceof Boolean b) {
+            out.append(b ? CompactValueDecoder.TRUE : CompactValueDecoder.FALSE);
+        } else if (value instanceof Character c) {
+            out.append(CompactValueDecoder.CHARACTER).append(c.charValue());
+        } else if (value instanceof String s) {
+            return encode(CompactValueDecoder.STRING, s, out);
+        } else if (value instanceof Integer) {
+            return encode(CompactValueDecoder.INTEGER, value.toString(), out);
+        } else if (value instanceof Long) {
+            return encode(CompactValueDecoder.LONG, value.toString(), out);
+        } else if (value instanceof Short) {
+            return encode(CompactValueDecoder.SHORT, value.toString(), out);
+        } else if (value instanceof Byte) {
+            return encode(CompactValueDecoder.BYTE, value.toString(), out);
+        } else if (value instanceof Float) {
+            return encode(CompactValueDecoder.FLOAT, value.toString(), out);
+        } else if (value instanceof Double) {
+            return encode(CompactValueDecoder.DOUBLE, value.toString(), out);
+        } else {
+            return false;
+        }
+        return true;
+    }
+
+    private static boolean encode(char tag, String text, StringBuilder out) {
+        if (text.length() > Character.MAX_VALUE) {
+            return false;
+        }
+        out.append(tag).append((char) text.length()).append(text);
+        return true;
+    }
+
+    private static int utfLength(CharSequence value) {
+        int length = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c >= 0x0001 && c <= 0x007F) {
+                length++;
+            } else if (c <= 0x07FF) {
+                length += 2;
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+
+    /**
+     * Encoded values.
+     *
+     * @param offset the index of the first value of the chunk
+     * @param encoded the encoded values
+     */
+    record Chunk(int offset, String encoded) {
+    }
+}
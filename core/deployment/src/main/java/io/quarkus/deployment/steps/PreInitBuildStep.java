@@ -37,7 +37,7 @@ public class PreInitBuildStep {
      * For now, this is only used when using the AOT runner.
      * We might want to also use it for fast-jar at some point but let's be safe for now.
      */
-    @BuildStep(onlyIf = AotJarEnabled.class)
+    @BuildStep(onlyIf = AotJarEnabled.class, cacheable = true)
     PreInitBuildItem executePreInitTasks(List<PreInitRunnableBuildItem> preInitRunnables,
             BuildProducer<GeneratedClassBuildItem> generatedClasses,
             BuildProducer<GeneratedResourceBuildItem> generatedResources) {
@@ -2,17 +2,29 @@
 
 import static io.quarkus.runtime.PreloadClassesRecorder.QUARKUS_GENERATED_PRELOAD_CLASSES_FILE;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.net.URLConnection;
 import java.nio.charset.StandardCharsets;
+import java.util.Enumeration;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
+import io.quarkus.bootstrap.runner.ClassLoadingRecording;
+import io.quarkus.deployment.IsProduction;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.ExecutionTime;
 import io.quarkus.deployment.annotations.Record;
+import io.quarkus.deployment.builditem.ApplicationStartBuildItem;
 import io.quarkus.deployment.builditem.GeneratedResourceBuildItem;
 import io.quarkus.deployment.builditem.PreloadClassBuildItem;
 import io.quarkus.deployment.builditem.PreloadClassesEnabledBuildItem;
+import io.quarkus.deployment.builditem.ServiceStartBuildItem;
+import io.quarkus.deployment.configuration.ClassLoadingConfig;
+import io.quarkus.deployment.pkg.steps.NativeOrNativeSourcesBuild;
 import io.quarkus.runtime.PreloadClassesRecorder;
 
 public class PreloadClassesBuildStep {
@@ -24,6 +36,40 @@ public void preInit(Optional<PreloadClassesEnabledBuildItem> preload, PreloadCla
         recorder.invokePreloadClasses(preload.get().doInitialize());
     }
 
+    /**
+     * Preloads the classes of the {@code first-request} phase once the application has started, unless all the classes
+     * are preloaded during static init already.
+     */
+    @BuildStep(onlyIf = IsProduction.class, onlyIfNot = NativeOrNativeSourcesBuild.class)
+    @Record(ExecutionTime.RUNTIME_INIT)
+    public void preloadFirstRequestClasses(ClassLoadingConfig config,
+            Optional<PreloadClassesEnabledBuildItem> preload,
+            Optional<ApplicationStartBuildItem> applicationStart, // run after the startup event
+            List<ServiceStartBuildItem> serviceStarts,
+            PreloadClassesRecorder recorder) throws IOException {
+        if (!config.preloadFirstRequestClasses() || preload.isPresent() || !hasFirstRequestClasses()) {
+            return;
+        }
+        recorder.preloadFirstRequestClasses();
+    }
+
+    private static boolean hasFirstRequestClasses() throws IOException {
+        String marker = ClassLoadingRecording.PHASE_MARKER + ClassLoadingRecording.Phase.FIRST_REQUEST.getName();
+        Enumeration<URL> files = Thread.currentThread().getContextClassLoader()
+                .getResources(PreloadClassesRecorder.PRELOAD_CLASSES_FILE);
+        while (files.hasMoreElements()) {
+            URLConnection conn = files.nextElement().openConnection();
+            conn.setUseCaches(false);
+            try (BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(conn.getInputStream(), StandardCharsets.UTF_8))) {
+                if (reader.lines().anyMatch(line -> line.strip().equals(marker))) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
     @BuildStep
     public GeneratedResourceBuildItem registerPreInitClasses(List<PreloadClassBuildItem> items) {
         if (items == null || items.isEmpty())
@@ -0,0 +1,114 @@
+package io.quarkus.deployment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.reflect.Method;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.quarkus.builder.BuildChain;
+import io.quarkus.builder.BuildChainBuilder;
+import io.quarkus.builder.BuildResult;
+import io.quarkus.builder.BuildStepCache;
+import io.quarkus.deployment.annotations.BuildProducer;
+import io.quarkus.deployment.annotations.BuildStep;
+import io.quarkus.deployment.builditem.GeneratedClassBuildItem;
+import io.quarkus.deployment.builditem.GeneratedResourceBuildItem;
+import io.quarkus.deployment.builditem.PreInitBuildItem;
+import io.quarkus.deployment.builditem.PreInitRunnableBuildItem;
+import io.quarkus.deployment.steps.PreInitBuildStep;
+
+public class CacheableBuildStepTest {
+
+    @TempDir
+    Path cacheDirectory;
+
+    final AtomicInteger executions = new AtomicInteger();
+
+    @BeforeEach
+    public void enableCache() {
+        System.setProperty(BuildStepCache.BUILDER_CACHE_DIRECTORY, cacheDirectory.toString());
+    }
+
+    @AfterEach
+    public void disableCache() {
+        System.clearProperty(BuildStepCache.BUILDER_CACHE_DIRECTORY);
+    }
+
+    @Test
+    public void testPreInitStepIsCacheable() throws Exception {
+        Method method = PreInitBuildStep.class.getDeclaredMethod("executePreInitTasks", List.class, BuildProducer.class,
+                BuildProducer.class);
+        assertThat(method.getAnnotation(BuildStep.class).cacheable()).isTrue();
+    }
+
+    @Test
+    public void testGeneratedClassesAreServedFromTheCache() throws Exception {
+        BuildResult first = build("java.util.UUID");
+        assertThat(first.getMetrics().getCacheMisses()).isEqualTo(1);
+        GeneratedClassBuildItem generated = first.consumeMulti(GeneratedClassBuildItem.class).get(0);
+
+        BuildResult second = build("java.util.UUID");
+        assertThat(second.getMetrics().getCacheHits()).isEqualTo(1);
+        assertThat(executions).hasValue(1);
+        assertThat(second.consumeMulti(GeneratedClassBuildItem.class)).singleElement().satisfies(cached -> {
+            assertThat(cached.binaryName()).isEqualTo(generated.binaryName());
+            assertThat(cached.internalName()).isEqualTo(generated.internalName());
+            assertThat(cached.getClassData()).isEqualTo(generated.getClassData());
+        });
+        assertThat(second.consume(PreInitBuildItem.class)).isNotNull();
+    }
+
+    @Test
+    public void testStepIsExecutedWhenConsumedItemsChange() throws Exception {
+        build("java.util.UUID");
+        BuildResult result = build("java.util.Random");
+        assertThat(result.getMetrics().getCacheMisses()).isEqualTo(1);
+        assertThat(executions).hasValue(2);
+    }
+
+    private BuildResult build(String initializedClass) throws Exception {
+        Method method = PreInitBuildStep.class.getDeclaredMethod("executePreInitTasks", List.class, BuildProducer.class,
+                BuildProducer.class);
+        method.setAccessible(true);
+        PreInitBuildStep preInitBuildStep = new PreInitBuildStep();
+        io.quarkus.builder.BuildStep step = new io.quarkus.builder.BuildStep() {
+            @Override
+            public void execute(io.quarkus.builder.BuildContext context) {
+                executions.incrementAndGet();
+                try {
+                    BuildProducer<GeneratedClassBuildItem> generatedClasses = context::produce;
+                    BuildProducer<GeneratedResourceBuildItem> generatedResources = context::produce;
+                    context.produce((PreInitBuildItem) method.invoke(preInitBuildStep,
+                            context.consumeMulti(PreInitRunnableBuildItem.class), generatedClasses, generatedResources));
+                } catch (ReflectiveOperationException e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+
+            @Override
+            public String getId() {
+                return PreInitBuildStep.class.getName() + "#executePreInitTasks";
+            }
+        };
+        BuildChainBuilder builder = BuildChain.builder();
+        builder.addBuildStep(ExtensionLoader.cacheable(step, PreInitBuildStep.class))
+                .consumes(PreInitRunnableBuildItem.class)
+                .produces(GeneratedClassBuildItem.class)
+                .produces(GeneratedResourceBuildItem.class)
+                .produces(PreInitBuildItem.class)
+                .build();
+        builder.addInitial(PreInitRunnableBuildItem.class);
+        builder.addFinal(GeneratedClassBuildItem.class);
+        builder.addFinal(PreInitBuildItem.class);
+        return builder.build().createExecutionBuilder("my-app.jar")
+                .produce(PreInitRunnableBuildItem.initializeClass(initializedClass))
+                .execute();
+    }
+}
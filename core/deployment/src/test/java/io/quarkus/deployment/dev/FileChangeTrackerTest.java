@@ -0,0 +1,101 @@
+package io.quarkus.deployment.dev;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class FileChangeTrackerTest {
+
+    @TempDir
+    Path root;
+
+    FileChangeTracker tracker;
+
+    @BeforeEach
+    public void setup() {
+        //watch events are only used on Linux
+        Assumptions.assumeTrue(RuntimeUpdatesProcessor.IS_LINUX);
+        tracker = new FileChangeTracker();
+    }
+
+    @AfterEach
+    public void close() throws Exception {
+        if (tracker != null) {
+            tracker.close();
+        }
+    }
+
+    @Test
+    public void testChangedFiles() throws Exception {
+        Path existing = Files.writeString(root.resolve("existing.txt"), "existing");
+        FileChangeTracker.Cursor cursor = tracker.cursor();
+        // the root must be scanned the first time
+        assertThat(cursor.poll(root)).isNull();
+        assertThat(cursor.poll(root)).isEmpty();
+
+        Path added = Files.writeString(root.resolve("added.txt"), "added");
+        Files.delete(existing);
+
+        assertThat(awaitChanges(cursor, 2)).containsExactlyInAnyOrder(added, existing);
+        assertThat(cursor.poll(root)).isEmpty();
+    }
+
+    @Test
+    public void testAddedDirectory() throws Exception {
+        FileChangeTracker.Cursor cursor = tracker.cursor();
+        assertThat(cursor.poll(root)).isNull();
+
+        Path tmp = Files.createTempDirectory("quarkus-file-change-tracker");
+        Files.writeString(Files.createDirectories(tmp.resolve("dir/sub")).resolve("file.txt"), "data");
+        // the content of a directory moved to the root is not reported by watch events
+        Files.move(tmp.resolve("dir"), root.resolve("dir"));
+        Files.delete(tmp);
+
+        assertThat(awaitChanges(cursor, 3)).contains(root.resolve("dir/sub/file.txt"));
+    }
+
+    @Test
+    public void testCursorsAreIndependent() throws Exception {
+        FileChangeTracker.Cursor first = tracker.cursor();
+        FileChangeTracker.Cursor second = tracker.cursor();
+        assertThat(first.poll(root)).isNull();
+        assertThat(second.poll(root)).isNull();
+
+        Path added = Files.writeString(root.resolve("added.txt"), "added");
+
+        assertThat(awaitChanges(first, 1)).containsExactly(added);
+        assertThat(awaitChanges(second, 1)).containsExactly(added);
+    }
+
+    @Test
+    public void testInvalidate() {
+        FileChangeTracker.Cursor cursor = tracker.cursor();
+        assertThat(cursor.poll(root)).isNull();
+        assertThat(cursor.poll(root)).isEmpty();
+
+        tracker.invalidate(root);
+
+        assertThat(cursor.poll(root)).isNull();
+        assertThat(cursor.poll(root)).isEmpty();
+    }
+
+    private Set<Path> awaitChanges(FileChangeTracker.Cursor cursor, int expected) throws InterruptedException {
+        Set<Path> changes = new HashSet<>();
+        long end = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (changes.size() < expected && System.nanoTime() < end) {
+            changes.addAll(cursor.poll(root));
+            Thread.sleep(50);
+        }
+        return changes;
+    }
+}
@@ -0,0 +1,116 @@
+package io.quarkus.deployment.dev;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.quarkus.dev.spi.DevModeType;
+import io.quarkus.paths.PathList;
+
+public class RuntimeUpdatesProcessorTest {
+
+    @TempDir
+    Path root;
+
+    final TestCompilationProvider compilationProvider = new TestCompilationProvider();
+
+    RuntimeUpdatesProcessor processor;
+
+    @BeforeEach
+    public void setup() {
+        //watch events are only used on Linux
+        Assumptions.assumeTrue(RuntimeUpdatesProcessor.IS_LINUX);
+        DevModeContext context = new DevModeContext();
+        // the additional modules are compiled before the application root
+        context.getAdditionalModules().add(module("dependency"));
+        context.setApplicationRoot(module("application"));
+        processor = new RuntimeUpdatesProcessor(root, context, new QuarkusCompiler(List.of(compilationProvider)),
+                DevModeType.LOCAL, (changed, result) -> {
+                }, null, null, null, null)
+                .setWatchServiceEnabled(true);
+    }
+
+    @AfterEach
+    public void close() throws Exception {
+        if (processor != null) {
+            processor.close();
+        }
+    }
+
+    @Test
+    public void testChangesAreCompiledAfterACompilationFailure() throws Exception {
+        processor.checkForChangedClasses(true);
+
+        Path broken = Files.writeString(root.resolve("dependency/src/Broken.java"), "class Broken {");
+        Path fine = Files.writeString(root.resolve("application/src/Fine.java"), "class Fine {}");
+
+        // the dependency fails to compile, so the application is not compiled either
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!compilationProvider.failed.contains(broken.toFile())) {
+            assertThat(System.nanoTime()).isLessThan(deadline);
+            processor.checkForChangedClasses(false);
+            Thread.sleep(50);
+        }
+        assertThat(processor.compileProblem).isNotNull();
+        assertThat(compilationProvider.compiled).doesNotContain(fine.toFile());
+
+        // the broken file is fixed by a change that is not a file change, e.g. a dependency is added to the classpath
+        compilationProvider.fixed = true;
+        deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!compilationProvider.compiled.containsAll(List.of(broken.toFile(), fine.toFile()))) {
+            assertThat(System.nanoTime()).isLessThan(deadline);
+            processor.checkForChangedClasses(false);
+            Thread.sleep(50);
+        }
+        assertThat(processor.compileProblem).isNull();
+    }
+
+    private DevModeContext.ModuleInfo module(String name) {
+        Path module = root.resolve(name);
+        try {
+            Files.createDirectories(module.resolve("src"));
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+        return new DevModeContext.ModuleInfo.Builder()
+                .setName(name)
+                .setProjectDirectory(module.toString())
+                .setSourcePaths(PathList.of(module.resolve("src")))
+                .build();
+    }
+
+    static class TestCompilationProvider implements CompilationProvider {
+
+        final Set<File> compiled = ConcurrentHashMap.newKeySet();
+        final Set<File> failed = ConcurrentHashMap.newKeySet();
+        volatile boolean fixed;
+
+        @Override
+        public Set<String> handledExtensions() {
+            return Set.of(".java");
+        }
+
+        @Override
+        public void compile(Set<File> files, Context context) {
+            for (File file : files) {
+                if (file.getName().equals("Broken.java") && !fixed) {
+                    failed.add(file);
+                    throw new RuntimeException("Broken.java does not compile");
+                }
+            }
+            compiled.addAll(files);
+        }
+    }
+}
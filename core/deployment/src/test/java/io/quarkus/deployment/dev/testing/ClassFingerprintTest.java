@@ -0,0 +1,68 @@
+package io.quarkus.deployment.dev.testing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+
+public class ClassFingerprintTest {
+
+    @Test
+    public void testUnchangedClass() {
+        ClassFingerprint previous = ClassFingerprint.of(generate("a", "b", 1, false));
+        ClassFingerprint current = ClassFingerprint.of(generate("a", "b", 1, false));
+        assertThat(current.getClassName()).isEqualTo("org.acme.Service");
+        assertThat(current.changedMethods(previous)).isEmpty();
+    }
+
+    @Test
+    public void testChangedMethod() {
+        ClassFingerprint previous = ClassFingerprint.of(generate("a", "b", 1, false));
+        ClassFingerprint current = ClassFingerprint.of(generate("a", "b", 2, false));
+        assertThat(current.changedMethods(previous)).containsExactly("b()Ljava/lang/String;");
+    }
+
+    @Test
+    public void testLineNumbersAreIgnored() {
+        ClassFingerprint previous = ClassFingerprint.of(generate("a", "b", 1, false));
+        ClassFingerprint current = ClassFingerprint.of(generate("a", "b", 1, true));
+        assertThat(current.changedMethods(previous)).isEmpty();
+    }
+
+    @Test
+    public void testChangedStructure() {
+        ClassFingerprint previous = ClassFingerprint.of(generate("a", "b", 1, false));
+        assertThat(ClassFingerprint.of(generate("a", "c", 1, false)).changedMethods(previous)).isNull();
+    }
+
+    static byte[] generate(String first, String second, int value, boolean shiftLines) {
+        ClassWriter writer = new ClassWriter(ClassWriter.COMPUTE_MAXS);
+        writer.visit(Opcodes.V17, Opcodes.ACC_PUBLIC, "org/acme/Service", null, "java/lang/Object", null);
+        MethodVisitor init = writer.visitMethod(Opcodes.ACC_PUBLIC, "<init>", "()V", null, null);
+        init.visitCode();
+        init.visitVarInsn(Opcodes.ALOAD, 0);
+        init.visitMethodInsn(Opcodes.INVOKESPECIAL, "java/lang/Object", "<init>", "()V", false);
+        init.visitInsn(Opcodes.RETURN);
+        init.visitMaxs(0, 0);
+        init.visitEnd();
+        method(writer, first, "first", shiftLines ? 10 : 1);
+        method(writer, second, "second" + value, shiftLines ? 20 : 2);
+        writer.visitEnd();
+        return writer.toByteArray();
+    }
+
+    private static void method(ClassWriter writer, String name, String value, int line) {
+        MethodVisitor mv = writer.visitMethod(Opcodes.ACC_PUBLIC, name, "()Ljava/lang/String;", null, null);
+        mv.visitCode();
+        Label start = new Label();
+        mv.visitLabel(start);
+        mv.visitLineNumber(line, start);
+        mv.visitLdcInsn(value);
+        mv.visitInsn(Opcodes.ARETURN);
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+    }
+}
@@ -0,0 +1,88 @@
+package io.quarkus.deployment.dev.testing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.support.descriptor.AbstractTestDescriptor;
+import org.junit.platform.engine.support.descriptor.MethodSource;
+import org.junit.platform.launcher.PostDiscoveryFilter;
+
+public class TestClassUsagesTest {
+
+    static final String SERVICE = "org.acme.Service";
+    static final String TEST_CLASS = "org.acme.ServiceTest";
+
+    @TempDir
+    Path classes;
+
+    final TestClassUsages usages = new TestClassUsages();
+    final TestDescriptor callsA = test("callsA");
+    final TestDescriptor callsB = test("callsB");
+
+    @BeforeEach
+    public void setup() throws Exception {
+        usages.setMethodLevel(true);
+        // the fingerprints are recorded before the tests load the classes
+        assertThat(usages.updateFingerprints(List.of(write(ClassFingerprintTest.generate("a", "b", 1, false)))))
+                .containsEntry(SERVICE, null);
+        usages.updateTestData(TEST_CLASS, callsA.getUniqueId(),
+                new HashSet<>(Set.of(SERVICE, TestClassUsages.methodUsage(SERVICE, "a()Ljava/lang/String;"))));
+        usages.updateTestData(TEST_CLASS, callsB.getUniqueId(),
+                new HashSet<>(Set.of(SERVICE, TestClassUsages.methodUsage(SERVICE, "b()Ljava/lang/String;"))));
+    }
+
+    @Test
+    public void testOnlyTestsCallingChangedMethodsAreRun() throws Exception {
+        Map<String, Set<String>> changedMethods = usages
+                .updateFingerprints(List.of(write(ClassFingerprintTest.generate("a", "b", 2, false))));
+        assertThat(changedMethods).containsEntry(SERVICE, Set.of("b()Ljava/lang/String;"));
+
+        PostDiscoveryFilter filter = usages.getTestsToRun(Set.of(SERVICE), changedMethods, new TestState());
+        assertThat(filter.apply(callsA).excluded()).isTrue();
+        assertThat(filter.apply(callsB).included()).isTrue();
+    }
+
+    @Test
+    public void testStructureChangeRunsAllTestsUsingTheClass() throws Exception {
+        Map<String, Set<String>> changedMethods = usages
+                .updateFingerprints(List.of(write(ClassFingerprintTest.generate("a", "c", 1, false))));
+        assertThat(changedMethods).containsEntry(SERVICE, null);
+
+        PostDiscoveryFilter filter = usages.getTestsToRun(Set.of(SERVICE), changedMethods, new TestState());
+        assertThat(filter.apply(callsA).included()).isTrue();
+        assertThat(filter.apply(callsB).included()).isTrue();
+    }
+
+    @Test
+    public void testClassLevelUsagesRunAllTestsUsingTheClass() {
+        PostDiscoveryFilter filter = usages.getTestsToRun(Set.of(SERVICE), new TestState());
+        assertThat(filter.apply(callsA).included()).isTrue();
+        assertThat(filter.apply(callsB).included()).isTrue();
+        assertThat(usages.getTestsToRun(Set.of("org.acme.Other"), new TestState()).apply(callsA).excluded()).isTrue();
+    }
+
+    private Path write(byte[] classData) throws Exception {
+        return Files.write(classes.resolve("Service.class"), classData);
+    }
+
+    private static TestDescriptor test(String method) {
+        UniqueId id = UniqueId.forEngine("junit-jupiter").append("class", TEST_CLASS).append("method", method + "()");
+        return new AbstractTestDescriptor(id, method, MethodSource.from(TEST_CLASS, method)) {
+            @Override
+            public Type getType() {
+                return Type.TEST;
+            }
+        };
+    }
+}
@@ -0,0 +1,71 @@
+package io.quarkus.deployment.dev.testing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class TouchedClassesTest {
+
+    final TouchedClasses touched = new TouchedClasses();
+    final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+    @AfterEach
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testThatTheUsagesOfATestIncludeTheOnesOfItsThread() {
+        touched.push();
+        touched.touched("org.acme.Container");
+        touched.push();
+        touched.touched("org.acme.Service", "org.acme.Service#a()V");
+
+        assertThat(touched.pop()).containsExactlyInAnyOrder("org.acme.Service", "org.acme.Service#a()V");
+        assertThat(touched.enclosing()).containsExactly(Set.of("org.acme.Container"));
+        assertThat(touched.pop()).containsExactly("org.acme.Container");
+        assertThat(touched.enclosing()).isEmpty();
+    }
+
+    @Test
+    public void testThatTestsRunInParallelDoNotShareTheirUsages() throws Exception {
+        CountDownLatch started = new CountDownLatch(2);
+        CountDownLatch traced = new CountDownLatch(1);
+        Future<Set<String>> first = executor.submit(() -> run("org.acme.First", started, traced));
+        Future<Set<String>> second = executor.submit(() -> run("org.acme.Second", started, traced));
+
+        assertThat(started.await(10, TimeUnit.SECONDS)).isTrue();
+        // a usage from a thread that runs no test, such as an I/O thread, is attributed to all the running tests
+        touched.touched("org.acme.Resource");
+        traced.countDown();
+
+        assertThat(first.get(10, TimeUnit.SECONDS)).containsExactlyInAnyOrder("org.acme.First", "org.acme.Resource");
+        assertThat(second.get(10, TimeUnit.SECONDS)).containsExactlyInAnyOrder("org.acme.Second", "org.acme.Resource");
+    }
+
+    @Test
+    public void testThatTheStartupClassesAreTheOnesOfTheTestThatStartedTheApplication() throws Exception {
+        touched.push();
+        touched.quarkusStarting();
+        touched.touched("org.acme.Startup");
+
+        assertThat(touched.startupClasses()).containsExactly("org.acme.Startup");
+        assertThat(executor.submit(touched::startupClasses).get(10, TimeUnit.SECONDS)).isNull();
+    }
+
+    private Set<String> run(String className, CountDownLatch started, CountDownLatch traced) throws InterruptedException {
+        touched.push();
+        touched.touched(className);
+        started.countDown();
+        assertThat(traced.await(10, TimeUnit.SECONDS)).isTrue();
+        return touched.pop();
+    }
+}
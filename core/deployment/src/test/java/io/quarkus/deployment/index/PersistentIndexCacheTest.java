@@ -0,0 +1,92 @@
+package io.quarkus.deployment.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.Index;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.exporter.ZipExporter;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class PersistentIndexCacheTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void cacheByJarContent() throws IOException {
+        Path jar = jar("first.jar", PersistentIndexCacheTest.class);
+        Path copy = Files.copy(jar, tempDir.resolve("copy.jar"));
+        PersistentIndexCache cache = new PersistentIndexCache(tempDir.resolve("cache"));
+        AtomicInteger indexed = new AtomicInteger();
+
+        Index index = cache.get(jar, null, () -> index(jar, indexed));
+        assertThat(index.getClassByName(DotName.createSimple(PersistentIndexCacheTest.class))).isNotNull();
+        // the same content at another location
+        Index cached = cache.get(copy, null, () -> index(copy, indexed));
+        assertThat(cached.getClassByName(DotName.createSimple(PersistentIndexCacheTest.class))).isNotNull();
+        // another content
+        Path other = jar("other.jar", PersistentIndexCache.class);
+        cache.get(other, null, () -> index(other, indexed));
+
+        assertThat(indexed).hasValue(2);
+        assertThat(cache.getHits()).isEqualTo(1);
+        assertThat(cache.getMisses()).isEqualTo(2);
+    }
+
+    @Test
+    void keyIncludesRemovedResources() throws IOException {
+        Path jar = jar("first.jar", PersistentIndexCacheTest.class);
+
+        assertThat(PersistentIndexCache.key(jar, null)).isEqualTo(PersistentIndexCache.key(jar, Set.of()));
+        assertThat(PersistentIndexCache.key(jar, Set.of("a.class", "b.class")))
+                .isEqualTo(PersistentIndexCache.key(jar, Set.of("b.class", "a.class")))
+                .isNotEqualTo(PersistentIndexCache.key(jar, null));
+    }
+
+    @Test
+    void discardCorruptedIndex() throws IOException {
+        Path jar = jar("first.jar", PersistentIndexCacheTest.class);
+        Path directory = tempDir.resolve("cache");
+        PersistentIndexCache cache = new PersistentIndexCache(directory);
+        AtomicInteger indexed = new AtomicInteger();
+        cache.get(jar, null, () -> index(jar, indexed));
+
+        List<Path> files;
+        try (Stream<Path> stream = Files.walk(directory)) {
+            files = stream.filter(Files::isRegularFile).toList();
+        }
+        assertThat(files).hasSize(1);
+        Files.writeString(files.get(0), "corrupted");
+
+        Index index = cache.get(jar, null, () -> index(jar, indexed));
+        assertThat(index.getClassByName(DotName.createSimple(PersistentIndexCacheTest.class))).isNotNull();
+        assertThat(indexed).hasValue(2);
+        // the index was cached again
+        assertThat(cache.get(jar, null, () -> index(jar, indexed))).isNotNull();
+        assertThat(indexed).hasValue(2);
+    }
+
+    private Path jar(String name, Class<?> clazz) {
+        Path path = tempDir.resolve(name);
+        ShrinkWrap.create(JavaArchive.class, name).addClass(clazz).as(ZipExporter.class)
+                .exportTo(new File(path.toUri()), true);
+        return path;
+    }
+
+    private static Index index(Path jar, AtomicInteger indexed) throws IOException {
+        indexed.incrementAndGet();
+        return IndexingUtil.indexJar(jar);
+    }
+}
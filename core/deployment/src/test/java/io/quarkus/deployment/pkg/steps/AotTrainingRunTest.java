@@ -0,0 +1,35 @@
+package io.quarkus.deployment.pkg.steps;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.deployment.pkg.steps.AotTrainingRun.Request;
+
+public class AotTrainingRunTest {
+
+    @Test
+    public void testParseWorkload() {
+        List<Request> requests = AotTrainingRun.parseWorkload(List.of(
+                "# warm up the greeting endpoints",
+                "GET /hello",
+                "",
+                "post /greetings {\"name\": \"foo\"}",
+                "127.0.0.1 - - [10/Oct/2025:13:55:36 +0000] \"GET /hello/world?lang=fr HTTP/1.1\" 200 12"));
+
+        assertThat(requests).containsExactly(
+                new Request("GET", "/hello", null),
+                new Request("POST", "/greetings", "{\"name\": \"foo\"}"),
+                new Request("GET", "/hello/world?lang=fr", null));
+    }
+
+    @Test
+    public void testInvalidRequest() {
+        assertThatThrownBy(() -> AotTrainingRun.parseWorkload(List.of("GET hello")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("GET hello");
+    }
+}
@@ -222,6 +222,38 @@ public void testLargeCollection() throws Exception {
         }, beans);
     }
 
+    @Test
+    public void testLargeCollectionsOfSimpleValues() throws Exception {
+        List<Object> values = new ArrayList<>();
+        Map<Object, Object> map = new LinkedHashMap<>();
+        int[] ints = new int[100000];
+        for (int i = 0; i < 100000; i++) {
+            String value = "value-\u0000-\u00e9-\u4e16-" + i;
+            values.add(switch (i % 10) {
+                case 0 -> null;
+                case 1 -> i % 3 == 0;
+                case 2 -> (char) i;
+                case 3 -> (short) i;
+                case 4 -> (byte) i;
+                case 5 -> (long) i * Integer.MAX_VALUE;
+                case 6 -> i / 3f;
+                case 7 -> i / 7d;
+                case 8 -> i;
+                default -> value;
+            });
+            map.put(value, i % 2 == 0 ? i : null);
+            ints[i] = -i;
+        }
+        runTest(generator -> {
+            TestRecorder recorder = generator.getRecordingProxy(TestRecorder.class);
+            recorder.list(values);
+            recorder.set(new TreeSet<>(map.keySet()));
+            recorder.map(map);
+            recorder.intArray(ints);
+            recorder.array(map.keySet().toArray());
+        }, values, new TreeSet<>(map.keySet()), map, ints, map.keySet().toArray());
+    }
+
     @Test
     public void testUnmodifiableMapWithinAMap() throws Exception {
         Map<Integer, Map<Integer, TestJavaBean>> outerMap = new HashMap<>();
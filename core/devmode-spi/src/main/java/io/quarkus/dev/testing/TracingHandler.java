@@ -11,6 +11,13 @@ public static void trace(String className) {
         }
     }
 
+    public static void trace(String className, String method) {
+        TraceListener t = tracingHandler;
+        if (t != null) {
+            t.touched(className, method);
+        }
+    }
+
     public static void quarkusStarting() {
         TraceListener t = tracingHandler;
         if (t != null) {
@@ -47,6 +54,16 @@ public interface TraceListener {
 
         void touched(String className);
 
+        /**
+         * Called when a method is invoked, if the test classes are instrumented to trace the methods.
+         *
+         * @param className the name of the class declaring the method
+         * @param method the name of the method followed by its descriptor
+         */
+        default void touched(String className, String method) {
+            touched(className);
+        }
+
         default void quarkusStarting() {
         }
 
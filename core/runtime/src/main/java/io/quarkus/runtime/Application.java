@@ -8,6 +8,7 @@
 import org.jboss.logging.Logger;
 import org.wildfly.common.lock.Locks;
 
+import io.quarkus.bootstrap.runner.ClassLoadingRecording;
 import io.quarkus.bootstrap.runner.Timing;
 import io.quarkus.dev.appstate.ApplicationStateNotification;
 import io.quarkus.runtime.shutdown.ShutdownRecorder;
@@ -108,6 +109,9 @@ public final void start(String[] args) {
         } finally {
             stateLock.unlock();
         }
+        if (!auxiliaryApplication) {
+            ClassLoadingRecording.startPhase(ClassLoadingRecording.Phase.RUNTIME_INIT);
+        }
         try {
             doStart(args);
         } catch (Throwable t) {
@@ -135,6 +139,7 @@ public final void start(String[] args) {
             stateCond.signalAll();
             if (!auxiliaryApplication) {
                 ApplicationStateNotification.notifyStartupComplete();
+                ClassLoadingRecording.startPhase(ClassLoadingRecording.Phase.FIRST_REQUEST);
             }
         } finally {
             stateLock.unlock();
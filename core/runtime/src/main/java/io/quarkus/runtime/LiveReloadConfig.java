@@ -37,6 +37,17 @@ public interface LiveReloadConfig {
      */
     Optional<List<String>> watchedResources();
 
+    /**
+     * Whether file system watch events should be used to detect the changed files, so that only these files are checked
+     * when a change is looked for, instead of the whole source and resource directories.
+     * <p>
+     * Watch events are only used on Linux. The directories are scanned for changes on the other operating systems, or if
+     * this is set to false, e.g. for file systems that do not report reliable watch events, such as some network file
+     * systems.
+     */
+    @WithDefault("true")
+    boolean watchService();
+
     /**
      * Password used to use to connect to the remote dev-mode application
      */
@@ -8,11 +8,14 @@
 import java.net.URLConnection;
 import java.util.Enumeration;
 
+import io.quarkus.bootstrap.runner.ClassLoadingRecording;
+import io.quarkus.bootstrap.runner.ClassLoadingRecording.Phase;
 import io.quarkus.runtime.annotations.Recorder;
 
 @Recorder
 public class PreloadClassesRecorder {
     public static final String QUARKUS_GENERATED_PRELOAD_CLASSES_FILE = "quarkus-generated-preload-classes.txt";
+    public static final String PRELOAD_CLASSES_FILE = "META-INF/quarkus-preload-classes.txt";
 
     public static void preloadClass(String classname, boolean initialize) {
         try {
@@ -25,7 +28,7 @@ public static void preloadClass(String classname, boolean initialize) {
     public static void preloadClasses(boolean initialize) {
         try {
             Enumeration<URL> files = PreloadClassesRecorder.class.getClassLoader()
-                    .getResources("META-INF/quarkus-preload-classes.txt");
+                    .getResources(PRELOAD_CLASSES_FILE);
             while (files.hasMoreElements()) {
                 URL url = files.nextElement();
                 URLConnection conn = url.openConnection();
@@ -42,11 +45,29 @@ public static void preloadClasses(boolean initialize) {
     }
 
     public static void preloadClassesFromStream(InputStream is, boolean initialize) {
+        preloadClassesFromStream(is, initialize, null);
+    }
+
+    /**
+     * Preloads the classes of the given phase, or all the classes if the phase is {@code null}.
+     * <p>
+     * The phases are delimited by {@code #phase=<name>} lines, as written by {@link ClassLoadingRecording},
+     * and the classes listed before the first of these lines belong to the {@code static-init} phase.
+     */
+    public static void preloadClassesFromStream(InputStream is, boolean initialize, Phase phase) {
         try (is;
                 InputStreamReader isr = new InputStreamReader(is);
                 BufferedReader reader = new BufferedReader(isr)) {
+            Phase currentPhase = Phase.STATIC_INIT;
             String line;
             while ((line = reader.readLine()) != null) {
+                if (line.startsWith(ClassLoadingRecording.PHASE_MARKER)) {
+                    currentPhase = Phase.fromName(line.substring(ClassLoadingRecording.PHASE_MARKER.length()).strip());
+                    continue;
+                }
+                if (phase != null && phase != currentPhase) {
+                    continue;
+                }
                 int idx = line.indexOf('#');
                 if (idx != -1) {
                     line = line.substring(0, idx);
@@ -64,4 +85,28 @@ public static void preloadClassesFromStream(InputStream is, boolean initialize)
     public void invokePreloadClasses(boolean initialize) {
         preloadClasses(initialize);
     }
+
+    /**
+     * Preloads the classes of the {@code first-request} phase on a background thread, so that they are loaded
+     * and initialized by the time the first requests are handled.
+     */
+    public void preloadFirstRequestClasses() {
+        Thread thread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    Enumeration<URL> files = PreloadClassesRecorder.class.getClassLoader()
+                            .getResources(PRELOAD_CLASSES_FILE);
+                    while (files.hasMoreElements()) {
+                        URLConnection conn = files.nextElement().openConnection();
+                        conn.setUseCaches(false);
+                        preloadClassesFromStream(conn.getInputStream(), true, Phase.FIRST_REQUEST);
+                    }
+                } catch (IOException ignored) {
+                }
+            }
+        }, "quarkus-preload-classes");
+        thread.setDaemon(true);
+        thread.start();
+    }
 }
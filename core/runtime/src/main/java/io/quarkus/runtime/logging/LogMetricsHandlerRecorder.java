@@ -1,9 +1,11 @@
 package io.quarkus.runtime.logging;
 
 import java.util.Arrays;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.NavigableMap;
 import java.util.Optional;
+import java.util.Set;
 import java.util.TreeMap;
 import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Consumer;
@@ -22,11 +24,21 @@ public class LogMetricsHandlerRecorder {
 
     static final String METRIC_DESCRIPTION = "Number of log events, per log level. Non-standard levels are counted with the lower standard level.";
 
+    static final String ASYNC_DROPPED_METRIC_NAME = "log.async.dropped";
+
+    static final String ASYNC_DROPPED_METRIC_DESCRIPTION = "Number of log events dropped by asynchronous ring buffer handlers, per handler type.";
+
     static final List<Level> STANDARD_LEVELS = Arrays.asList(Level.FATAL, Level.ERROR, Level.WARN, Level.INFO, Level.DEBUG,
             Level.TRACE);
 
     static final NavigableMap<Integer, LongAdder> COUNTERS = new TreeMap<>();
 
+    private final RuntimeValue<LogRuntimeConfig> logRuntimeConfig;
+
+    public LogMetricsHandlerRecorder(final RuntimeValue<LogRuntimeConfig> logRuntimeConfig) {
+        this.logRuntimeConfig = logRuntimeConfig;
+    }
+
     public void initCounters() {
         for (Level level : STANDARD_LEVELS) {
             LongAdder counter = new LongAdder();
@@ -43,10 +55,48 @@ public void accept(MetricsFactory metricsFactory) {
                     metricsFactory.builder(METRIC_NAME).description(METRIC_DESCRIPTION).tag("level", level.getName())
                             .buildCounter(COUNTERS.get(level.intValue())::sum);
                 }
+                for (String handlerType : ringBufferHandlerTypes(logRuntimeConfig.getValue())) {
+                    metricsFactory.builder(ASYNC_DROPPED_METRIC_NAME).description(ASYNC_DROPPED_METRIC_DESCRIPTION)
+                            .tag("handler", handlerType)
+                            .buildCounter(RingBufferAsyncHandler.droppedRecords(handlerType)::sum);
+                }
             }
         };
     }
 
+    /**
+     * Returns the types of the enabled handlers, default or named, that log through a {@link RingBufferAsyncHandler}.
+     */
+    static Set<String> ringBufferHandlerTypes(LogRuntimeConfig config) {
+        Set<String> handlerTypes = new LinkedHashSet<>();
+        if (usesRingBuffer(config.console().enable().orElse(config.console().enabled()), config.console().async())
+                || config.consoleHandlers().values().stream()
+                        .anyMatch(c -> usesRingBuffer(c.enable().orElse(c.enabled()), c.async()))) {
+            handlerTypes.add("console");
+        }
+        if (usesRingBuffer(config.file().enable().orElse(config.file().enabled()), config.file().async())
+                || config.fileHandlers().values().stream()
+                        .anyMatch(c -> usesRingBuffer(c.enable().orElse(c.enabled()), c.async()))) {
+            handlerTypes.add("file");
+        }
+        if (usesRingBuffer(config.syslog().enable().orElse(config.syslog().enabled()), config.syslog().async())
+                || config.syslogHandlers().values().stream()
+                        .anyMatch(c -> usesRingBuffer(c.enable().orElse(c.enabled()), c.async()))) {
+            handlerTypes.add("syslog");
+        }
+        if (usesRingBuffer(config.socket().enable().orElse(config.socket().enabled()), config.socket().async())
+                || config.socketHandlers().values().stream()
+                        .anyMatch(c -> usesRingBuffer(c.enable().orElse(c.enabled()), c.async()))) {
+            handlerTypes.add("socket");
+        }
+        return handlerTypes;
+    }
+
+    private static boolean usesRingBuffer(boolean handlerEnabled, LogRuntimeConfig.AsyncConfig async) {
+        return handlerEnabled && async.legacyEnable().orElse(async.enable().orElse(async.enabled()))
+                && async.ringBuffer().enabled();
+    }
+
     public RuntimeValue<Optional<Handler>> getLogHandler() {
         return new RuntimeValue(Optional.of(new LogMetricsHandler(COUNTERS)));
     }
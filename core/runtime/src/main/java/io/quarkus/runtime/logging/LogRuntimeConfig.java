@@ -560,5 +560,37 @@ interface AsyncConfig {
          */
         @WithDefault("block")
         OverflowAction overflow();
+
+        /**
+         * Asynchronous logging through a lock-free ring buffer.
+         */
+        RingBufferConfig ringBuffer();
+    }
+
+    interface RingBufferConfig {
+
+        /**
+         * Whether to use a preallocated, lock-free ring buffer drained by a single thread instead of the default
+         * queue-based asynchronous handler.
+         * <p>
+         * Publishing threads never block on a lock, which makes it a better fit for event loop threads, and the consumer
+         * thread flushes the underlying handler once per batch rather than once per record.
+         * The capacity of the buffer is the {@code queue-length}, rounded up to the next power of two.
+         */
+        @WithDefault("false")
+        boolean enabled();
+
+        /**
+         * What to do when the ring buffer is full.
+         * The number of dropped records is exposed as the {@code log.async.dropped} metric when logging metrics are enabled.
+         */
+        @WithDefault("block")
+        RingBufferAsyncHandler.OverflowPolicy overflow();
+
+        /**
+         * The maximum number of records written by the consumer thread before the underlying handler is flushed.
+         */
+        @WithDefault("256")
+        int batchSize();
     }
 }
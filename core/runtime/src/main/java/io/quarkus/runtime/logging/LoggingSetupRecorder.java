@@ -624,7 +624,7 @@ private static Handler configureConsoleHandler(
         boolean asyncEnabled = config.async().legacyEnable().orElse(config.async().enable().orElse(config.async().enabled()));
 
         Handler handler = asyncEnabled
-                ? createAsyncHandler(config.async(), config.level(), consoleHandler)
+                ? createAsyncHandler("console", config.async(), config.level(), consoleHandler)
                 : consoleHandler;
 
         if (color && launchMode.isDevOrTest() && !asyncEnabled) {
@@ -720,7 +720,7 @@ private static Handler configureFileHandler(final FileConfig config, final Error
         }
 
         if (config.async().legacyEnable().orElse(config.async().enable().orElse(config.async().enabled()))) {
-            return createAsyncHandler(config.async(), config.level(), handler);
+            return createAsyncHandler("file", config.async(), config.level(), handler);
         }
         return handler;
     }
@@ -807,7 +807,7 @@ private static Handler configureSyslogHandler(final LogRuntimeConfig.SyslogConfi
             }
 
             if (config.async().legacyEnable().orElse(config.async().enable().orElse(config.async().enabled()))) {
-                return createAsyncHandler(config.async(), config.level(), handler);
+                return createAsyncHandler("syslog", config.async(), config.level(), handler);
             }
             return handler;
         } catch (IOException e) {
@@ -854,7 +854,7 @@ private static Handler configureSocketHandler(final LogRuntimeConfig.SocketConfi
             }
 
             if (config.async().legacyEnable().orElse(config.async().enable().orElse(config.async().enabled()))) {
-                return createAsyncHandler(config.async(), config.level(), handler);
+                return createAsyncHandler("socket", config.async(), config.level(), handler);
             }
             return handler;
         } catch (IOException e) {
@@ -863,7 +863,16 @@ private static Handler configureSocketHandler(final LogRuntimeConfig.SocketConfi
         }
     }
 
-    private static AsyncHandler createAsyncHandler(LogRuntimeConfig.AsyncConfig asyncConfig, Level level, Handler handler) {
+    private static ExtHandler createAsyncHandler(String handlerType, LogRuntimeConfig.AsyncConfig asyncConfig, Level level,
+            Handler handler) {
+        LogRuntimeConfig.RingBufferConfig ringBufferConfig = asyncConfig.ringBuffer();
+        if (ringBufferConfig.enabled()) {
+            final RingBufferAsyncHandler ringBufferHandler = new RingBufferAsyncHandler(handlerType,
+                    asyncConfig.queueLength(), ringBufferConfig.batchSize(), ringBufferConfig.overflow());
+            ringBufferHandler.addHandler(handler);
+            ringBufferHandler.setLevel(level);
+            return ringBufferHandler;
+        }
         final AsyncHandler asyncHandler = new AsyncHandler(asyncConfig.queueLength());
         asyncHandler.setOverflowAction(asyncConfig.overflow());
         asyncHandler.addHandler(handler);
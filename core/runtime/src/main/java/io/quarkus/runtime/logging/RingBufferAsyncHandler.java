@@ -0,0 +1,240 @@
+package io.quarkus.runtime.logging;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.ErrorManager;
+import java.util.logging.Handler;
+
+import org.jboss.logmanager.ExtHandler;
+import org.jboss.logmanager.ExtLogRecord;
+import org.jboss.logmanager.Level;
+
+/**
+ * An asynchronous handler backed by a preallocated, lock-free multi-producer single-consumer ring buffer.
+ * <p>
+ * Publishing threads never take a lock: they claim a slot with a CAS and store the record in it. A single daemon thread
+ * drains the buffer in batches, publishes the records to the nested handlers and flushes them once per batch, which
+ * turns one write per record into one write per batch for stream based handlers.
+ * <p>
+ * When the buffer is full, the configured {@link OverflowPolicy} applies. Dropped records are counted per handler type,
+ * see {@link #droppedRecords(String)}.
+ */
+public final class RingBufferAsyncHandler extends ExtHandler {
+
+    private static final ConcurrentMap<String, LongAdder> DROPPED_RECORDS = new ConcurrentHashMap<>();
+
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final long BLOCKED_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+    private static final long CLOSE_TIMEOUT_MILLIS = 5000;
+
+    public enum OverflowPolicy {
+        /**
+         * Block the publishing thread until a slot is free.
+         */
+        BLOCK,
+        /**
+         * Drop records at {@code DEBUG} level or below once the buffer is three quarters full, and block for the others
+         * when it is full.
+         */
+        DROP_DEBUG_FIRST,
+        /**
+         * Drop any record that does not fit in the buffer.
+         */
+        DISCARD,
+    }
+
+    private final AtomicReferenceArray<ExtLogRecord> slots;
+    private final int mask;
+    private final int capacity;
+    private final int debugThreshold;
+    private final int batchSize;
+    private final OverflowPolicy overflowPolicy;
+    private final LongAdder droppedRecords;
+    private final AtomicLong tail = new AtomicLong();
+    private final Thread consumer;
+
+    // only written by the consumer thread
+    private volatile long head;
+    private volatile boolean consumerParked;
+    private volatile boolean closed;
+
+    /**
+     * Creates a new handler; the consumer thread is started right away.
+     *
+     * @param handlerType the type of the nested handler, e.g. {@code file}, used to name the thread and the metrics
+     * @param capacity the minimum number of slots, rounded up to the next power of two
+     * @param batchSize the maximum number of records published between two flushes of the nested handlers
+     * @param overflowPolicy what to do when the buffer is full
+     */
+    public RingBufferAsyncHandler(String handlerType, int capacity, int batchSize, OverflowPolicy overflowPolicy) {
+        if (capacity < 1 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("Invalid ring buffer capacity: " + capacity);
+        }
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Invalid ring buffer batch size: " + batchSize);
+        }
+        this.capacity = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        this.mask = this.capacity - 1;
+        this.slots = new AtomicReferenceArray<>(this.capacity);
+        this.debugThreshold = this.capacity - (this.capacity >> 2);
+        this.batchSize = batchSize;
+        this.overflowPolicy = overflowPolicy;
+        this.droppedRecords = droppedRecords(handlerType);
+        this.consumer = new Thread(this::consume, "quarkus-log-async-" + handlerType);
+        this.consumer.setDaemon(true);
+        this.consumer.start();
+    }
+
+    /**
+     * Returns the counter of records dropped by the ring buffer handlers wrapping the given handler type.
+     *
+     * @param handlerType the type of handler, e.g. {@code console} or {@code file}
+     * @return the counter, never {@code null}
+     */
+    public static LongAdder droppedRecords(String handlerType) {
+        return DROPPED_RECORDS.computeIfAbsent(handlerType, k -> new LongAdder());
+    }
+
+    int capacity() {
+        return capacity;
+    }
+
+    int size() {
+        return (int) (tail.get() - head);
+    }
+
+    @Override
+    protected void doPublish(final ExtLogRecord record) {
+        if (closed) {
+            droppedRecords.increment();
+            return;
+        }
+        // the record is processed on another thread, so capture everything bound to the current one
+        record.copyAll();
+        final boolean block;
+        switch (overflowPolicy) {
+            case DISCARD:
+                block = false;
+                break;
+            case DROP_DEBUG_FIRST:
+                if (record.getLevel().intValue() <= Level.DEBUG.intValue() && size() >= debugThreshold) {
+                    droppedRecords.increment();
+                    return;
+                }
+                block = true;
+                break;
+            default:
+                block = true;
+        }
+        while (!offer(record)) {
+            if (!block || closed) {
+                droppedRecords.increment();
+                return;
+            }
+            LockSupport.parkNanos(BLOCKED_PARK_NANOS);
+        }
+        if (consumerParked) {
+            LockSupport.unpark(consumer);
+        }
+    }
+
+    private boolean offer(final ExtLogRecord record) {
+        long current;
+        do {
+            current = tail.get();
+            if (current - head >= capacity) {
+                return false;
+            }
+        } while (!tail.compareAndSet(current, current + 1));
+        // volatile store, ordered before the read of consumerParked in doPublish
+        slots.set((int) current & mask, record);
+        return true;
+    }
+
+    private void consume() {
+        for (;;) {
+            int published = 0;
+            ExtLogRecord record;
+            while (published < batchSize && (record = poll()) != null) {
+                try {
+                    publishToNestedHandlers(record);
+                } catch (Exception e) {
+                    reportError("Failed to publish log record", e, ErrorManager.WRITE_FAILURE);
+                }
+                published++;
+            }
+            if (published > 0) {
+                flushNestedHandlers();
+                continue;
+            }
+            if (closed && tail.get() == head) {
+                return;
+            }
+            consumerParked = true;
+            if (slots.get((int) head & mask) == null) {
+                // the timeout bounds the latency in the unlikely case of a missed wake-up
+                LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+            }
+            consumerParked = false;
+        }
+    }
+
+    private ExtLogRecord poll() {
+        final long current = head;
+        final int index = (int) current & mask;
+        final ExtLogRecord record = slots.get(index);
+        if (record == null) {
+            // either empty, or a producer claimed the slot but did not store the record yet
+            return null;
+        }
+        slots.lazySet(index, null);
+        head = current + 1;
+        return record;
+    }
+
+    private void flushNestedHandlers() {
+        for (Handler handler : getHandlers()) {
+            try {
+                handler.flush();
+            } catch (Exception e) {
+                reportError("Failed to flush log handler", e, ErrorManager.FLUSH_FAILURE);
+            }
+        }
+    }
+
+    @Override
+    public void flush() {
+        if (consumerParked) {
+            LockSupport.unpark(consumer);
+        }
+    }
+
+    @Override
+    public void close() throws SecurityException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        LockSupport.unpark(consumer);
+        try {
+            consumer.join(CLOSE_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        super.close();
+    }
+
+    @Override
+    public void addHandler(final Handler handler) throws SecurityException {
+        if (handler instanceof ExtHandler extHandler) {
+            // flushing is done once per batch by the consumer thread
+            extHandler.setAutoFlush(false);
+        }
+        super.addHandler(handler);
+    }
+}
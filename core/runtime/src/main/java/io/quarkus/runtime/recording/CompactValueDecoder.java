@@ -0,0 +1,127 @@
+package io.quarkus.runtime.recording;
+
+import java.lang.reflect.Array;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Decodes the large collections, maps and arrays of simple values recorded by the bytecode recorder as string constants.
+ * <p>
+ * Loading the values from a constant with this decoder avoids running one generated method call per value at startup.
+ * Each value is encoded as a tag, followed by the length of its text and its text for the tags that have one:
+ * <ul>
+ * <li>{@code N}: {@code null}</li>
+ * <li>{@code t} and {@code f}: {@code true} and {@code false}</li>
+ * <li>{@code S}: a {@link String}</li>
+ * <li>{@code I}, {@code J}, {@code H}, {@code B}: an {@link Integer}, a {@link Long}, a {@link Short} or a {@link Byte}
+ * in decimal</li>
+ * <li>{@code F}, {@code D}: a {@link Float} or a {@link Double}</li>
+ * <li>{@code C}: a {@link Character}, followed by the character itself instead of a length</li>
+ * </ul>
+ * The lengths are encoded as a single character, so a value is at most 65535 characters long.
+ */
+public final class CompactValueDecoder {
+
+    public static final char NULL = 'N';
+    public static final char TRUE = 't';
+    public static final char FALSE = 'f';
+    public static final char STRING = 'S';
+    public static final char INTEGER = 'I';
+    public static final char LONG = 'J';
+    public static final char SHORT = 'H';
+    public static final char BYTE = 'B';
+    public static final char FLOAT = 'F';
+    public static final char DOUBLE = 'D';
+    public static final char CHARACTER = 'C';
+
+    private CompactValueDecoder() {
+    }
+
+    /**
+     * Adds the encoded values to the given collection.
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    public static void addAll(Collection collection, String encoded) {
+        Reader reader = new Reader(encoded);
+        while (reader.hasNext()) {
+            collection.add(reader.next());
+        }
+    }
+
+    /**
+     * Puts the encoded values to the given map, the keys and the values being encoded alternately.
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    public static void putAll(Map map, String encoded) {
+        Reader reader = new Reader(encoded);
+        while (reader.hasNext()) {
+            map.put(reader.next(), reader.next());
+        }
+    }
+
+    /**
+     * Sets the encoded values to the given array, which may be an array of primitives, starting at the given index.
+     */
+    public static void fill(Object array, int offset, String encoded) {
+        Reader reader = new Reader(encoded);
+        int index = offset;
+        if (array instanceof Object[] objects) {
+            while (reader.hasNext()) {
+                objects[index++] = reader.next();
+            }
+        } else {
+            while (reader.hasNext()) {
+                Array.set(array, index++, reader.next());
+            }
+        }
+    }
+
+    private static final class Reader {
+
+        private final String encoded;
+        private int position;
+
+        Reader(String encoded) {
+            this.encoded = encoded;
+        }
+
+        boolean hasNext() {
+            return position < encoded.length();
+        }
+
+        Object next() {
+            char tag = encoded.charAt(position++);
+            switch (tag) {
+                case NULL:
+                    return null;
+                case TRUE:
+                    return Boolean.TRUE;
+                case FALSE:
+                    return Boolean.FALSE;
+                case CHARACTER:
+                    return encoded.charAt(position++);
+            }
+            int length = encoded.charAt(position++);
+            int start = position;
+            position += length;
+            switch (tag) {
+                case STRING:
+                    return encoded.substring(start, position);
+                case INTEGER:
+                    return Integer.parseInt(encoded, start, position, 10);
+                case LONG:
+                    return Long.parseLong(encoded, start, position, 10);
+                case SHORT:
+                    return (short) Integer.parseInt(encoded, start, position, 10);
+                case BYTE:
+                    return (byte) Integer.parseInt(encoded, start, position, 10);
+                case FLOAT:
+                    return Float.parseFloat(encoded.substring(start, position));
+                case DOUBLE:
+                    return Double.parseDouble(encoded.substring(start, position));
+                default:
+                    throw new IllegalStateException("Unknown value tag " + tag + " at " + (start - 2));
+            }
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package io.quarkus.runtime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.bootstrap.runner.ClassLoadingRecording.Phase;
+
+class PreloadClassesRecorderTest {
+
+    static volatile boolean staticInitClassInitialized;
+    static volatile boolean firstRequestClassInitialized;
+
+    @Test
+    public void preloadFirstRequestPhase() {
+        String classes = """
+                # listed before the first phase, so part of the static-init phase
+                io.quarkus.runtime.PreloadClassesRecorderTest$StaticInitClass
+                #phase=runtime-init
+                #phase=first-request
+                io.quarkus.runtime.PreloadClassesRecorderTest$FirstRequestClass # with a comment
+                io.quarkus.runtime.DoesNotExist
+                """;
+        PreloadClassesRecorder.preloadClassesFromStream(
+                new ByteArrayInputStream(classes.getBytes(StandardCharsets.UTF_8)), true, Phase.FIRST_REQUEST);
+
+        assertThat(firstRequestClassInitialized).isTrue();
+        assertThat(staticInitClassInitialized).isFalse();
+    }
+
+    static class StaticInitClass {
+        static {
+            staticInitClassInitialized = true;
+        }
+    }
+
+    static class FirstRequestClass {
+        static {
+            firstRequestClassInitialized = true;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package io.quarkus.runtime.logging;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.config.PropertiesConfigSource;
+import io.smallrye.config.SmallRyeConfig;
+import io.smallrye.config.SmallRyeConfigBuilder;
+
+public class LogMetricsHandlerRecorderTest {
+
+    @Test
+    public void noRingBufferHandler() {
+        assertEquals(Set.of(), ringBufferHandlerTypes(Map.of()));
+        assertEquals(Set.of(), ringBufferHandlerTypes(Map.of("quarkus.log.console.async.enabled", "true")));
+    }
+
+    @Test
+    public void defaultHandlerWithRingBuffer() {
+        assertEquals(Set.of("console"), ringBufferHandlerTypes(Map.of(
+                "quarkus.log.console.async.enabled", "true",
+                "quarkus.log.console.async.ring-buffer.enabled", "true")));
+        // the file handler is disabled by default
+        assertEquals(Set.of(), ringBufferHandlerTypes(Map.of(
+                "quarkus.log.file.async.enabled", "true",
+                "quarkus.log.file.async.ring-buffer.enabled", "true")));
+    }
+
+    @Test
+    public void namedHandlerWithRingBuffer() {
+        assertEquals(Set.of("file"), ringBufferHandlerTypes(Map.of(
+                "quarkus.log.handler.file.audit.enabled", "true",
+                "quarkus.log.handler.file.audit.async.enabled", "true",
+                "quarkus.log.handler.file.audit.async.ring-buffer.enabled", "true")));
+    }
+
+    private static Set<String> ringBufferHandlerTypes(Map<String, String> properties) {
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .withMapping(LogRuntimeConfig.class)
+                .withSources(new PropertiesConfigSource(properties, "test", 0))
+                .build();
+        return LogMetricsHandlerRecorder.ringBufferHandlerTypes(config.getConfigMapping(LogRuntimeConfig.class));
+    }
+}
@@ -0,0 +1,135 @@
+package io.quarkus.runtime.logging;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.LogRecord;
+
+import org.jboss.logmanager.ExtHandler;
+import org.jboss.logmanager.ExtLogRecord;
+import org.jboss.logmanager.Level;
+import org.junit.jupiter.api.Test;
+
+public class RingBufferAsyncHandlerTest {
+
+    @Test
+    public void capacityIsRoundedUpToPowerOfTwo() {
+        RingBufferAsyncHandler handler = new RingBufferAsyncHandler("test-capacity", 500, 16,
+                RingBufferAsyncHandler.OverflowPolicy.BLOCK);
+        try {
+            assertEquals(512, handler.capacity());
+        } finally {
+            handler.close();
+        }
+    }
+
+    @Test
+    public void allRecordsFromConcurrentProducersArePublished() throws Exception {
+        RecordingHandler recording = new RecordingHandler(null);
+        RingBufferAsyncHandler handler = new RingBufferAsyncHandler("test-concurrent", 16, 4,
+                RingBufferAsyncHandler.OverflowPolicy.BLOCK);
+        handler.addHandler(recording);
+
+        int producers = 4;
+        int recordsPerProducer = 1000;
+        Thread[] threads = new Thread[producers];
+        for (int i = 0; i < producers; i++) {
+            threads[i] = new Thread(() -> {
+                for (int j = 0; j < recordsPerProducer; j++) {
+                    handler.publish(new LogRecord(Level.INFO, "record"));
+                }
+            });
+            threads[i].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        handler.close();
+
+        assertEquals(producers * recordsPerProducer, recording.records.size());
+        assertTrue(recording.flushes.get() > 0);
+        assertTrue(recording.flushes.get() <= recording.records.size());
+    }
+
+    @Test
+    public void discardPolicyDropsRecordsWhenFull() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingHandler recording = new RecordingHandler(release);
+        RingBufferAsyncHandler handler = new RingBufferAsyncHandler("test-discard", 4, 1,
+                RingBufferAsyncHandler.OverflowPolicy.DISCARD);
+        handler.addHandler(recording);
+        long droppedBefore = RingBufferAsyncHandler.droppedRecords("test-discard").sum();
+
+        // the first record blocks the consumer, the next four fill the buffer
+        for (int i = 0; i < 10; i++) {
+            handler.publish(new LogRecord(Level.INFO, "record " + i));
+            if (i == 0) {
+                assertTrue(recording.entered.await(10, TimeUnit.SECONDS));
+            }
+        }
+        release.countDown();
+        handler.close();
+
+        assertEquals(5, recording.records.size());
+        assertEquals(5, RingBufferAsyncHandler.droppedRecords("test-discard").sum() - droppedBefore);
+    }
+
+    @Test
+    public void dropDebugFirstPolicyKeepsHigherLevels() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingHandler recording = new RecordingHandler(release);
+        RingBufferAsyncHandler handler = new RingBufferAsyncHandler("test-drop-debug", 4, 1,
+                RingBufferAsyncHandler.OverflowPolicy.DROP_DEBUG_FIRST);
+        handler.addHandler(recording);
+        handler.setLevel(Level.ALL);
+
+        handler.publish(new LogRecord(Level.INFO, "blocking"));
+        assertTrue(recording.entered.await(10, TimeUnit.SECONDS));
+        for (int i = 0; i < 3; i++) {
+            handler.publish(new LogRecord(Level.WARN, "warn " + i));
+        }
+        // three quarters full: debug records are dropped, the others are still accepted
+        handler.publish(new LogRecord(Level.DEBUG, "dropped"));
+        handler.publish(new LogRecord(Level.ERROR, "kept"));
+        release.countDown();
+        handler.close();
+
+        assertEquals(5, recording.records.size());
+        assertTrue(recording.records.stream().noneMatch(r -> r.getLevel() == Level.DEBUG));
+    }
+
+    static class RecordingHandler extends ExtHandler {
+
+        final List<ExtLogRecord> records = new CopyOnWriteArrayList<>();
+        final AtomicInteger flushes = new AtomicInteger();
+        final CountDownLatch entered = new CountDownLatch(1);
+        final CountDownLatch release;
+
+        RecordingHandler(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        protected void doPublish(ExtLogRecord record) {
+            entered.countDown();
+            if (release != null) {
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            records.add(record);
+        }
+
+        @Override
+        public void flush() {
+            flushes.incrementAndGet();
+        }
+    }
+}
@@ -118,7 +118,7 @@ protected Map<String, File> getBuildOutputDirectories() {
                     outputs.put("legacy-lib", gradleBuildDir().resolve("lib").toFile());
                 }
                 case FAST_JAR, AOT_JAR -> outputs.put("fast-jar", fastJar());
-                case MUTABLE_JAR, UBER_JAR -> {
+                case MUTABLE_JAR, UBER_JAR, INDEXED_JAR -> {
                     outputs.put("fast-jar", fastJar());
                     outputs.put("generated", genBuildDir().toFile());
                 }
@@ -148,7 +148,7 @@ protected Map<String, File> getBuildOutputFiles() {
                     outputs.put("runner-jar", runnerJar());
                     outputs.put("artifact-properties", artifactProperties());
                 }
-                case FAST_JAR, MUTABLE_JAR, AOT_JAR -> outputs.put("artifact-properties", artifactProperties());
+                case FAST_JAR, MUTABLE_JAR, AOT_JAR, INDEXED_JAR -> outputs.put("artifact-properties", artifactProperties());
             }
         }
         return outputs;
@@ -185,7 +185,7 @@ protected Collection<File> getBuildInputFiles() {
                     inputs.add(appBuildDir().resolve("lib").toFile());
                     runnerAndArtifactsInputs(inputs::add, appBuildDir());
                 }
-                case MUTABLE_JAR, UBER_JAR -> {
+                case MUTABLE_JAR, UBER_JAR, INDEXED_JAR -> {
                 }
             }
         }
@@ -226,7 +226,7 @@ public void finalizeQuarkusBuild() {
             switch (jarType()) {
                 case FAST_JAR, AOT_JAR -> assembleFastJar();
                 case LEGACY_JAR -> assembleLegacyJar();
-                case MUTABLE_JAR, UBER_JAR -> {
+                case MUTABLE_JAR, UBER_JAR, INDEXED_JAR -> {
                     generateBuild();
                     assembleFullBuild();
                 }
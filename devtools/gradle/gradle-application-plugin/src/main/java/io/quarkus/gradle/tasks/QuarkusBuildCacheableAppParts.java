@@ -53,7 +53,7 @@ public Map<String, File> getOutputDirectories() {
         } else {
             switch (jarType()) {
                 case FAST_JAR, LEGACY_JAR, AOT_JAR -> outputs.put("app-build-dir", appBuildDir().toFile());
-                case MUTABLE_JAR, UBER_JAR -> {
+                case MUTABLE_JAR, UBER_JAR, INDEXED_JAR -> {
                 }
             }
         }
@@ -80,7 +80,7 @@ public void performQuarkusBuild() {
             switch (jarType()) {
                 case FAST_JAR, AOT_JAR -> fastJarBuild();
                 case LEGACY_JAR -> legacyJarBuild();
-                case MUTABLE_JAR, UBER_JAR -> getLogger().info(
+                case MUTABLE_JAR, UBER_JAR, INDEXED_JAR -> getLogger().info(
                         "Falling back to 'full quarkus application build' for JAR type {}, this task's output is empty for this package type",
                         jarType());
             }
@@ -64,7 +64,7 @@ public Map<String, File> getOutputDirectories() {
             PackageConfig.JarConfig.JarType packageType = jarType();
             switch (packageType) {
                 case FAST_JAR, LEGACY_JAR, AOT_JAR -> outputs.put("dependencies-dir", depBuildDir().toFile());
-                case MUTABLE_JAR, UBER_JAR -> {
+                case MUTABLE_JAR, UBER_JAR, INDEXED_JAR -> {
                 }
             }
         }
@@ -92,7 +92,7 @@ public void collectDependencies() {
             switch (packageType) {
                 case FAST_JAR, AOT_JAR -> fastJarDependencies();
                 case LEGACY_JAR -> legacyJarDependencies();
-                case MUTABLE_JAR, UBER_JAR -> getLogger().info(
+                case MUTABLE_JAR, UBER_JAR, INDEXED_JAR -> getLogger().info(
                         "Falling back to 'full quarkus application build' for JAR type {}, this task's output is empty for this build type",
                         packageType);
             }
@@ -259,7 +259,7 @@ void generateBuild() {
                 delete.delete(fastJar());
             } else if (jarEnabled()) {
                 switch (jarType()) {
-                    case FAST_JAR, AOT_JAR -> {
+                    case FAST_JAR, AOT_JAR, INDEXED_JAR -> {
                         delete.delete(buildDir.resolve(nativeImageSourceJarDirName()));
                         delete.delete(fastJar());
                     }
@@ -324,7 +324,7 @@ void generateBuild() {
                 }
             } else if (jarEnabled()) {
                 switch (jarType()) {
-                    case FAST_JAR, AOT_JAR -> {
+                    case FAST_JAR, AOT_JAR, INDEXED_JAR -> {
                         copy.include(outputDirectory() + "/**");
                         copy.include(QUARKUS_ARTIFACT_PROPERTIES);
                     }
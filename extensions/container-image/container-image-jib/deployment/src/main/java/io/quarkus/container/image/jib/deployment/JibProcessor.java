@@ -182,7 +182,7 @@ public void buildFromJar(ContainerImageConfig containerImageConfig, ContainerIma
                 createContainerBuilderFromLegacyJar(determineBaseJvmImage(jibConfig, compiledJavaVersion),
                         jibConfig, containerImageConfig,
                         sourceJar, outputTarget, mainClass, containerImageLabels);
-            case FAST_JAR, MUTABLE_JAR, AOT_JAR ->
+            case FAST_JAR, MUTABLE_JAR, AOT_JAR, INDEXED_JAR ->
                 createContainerBuilderFromFastJar(determineBaseJvmImage(jibConfig, compiledJavaVersion),
                         jibConfig, containerImageConfig, sourceJar, curateOutcome,
                         containerImageLabels,
@@ -0,0 +1,33 @@
+package io.quarkus.elasticsearch.javaclient.deployment;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigPhase;
+import io.quarkus.runtime.annotations.ConfigRoot;
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+
+@ConfigMapping(prefix = "quarkus.elasticsearch")
+@ConfigRoot(phase = ConfigPhase.BUILD_TIME)
+public interface ElasticsearchJavaClientBuildTimeConfig {
+    /**
+     * Build time configuration of the bulk ingester.
+     */
+    BulkIngesterConfig bulkIngester();
+
+    @ConfigGroup
+    interface BulkIngesterConfig {
+        /**
+         * Metrics configuration of the bulk ingester.
+         */
+        MetricsConfig metrics();
+    }
+
+    @ConfigGroup
+    interface MetricsConfig {
+        /**
+         * Whether the metrics of the bulk ingester are published in case a metrics extension is present.
+         */
+        @WithDefault("false")
+        boolean enabled();
+    }
+}
@@ -1,13 +1,23 @@
 package io.quarkus.elasticsearch.javaclient.deployment;
 
+import java.util.Optional;
+
 import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
 import io.quarkus.deployment.Feature;
+import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
+import io.quarkus.deployment.annotations.ExecutionTime;
+import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
 import io.quarkus.deployment.builditem.NativeImageFeatureBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ServiceProviderBuildItem;
+import io.quarkus.deployment.metrics.MetricsCapabilityBuildItem;
+import io.quarkus.deployment.metrics.MetricsFactoryConsumerBuildItem;
+import io.quarkus.elasticsearch.javaclient.ReactiveBulkIngester;
+import io.quarkus.elasticsearch.javaclient.runtime.ElasticsearchBulkIngesterListener;
 import io.quarkus.elasticsearch.javaclient.runtime.ElasticsearchJavaClientProducer;
+import io.quarkus.elasticsearch.javaclient.runtime.ElasticsearchJavaClientRecorder;
 
 class ElasticsearchJavaClientProcessor {
 
@@ -18,7 +28,25 @@ FeatureBuildItem feature() {
 
     @BuildStep
     AdditionalBeanBuildItem build() {
-        return AdditionalBeanBuildItem.unremovableOf(ElasticsearchJavaClientProducer.class);
+        return AdditionalBeanBuildItem.builder()
+                .addBeanClasses(ElasticsearchJavaClientProducer.class, ElasticsearchBulkIngesterListener.class)
+                .setUnremovable()
+                .build();
+    }
+
+    @BuildStep
+    AdditionalBeanBuildItem reactiveBulkIngester() {
+        return new AdditionalBeanBuildItem(ReactiveBulkIngester.class);
+    }
+
+    @BuildStep
+    @Record(ExecutionTime.RUNTIME_INIT)
+    void metrics(ElasticsearchJavaClientBuildTimeConfig config, ElasticsearchJavaClientRecorder recorder,
+            Optional<MetricsCapabilityBuildItem> metricsCapability,
+            BuildProducer<MetricsFactoryConsumerBuildItem> metrics) {
+        if (config.bulkIngester().metrics().enabled() && metricsCapability.isPresent()) {
+            metrics.produce(new MetricsFactoryConsumerBuildItem(recorder.consumeMetricsFactory()));
+        }
     }
 
     @BuildStep
@@ -0,0 +1,64 @@
+package io.quarkus.elasticsearch.javaclient;
+
+import java.util.function.Function;
+
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+import co.elastic.clients.elasticsearch._helpers.bulk.BulkIngester;
+import co.elastic.clients.elasticsearch.core.bulk.BulkOperation;
+import co.elastic.clients.util.ObjectBuilder;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+
+/**
+ * Adds operations to the {@code BulkIngester} bean without blocking the caller, so that operations can be added from an
+ * event loop thread.
+ * <p>
+ * Adding an operation to the ingester blocks while its buffer is full and the maximum number of bulk requests are in
+ * flight. The operations are therefore added from the worker pool, and the returned {@link Uni} completes once the
+ * operation is buffered, which provides backpressure to the callers without blocking them.
+ */
+@Singleton
+public class ReactiveBulkIngester {
+
+    @Inject
+    BulkIngester<Object> ingester;
+
+    /**
+     * Adds an operation to the ingester.
+     *
+     * @return a {@link Uni} completed once the operation is buffered, not once it is sent
+     */
+    public Uni<Void> add(BulkOperation operation) {
+        return add(operation, null);
+    }
+
+    /**
+     * Adds an operation to the ingester.
+     *
+     * @return a {@link Uni} completed once the operation is buffered, not once it is sent
+     */
+    public Uni<Void> add(Function<BulkOperation.Builder, ObjectBuilder<BulkOperation>> operation) {
+        return add(BulkOperation.of(operation));
+    }
+
+    /**
+     * Adds an operation to the ingester, with a context passed to the listener of the ingester.
+     *
+     * @return a {@link Uni} completed once the operation is buffered, not once it is sent
+     */
+    public Uni<Void> add(BulkOperation operation, Object context) {
+        return Uni.createFrom().<Void> item(() -> {
+            ingester.add(operation, context);
+            return null;
+        }).runSubscriptionOn(Infrastructure.getDefaultWorkerPool());
+    }
+
+    /**
+     * @return the number of operations buffered by the ingester, waiting to be sent
+     */
+    public int pendingOperations() {
+        return ingester.pendingOperations();
+    }
+}
@@ -0,0 +1,58 @@
+package io.quarkus.elasticsearch.javaclient.runtime;
+
+import java.time.Duration;
+
+import io.quarkus.runtime.annotations.ConfigPhase;
+import io.quarkus.runtime.annotations.ConfigRoot;
+import io.quarkus.runtime.configuration.MemorySize;
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+
+/**
+ * Configuration of the {@code BulkIngester} bean.
+ */
+@ConfigMapping(prefix = "quarkus.elasticsearch.bulk-ingester")
+@ConfigRoot(phase = ConfigPhase.RUN_TIME)
+public interface ElasticsearchBulkIngesterConfig {
+
+    /**
+     * The number of buffered operations that triggers a bulk request.
+     */
+    @WithDefault("1000")
+    int maxOperations();
+
+    /**
+     * The estimated size of the buffered operations that triggers a bulk request.
+     */
+    @WithDefault("5M")
+    MemorySize maxSize();
+
+    /**
+     * The maximum number of bulk requests sent concurrently.
+     * <p>
+     * Adding an operation blocks while this number of bulk requests are in flight and the buffer is full,
+     * which provides backpressure to the producers of operations.
+     */
+    @WithDefault("1")
+    int maxConcurrentRequests();
+
+    /**
+     * The interval after which the buffered operations are sent, even if neither the maximum number of operations nor
+     * the maximum size is reached.
+     */
+    @WithDefault("1S")
+    Duration flushInterval();
+
+    /**
+     * The maximum number of times an operation rejected because Elasticsearch is overloaded, with an HTTP 429 response,
+     * is added again to the ingester.
+     */
+    @WithDefault("3")
+    int maxRetries();
+
+    /**
+     * The delay before adding again an operation rejected with an HTTP 429 response, doubled on each retry.
+     */
+    @WithDefault("1S")
+    Duration retryDelay();
+}
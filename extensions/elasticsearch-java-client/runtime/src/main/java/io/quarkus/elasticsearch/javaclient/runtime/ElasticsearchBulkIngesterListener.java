@@ -0,0 +1,165 @@
+package io.quarkus.elasticsearch.javaclient.runtime;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+import org.jboss.logging.Logger;
+
+import co.elastic.clients.elasticsearch._helpers.bulk.BulkIngester;
+import co.elastic.clients.elasticsearch._helpers.bulk.BulkListener;
+import co.elastic.clients.elasticsearch.core.BulkRequest;
+import co.elastic.clients.elasticsearch.core.BulkResponse;
+import co.elastic.clients.elasticsearch.core.bulk.BulkOperation;
+import co.elastic.clients.elasticsearch.core.bulk.BulkResponseItem;
+import io.quarkus.runtime.metrics.MetricsFactory;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+
+/**
+ * Listens to the bulk requests of the {@code BulkIngester} bean to retry the throttled operations and to expose its
+ * metrics.
+ * <p>
+ * An operation rejected with an HTTP 429 response is added again to the ingester after a delay, doubled on each retry,
+ * until it is accepted or the maximum number of retries is reached. The delay is waited on the worker pool, so the
+ * thread completing the bulk request is never blocked.
+ * <p>
+ * The statistics are always collected, as they are cheap, and only published if the metrics are enabled.
+ */
+@Singleton
+public class ElasticsearchBulkIngesterListener implements BulkListener<Object> {
+
+    private static final Logger LOG = Logger.getLogger(ElasticsearchBulkIngesterListener.class);
+
+    private static final int TOO_MANY_REQUESTS = 429;
+
+    @Inject
+    ElasticsearchBulkIngesterConfig config;
+
+    private final Map<Long, Long> requestStartTimes = new ConcurrentHashMap<>();
+    private final Map<BulkOperation, Integer> retries = Collections.synchronizedMap(new IdentityHashMap<>());
+    private final AtomicInteger requestsInFlight = new AtomicInteger();
+    private final AtomicLong operations = new AtomicLong();
+    private final AtomicLong rejectedOperations = new AtomicLong();
+    private final AtomicLong throttledOperations = new AtomicLong();
+    private final AtomicLong retriedOperations = new AtomicLong();
+
+    private volatile BulkIngester<Object> ingester;
+    private volatile MetricsFactory.TimeRecorder latency;
+
+    void bind(BulkIngester<Object> ingester) {
+        this.ingester = ingester;
+    }
+
+    void register(MetricsFactory metricsFactory) {
+        metricsFactory.builder("elasticsearch.bulk.operations.pending")
+                .description("The number of operations buffered by the bulk ingester, waiting to be sent")
+                .buildGauge(this, m -> m.ingester == null ? 0 : m.ingester.pendingOperations());
+        metricsFactory.builder("elasticsearch.bulk.requests.in-flight")
+                .description("The number of bulk requests sent by the bulk ingester and waiting for a response")
+                .buildGauge(requestsInFlight, AtomicInteger::get);
+        metricsFactory.builder("elasticsearch.bulk.operations")
+                .description("The number of operations sent by the bulk ingester, retries included")
+                .buildCounter(operations, AtomicLong::get);
+        metricsFactory.builder("elasticsearch.bulk.operations.rejected")
+                .description("The number of operations sent by the bulk ingester that failed and are not retried")
+                .buildCounter(rejectedOperations, AtomicLong::get);
+        metricsFactory.builder("elasticsearch.bulk.operations.throttled")
+                .description("The number of operations sent by the bulk ingester that were rejected because"
+                        + " Elasticsearch was overloaded (HTTP 429)")
+                .buildCounter(throttledOperations, AtomicLong::get);
+        metricsFactory.builder("elasticsearch.bulk.operations.retried")
+                .description("The number of throttled operations added again to the bulk ingester")
+                .buildCounter(retriedOperations, AtomicLong::get);
+        latency = metricsFactory.builder("elasticsearch.bulk.latency")
+                .description("The time between sending a bulk request and receiving its response")
+                .buildTimer();
+    }
+
+    @Override
+    public void beforeBulk(long executionId, BulkRequest request, List<Object> contexts) {
+        requestStartTimes.put(executionId, System.nanoTime());
+        requestsInFlight.incrementAndGet();
+        operations.addAndGet(request.operations().size());
+    }
+
+    @Override
+    public void afterBulk(long executionId, BulkRequest request, List<Object> contexts, BulkResponse response) {
+        requestCompleted(executionId);
+        if (!response.errors() && retries.isEmpty()) {
+            return;
+        }
+        List<BulkResponseItem> items = response.items();
+        for (int i = 0; i < items.size(); i++) {
+            BulkResponseItem item = items.get(i);
+            BulkOperation operation = request.operations().get(i);
+            if (item.status() == TOO_MANY_REQUESTS) {
+                throttledOperations.incrementAndGet();
+                retry(operation, contexts.get(i));
+            } else {
+                retries.remove(operation);
+                if (item.error() != null) {
+                    rejectedOperations.incrementAndGet();
+                }
+            }
+        }
+    }
+
+    @Override
+    public void afterBulk(long executionId, BulkRequest request, List<Object> contexts, Throwable failure) {
+        requestCompleted(executionId);
+        rejectedOperations.addAndGet(request.operations().size());
+        if (!retries.isEmpty()) {
+            request.operations().forEach(retries::remove);
+        }
+    }
+
+    private void retry(BulkOperation operation, Object context) {
+        int retry = retries.merge(operation, 1, Integer::sum);
+        if (ingester == null || retry > config.maxRetries()) {
+            giveUp(operation);
+            return;
+        }
+        // the delay doubles on each retry, without overflowing
+        long delay = config.retryDelay().toMillis() << Math.min(retry - 1, 20);
+        try {
+            Infrastructure.getDefaultWorkerPool().schedule(() -> add(operation, context), delay,
+                    TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            giveUp(operation);
+        }
+    }
+
+    private void add(BulkOperation operation, Object context) {
+        try {
+            ingester.add(operation, context);
+            retriedOperations.incrementAndGet();
+        } catch (IllegalStateException e) {
+            // the ingester is closed as the application stops
+            LOG.debug("Unable to retry a throttled bulk operation", e);
+            giveUp(operation);
+        }
+    }
+
+    private void giveUp(BulkOperation operation) {
+        retries.remove(operation);
+        rejectedOperations.incrementAndGet();
+    }
+
+    private void requestCompleted(long executionId) {
+        requestsInFlight.decrementAndGet();
+        Long start = requestStartTimes.remove(executionId);
+        MetricsFactory.TimeRecorder latency = this.latency;
+        if (start != null && latency != null) {
+            latency.update(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+}
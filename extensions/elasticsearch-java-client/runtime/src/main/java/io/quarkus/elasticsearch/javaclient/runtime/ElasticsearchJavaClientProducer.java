@@ -2,6 +2,7 @@
 
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.util.concurrent.TimeUnit;
 
 import jakarta.annotation.PostConstruct;
 import jakarta.annotation.PreDestroy;
@@ -17,9 +18,11 @@
 
 import co.elastic.clients.elasticsearch.ElasticsearchAsyncClient;
 import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._helpers.bulk.BulkIngester;
 import co.elastic.clients.json.jackson.JacksonJsonpMapper;
 import co.elastic.clients.transport.ElasticsearchTransport;
 import co.elastic.clients.transport.rest_client.RestClientTransport;
+import io.quarkus.arc.DefaultBean;
 
 @ApplicationScoped
 public class ElasticsearchJavaClientProducer {
@@ -31,13 +34,21 @@ public class ElasticsearchJavaClientProducer {
     @Inject
     ObjectMapper objectMapper;
 
+    @Inject
+    ElasticsearchBulkIngesterConfig bulkIngesterConfig;
+
+    @Inject
+    ElasticsearchBulkIngesterListener bulkIngesterListener;
+
     private ElasticsearchClient client;
     private ElasticsearchAsyncClient asyncClient;
+    private BulkIngester<Object> bulkIngester;
     private ElasticsearchTransport transport;
 
     @PostConstruct
     void initTransport() {
         this.transport = new RestClientTransport(restClient, new JacksonJsonpMapper(objectMapper));
+        this.asyncClient = new ElasticsearchAsyncClient(this.transport);
     }
 
     @Produces
@@ -50,12 +61,38 @@ public ElasticsearchClient blockingClient() {
     @Produces
     @Singleton
     public ElasticsearchAsyncClient asyncClient() {
-        this.asyncClient = new ElasticsearchAsyncClient(this.transport);
         return this.asyncClient;
     }
 
+    /**
+     * The bulk requests are sent with the asynchronous client, so the I/O threads are never blocked waiting for a
+     * response. Adding an operation may block the caller when too many bulk requests are in flight though, see
+     * {@link io.quarkus.elasticsearch.javaclient.ReactiveBulkIngester} to add operations from an event loop thread.
+     * <p>
+     * The operations throttled with an HTTP 429 response are retried by {@link ElasticsearchBulkIngesterListener}.
+     * The size of the bulk requests is fixed.
+     */
+    @Produces
+    @Singleton
+    @DefaultBean
+    public BulkIngester<Object> bulkIngester() {
+        this.bulkIngester = BulkIngester.of(b -> b
+                .client(this.asyncClient)
+                .maxOperations(bulkIngesterConfig.maxOperations())
+                .maxSize(bulkIngesterConfig.maxSize().asLongValue())
+                .maxConcurrentRequests(bulkIngesterConfig.maxConcurrentRequests())
+                .flushInterval(bulkIngesterConfig.flushInterval().toMillis(), TimeUnit.MILLISECONDS)
+                .listener(bulkIngesterListener));
+        bulkIngesterListener.bind(this.bulkIngester);
+        return this.bulkIngester;
+    }
+
     @PreDestroy
     void destroy() {
+        if (this.bulkIngester != null) {
+            // sends the buffered operations before the transport is closed
+            this.bulkIngester.close();
+        }
         try {
             if (this.transport != null) {
                 this.transport.close();
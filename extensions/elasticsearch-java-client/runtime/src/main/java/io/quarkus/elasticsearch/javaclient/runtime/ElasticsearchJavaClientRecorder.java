@@ -0,0 +1,20 @@
+package io.quarkus.elasticsearch.javaclient.runtime;
+
+import java.util.function.Consumer;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.runtime.annotations.Recorder;
+import io.quarkus.runtime.metrics.MetricsFactory;
+
+@Recorder
+public class ElasticsearchJavaClientRecorder {
+
+    public Consumer<MetricsFactory> consumeMetricsFactory() {
+        return new Consumer<MetricsFactory>() {
+            @Override
+            public void accept(MetricsFactory metricsFactory) {
+                Arc.container().instance(ElasticsearchBulkIngesterListener.class).get().register(metricsFactory);
+            }
+        };
+    }
+}
@@ -3,18 +3,24 @@
 import static io.quarkus.deployment.annotations.ExecutionTime.STATIC_INIT;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.AbstractCollection;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.HexFormat;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeSet;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -46,6 +52,8 @@
 import io.quarkus.arc.processor.DotNames;
 import io.quarkus.builder.item.SimpleBuildItem;
 import io.quarkus.datasource.common.runtime.DataSourceUtil;
+import io.quarkus.deployment.Capabilities;
+import io.quarkus.deployment.Capability;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.BuildSteps;
@@ -70,6 +78,7 @@
 import io.quarkus.flyway.runtime.FlywayDataSourceBuildTimeConfig;
 import io.quarkus.flyway.runtime.FlywayRecorder;
 import io.quarkus.runtime.util.ClassPathUtils;
+import io.quarkus.smallrye.health.deployment.spi.HealthBuildItem;
 
 @BuildSteps(onlyIf = FlywayEnabled.class)
 class FlywayProcessor {
@@ -159,6 +168,17 @@ MigrationStateBuildItem build(BuildProducer<NativeImageResourceBuildItem> resour
                 reflectiveClassProducer, javaMigrationClasses);
         recorder.setApplicationMigrationClasses(javaMigrationClasses);
 
+        Collection<ClassInfo> javaMigrations = combinedIndexBuildItem.getIndex().getAllKnownImplementors(JAVA_MIGRATION);
+        Map<String, String> migrationSetDigests = new HashMap<>();
+        for (var e : applicationMigrationsToDs.entrySet()) {
+            String digest = migrationSetDigest(e.getValue(), javaMigrations,
+                    flywayBuildTimeConfig.datasources().get(e.getKey()).locations());
+            if (digest != null) {
+                migrationSetDigests.put(e.getKey(), digest);
+            }
+        }
+        recorder.setMigrationSetDigests(migrationSetDigests);
+
         final Map<String, Collection<Callback>> callbacks = FlywayCallbacksLocator.with(
                 dataSourceNames,
                 flywayBuildTimeConfig,
@@ -184,6 +204,63 @@ private void addJavaMigrations(Collection<ClassInfo> candidates, RecorderContext
         }
     }
 
+    /**
+     * @return the digest of the names and contents of the given migrations and of the Java migrations found in the given
+     *         locations, or {@code null} if some migrations are not packaged with the application
+     */
+    private String migrationSetDigest(Collection<String> applicationMigrations, Collection<ClassInfo> javaMigrations,
+            List<String> locations) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        for (String applicationMigration : new TreeSet<>(applicationMigrations)) {
+            if (applicationMigration.startsWith(Location.FILESYSTEM_PREFIX)) {
+                return null;
+            }
+            if (!update(digest, applicationMigration, classLoader)) {
+                return null;
+            }
+        }
+        // the same filtering as QuarkusPathLocationScanner, which only loads the Java migrations of the datasource locations
+        List<String> locationPaths = locations.stream()
+                .map(location -> new Location(location).getPath())
+                .filter(path -> path != null)
+                .map(path -> path.endsWith("/") ? path : path + "/")
+                .toList();
+        for (String javaMigration : javaMigrations.stream()
+                .filter(c -> !Modifier.isAbstract(c.flags()))
+                .map(c -> c.name().toString())
+                .sorted()
+                .toList()) {
+            String path = javaMigration.replace('$', '.').replace('.', '/');
+            if (locationPaths.stream().noneMatch(path::startsWith)) {
+                continue;
+            }
+            // the class bytes are hashed, as the version, description and checksum of a Java migration are computed by code
+            if (!update(digest, javaMigration.replace('.', '/') + ".class", classLoader)) {
+                return null;
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static boolean update(MessageDigest digest, String resource, ClassLoader classLoader) throws IOException {
+        try (InputStream in = classLoader.getResourceAsStream(resource)) {
+            if (in == null) {
+                return false;
+            }
+            digest.update(resource.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(in.readAllBytes());
+            digest.update((byte) 0);
+            return true;
+        }
+    }
+
     @BuildStep
     @Produce(SyntheticBeansRuntimeInitBuildItem.class)
     @Record(ExecutionTime.RUNTIME_INIT)
@@ -283,9 +360,7 @@ public ServiceStartBuildItem startActions(FlywayRecorder recorder,
 
         Collection<String> dataSourceNames = getDataSourceNames(jdbcDataSourceBuildItems);
 
-        for (String dataSourceName : dataSourceNames) {
-            recorder.doStartActions(dataSourceName);
-        }
+        recorder.doStartActions(dataSourceNames);
 
         // once we are done running the migrations, we produce a build item indicating that the
         // schema is "ready"
@@ -294,6 +369,15 @@ public ServiceStartBuildItem startActions(FlywayRecorder recorder,
         return new ServiceStartBuildItem("flyway");
     }
 
+    @BuildStep
+    HealthBuildItem addHealthCheck(Capabilities capabilities) {
+        if (capabilities.isPresent(Capability.SMALLRYE_HEALTH)) {
+            return new HealthBuildItem("io.quarkus.flyway.runtime.health.FlywayValidationHealthCheck", true);
+        } else {
+            return null;
+        }
+    }
+
     @BuildStep
     public InitTaskBuildItem configureInitTask(ApplicationInfoBuildItem app) {
         return InitTaskBuildItem.create()
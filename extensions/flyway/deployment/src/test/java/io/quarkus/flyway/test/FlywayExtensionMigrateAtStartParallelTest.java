@@ -0,0 +1,52 @@
+package io.quarkus.flyway.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import jakarta.inject.Inject;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.MigrationInfo;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.flyway.FlywayDataSource;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class FlywayExtensionMigrateAtStartParallelTest {
+
+    @Inject
+    Flyway flyway;
+
+    @Inject
+    @FlywayDataSource("users")
+    Flyway flywayUsers;
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addAsResource("db/migration/V1.0.0__Quarkus.sql")
+                    .addAsResource("migrate-at-start-parallel-config.properties", "application.properties"));
+
+    @Test
+    @DisplayName("Migrates all the datasources at start in parallel and records their validation")
+    public void testParallelMigration() throws IOException {
+        assertCurrentVersion(flyway);
+        assertCurrentVersion(flywayUsers);
+        try (Stream<Path> entries = Files.list(Path.of("target/flyway-validation-cache"))) {
+            assertEquals(2, entries.count());
+        }
+    }
+
+    private static void assertCurrentVersion(Flyway flyway) {
+        MigrationInfo migrationInfo = flyway.info().current();
+        assertNotNull(migrationInfo, "No Flyway migration was executed");
+        assertEquals("1.0.0", migrationInfo.getVersion().toString());
+    }
+}
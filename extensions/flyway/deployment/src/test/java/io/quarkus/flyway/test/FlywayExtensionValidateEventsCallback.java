@@ -0,0 +1,32 @@
+package io.quarkus.flyway.test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.flywaydb.core.api.callback.Callback;
+import org.flywaydb.core.api.callback.Context;
+import org.flywaydb.core.api.callback.Event;
+
+public class FlywayExtensionValidateEventsCallback implements Callback {
+
+    static final AtomicInteger VALIDATIONS = new AtomicInteger();
+
+    @Override
+    public boolean supports(Event event, Context context) {
+        return event == Event.BEFORE_VALIDATE;
+    }
+
+    @Override
+    public boolean canHandleInTransaction(Event event, Context context) {
+        return true;
+    }
+
+    @Override
+    public void handle(Event event, Context context) {
+        VALIDATIONS.incrementAndGet();
+    }
+
+    @Override
+    public String getCallbackName() {
+        return "Quarked Flyway Validate Events Callback";
+    }
+}
@@ -0,0 +1,72 @@
+package io.quarkus.flyway.test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.startsWith;
+
+import java.util.concurrent.TimeUnit;
+
+import jakarta.inject.Inject;
+
+import org.eclipse.microprofile.config.ConfigProvider;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.datasource.common.runtime.DataSourceUtil;
+import io.quarkus.flyway.runtime.FlywayBackgroundValidations;
+import io.quarkus.flyway.runtime.FlywayRecorder;
+import io.quarkus.flyway.runtime.FlywayRuntimeConfig;
+import io.quarkus.runtime.RuntimeValue;
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+import io.smallrye.config.SmallRyeConfig;
+
+public class FlywayExtensionValidateInBackgroundTest {
+
+    private static final String DEFAULT = DataSourceUtil.DEFAULT_DATASOURCE_NAME;
+
+    @Inject
+    Flyway flyway;
+
+    // the migration is pending, so the validation fails, but it does not prevent the application from starting
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addAsResource("db/migration/V1.0.0__Quarkus.sql")
+                    .addAsResource("validate-in-background-config.properties", "application.properties"));
+
+    @Test
+    @DisplayName("Reports the application as not ready until the migrations validated in the background are valid")
+    public void testReadinessReflectsTheBackgroundValidation() throws InterruptedException {
+        awaitValidation();
+        assertThat(FlywayBackgroundValidations.states().get(DEFAULT).status())
+                .isEqualTo(FlywayBackgroundValidations.Status.FAILED);
+        RestAssured.when().get("/q/health/ready")
+                .then()
+                .statusCode(503)
+                .body("status", equalTo("DOWN"),
+                        "checks.find { it.name == 'Flyway migrations validation health check' }.data.'" + DEFAULT + "'",
+                        startsWith("validation failed: "));
+
+        flyway.migrate();
+        new FlywayRecorder(new RuntimeValue<>(ConfigProvider.getConfig().unwrap(SmallRyeConfig.class)
+                .getConfigMapping(FlywayRuntimeConfig.class))).doStartActions(DEFAULT);
+        awaitValidation();
+        assertThat(FlywayBackgroundValidations.states().get(DEFAULT).status())
+                .isEqualTo(FlywayBackgroundValidations.Status.SUCCEEDED);
+        RestAssured.when().get("/q/health/ready")
+                .then()
+                .statusCode(200)
+                .body("status", equalTo("UP"));
+    }
+
+    private static void awaitValidation() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (FlywayBackgroundValidations.states().get(DEFAULT).status() == FlywayBackgroundValidations.Status.RUNNING) {
+            assertThat(System.nanoTime()).isLessThan(deadline);
+            Thread.sleep(50);
+        }
+    }
+}
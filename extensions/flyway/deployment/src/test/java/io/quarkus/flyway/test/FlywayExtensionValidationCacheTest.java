@@ -0,0 +1,104 @@
+package io.quarkus.flyway.test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+import javax.sql.DataSource;
+
+import jakarta.inject.Inject;
+
+import org.eclipse.microprofile.config.ConfigProvider;
+import org.flywaydb.core.api.exception.FlywayValidateException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.datasource.common.runtime.DataSourceUtil;
+import io.quarkus.flyway.runtime.FlywayRecorder;
+import io.quarkus.flyway.runtime.FlywayRuntimeConfig;
+import io.quarkus.runtime.RuntimeValue;
+import io.quarkus.test.QuarkusUnitTest;
+import io.smallrye.config.SmallRyeConfig;
+
+public class FlywayExtensionValidationCacheTest {
+
+    private static final Path CACHE_DIRECTORY = Path.of("target/flyway-validation-cache-history");
+
+    @Inject
+    DataSource dataSource;
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClass(FlywayExtensionValidateEventsCallback.class)
+                    .addAsResource("db/migration/V1.0.0__Quarkus.sql")
+                    .addAsResource("validation-cache-config.properties", "application.properties"))
+            .setBeforeAllCustomizer(FlywayExtensionValidationCacheTest::deleteCacheDirectory);
+
+    @Test
+    @DisplayName("Skips the validation of the migrations until the schema history changes")
+    public void testValidationIsCachedForTheSchemaHistory() throws SQLException {
+        // the migration at start validated the migrations and recorded it
+        assertThat(cacheEntries()).isEqualTo(1);
+        FlywayRecorder recorder = new FlywayRecorder(new RuntimeValue<>(ConfigProvider.getConfig()
+                .unwrap(SmallRyeConfig.class).getConfigMapping(FlywayRuntimeConfig.class)));
+
+        FlywayExtensionValidateEventsCallback.VALIDATIONS.set(0);
+        recorder.doStartActions(DataSourceUtil.DEFAULT_DATASOURCE_NAME);
+        assertThat(FlywayExtensionValidateEventsCallback.VALIDATIONS).hasValue(0);
+
+        // the applied migration does not match the packaged one anymore, so the cached validation does not apply
+        updateDescription("Changed");
+        try {
+            assertThatThrownBy(() -> recorder.doStartActions(DataSourceUtil.DEFAULT_DATASOURCE_NAME))
+                    .isInstanceOf(FlywayValidateException.class);
+            assertThat(FlywayExtensionValidateEventsCallback.VALIDATIONS).hasValue(1);
+            assertThat(cacheEntries()).isEqualTo(1);
+        } finally {
+            updateDescription("Quarkus");
+        }
+
+        // the schema history is back to the validated one
+        FlywayExtensionValidateEventsCallback.VALIDATIONS.set(0);
+        recorder.doStartActions(DataSourceUtil.DEFAULT_DATASOURCE_NAME);
+        assertThat(FlywayExtensionValidateEventsCallback.VALIDATIONS).hasValue(0);
+    }
+
+    private void updateDescription(String description) throws SQLException {
+        try (Connection connection = dataSource.getConnection(); Statement stmt = connection.createStatement()) {
+            stmt.executeUpdate("UPDATE \"flyway_schema_history\" SET \"description\" = '" + description
+                    + "' WHERE \"version\" = '1.0.0'");
+        }
+    }
+
+    private static long cacheEntries() {
+        try (Stream<Path> entries = Files.list(CACHE_DIRECTORY)) {
+            return entries.count();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void deleteCacheDirectory() {
+        if (!Files.exists(CACHE_DIRECTORY)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(CACHE_DIRECTORY)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
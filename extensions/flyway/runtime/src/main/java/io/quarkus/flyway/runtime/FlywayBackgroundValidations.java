@@ -0,0 +1,37 @@
+package io.quarkus.flyway.runtime;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The state of the validations executed in the background, after the application started, for the datasources with
+ * {@code quarkus.flyway.validate-at-start.background} enabled.
+ */
+public final class FlywayBackgroundValidations {
+
+    private static final Map<String, State> STATES = new ConcurrentHashMap<>();
+
+    private FlywayBackgroundValidations() {
+    }
+
+    /**
+     * @return the state of the background validation of each datasource, by datasource name
+     */
+    public static Map<String, State> states() {
+        return Collections.unmodifiableMap(STATES);
+    }
+
+    static void set(String dataSourceName, State state) {
+        STATES.put(dataSourceName, state);
+    }
+
+    public record State(Status status, String message) {
+    }
+
+    public enum Status {
+        RUNNING,
+        SUCCEEDED,
+        FAILED
+    }
+}
@@ -142,6 +142,19 @@ public interface FlywayDataSourceRuntimeConfig {
     @WithDefault("false")
     boolean cleanOnValidationError();
 
+    /**
+     * true to execute the Flyway validate command enabled by `validate-at-start` in the background, after the application
+     * started, false otherwise.
+     * <p>
+     * The readiness health check reports the datasource as down until the validation succeeds, if the SmallRye Health
+     * extension is present.
+     * This flag is ignored when `migrate-at-start` or `validate-at-start.clean-on-validation-error` is enabled, as the
+     * validation must then complete before the next start actions.
+     */
+    @WithName("validate-at-start.background")
+    @WithDefault("false")
+    boolean validateInBackground();
+
     /**
      * true to execute Flyway baseline before migrations This flag is ignored if the flyway_schema_history table exists in the
      * current schema or if the current schema is empty.
@@ -1,8 +1,15 @@
 package io.quarkus.flyway.runtime;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -55,6 +62,10 @@ public void setApplicationCallbackClasses(Map<String, Collection<Callback>> call
         QuarkusPathLocationScanner.setApplicationCallbackClasses(callbackClasses);
     }
 
+    public void setMigrationSetDigests(Map<String, String> migrationSetDigests) {
+        FlywayValidationCache.setMigrationSetDigests(migrationSetDigests);
+    }
+
     public Supplier<ActiveResult> flywayCheckActiveSupplier(String dataSourceName) {
         return new Supplier<ActiveResult>() {
             @Override
@@ -107,6 +118,47 @@ public Flyway apply(SyntheticCreationalContext<Flyway> context) {
         };
     }
 
+    public void doStartActions(Collection<String> dataSourceNames) {
+        if (!config.getValue().parallelStartActions() || dataSourceNames.size() < 2) {
+            for (String dataSourceName : dataSourceNames) {
+                doStartActions(dataSourceName);
+            }
+            return;
+        }
+
+        AtomicInteger threadCount = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(dataSourceNames.size(),
+                r -> new Thread(r, "flyway-start-actions-" + threadCount.incrementAndGet()));
+        try {
+            List<Future<?>> results = new ArrayList<>(dataSourceNames.size());
+            for (String dataSourceName : dataSourceNames) {
+                results.add(executor.submit(() -> doStartActions(dataSourceName)));
+            }
+            RuntimeException failure = null;
+            for (Future<?> result : results) {
+                try {
+                    result.get();
+                } catch (ExecutionException e) {
+                    RuntimeException cause = e.getCause() instanceof RuntimeException re ? re
+                            : new IllegalStateException(e.getCause());
+                    if (failure == null) {
+                        failure = cause;
+                    } else {
+                        failure.addSuppressed(cause);
+                    }
+                }
+            }
+            if (failure != null) {
+                throw failure;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while executing the Flyway start actions", e);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
     public void doStartActions(String dataSourceName) {
         FlywayDataSourceRuntimeConfig flywayDataSourceRuntimeConfig = config.getValue()
                 .datasources().get(dataSourceName);
@@ -124,19 +176,28 @@ public void doStartActions(String dataSourceName) {
         }
 
         FlywayContainer flywayContainer = flywayContainerInstance.get();
+        FlywayValidationCache validationCache = FlywayValidationCache.of(flywayContainer, config.getValue());
 
         if (flywayContainer.isCleanAtStart()) {
             flywayContainer.getFlyway().clean();
         }
-        if (flywayContainer.isValidateAtStart()) {
+        if (flywayContainer.isValidateAtStart()
+                && (validationCache == null || !validationCache.isValidated())) {
             if (flywayContainer.isCleanOnValidationError()) {
                 var result = flywayContainer.getFlyway().validateWithResult();
 
                 if (!result.validationSuccessful) {
                     flywayContainer.getFlyway().clean();
+                } else if (validationCache != null) {
+                    validationCache.markValidated();
                 }
+            } else if (flywayDataSourceRuntimeConfig.validateInBackground() && !flywayContainer.isMigrateAtStart()) {
+                validateInBackground(flywayContainer, validationCache);
             } else {
                 flywayContainer.getFlyway().validate();
+                if (validationCache != null) {
+                    validationCache.markValidated();
+                }
             }
         }
         if (flywayContainer.isBaselineAtStart()) {
@@ -147,10 +208,45 @@ public void doStartActions(String dataSourceName) {
             flywayContainer.getFlyway().repair();
         }
         if (flywayContainer.isMigrateAtStart()) {
-            flywayContainer.getFlyway().migrate();
+            Flyway flyway = flywayContainer.getFlyway();
+            if (validationCache != null && flyway.getConfiguration().isValidateOnMigrate()) {
+                if (validationCache.isValidated()) {
+                    // the applied migrations were already validated, only the pending ones are left
+                    flyway = Flyway.configure(flyway.getConfiguration().getClassLoader())
+                            .configuration(flyway.getConfiguration())
+                            .validateOnMigrate(false)
+                            .load();
+                }
+                flyway.migrate();
+                validationCache.markValidated();
+            } else {
+                flyway.migrate();
+            }
         }
     }
 
+    private static void validateInBackground(FlywayContainer flywayContainer, FlywayValidationCache validationCache) {
+        String dataSourceName = flywayContainer.getDataSourceName();
+        FlywayBackgroundValidations.set(dataSourceName,
+                new FlywayBackgroundValidations.State(FlywayBackgroundValidations.Status.RUNNING, null));
+        Thread thread = new Thread(() -> {
+            try {
+                flywayContainer.getFlyway().validate();
+                if (validationCache != null) {
+                    validationCache.markValidated();
+                }
+                FlywayBackgroundValidations.set(dataSourceName,
+                        new FlywayBackgroundValidations.State(FlywayBackgroundValidations.Status.SUCCEEDED, null));
+            } catch (RuntimeException e) {
+                log.errorv(e, "The validation of the Flyway migrations of datasource {0} failed", dataSourceName);
+                FlywayBackgroundValidations.set(dataSourceName,
+                        new FlywayBackgroundValidations.State(FlywayBackgroundValidations.Status.FAILED, e.getMessage()));
+            }
+        }, "flyway-validation-" + flywayContainer.getId());
+        thread.setDaemon(true);
+        thread.start();
+    }
+
     static class BaselineCommand implements FlywayExecutor.Command<BaselineResult> {
         BaselineCommand(Flyway flyway) {
             this.flyway = flyway;
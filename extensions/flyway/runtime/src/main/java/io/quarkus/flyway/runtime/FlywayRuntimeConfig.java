@@ -1,6 +1,8 @@
 package io.quarkus.flyway.runtime;
 
+import java.nio.file.Path;
 import java.util.Map;
+import java.util.Optional;
 
 import io.quarkus.datasource.common.runtime.DataSourceUtil;
 import io.quarkus.runtime.annotations.ConfigDocMapKey;
@@ -8,6 +10,7 @@
 import io.quarkus.runtime.annotations.ConfigPhase;
 import io.quarkus.runtime.annotations.ConfigRoot;
 import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
 import io.smallrye.config.WithDefaults;
 import io.smallrye.config.WithParentName;
 import io.smallrye.config.WithUnnamedKey;
@@ -16,6 +19,30 @@
 @ConfigMapping(prefix = "quarkus.flyway")
 public interface FlywayRuntimeConfig {
 
+    /**
+     * Whether the start actions of the datasources are executed in parallel, one thread per datasource.
+     * <p>
+     * The datasources must be independent: the migrations of a datasource must not rely on the migrations of another
+     * one having been applied.
+     * The startup fails if the start actions of any datasource fail, once the start actions of all the datasources are
+     * done.
+     */
+    @WithDefault("false")
+    boolean parallelStartActions();
+
+    /**
+     * The directory where the successful validations are recorded, to skip the validation at start and on migrate when
+     * neither the packaged migrations, the configuration nor the schema history changed since a previous validation.
+     * <p>
+     * A validation is recorded for the packaged migrations of a datasource and the content of its schema history table,
+     * so the directory should be shared by the instances of the application, or persist across its restarts, to be
+     * useful.
+     * It is ignored for the datasources that have migrations in a `filesystem:` location.
+     * <p>
+     * No validation is recorded if not set.
+     */
+    Optional<Path> validationCacheDirectory();
+
     /**
      * Datasources.
      */
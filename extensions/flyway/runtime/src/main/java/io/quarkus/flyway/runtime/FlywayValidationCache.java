@@ -0,0 +1,170 @@
+package io.quarkus.flyway.runtime;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Objects;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.FlywayExecutor;
+import org.flywaydb.core.internal.callback.CallbackExecutor;
+import org.flywaydb.core.internal.database.base.Database;
+import org.flywaydb.core.internal.database.base.Schema;
+import org.flywaydb.core.internal.jdbc.StatementInterceptor;
+import org.flywaydb.core.internal.resolver.CompositeMigrationResolver;
+import org.flywaydb.core.internal.schemahistory.AppliedMigration;
+import org.flywaydb.core.internal.schemahistory.SchemaHistory;
+import org.jboss.logging.Logger;
+
+/**
+ * Records the successful validations of the migrations of a datasource, so that they are not validated again as long as
+ * the packaged migrations, the configuration and the schema history did not change.
+ * <p>
+ * A validation is recorded as an empty file of the cache directory, whose name is the digest of all these inputs.
+ */
+class FlywayValidationCache {
+
+    private static final Logger log = Logger.getLogger(FlywayValidationCache.class);
+
+    private static volatile Map<String, String> migrationSetDigests = Collections.emptyMap();
+
+    private final Flyway flyway;
+    private final Path directory;
+    private final String configurationDigest;
+
+    private FlywayValidationCache(Flyway flyway, Path directory, String configurationDigest) {
+        this.flyway = flyway;
+        this.directory = directory;
+        this.configurationDigest = configurationDigest;
+    }
+
+    /**
+     * Sets the digests of the migrations packaged for each datasource, computed at build time.
+     */
+    static void setMigrationSetDigests(Map<String, String> digests) {
+        migrationSetDigests = digests;
+    }
+
+    /**
+     * @return the cache of the given datasource, or {@code null} if the validations of this datasource cannot be cached
+     */
+    static FlywayValidationCache of(FlywayContainer container, FlywayRuntimeConfig config) {
+        if (config.validationCacheDirectory().isEmpty()) {
+            return null;
+        }
+        String migrationSetDigest = migrationSetDigests.get(container.getDataSourceName());
+        if (migrationSetDigest == null) {
+            return null;
+        }
+        FlywayDataSourceRuntimeConfig dataSourceConfig = config.datasources().get(container.getDataSourceName());
+        MessageDigest digest = newDigest();
+        update(digest, container.getDataSourceName());
+        update(digest, migrationSetDigest);
+        update(digest, dataSourceConfig.defaultSchema().orElse(null));
+        update(digest, Objects.toString(dataSourceConfig.schemas().orElse(null), null));
+        update(digest, dataSourceConfig.table().orElse(null));
+        update(digest, dataSourceConfig.sqlMigrationPrefix().orElse(null));
+        update(digest, dataSourceConfig.repeatableSqlMigrationPrefix().orElse(null));
+        update(digest, String.join(",", dataSourceConfig.ignoreMigrationPatterns().orElse(new String[0])));
+        update(digest, Boolean.toString(dataSourceConfig.ignoreMissingMigrations()));
+        update(digest, Boolean.toString(dataSourceConfig.ignoreFutureMigrations()));
+        update(digest, Boolean.toString(dataSourceConfig.outOfOrder()));
+        update(digest, Boolean.toString(dataSourceConfig.validateMigrationNaming()));
+        return new FlywayValidationCache(container.getFlyway(), config.validationCacheDirectory().get(),
+                HexFormat.of().formatHex(digest.digest()));
+    }
+
+    /**
+     * @return {@code true} if the migrations were successfully validated against the current schema history
+     */
+    boolean isValidated() {
+        Path entry = entry();
+        if (entry != null && Files.exists(entry)) {
+            log.debugv("Skipping the validation of the Flyway migrations, already recorded in {0}", entry);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Records that the migrations are valid for the current schema history.
+     */
+    void markValidated() {
+        Path entry = entry();
+        if (entry == null) {
+            return;
+        }
+        try {
+            Files.createDirectories(directory);
+            if (!Files.exists(entry)) {
+                Files.createFile(entry);
+            }
+        } catch (IOException e) {
+            log.warnv(e, "Unable to record the validation of the Flyway migrations in {0}", directory);
+        }
+    }
+
+    private Path entry() {
+        String historyDigest = new FlywayExecutor(flyway.getConfiguration())
+                .execute(new SchemaHistoryDigestCommand(), false, null);
+        if (historyDigest == null) {
+            return null;
+        }
+        MessageDigest digest = newDigest();
+        update(digest, configurationDigest);
+        update(digest, historyDigest);
+        return directory.resolve(HexFormat.of().formatHex(digest.digest()));
+    }
+
+    static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    static void update(MessageDigest digest, String value) {
+        if (value == null) {
+            digest.update((byte) 0);
+        } else {
+            digest.update((byte) 1);
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            int length = bytes.length;
+            digest.update(new byte[] { (byte) (length >>> 24), (byte) (length >>> 16), (byte) (length >>> 8),
+                    (byte) length });
+            digest.update(bytes);
+        }
+    }
+
+    /**
+     * Computes the digest of the applied migrations, or returns {@code null} if there is no schema history yet.
+     */
+    static class SchemaHistoryDigestCommand implements FlywayExecutor.Command<String> {
+
+        @Override
+        public String execute(CompositeMigrationResolver cmr, SchemaHistory schemaHistory, Database d,
+                Schema defaultSchema, Schema[] s, CallbackExecutor ce, StatementInterceptor si) {
+            if (!schemaHistory.exists()) {
+                return null;
+            }
+            MessageDigest digest = newDigest();
+            for (AppliedMigration migration : schemaHistory.allAppliedMigrations()) {
+                update(digest, Integer.toString(migration.getInstalledRank()));
+                update(digest, Objects.toString(migration.getVersion(), null));
+                update(digest, migration.getDescription());
+                update(digest, Objects.toString(migration.getType(), null));
+                update(digest, migration.getScript());
+                update(digest, Objects.toString(migration.getChecksum(), null));
+                update(digest, Boolean.toString(migration.isSuccess()));
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package io.quarkus.flyway.runtime.health;
+
+import java.util.Map;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+import org.eclipse.microprofile.health.HealthCheck;
+import org.eclipse.microprofile.health.HealthCheckResponse;
+import org.eclipse.microprofile.health.HealthCheckResponseBuilder;
+import org.eclipse.microprofile.health.Readiness;
+
+import io.quarkus.datasource.common.runtime.DataSourceUtil;
+import io.quarkus.flyway.runtime.FlywayBackgroundValidations;
+
+/**
+ * Reports the datasources whose migrations are validated in the background as not ready until their validation
+ * succeeds.
+ */
+@Readiness
+@ApplicationScoped
+public class FlywayValidationHealthCheck implements HealthCheck {
+
+    @Override
+    public HealthCheckResponse call() {
+        HealthCheckResponseBuilder builder = HealthCheckResponse.named("Flyway migrations validation health check").up();
+        for (Map.Entry<String, FlywayBackgroundValidations.State> entry : FlywayBackgroundValidations.states().entrySet()) {
+            String dsName = entry.getKey();
+            FlywayBackgroundValidations.State state = entry.getValue();
+            switch (state.status()) {
+                case SUCCEEDED -> builder.withData(dsName, "UP");
+                case RUNNING -> builder.down().withData(dsName,
+                        (DataSourceUtil.isDefault(dsName) ? "the migrations of the default datasource"
+                                : "the migrations of datasource '" + dsName + "'") + " are being validated");
+                case FAILED -> builder.down().withData(dsName, "validation failed: " + state.message());
+            }
+        }
+        return builder.build();
+    }
+}
@@ -1,17 +1,21 @@
 package io.quarkus.grpc.deployment;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.jboss.jandex.DotName;
 
 import io.quarkus.builder.item.MultiBuildItem;
+import io.quarkus.virtual.threads.deployment.VirtualThreadBulkheads;
 
 public final class BindableServiceBuildItem extends MultiBuildItem {
 
     final DotName serviceClass;
     final List<String> blockingMethods = new ArrayList<>();
     final List<String> virtualMethods = new ArrayList<>();
+    final Map<String, VirtualThreadBulkheads.Bulkhead> virtualThreadBulkheads = new HashMap<>();
 
     public BindableServiceBuildItem(DotName serviceClass) {
         this.serviceClass = serviceClass;
@@ -39,6 +43,17 @@ public void registerVirtualMethod(String method) {
         virtualMethods.add(method);
     }
 
+    /**
+     * A method from {@code serviceClass} running on a virtual thread is limited by a
+     * {@link io.quarkus.virtual.threads.VirtualThreadBulkhead}.
+     *
+     * @param method the method name
+     * @param bulkhead the bulkhead
+     */
+    public void registerVirtualThreadBulkhead(String method, VirtualThreadBulkheads.Bulkhead bulkhead) {
+        virtualThreadBulkheads.put(method, bulkhead);
+    }
+
     public boolean hasBlockingMethods() {
         return !blockingMethods.isEmpty();
     }
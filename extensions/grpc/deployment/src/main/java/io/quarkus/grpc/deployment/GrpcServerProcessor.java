@@ -99,6 +99,8 @@
 import io.quarkus.vertx.http.deployment.FilterBuildItem;
 import io.quarkus.vertx.http.deployment.VertxWebRouterBuildItem;
 import io.quarkus.vertx.http.runtime.security.SecurityHandlerPriorities;
+import io.quarkus.virtual.threads.VirtualThreadsConfig;
+import io.quarkus.virtual.threads.deployment.VirtualThreadBulkheads;
 import io.vertx.core.Handler;
 import io.vertx.ext.web.Router;
 import io.vertx.ext.web.RoutingContext;
@@ -123,12 +125,15 @@ MinNettyAllocatorMaxOrderBuildItem setMinimalNettyMaxOrderSize() {
     @BuildStep
     void processGeneratedBeans(CombinedIndexBuildItem index, BuildProducer<AnnotationsTransformerBuildItem> transformers,
             BuildProducer<BindableServiceBuildItem> bindables,
-            BuildProducer<DelegatingGrpcBeanBuildItem> delegatingBeans) {
+            BuildProducer<DelegatingGrpcBeanBuildItem> delegatingBeans,
+            VirtualThreadsConfig virtualThreadsConfig) {
 
         // generated bean class -> blocking methods
         Map<DotName, Set<String>> generatedBeans = new HashMap<>();
         // generated bean class -> virtual methods
         Map<DotName, Set<String>> virtuals = new HashMap<>();
+        // generated bean class -> user-defined bean
+        Map<DotName, ClassInfo> userDefinedBeans = new HashMap<>();
         String[] excludedPackages = { "grpc.health.v1", "io.grpc.reflection" };
 
         // We need to transform the generated bean and register a bindable service if:
@@ -185,6 +190,7 @@ void processGeneratedBeans(CombinedIndexBuildItem index, BuildProducer<Annotatio
                 generatedBeans.put(generatedBean.name(), blockingMethods);
                 if (!virtualMethods.isEmpty()) {
                     virtuals.put(generatedBean.name(), virtualMethods);
+                    userDefinedBeans.put(generatedBean.name(), userDefinedBean);
                 }
             }
         }
@@ -208,6 +214,9 @@ void processGeneratedBeans(CombinedIndexBuildItem index, BuildProducer<Annotatio
                     for (String virtualMethod : rovt) {
                         bindableService.registerVirtualMethod(virtualMethod);
                     }
+                    // the bulkheads are declared on the user-defined bean
+                    registerVirtualThreadBulkheads(bindableService, userDefinedBeans.get(name), rovt, index.getIndex(),
+                            virtualThreadsConfig);
                 }
                 bindables.produce(bindableService);
             }
@@ -232,7 +241,8 @@ public void transform(TransformationContext context) {
 
     @BuildStep
     void discoverBindableServices(BuildProducer<BindableServiceBuildItem> bindables,
-            CombinedIndexBuildItem combinedIndexBuildItem) {
+            CombinedIndexBuildItem combinedIndexBuildItem,
+            VirtualThreadsConfig virtualThreadsConfig) {
         IndexView index = combinedIndexBuildItem.getIndex();
         Collection<ClassInfo> bindableServices = index.getAllKnownImplementors(GrpcDotNames.BINDABLE_SERVICE);
 
@@ -253,10 +263,29 @@ void discoverBindableServices(BuildProducer<BindableServiceBuildItem> bindables,
             for (String method : virtualMethods) {
                 item.registerVirtualMethod(method);
             }
+            registerVirtualThreadBulkheads(item, service, virtualMethods, index, virtualThreadsConfig);
             bindables.produce(item);
         }
     }
 
+    private static void registerVirtualThreadBulkheads(BindableServiceBuildItem item, ClassInfo service,
+            Set<String> virtualMethods, IndexView index, VirtualThreadsConfig virtualThreadsConfig) {
+        List<ClassInfo> classes = classHierarchy(service, index);
+        for (String methodName : virtualMethods) {
+            for (ClassInfo clazz : classes) {
+                MethodInfo method = clazz.firstMethod(methodName);
+                if (method != null) {
+                    VirtualThreadBulkheads.Bulkhead bulkhead = VirtualThreadBulkheads.resolve(virtualThreadsConfig, method,
+                            service);
+                    if (bulkhead != null) {
+                        item.registerVirtualThreadBulkhead(methodName, bulkhead);
+                    }
+                    break;
+                }
+            }
+        }
+    }
+
     /**
      * Generate list of {@link ClassInfo} with {@code service} as the first element and the class implementing
      * {@code io.grpc.BindableService} (for example via the protobuf generated {@code *ImplBase}) as the last one.
@@ -722,6 +751,11 @@ ServiceStartBuildItem initializeServer(GrpcServerRecorder recorder,
             if (bindable.hasVirtualMethods()) {
                 virtuals.put(bindable.serviceClass.toString(), bindable.virtualMethods);
             }
+            for (Map.Entry<String, VirtualThreadBulkheads.Bulkhead> e : bindable.virtualThreadBulkheads.entrySet()) {
+                VirtualThreadBulkheads.Bulkhead bulkhead = e.getValue();
+                recorder.bindVirtualThreadBulkhead(bindable.serviceClass + "#" + e.getKey(), bulkhead.name(),
+                        bulkhead.maxConcurrency(), bulkhead.maxQueued());
+            }
         }
 
         if (!bindables.isEmpty()
@@ -0,0 +1,119 @@
+package io.quarkus.grpc.server.blocking;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.grpc.Context;
+import io.grpc.ManagedChannel;
+import io.grpc.ManagedChannelBuilder;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.examples.helloworld.GreeterGrpc;
+import io.grpc.examples.helloworld.HelloReply;
+import io.grpc.examples.helloworld.HelloRequest;
+import io.grpc.stub.StreamObserver;
+import io.quarkus.grpc.GrpcService;
+import io.quarkus.test.QuarkusUnitTest;
+import io.quarkus.virtual.threads.VirtualThreadBulkhead;
+import io.quarkus.virtual.threads.VirtualThreadsBulkhead;
+import io.smallrye.common.annotation.RunOnVirtualThread;
+
+@EnabledForJreRange(min = JRE.JAVA_21)
+public class VirtualThreadBulkheadTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setArchiveProducer(
+                    () -> ShrinkWrap.create(JavaArchive.class)
+                            .addPackage(GreeterGrpc.class.getPackage())
+                            .addClasses(BulkheadGreeter.class));
+
+    protected ManagedChannel channel;
+
+    @BeforeEach
+    public void init() {
+        channel = ManagedChannelBuilder.forAddress("localhost", 9001)
+                .usePlaintext()
+                .build();
+    }
+
+    @AfterEach
+    public void shutdown() {
+        BulkheadGreeter.release.countDown();
+        if (channel != null) {
+            channel.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testSaturatedBulkheadRejectsCallsAndCancelledCallsReleasePermits() throws Exception {
+        BulkheadGreeter.entered = new CountDownLatch(1);
+        BulkheadGreeter.release = new CountDownLatch(1);
+        HelloRequest request = HelloRequest.newBuilder().setName("bulkhead").build();
+
+        Context.CancellableContext cancellable = Context.current().withCancellation();
+        cancellable.run(() -> GreeterGrpc.newStub(channel).sayHello(request, new StreamObserver<>() {
+            @Override
+            public void onNext(HelloReply value) {
+            }
+
+            @Override
+            public void onError(Throwable t) {
+            }
+
+            @Override
+            public void onCompleted() {
+            }
+        }));
+        assertThat(BulkheadGreeter.entered.await(10, TimeUnit.SECONDS)).isTrue();
+
+        // the only permit is taken, and no call can be queued
+        assertThatThrownBy(() -> GreeterGrpc.newBlockingStub(channel).sayHello(request))
+                .isInstanceOfSatisfying(StatusRuntimeException.class,
+                        e -> assertThat(e.getStatus().getCode()).isEqualTo(Status.Code.RESOURCE_EXHAUSTED));
+
+        // the permit is returned when the client cancels, even though the method is still running
+        cancellable.cancel(null);
+        VirtualThreadsBulkhead bulkhead = VirtualThreadsBulkhead.forTarget(BulkheadGreeter.class.getName() + "#sayHello");
+        assertThat(bulkhead).isNotNull();
+        await().atMost(Duration.ofSeconds(10)).until(() -> bulkhead.getActive() == 0);
+
+        BulkheadGreeter.release.countDown();
+        assertThat(GreeterGrpc.newBlockingStub(channel).sayHello(request).getMessage()).isEqualTo("Hello bulkhead");
+    }
+
+    @GrpcService
+    public static class BulkheadGreeter extends GreeterGrpc.GreeterImplBase {
+
+        static volatile CountDownLatch entered = new CountDownLatch(1);
+        static volatile CountDownLatch release = new CountDownLatch(0);
+
+        @Override
+        @RunOnVirtualThread
+        @VirtualThreadBulkhead(maxConcurrency = 1, maxQueued = 0)
+        public void sayHello(HelloRequest request, StreamObserver<HelloReply> responseObserver) {
+            entered.countDown();
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            responseObserver.onNext(HelloReply.newBuilder().setMessage("Hello " + request.getName()).build());
+            responseObserver.onCompleted();
+        }
+    }
+}
@@ -51,13 +51,17 @@
 import io.quarkus.grpc.reflection.service.ReflectionServiceV1alpha;
 import io.quarkus.grpc.runtime.config.GrpcConfiguration;
 import io.quarkus.grpc.runtime.config.GrpcServerConfiguration;
+import io.quarkus.grpc.runtime.config.GrpcServiceConfiguration;
 import io.quarkus.grpc.runtime.devmode.DevModeInterceptor;
 import io.quarkus.grpc.runtime.devmode.GrpcHotReplacementInterceptor;
 import io.quarkus.grpc.runtime.devmode.GrpcServerReloader;
 import io.quarkus.grpc.runtime.health.GrpcHealthStorage;
 import io.quarkus.grpc.runtime.supports.CompressionInterceptor;
+import io.quarkus.grpc.runtime.supports.ZeroCopyMarshaller;
 import io.quarkus.grpc.runtime.supports.blocking.BlockingServerInterceptor;
 import io.quarkus.grpc.spi.GrpcBuilderProvider;
+import io.quarkus.grpc.stubs.FlowControl;
+import io.quarkus.grpc.stubs.ServerCalls;
 import io.quarkus.runtime.LaunchMode;
 import io.quarkus.runtime.QuarkusBindException;
 import io.quarkus.runtime.RuntimeValue;
@@ -66,6 +70,7 @@
 import io.quarkus.value.registry.ValueRegistry;
 import io.quarkus.vertx.http.runtime.QuarkusErrorHandler;
 import io.quarkus.vertx.http.runtime.security.HttpAuthenticator;
+import io.quarkus.virtual.threads.VirtualThreadsBulkhead;
 import io.quarkus.virtual.threads.VirtualThreadsRecorder;
 import io.vertx.core.AbstractVerticle;
 import io.vertx.core.AsyncResult;
@@ -132,6 +137,10 @@ public void handle(RoutingContext event) {
         }
     }
 
+    public void bindVirtualThreadBulkhead(String target, String name, int maxConcurrency, int maxQueued) {
+        VirtualThreadsBulkhead.bind(target, name, maxConcurrency, maxQueued);
+    }
+
     public void initializeGrpcServer(boolean hasNoBindableServiceBeans, BeanContainer beanContainer,
             RuntimeValue<Vertx> vertxSupplier,
             RuntimeValue<Router> routerSupplier,
@@ -146,6 +155,11 @@ public void initializeGrpcServer(boolean hasNoBindableServiceBeans, BeanContaine
 
         Vertx vertx = vertxSupplier.getValue();
         GrpcServerConfiguration configuration = runtimeConfig.getValue().server();
+        GrpcServerConfiguration.FlowControlConfig flowControl = configuration.flowControl();
+        ServerCalls.setFlowControl(flowControl.enabled()
+                ? new FlowControl(flowControl.initialDemand(), flowControl.maxDemand(),
+                        flowControl.onReadyThreshold().orElse(-1))
+                : null);
         GrpcBuilderProvider<?> provider = GrpcBuilderProvider.findServerBuilderProvider(configuration);
 
         if (configuration.useSeparateServer()) {
@@ -713,13 +727,29 @@ private ServerServiceDefinition serviceWithInterceptors(Vertx vertx, GrpcContain
             List<String> list = blockingMethodsPerService.get(service.getImplementationClassName());
             List<String> virtuals = virtualMethodsPerService.get(service.getImplementationClassName());
             if (list != null || virtuals != null) {
+                Map<String, VirtualThreadsBulkhead> bulkheads = new HashMap<>();
+                if (virtuals != null) {
+                    for (String virtual : virtuals) {
+                        VirtualThreadsBulkhead bulkhead = VirtualThreadsBulkhead
+                                .forTarget(service.getImplementationClassName() + "#" + virtual);
+                        if (bulkhead != null) {
+                            bulkheads.put(virtual, bulkhead);
+                        }
+                    }
+                }
                 interceptors
                         .add(new BlockingServerInterceptor(vertx, list, virtuals,
-                                VirtualThreadsRecorder.getCurrent(), devMode));
+                                VirtualThreadsRecorder.getCurrent(), bulkheads, devMode));
             }
         }
         interceptors.sort(Interceptors.INTERCEPTOR_COMPARATOR);
-        return ServerInterceptors.intercept(service.definition, interceptors);
+        ServerServiceDefinition definition = service.definition;
+        GrpcServiceConfiguration serviceConfig = runtimeConfig.getValue().server().services()
+                .get(definition.getServiceDescriptor().getName());
+        if (serviceConfig != null && serviceConfig.zeroCopyMarshalling()) {
+            definition = ZeroCopyMarshaller.wrap(definition, serviceConfig.aliasBytes());
+        }
+        return ServerInterceptors.intercept(definition, interceptors);
     }
 
     private class GrpcServerVerticle extends AbstractVerticle {
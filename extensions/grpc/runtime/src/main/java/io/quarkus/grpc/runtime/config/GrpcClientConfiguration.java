@@ -158,6 +158,16 @@ public interface GrpcClientConfiguration {
      */
     OptionalInt maxInboundMetadataSize();
 
+    /**
+     * Whether the response messages are parsed directly from the buffers received by the transport, instead of being
+     * copied into an intermediate array first.
+     * <p>
+     * This is only effective with the gRPC Java client ({@code use-quarkus-grpc-client=false}), and mostly benefits clients
+     * receiving large messages.
+     */
+    @WithDefault("false")
+    boolean zeroCopyMarshalling();
+
     /**
      * The negotiation type for the HTTP/2 connection.
      * Accepted values are: {@code TLS}, {@code PLAINTEXT_UPGRADE}, {@code PLAINTEXT}
@@ -3,10 +3,12 @@
 import java.nio.file.Path;
 import java.time.Duration;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.OptionalInt;
 import java.util.Set;
 
+import io.quarkus.runtime.annotations.ConfigDocMapKey;
 import io.quarkus.runtime.annotations.ConfigDocSection;
 import io.quarkus.runtime.annotations.ConfigGroup;
 import io.smallrye.config.WithDefault;
@@ -127,6 +129,17 @@ default boolean isPlainTextEnabled() {
      */
     Optional<String> compression();
 
+    /**
+     * Configures the flow control of the server-streaming and bidi methods returning a {@code Multi}.
+     */
+    FlowControlConfig flowControl();
+
+    /**
+     * Configures the gRPC services, by fully qualified service name, such as {@code helloworld.Greeter}.
+     */
+    @ConfigDocMapKey("service-name")
+    Map<String, GrpcServiceConfiguration> services();
+
     /**
      * Shared configuration for setting up server-side SSL.
      */
@@ -213,6 +226,40 @@ public interface SslServerConfig {
         ClientAuth clientAuth();
     }
 
+    @ConfigGroup
+    public interface FlowControlConfig {
+
+        /**
+         * Whether the items of the {@code Multi} returned by the server-streaming and bidi methods are requested only when
+         * the call is ready to send them, i.e. when the client consumes them fast enough.
+         * <p>
+         * If disabled, all the items are requested upfront and buffered until the client consumes them.
+         */
+        @WithDefault("true")
+        boolean enabled();
+
+        /**
+         * The number of items requested first. The number of items requested then doubles each time all the items
+         * requested are sent without the call becoming not ready, and is halved each time the call becomes not ready.
+         */
+        @WithDefault("16")
+        int initialDemand();
+
+        /**
+         * The maximum number of items requested at once, bounding the number of items buffered by a call.
+         */
+        @WithDefault("256")
+        int maxDemand();
+
+        /**
+         * The number of bytes buffered by a call above which the call is no longer ready. Defaults to the gRPC default,
+         * 32KB.
+         * <p>
+         * Only applies to the separate server ({@code quarkus.grpc.server.use-separate-server=true}).
+         */
+        OptionalInt onReadyThreshold();
+    }
+
     @ConfigGroup
     public interface GrpcServerNettyConfig {
 
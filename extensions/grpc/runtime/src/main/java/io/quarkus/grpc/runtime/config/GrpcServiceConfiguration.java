@@ -0,0 +1,28 @@
+package io.quarkus.grpc.runtime.config;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.smallrye.config.WithDefault;
+
+@ConfigGroup
+public interface GrpcServiceConfiguration {
+
+    /**
+     * Whether the request messages are parsed directly from the buffers received by the transport, instead of being
+     * copied into an intermediate array first.
+     * <p>
+     * This is only effective with the separate gRPC server ({@code quarkus.grpc.server.use-separate-server=true}), and
+     * mostly benefits services receiving large messages.
+     */
+    @WithDefault("false")
+    boolean zeroCopyMarshalling();
+
+    /**
+     * Whether the {@code bytes} fields of the request messages reference the buffers received by the transport, instead
+     * of being copied.
+     * <p>
+     * The buffers are released once the call completes, so the messages, and the {@code ByteString}s they contain, must
+     * not be used after the call completes. Requires {@code zero-copy-marshalling}.
+     */
+    @WithDefault("false")
+    boolean aliasBytes();
+}
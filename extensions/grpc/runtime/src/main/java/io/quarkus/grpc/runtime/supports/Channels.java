@@ -292,6 +292,10 @@ public static Channel createChannel(String name, Set<String> perClientIntercepto
                 builder.usePlaintext();
             }
 
+            if (clientConfig.zeroCopyMarshalling()) {
+                // the last interceptor added is called first, this one replaces the marshallers right before the transport
+                builder.intercept(new ZeroCopyMarshallingClientInterceptor());
+            }
             interceptorContainer.getSortedPerServiceInterceptors(perClientInterceptors).forEach(builder::intercept);
             interceptorContainer.getSortedGlobalInterceptors().forEach(builder::intercept);
 
@@ -0,0 +1,169 @@
+package io.quarkus.grpc.runtime.supports;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.ExtensionRegistryLite;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.MessageLite;
+import com.google.protobuf.Parser;
+import com.google.protobuf.UnsafeByteOperations;
+
+import io.grpc.Context;
+import io.grpc.Detachable;
+import io.grpc.HasByteBuffer;
+import io.grpc.MethodDescriptor;
+import io.grpc.ServerMethodDefinition;
+import io.grpc.ServerServiceDefinition;
+import io.grpc.ServiceDescriptor;
+import io.grpc.Status;
+
+/**
+ * A protobuf marshaller parsing the messages directly from the buffers received by the transport, instead of copying them
+ * into an intermediate array first, as the default protobuf marshaller does.
+ * <p>
+ * The messages are still serialized by the default protobuf marshaller: its streams are drained by the transport directly
+ * into pooled direct buffers.
+ * <p>
+ * When aliasing is enabled, the {@code bytes} fields of the parsed messages reference the received buffers instead of
+ * being copied. The buffers are detached from the transport and released once the current gRPC {@link Context} is
+ * cancelled, i.e. once the server call completes. Aliasing is thus only supported on the server side.
+ * <p>
+ * The marshaller falls back to the default protobuf marshaller when the transport does not expose its buffers.
+ *
+ * @param <T> the type of the message
+ */
+public final class ZeroCopyMarshaller<T extends MessageLite> implements MethodDescriptor.PrototypeMarshaller<T> {
+
+    private final MethodDescriptor.Marshaller<T> delegate;
+    private final T prototype;
+    private final Parser<T> parser;
+    private final boolean aliasing;
+
+    @SuppressWarnings("unchecked")
+    ZeroCopyMarshaller(MethodDescriptor.Marshaller<T> delegate, T prototype, boolean aliasing) {
+        this.delegate = delegate;
+        this.prototype = prototype;
+        this.parser = (Parser<T>) prototype.getParserForType();
+        this.aliasing = aliasing;
+    }
+
+    /**
+     * @return the given marshaller wrapped in a {@link ZeroCopyMarshaller}, or the given marshaller if it does not
+     *         marshal protobuf messages
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    public static <T> MethodDescriptor.Marshaller<T> wrap(MethodDescriptor.Marshaller<T> marshaller, boolean aliasing) {
+        if (marshaller instanceof ZeroCopyMarshaller<?> zeroCopy) {
+            return zeroCopy.aliasing == aliasing ? marshaller : wrap((MethodDescriptor.Marshaller<T>) zeroCopy.delegate,
+                    aliasing);
+        }
+        if (marshaller instanceof MethodDescriptor.PrototypeMarshaller<T> prototypeMarshaller
+                && prototypeMarshaller.getMessagePrototype() instanceof MessageLite prototype) {
+            return new ZeroCopyMarshaller(marshaller, prototype, aliasing);
+        }
+        return marshaller;
+    }
+
+    /**
+     * @return the given service definition, with the request marshallers of its methods wrapped in a
+     *         {@link ZeroCopyMarshaller}
+     */
+    public static ServerServiceDefinition wrap(ServerServiceDefinition definition, boolean aliasing) {
+        ServiceDescriptor descriptor = definition.getServiceDescriptor();
+        ServiceDescriptor.Builder descriptorBuilder = ServiceDescriptor.newBuilder(descriptor.getName())
+                .setSchemaDescriptor(descriptor.getSchemaDescriptor());
+        List<ServerMethodDefinition<?, ?>> methods = new ArrayList<>();
+        for (ServerMethodDefinition<?, ?> method : definition.getMethods()) {
+            ServerMethodDefinition<?, ?> wrapped = wrap(method, aliasing);
+            descriptorBuilder.addMethod(wrapped.getMethodDescriptor());
+            methods.add(wrapped);
+        }
+        ServerServiceDefinition.Builder builder = ServerServiceDefinition.builder(descriptorBuilder.build());
+        for (ServerMethodDefinition<?, ?> method : methods) {
+            builder.addMethod(method);
+        }
+        return builder.build();
+    }
+
+    private static <ReqT, RespT> ServerMethodDefinition<ReqT, RespT> wrap(ServerMethodDefinition<ReqT, RespT> method,
+            boolean aliasing) {
+        MethodDescriptor<ReqT, RespT> descriptor = method.getMethodDescriptor();
+        return ServerMethodDefinition.create(descriptor
+                .toBuilder(wrap(descriptor.getRequestMarshaller(), aliasing), descriptor.getResponseMarshaller())
+                .build(), method.getServerCallHandler());
+    }
+
+    @Override
+    public Class<T> getMessageClass() {
+        @SuppressWarnings("unchecked")
+        Class<T> clazz = (Class<T>) prototype.getClass();
+        return clazz;
+    }
+
+    @Override
+    public T getMessagePrototype() {
+        return prototype;
+    }
+
+    @Override
+    public InputStream stream(T value) {
+        return delegate.stream(value);
+    }
+
+    @Override
+    public T parse(InputStream stream) {
+        if (!(stream instanceof HasByteBuffer buffers) || !buffers.byteBufferSupported() || !stream.markSupported()) {
+            return delegate.parse(stream);
+        }
+        try {
+            if (aliasing && stream instanceof Detachable detachable) {
+                Context context = Context.current();
+                // the root context is never cancelled, the buffers would never be released
+                if (context != Context.ROOT && !context.isCancelled()) {
+                    InputStream detached = detachable.detach();
+                    context.addListener(cancelled -> close(detached), Runnable::run);
+                    return parse(detached, true);
+                }
+            }
+            return parse(stream, false);
+        } catch (InvalidProtocolBufferException e) {
+            throw Status.INTERNAL.withDescription("Invalid protobuf byte sequence").withCause(e).asRuntimeException();
+        } catch (IOException e) {
+            throw Status.INTERNAL.withDescription("Unable to read the message").withCause(e).asRuntimeException();
+        }
+    }
+
+    private T parse(InputStream stream, boolean aliasing) throws IOException {
+        // the buffers are kept by the stream until it is closed once marked
+        stream.mark(Integer.MAX_VALUE);
+        ByteString data = ByteString.EMPTY;
+        while (stream.available() > 0) {
+            ByteBuffer buffer = ((HasByteBuffer) stream).getByteBuffer();
+            if (buffer == null) {
+                break;
+            }
+            int length = buffer.remaining();
+            data = data.concat(UnsafeByteOperations.unsafeWrap(buffer));
+            stream.skip(length);
+        }
+        CodedInputStream input = data.newCodedInput();
+        input.enableAliasing(aliasing);
+        T message = parser.parseFrom(input, ExtensionRegistryLite.getEmptyRegistry());
+        input.checkLastTagWas(0);
+        return message;
+    }
+
+    private static void close(InputStream stream) {
+        try {
+            stream.close();
+        } catch (IOException ignored) {
+            // the buffers are released anyway
+        }
+    }
+}
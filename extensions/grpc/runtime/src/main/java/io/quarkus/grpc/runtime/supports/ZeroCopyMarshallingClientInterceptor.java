@@ -0,0 +1,28 @@
+package io.quarkus.grpc.runtime.supports;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.ClientInterceptor;
+import io.grpc.MethodDescriptor;
+
+/**
+ * Parses the response messages of the calls with a {@link ZeroCopyMarshaller}.
+ */
+class ZeroCopyMarshallingClientInterceptor implements ClientInterceptor {
+
+    private final Map<MethodDescriptor<?, ?>, MethodDescriptor<?, ?>> methods = new ConcurrentHashMap<>();
+
+    @Override
+    public <ReqT, RespT> ClientCall<ReqT, RespT> interceptCall(MethodDescriptor<ReqT, RespT> method,
+            CallOptions callOptions, Channel next) {
+        @SuppressWarnings("unchecked")
+        MethodDescriptor<ReqT, RespT> wrapped = (MethodDescriptor<ReqT, RespT>) methods.computeIfAbsent(method,
+                ignored -> method.toBuilder(method.getRequestMarshaller(),
+                        ZeroCopyMarshaller.wrap(method.getResponseMarshaller(), false)).build());
+        return next.newCall(wrapped, callOptions);
+    }
+}
@@ -1,5 +1,6 @@
 package io.quarkus.grpc.runtime.supports.blocking;
 
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -9,6 +10,7 @@
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
@@ -21,11 +23,13 @@
 import io.grpc.ServerCall;
 import io.grpc.ServerCallHandler;
 import io.grpc.ServerInterceptor;
+import io.grpc.Status;
 import io.quarkus.arc.Arc;
 import io.quarkus.arc.InjectableContext;
 import io.quarkus.arc.InjectableContext.ContextState;
 import io.quarkus.arc.ManagedContext;
 import io.quarkus.grpc.runtime.Interceptors;
+import io.quarkus.virtual.threads.VirtualThreadsBulkhead;
 import io.vertx.core.Vertx;
 
 /**
@@ -100,9 +104,18 @@ public class BlockingServerInterceptor implements ServerInterceptor, Function<St
     private final Map<String, Boolean> virtualCache = new ConcurrentHashMap<>();
     private final boolean devMode;
     private final Executor virtualThreadExecutor;
+    private final Map<String, VirtualThreadsBulkhead> virtualThreadBulkheads;
 
     public BlockingServerInterceptor(Vertx vertx, List<String> blockingMethods, List<String> virtualMethods,
             Executor virtualThreadExecutor, boolean devMode) {
+        this(vertx, blockingMethods, virtualMethods, virtualThreadExecutor, Map.of(), devMode);
+    }
+
+    /**
+     * @param virtualThreadBulkheads the bulkheads limiting the methods running on virtual threads, by method name
+     */
+    public BlockingServerInterceptor(Vertx vertx, List<String> blockingMethods, List<String> virtualMethods,
+            Executor virtualThreadExecutor, Map<String, VirtualThreadsBulkhead> virtualThreadBulkheads, boolean devMode) {
         this.vertx = vertx;
         this.blockingMethods = new HashSet<>();
         this.virtualMethods = new HashSet<>();
@@ -119,6 +132,10 @@ public BlockingServerInterceptor(Vertx vertx, List<String> blockingMethods, List
             }
         }
         this.virtualThreadExecutor = virtualThreadExecutor;
+        this.virtualThreadBulkheads = new HashMap<>();
+        for (Map.Entry<String, VirtualThreadsBulkhead> e : virtualThreadBulkheads.entrySet()) {
+            this.virtualThreadBulkheads.put(e.getKey().toLowerCase(), e.getValue());
+        }
     }
 
     @Override
@@ -132,6 +149,14 @@ public Boolean applyVirtual(String name) {
         return virtualMethods.contains(toLowerCaseBeanSpec(methodName));
     }
 
+    private VirtualThreadsBulkhead getVirtualThreadBulkhead(String name) {
+        if (virtualThreadBulkheads.isEmpty()) {
+            return null;
+        }
+        String methodName = name.substring(name.lastIndexOf("/") + 1);
+        return virtualThreadBulkheads.get(toLowerCaseBeanSpec(methodName));
+    }
+
     private String toLowerCaseBeanSpec(String name) {
 
         // Methods cannot always be lowercased for comparison.
@@ -165,8 +190,9 @@ public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(ServerCall<ReqT, Re
             // it is initialized by io.quarkus.grpc.runtime.supports.context.GrpcRequestContextGrpcInterceptor
             // that should always be called before this interceptor
             ContextState state = requestContext.getState();
-            VirtualReplayListener<ReqT> replay = new VirtualReplayListener<>(state);
-            virtualThreadExecutor.execute(() -> {
+            VirtualThreadsBulkhead bulkhead = getVirtualThreadBulkhead(fullMethodName);
+            VirtualReplayListener<ReqT> replay = new VirtualReplayListener<>(state, bulkhead);
+            Runnable startCall = () -> virtualThreadExecutor.execute(() -> {
                 ServerCall.Listener<ReqT> listener;
                 try {
                     requestContext.activate(state);
@@ -176,7 +202,28 @@ public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(ServerCall<ReqT, Re
                 }
                 replay.setDelegate(listener);
             });
-            return replay;
+            if (bulkhead == null) {
+                startCall.run();
+                return replay;
+            }
+            switch (bulkhead.acquire(() -> {
+                if (replay.permitAcquired()) {
+                    startCall.run();
+                }
+            })) {
+                case ACQUIRED:
+                    replay.permitAcquired();
+                    startCall.run();
+                    return replay;
+                case QUEUED:
+                    return replay;
+                default:
+                    call.close(Status.RESOURCE_EXHAUSTED.withDescription(
+                            "The bulkhead " + bulkhead.getName() + " of the method " + fullMethodName + " is full"),
+                            new Metadata());
+                    return new ServerCall.Listener<>() {
+                    };
+            }
         } else if (isBlocking) {
             final ManagedContext requestContext = getRequestContext();
             // context should always be active here
@@ -320,15 +367,39 @@ public void onReady() {
      * This replay listener is only used for virtual threads.
      */
     private class VirtualReplayListener<ReqT> extends ServerCall.Listener<ReqT> {
+        private static final int PERMIT_WAITING = 0;
+        private static final int PERMIT_ACQUIRED = 1;
+        private static final int PERMIT_RELEASED = 2;
+
         private final InjectableContext.ContextState requestContextState;
+        private final VirtualThreadsBulkhead bulkhead;
+        private final AtomicInteger permit = new AtomicInteger(PERMIT_WAITING);
 
         // exclusive to event loop context
         private ServerCall.Listener<ReqT> delegate;
         private final Queue<Consumer<ServerCall.Listener<ReqT>>> incomingEvents = new ConcurrentLinkedQueue<>();
         private volatile boolean isConsumingFromIncomingEvents = false;
 
-        private VirtualReplayListener(InjectableContext.ContextState requestContextState) {
+        private VirtualReplayListener(InjectableContext.ContextState requestContextState, VirtualThreadsBulkhead bulkhead) {
             this.requestContextState = requestContextState;
+            this.bulkhead = bulkhead;
+        }
+
+        /**
+         * @return {@code false} if the call completed while waiting for the permit, in which case the permit has been released
+         */
+        boolean permitAcquired() {
+            if (permit.compareAndSet(PERMIT_WAITING, PERMIT_ACQUIRED)) {
+                return true;
+            }
+            bulkhead.release();
+            return false;
+        }
+
+        private void releasePermit() {
+            if (bulkhead != null && permit.getAndSet(PERMIT_RELEASED) == PERMIT_ACQUIRED) {
+                bulkhead.release();
+            }
         }
 
         /**
@@ -392,11 +463,13 @@ public void onHalfClose() {
 
         @Override
         public void onCancel() {
+            releasePermit();
             scheduleOrEnqueue(ServerCall.Listener::onCancel);
         }
 
         @Override
         public void onComplete() {
+            releasePermit();
             scheduleOrEnqueue(ServerCall.Listener::onComplete);
         }
 
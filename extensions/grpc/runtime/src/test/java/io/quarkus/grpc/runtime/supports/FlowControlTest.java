@@ -0,0 +1,91 @@
+package io.quarkus.grpc.runtime.supports;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import io.grpc.stub.ServerCallStreamObserver;
+import io.quarkus.grpc.stubs.FlowControl;
+import io.quarkus.grpc.stubs.ServerCalls;
+import io.quarkus.grpc.stubs.StalledStreams;
+import io.smallrye.mutiny.Multi;
+
+@SuppressWarnings("unchecked")
+class FlowControlTest {
+
+    private final AtomicBoolean ready = new AtomicBoolean();
+    private final AtomicInteger requested = new AtomicInteger();
+    private final AtomicInteger sent = new AtomicInteger();
+    private ServerCallStreamObserver<Integer> response;
+    private ArgumentCaptor<Runnable> onReadyHandler;
+
+    @BeforeEach
+    void setup() {
+        ServerCalls.setFlowControl(new FlowControl(4, 16, -1));
+        response = mock(ServerCallStreamObserver.class);
+        when(response.isReady()).thenAnswer(invocation -> ready.get());
+        doAnswer(invocation -> sent.incrementAndGet()).when(response).onNext(any());
+        onReadyHandler = ArgumentCaptor.forClass(Runnable.class);
+    }
+
+    @AfterEach
+    void reset() {
+        ServerCalls.setFlowControl(null);
+    }
+
+    @Test
+    void requestOnlyWhenReady() {
+        ServerCalls.oneToMany("request", response, null, request -> items(100));
+        verify(response).setOnReadyHandler(onReadyHandler.capture());
+        assertThat(requested).hasValue(0);
+
+        ready.set(true);
+        onReadyHandler.getValue().run();
+        assertThat(sent).hasValue(100);
+        verify(response).onCompleted();
+    }
+
+    @Test
+    void stallAndResume() {
+        ready.set(true);
+        // the client stops consuming after 10 items
+        doAnswer(invocation -> {
+            if (sent.incrementAndGet() == 10) {
+                ready.set(false);
+            }
+            return null;
+        }).when(response).onNext(any());
+        long stalls = StalledStreams.get().getCount();
+
+        ServerCalls.oneToMany("request", response, null, request -> items(100));
+        verify(response).setOnReadyHandler(onReadyHandler.capture());
+
+        // the batches of 4 and 8 items are sent, the batch in flight when the call became not ready is completed
+        assertThat(sent).hasValue(12);
+        assertThat(requested).hasValue(12);
+        assertThat(StalledStreams.get().getCount()).isEqualTo(stalls + 1);
+        verify(response, never()).onCompleted();
+
+        ready.set(true);
+        onReadyHandler.getValue().run();
+        assertThat(sent).hasValue(100);
+        verify(response).onCompleted();
+    }
+
+    private Multi<Integer> items(int count) {
+        return Multi.createFrom().range(0, count)
+                .onRequest().invoke(n -> requested.addAndGet((int) n));
+    }
+}
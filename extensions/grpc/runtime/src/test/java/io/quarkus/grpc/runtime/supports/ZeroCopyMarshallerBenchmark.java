@@ -0,0 +1,80 @@
+package io.quarkus.grpc.runtime.supports;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.google.protobuf.BytesValue;
+
+import io.grpc.Context;
+import io.grpc.MethodDescriptor;
+import io.grpc.protobuf.ProtoUtils;
+
+/**
+ * Compares the default protobuf marshaller with the {@link ZeroCopyMarshaller}, with and without aliasing the {@code bytes}
+ * fields, when parsing large messages received in 16 KB direct buffers, as Netty does.
+ * <p>
+ * The default marshaller copies the payload twice: into an intermediate array, reused per thread up to 4 MB, and into the
+ * {@code bytes} field. The zero-copy marshaller copies it once, and not at all with aliasing. The {@code gc} profiler
+ * reports the resulting allocation rates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ZeroCopyMarshallerBenchmark {
+
+    @Param({ "1048576", "10485760" })
+    int size;
+
+    private ByteBuffer[] buffers;
+    private final MethodDescriptor.Marshaller<BytesValue> protobuf = ProtoUtils.marshaller(BytesValue.getDefaultInstance());
+    private final MethodDescriptor.Marshaller<BytesValue> zeroCopy = ZeroCopyMarshaller.wrap(protobuf, false);
+    private final MethodDescriptor.Marshaller<BytesValue> aliasing = ZeroCopyMarshaller.wrap(protobuf, true);
+
+    @Setup(Level.Trial)
+    public void setup() {
+        buffers = ZeroCopyMarshallerTest.buffers(ZeroCopyMarshallerTest.message(size), 16 * 1024);
+    }
+
+    @Benchmark
+    public BytesValue protobufMarshaller() {
+        return protobuf.parse(ZeroCopyMarshallerTest.stream(buffers));
+    }
+
+    @Benchmark
+    public BytesValue zeroCopyMarshaller() {
+        return zeroCopy.parse(ZeroCopyMarshallerTest.stream(buffers));
+    }
+
+    @Benchmark
+    public BytesValue zeroCopyMarshallerWithAliasing() {
+        // the buffers are released when the call completes
+        Context.CancellableContext context = Context.current().withCancellation();
+        Context previous = context.attach();
+        try {
+            return aliasing.parse(ZeroCopyMarshallerTest.stream(buffers));
+        } finally {
+            context.detach(previous);
+            context.cancel(null);
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        org.openjdk.jmh.Main.main(new String[] { ZeroCopyMarshallerBenchmark.class.getSimpleName(), "-prof", "gc" });
+    }
+}
@@ -0,0 +1,123 @@
+package io.quarkus.grpc.runtime.supports;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.BytesValue;
+
+import io.grpc.Context;
+import io.grpc.MethodDescriptor;
+import io.grpc.ServerServiceDefinition;
+import io.grpc.ServiceDescriptor;
+import io.grpc.internal.CompositeReadableBuffer;
+import io.grpc.internal.ReadableBuffers;
+import io.grpc.protobuf.ProtoUtils;
+import io.grpc.stub.ServerCalls;
+
+class ZeroCopyMarshallerTest {
+
+    private static final MethodDescriptor.Marshaller<BytesValue> PROTOBUF = ProtoUtils
+            .marshaller(BytesValue.getDefaultInstance());
+
+    @Test
+    void parseFromBuffers() {
+        BytesValue message = message(100_000);
+        MethodDescriptor.Marshaller<BytesValue> marshaller = ZeroCopyMarshaller.wrap(PROTOBUF, false);
+
+        BytesValue parsed = marshaller.parse(stream(message, 16 * 1024));
+        assertThat(parsed).isEqualTo(message);
+        assertThat(parsed.getValue().asReadOnlyByteBuffer().isDirect()).isFalse();
+    }
+
+    @Test
+    void aliasBytesWithinCall() {
+        BytesValue message = message(100_000);
+        MethodDescriptor.Marshaller<BytesValue> marshaller = ZeroCopyMarshaller.wrap(PROTOBUF, true);
+
+        Context.CancellableContext context = Context.current().withCancellation();
+        Context previous = context.attach();
+        try {
+            BytesValue parsed = marshaller.parse(stream(message, 200_000));
+            assertThat(parsed).isEqualTo(message);
+            // the bytes field references the direct buffer received by the transport
+            assertThat(parsed.getValue().asReadOnlyByteBuffer().isDirect()).isTrue();
+        } finally {
+            context.detach(previous);
+            context.cancel(null);
+        }
+
+        // outside a call, the buffers could never be released
+        BytesValue parsed = marshaller.parse(stream(message, 200_000));
+        assertThat(parsed.getValue().asReadOnlyByteBuffer().isDirect()).isFalse();
+    }
+
+    @Test
+    void fallbackWithoutBuffers() {
+        BytesValue message = message(1_000);
+        BytesValue parsed = ZeroCopyMarshaller.wrap(PROTOBUF, true)
+                .parse(new ByteArrayInputStream(message.toByteArray()));
+        assertThat(parsed).isEqualTo(message);
+    }
+
+    @Test
+    void wrapServiceDefinition() {
+        MethodDescriptor<BytesValue, BytesValue> method = MethodDescriptor.<BytesValue, BytesValue> newBuilder()
+                .setType(MethodDescriptor.MethodType.UNARY)
+                .setFullMethodName(MethodDescriptor.generateFullMethodName("test.Echo", "echo"))
+                .setRequestMarshaller(PROTOBUF)
+                .setResponseMarshaller(PROTOBUF)
+                .build();
+        ServerServiceDefinition definition = ServerServiceDefinition
+                .builder(ServiceDescriptor.newBuilder("test.Echo").addMethod(method).build())
+                .addMethod(method, ServerCalls.asyncUnaryCall((request, observer) -> {
+                    observer.onNext(request);
+                    observer.onCompleted();
+                }))
+                .build();
+
+        ServerServiceDefinition wrapped = ZeroCopyMarshaller.wrap(definition, false);
+        assertThat(wrapped.getServiceDescriptor().getName()).isEqualTo("test.Echo");
+        MethodDescriptor<?, ?> wrappedMethod = wrapped.getMethod("test.Echo/echo").getMethodDescriptor();
+        assertThat(wrappedMethod.getRequestMarshaller()).isInstanceOf(ZeroCopyMarshaller.class);
+        assertThat(wrappedMethod.getResponseMarshaller()).isSameAs(PROTOBUF);
+    }
+
+    static BytesValue message(int size) {
+        byte[] bytes = new byte[size];
+        ThreadLocalRandom.current().nextBytes(bytes);
+        return BytesValue.newBuilder().setValue(ByteString.copyFrom(bytes)).build();
+    }
+
+    /**
+     * @return the serialized message in direct buffers of the given size, as received by the transport
+     */
+    static ByteBuffer[] buffers(BytesValue message, int chunkSize) {
+        byte[] bytes = message.toByteArray();
+        ByteBuffer[] buffers = new ByteBuffer[(bytes.length + chunkSize - 1) / chunkSize];
+        for (int i = 0; i < buffers.length; i++) {
+            int offset = i * chunkSize;
+            int length = Math.min(chunkSize, bytes.length - offset);
+            buffers[i] = ByteBuffer.allocateDirect(length).put(bytes, offset, length).flip();
+        }
+        return buffers;
+    }
+
+    static InputStream stream(ByteBuffer[] buffers) {
+        CompositeReadableBuffer composite = new CompositeReadableBuffer();
+        for (ByteBuffer buffer : buffers) {
+            composite.addBuffer(ReadableBuffers.wrap(buffer.duplicate()));
+        }
+        return ReadableBuffers.openStream(composite, true);
+    }
+
+    private static InputStream stream(BytesValue message, int chunkSize) {
+        return stream(buffers(message, chunkSize));
+    }
+}
@@ -0,0 +1,43 @@
+package io.quarkus.grpc.stubs;
+
+/**
+ * Bridges the demand of the {@code Multi} returned by the server-streaming and bidi methods with the readiness of the
+ * gRPC call, so that a fast producer does not buffer items unboundedly when the client is slow.
+ * <p>
+ * The items are requested by batches, only when the call is ready. The batch size doubles each time a batch is written
+ * without the call becoming not ready, up to {@code maxDemand}, and is halved each time the call stalls.
+ */
+public final class FlowControl {
+
+    private final int initialDemand;
+    private final int maxDemand;
+    private final int onReadyThreshold;
+
+    /**
+     * @param initialDemand the size of the first batch of items requested
+     * @param maxDemand the maximum size of a batch, i.e. the maximum number of items buffered by a call
+     * @param onReadyThreshold the number of bytes buffered by a call above which the call is not ready, or {@code -1} to
+     *        use the gRPC default
+     */
+    public FlowControl(int initialDemand, int maxDemand, int onReadyThreshold) {
+        if (initialDemand < 1 || maxDemand < initialDemand) {
+            throw new IllegalArgumentException("The initial demand must be positive and lower than the max demand, got "
+                    + initialDemand + " and " + maxDemand);
+        }
+        this.initialDemand = initialDemand;
+        this.maxDemand = maxDemand;
+        this.onReadyThreshold = onReadyThreshold;
+    }
+
+    public int getInitialDemand() {
+        return initialDemand;
+    }
+
+    public int getMaxDemand() {
+        return maxDemand;
+    }
+
+    public int getOnReadyThreshold() {
+        return onReadyThreshold;
+    }
+}
@@ -0,0 +1,130 @@
+package io.quarkus.grpc.stubs;
+
+import java.util.concurrent.Flow;
+import java.util.function.Consumer;
+
+import io.grpc.stub.ServerCallStreamObserver;
+import io.smallrye.mutiny.subscription.Cancellable;
+import io.smallrye.mutiny.subscription.MultiSubscriber;
+
+/**
+ * Writes the items of a {@code Multi} to a server call, requesting them by batches only when the call is ready.
+ * <p>
+ * The calls to the subscription are serialized by the monitor of this subscriber, which also guards the demand
+ * bookkeeping, so that a call becoming ready concurrently with the last item of a batch is never missed.
+ *
+ * @see FlowControl
+ */
+final class FlowControlledSubscriber<O> implements MultiSubscriber<O>, Cancellable {
+
+    private final ServerCallStreamObserver<O> response;
+    private final FlowControl flowControl;
+    private final Consumer<Throwable> onFailure;
+    private final Runnable onCompletion;
+
+    private Flow.Subscription subscription;
+    private int batch;
+    private long outstanding;
+    private boolean requested;
+    private boolean stalledDuringBatch;
+    private long stalledSince = -1;
+    private boolean done;
+
+    FlowControlledSubscriber(ServerCallStreamObserver<O> response, FlowControl flowControl,
+            Consumer<Throwable> onFailure, Runnable onCompletion) {
+        this.response = response;
+        this.flowControl = flowControl;
+        this.onFailure = onFailure;
+        this.onCompletion = onCompletion;
+        this.batch = flowControl.getInitialDemand();
+        if (flowControl.getOnReadyThreshold() > 0) {
+            response.setOnReadyThreshold(flowControl.getOnReadyThreshold());
+        }
+        // must be set during the initial invocation of the method
+        response.setOnReadyHandler(this::requestIfReady);
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        synchronized (this) {
+            if (this.subscription != null || done) {
+                subscription.cancel();
+                return;
+            }
+            this.subscription = subscription;
+        }
+        requestIfReady();
+    }
+
+    @Override
+    public void onItem(O item) {
+        response.onNext(item);
+        synchronized (this) {
+            outstanding--;
+        }
+        requestIfReady();
+    }
+
+    @Override
+    public void onFailure(Throwable failure) {
+        if (terminate()) {
+            onFailure.accept(failure);
+        }
+    }
+
+    @Override
+    public void onCompletion() {
+        if (terminate()) {
+            onCompletion.run();
+        }
+    }
+
+    @Override
+    public synchronized void cancel() {
+        if (terminate() && subscription != null) {
+            subscription.cancel();
+        }
+    }
+
+    private synchronized boolean terminate() {
+        if (done) {
+            return false;
+        }
+        done = true;
+        endStall();
+        return true;
+    }
+
+    private synchronized void requestIfReady() {
+        if (done || subscription == null || outstanding > 0) {
+            return;
+        }
+        if (!response.isReady()) {
+            // the call may not be ready yet when the method is invoked, which is not a stall
+            if (requested && stalledSince < 0) {
+                stalledSince = System.nanoTime();
+                StalledStreams.get().stallStarted();
+                stalledDuringBatch = true;
+                batch = Math.max(1, batch / 2);
+            }
+            // the on ready handler requests the next batch
+            return;
+        }
+        endStall();
+        if (requested && !stalledDuringBatch) {
+            batch = Math.min(flowControl.getMaxDemand(), batch * 2);
+        }
+        requested = true;
+        stalledDuringBatch = false;
+        outstanding = batch;
+        // may emit the items synchronously, the monitor is reentrant
+        subscription.request(batch);
+    }
+
+    private void endStall() {
+        if (stalledSince >= 0) {
+            StalledStreams.get().stallEnded(System.nanoTime() - stalledSince);
+            stalledSince = -1;
+        }
+    }
+}
@@ -18,6 +18,7 @@ public class ServerCalls {
     private static final Logger log = Logger.getLogger(ServerCalls.class);
 
     private static StreamCollector streamCollector = StreamCollector.NO_OP;
+    private static volatile FlowControl flowControl;
 
     private ServerCalls() {
     }
@@ -58,10 +59,7 @@ public static <I, O> void oneToMany(I request, StreamObserver<O> response, Strin
                 onError(response, Status.fromCode(Status.Code.INTERNAL).asException());
                 return;
             }
-            handleSubscription(returnValue.subscribe().with(
-                    response::onNext,
-                    throwable -> onError(response, throwable),
-                    () -> onCompleted(response)), response);
+            handleSubscription(subscribe(returnValue, response), response);
         } catch (Throwable throwable) {
             onError(response, throwable);
         }
@@ -95,6 +93,19 @@ public static <I, O> StreamObserver<I> manyToOne(StreamObserver<O> response,
         }
     }
 
+    private static <O> Cancellable subscribe(Multi<O> multi, StreamObserver<O> response) {
+        FlowControl flowControl = ServerCalls.flowControl;
+        if (flowControl != null && response instanceof ServerCallStreamObserver<O> serverCallResponse) {
+            return multi.subscribe().withSubscriber(new FlowControlledSubscriber<>(serverCallResponse, flowControl,
+                    failure -> onError(response, failure),
+                    () -> onCompleted(response)));
+        }
+        return multi.subscribe().with(
+                response::onNext,
+                failure -> onError(response, failure),
+                () -> onCompleted(response));
+    }
+
     private static <O> void handleSubscription(Cancellable cancellable, StreamObserver<O> response) {
         if (response instanceof ServerCallStreamObserver) {
             ServerCallStreamObserver<O> serverCallResponse = (ServerCallStreamObserver<O>) response;
@@ -119,10 +130,7 @@ public static <I, O> StreamObserver<I> manyToMany(StreamObserver<O> response,
                 onError(response, Status.fromCode(Status.Code.INTERNAL).asException());
                 return null;
             }
-            handleSubscription(multi.subscribe().with(
-                    response::onNext,
-                    failure -> onError(response, failure),
-                    () -> onCompleted(response)), response);
+            handleSubscription(subscribe(multi, response), response);
 
             return pump;
         } catch (Throwable throwable) {
@@ -188,6 +196,14 @@ private static void trySetCompression(StreamObserver<?> response, String compres
         }
     }
 
+    /**
+     * @param flowControl the flow control of the server-streaming and bidi methods, or {@code null} to request all the
+     *        items of the returned {@code Multi} regardless of the readiness of the call
+     */
+    public static void setFlowControl(FlowControl flowControl) {
+        ServerCalls.flowControl = flowControl;
+    }
+
     // for dev mode only!
 
     public static void setStreamCollector(StreamCollector collector) {
@@ -0,0 +1,56 @@
+package io.quarkus.grpc.stubs;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Statistics about the server streams waiting for the client to consume the items already sent, when
+ * {@linkplain FlowControl flow control} is enabled.
+ */
+public final class StalledStreams {
+
+    private static final StalledStreams INSTANCE = new StalledStreams();
+
+    private final AtomicInteger current = new AtomicInteger();
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalTime = new LongAdder();
+
+    private StalledStreams() {
+    }
+
+    public static StalledStreams get() {
+        return INSTANCE;
+    }
+
+    void stallStarted() {
+        current.incrementAndGet();
+        count.increment();
+    }
+
+    void stallEnded(long nanos) {
+        current.decrementAndGet();
+        totalTime.add(nanos);
+    }
+
+    /**
+     * @return the number of streams currently stalled
+     */
+    public int getCurrent() {
+        return current.get();
+    }
+
+    /**
+     * @return the number of times a stream stalled
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * @return the total time the streams spent stalled, not including the current stalls
+     */
+    public double getTotalTime(TimeUnit unit) {
+        return (double) totalTime.sum() / unit.toNanos(1);
+    }
+}
@@ -24,6 +24,8 @@ private static DotName createConstant(String fqcn) {
             "io.quarkus.hibernate.orm.runtime.tenant.TenantConnectionResolver");
     public static final DotName TENANT_RESOLVER = createConstant("io.quarkus.hibernate.orm.runtime.tenant.TenantResolver");
 
+    public static final DotName CACHE_MANAGER = createConstant("io.quarkus.cache.CacheManager");
+
     public static final DotName STATIC_METAMODEL = createConstant("jakarta.persistence.metamodel.StaticMetamodel");
 
     public static final DotName QUARKUS_PERSISTENCE_UNIT = createConstant("io.quarkus.hibernate.orm.PersistenceUnit");
@@ -44,6 +46,10 @@ private static DotName createConstant(String fqcn) {
     public static final DotName EMBEDDED = createConstant("jakarta.persistence.Embedded");
     public static final DotName EMBEDDED_ID = createConstant("jakarta.persistence.EmbeddedId");
     public static final DotName ELEMENT_COLLECTION = createConstant("jakarta.persistence.ElementCollection");
+    public static final DotName JPA_NAMED_QUERY = createConstant("jakarta.persistence.NamedQuery");
+    public static final DotName JPA_NAMED_QUERIES = createConstant("jakarta.persistence.NamedQueries");
+    public static final DotName HIBERNATE_NAMED_QUERY = createConstant("org.hibernate.annotations.NamedQuery");
+    public static final DotName HIBERNATE_NAMED_QUERIES = createConstant("org.hibernate.annotations.NamedQueries");
     public static final DotName HIBERNATE_PROXY = createConstant("org.hibernate.proxy.HibernateProxy");
     public static final DotName TYPE = createConstant("org.hibernate.annotations.Type");
     public static final DotName INJECT_SERVICE = createConstant("org.hibernate.service.spi.InjectService");
@@ -210,6 +210,12 @@ public interface HibernateOrmConfigPersistenceUnit {
     @WithDefault("true")
     boolean secondLevelCachingEnabled();
 
+    /**
+     * Second-level cache storage configuration.
+     */
+    @ConfigDocSection
+    HibernateOrmConfigPersistenceUnitSecondLevelCaching secondLevelCaching();
+
     /**
      * Bean Validation configuration.
      */
@@ -262,6 +268,7 @@ default boolean isAnyPropertySet() {
                 jdbc().isAnyPropertySet() ||
                 !cache().isEmpty() ||
                 !secondLevelCachingEnabled() ||
+                secondLevelCaching().isAnyPropertySet() ||
                 multitenant().isPresent() ||
                 multitenantSchemaDatasource().isPresent() ||
                 fetch().isAnyPropertySet() ||
@@ -638,10 +645,28 @@ enum NullOrdering {
         @WithDefault("false")
         boolean failOnPaginationOverCollectionFetch();
 
+        /**
+         * Whether HQL queries known at build time should be precompiled.
+         *
+         * This includes named queries, and the queries generated by Panache for each Panache entity
+         * and each entity of a Panache repository.
+         * Those queries are parsed at build time,
+         * then interpreted when the persistence unit starts,
+         * so that their interpretation is already in the query plan cache when the application serves its first requests.
+         *
+         * Queries that cannot be precompiled are reported in the logs,
+         * and will simply be interpreted on first use.
+         *
+         * @asciidoclet
+         */
+        @WithDefault("true")
+        boolean precompile();
+
         default boolean isAnyPropertySet() {
             return queryPlanCacheMaxSize() != DEFAULT_QUERY_PLAN_CACHE_MAX_SIZE
                     || defaultNullOrdering() != NullOrdering.NONE
-                    || !inClauseParameterPadding();
+                    || !inClauseParameterPadding()
+                    || !precompile();
         }
     }
 
@@ -727,6 +752,99 @@ interface HibernateOrmConfigPersistenceUnitCacheMemory {
         OptionalLong objectCount();
     }
 
+    @ConfigGroup
+    interface HibernateOrmConfigPersistenceUnitSecondLevelCaching {
+        /**
+         * Where the entries of the second-level cache are stored.
+         *
+         * @asciidoclet
+         */
+        @WithDefault("local")
+        SecondLevelCachingBackend backend();
+
+        /**
+         * The name of the cache storing the second-level cache entries when the backend is `quarkus-cache`.
+         *
+         * The cache is a regular cache of the Quarkus cache extension, so its expiration and backend specific settings
+         * are configured through the `quarkus.cache` properties.
+         *
+         * @asciidoclet
+         */
+        @ConfigDocDefault("`hibernate-orm` for the default persistence unit, `hibernate-orm-<persistence unit name>` otherwise")
+        Optional<@WithConverter(TrimmedStringConverter.class) String> cacheName();
+
+        /**
+         * The near cache configuration, used when the backend is `quarkus-cache`.
+         */
+        HibernateOrmConfigPersistenceUnitNearCache nearCache();
+
+        /**
+         * The Redis pub/sub channel used to tell the other application instances which entries changed,
+         * so that they drop them from their near cache.
+         *
+         * Requires the `quarkus-redis-cache` extension; the Redis client of the cache extension is used.
+         * Mandatory when the near cache is enabled.
+         *
+         * @asciidoclet
+         */
+        Optional<@WithConverter(TrimmedStringConverter.class) String> invalidationChannel();
+
+        default boolean isAnyPropertySet() {
+            return backend() != SecondLevelCachingBackend.LOCAL
+                    || cacheName().isPresent()
+                    || nearCache().isAnyPropertySet()
+                    || invalidationChannel().isPresent();
+        }
+    }
+
+    @ConfigGroup
+    interface HibernateOrmConfigPersistenceUnitNearCache {
+        /**
+         * Whether recently used entries are also kept in memory, in each application instance.
+         *
+         * The near cache requires an `invalidation-channel`, so that the other application instances drop the entries
+         * changed by this one.
+         * The size and idle expiration of the near cache of each region follow the
+         * `quarkus.hibernate-orm.cache."region".memory.object-count` and
+         * `quarkus.hibernate-orm.cache."region".expiration.max-idle` properties.
+         *
+         * @asciidoclet
+         */
+        @WithDefault("false")
+        boolean enabled();
+
+        /**
+         * The maximum time an entry is kept in the near cache after it was written.
+         *
+         * This bounds how long an application instance may read an entry that was changed by another instance,
+         * should the invalidation message be lost.
+         *
+         * @asciidoclet
+         */
+        @WithDefault("60S")
+        Duration expireAfterWrite();
+
+        default boolean isAnyPropertySet() {
+            return enabled() || !expireAfterWrite().equals(Duration.ofSeconds(60));
+        }
+    }
+
+    enum SecondLevelCachingBackend {
+        /**
+         * Entries are stored in memory, in each application instance.
+         *
+         * @asciidoclet
+         */
+        LOCAL,
+        /**
+         * Entries are stored in a cache of the Quarkus cache extension, e.g. a Redis or Infinispan cache shared by all
+         * application instances.
+         *
+         * @asciidoclet
+         */
+        QUARKUS_CACHE
+    }
+
     @ConfigGroup
     interface HibernateOrmConfigPersistenceUnitFetch {
         /**
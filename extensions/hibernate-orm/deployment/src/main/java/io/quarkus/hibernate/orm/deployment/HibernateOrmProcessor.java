@@ -85,6 +85,7 @@
 import io.quarkus.arc.deployment.staticmethods.InterceptedStaticMethodsTransformersRegisteredBuildItem;
 import io.quarkus.arc.processor.DotNames;
 import io.quarkus.builder.BuildException;
+import io.quarkus.cache.deployment.spi.AdditionalCacheNameBuildItem;
 import io.quarkus.datasource.common.runtime.DataSourceUtil;
 import io.quarkus.datasource.common.runtime.DatabaseKind;
 import io.quarkus.deployment.Capabilities;
@@ -133,6 +134,8 @@
 import io.quarkus.hibernate.orm.deployment.spi.AdditionalJpaModelBuildItem;
 import io.quarkus.hibernate.orm.deployment.spi.DatabaseKindDialectBuildItem;
 import io.quarkus.hibernate.orm.deployment.spi.SqlLoadScriptDefaultBuildItem;
+import io.quarkus.hibernate.orm.deployment.util.HibernateProcessorUtil;
+import io.quarkus.hibernate.orm.deployment.util.QueryPrecompilationUtil;
 import io.quarkus.hibernate.orm.dev.HibernateOrmDevIntegrator;
 import io.quarkus.hibernate.orm.runtime.HibernateOrmPersistenceUnitProviderHelper;
 import io.quarkus.hibernate.orm.runtime.HibernateOrmRecorder;
@@ -244,6 +247,22 @@ void registerHibernateOrmMetadataForCoreDialects(
                 Set.of("org.hibernate.dialect.PostgreSQLDialect")));
     }
 
+    @BuildStep
+    void collectNamedQueriesForPrecompilation(JpaModelIndexBuildItem indexBuildItem,
+            BuildProducer<PrecompiledQueryBuildItem> precompiledQueries) {
+        IndexView index = indexBuildItem.getIndex();
+        for (DotName annotationName : List.of(ClassNames.JPA_NAMED_QUERY, ClassNames.HIBERNATE_NAMED_QUERY)) {
+            for (AnnotationInstance namedQuery : index.getAnnotationsWithRepeatable(annotationName, index)) {
+                if (namedQuery.target().kind() != Kind.CLASS) {
+                    // e.g. named queries declared on packages: we don't know which persistence units they belong to
+                    continue;
+                }
+                precompiledQueries.produce(new PrecompiledQueryBuildItem(namedQuery.target().asClass().name().toString(),
+                        namedQuery.value("query").asString()));
+            }
+        }
+    }
+
     @BuildStep
     void checkTransactionsSupport(Capabilities capabilities, BuildProducer<ValidationErrorBuildItem> validationErrors) {
         // JTA is necessary for blocking Hibernate ORM but not necessarily for Hibernate Reactive
@@ -254,6 +273,61 @@ void checkTransactionsSupport(Capabilities capabilities, BuildProducer<Validatio
         }
     }
 
+    @BuildStep
+    void configureSecondLevelCachingBackend(HibernateOrmConfig hibernateOrmConfig, Capabilities capabilities,
+            BuildProducer<AdditionalCacheNameBuildItem> cacheNames,
+            BuildProducer<UnremovableBeanBuildItem> unremovableBeans,
+            BuildProducer<ValidationErrorBuildItem> validationErrors) {
+        boolean sharedCacheUsed = false;
+        for (Entry<String, HibernateOrmConfigPersistenceUnit> entry : hibernateOrmConfig.persistenceUnits().entrySet()) {
+            String persistenceUnitName = entry.getKey();
+            HibernateOrmConfigPersistenceUnit persistenceUnitConfig = entry.getValue();
+            if (!persistenceUnitConfig.secondLevelCachingEnabled() || persistenceUnitConfig.secondLevelCaching()
+                    .backend() != HibernateOrmConfigPersistenceUnit.SecondLevelCachingBackend.QUARKUS_CACHE) {
+                continue;
+            }
+            if (capabilities.isMissing(Capability.CACHE)) {
+                validationErrors.produce(new ValidationErrorBuildItem(new ConfigurationException(String.format(
+                        Locale.ROOT, "Persistence unit '%s' stores its second-level cache in a Quarkus cache,"
+                                + " but the Quarkus cache extension is missing. Add one of the 'quarkus-cache',"
+                                + " 'quarkus-redis-cache' or 'quarkus-infinispan-cache' extensions, or set '%s' to 'local'.",
+                        persistenceUnitName,
+                        HibernateOrmRuntimeConfig.puPropertyKey(persistenceUnitName, "second-level-caching.backend")))));
+                continue;
+            }
+            if (persistenceUnitConfig.secondLevelCaching().nearCache().enabled()
+                    && persistenceUnitConfig.secondLevelCaching().invalidationChannel().isEmpty()) {
+                validationErrors.produce(new ValidationErrorBuildItem(new ConfigurationException(String.format(
+                        Locale.ROOT, "Persistence unit '%s' keeps second-level cache entries in a near cache,"
+                                + " but no invalidation channel is configured: the other application instances would"
+                                + " keep reading the entries changed by this one. Set '%s', or set '%s' to 'false'.",
+                        persistenceUnitName,
+                        HibernateOrmRuntimeConfig.puPropertyKey(persistenceUnitName,
+                                "second-level-caching.invalidation-channel"),
+                        HibernateOrmRuntimeConfig.puPropertyKey(persistenceUnitName,
+                                "second-level-caching.near-cache.enabled")))));
+                continue;
+            }
+            if (persistenceUnitConfig.secondLevelCaching().invalidationChannel().isPresent()
+                    && capabilities.isMissing(Capability.REDIS_CLIENT)) {
+                validationErrors.produce(new ValidationErrorBuildItem(new ConfigurationException(String.format(
+                        Locale.ROOT, "Persistence unit '%s' sends second-level cache invalidation messages through Redis,"
+                                + " but the 'quarkus-redis-cache' extension is missing. Add it, or unset '%s'.",
+                        persistenceUnitName,
+                        HibernateOrmRuntimeConfig.puPropertyKey(persistenceUnitName,
+                                "second-level-caching.invalidation-channel")))));
+                continue;
+            }
+            sharedCacheUsed = true;
+            cacheNames.produce(new AdditionalCacheNameBuildItem(
+                    HibernateProcessorUtil.secondLevelCachingCacheName(persistenceUnitName, persistenceUnitConfig)));
+        }
+        if (sharedCacheUsed) {
+            // retrieved programmatically when the session factory starts
+            unremovableBeans.produce(UnremovableBeanBuildItem.beanTypes(ClassNames.CACHE_MANAGER));
+        }
+    }
+
     @BuildStep
     void includeArchivesHostingEntityPackagesInIndex(HibernateOrmConfig hibernateOrmConfig,
             BuildProducer<AdditionalApplicationArchiveMarkerBuildItem> additionalApplicationArchiveMarkers) {
@@ -593,6 +667,7 @@ public void build(RecorderContext recorderContext, HibernateOrmRecorder recorder
             HibernateOrmConfig hibernateOrmConfig,
             List<PersistenceUnitDescriptorBuildItem> persistenceUnitDescriptorBuildItems,
             List<HibernateOrmIntegrationStaticConfiguredBuildItem> integrationBuildItems,
+            List<PrecompiledQueryBuildItem> precompiledQueryBuildItems,
             BuildProducer<BeanContainerListenerBuildItem> beanContainerListener,
             BuildProducer<BeanValidationTraversableResolverBuildItem> beanValidationTraversableResolver,
             LaunchModeBuildItem launchMode) throws Exception {
@@ -634,9 +709,17 @@ public void build(RecorderContext recorderContext, HibernateOrmRecorder recorder
 
         List<QuarkusPersistenceUnitDefinition> finalStagePUDescriptors = new ArrayList<>();
         for (PersistenceUnitDescriptorBuildItem pud : persistenceUnitDescriptorBuildItems) {
+            HibernateOrmConfigPersistenceUnit persistenceUnitConfig = hibernateOrmConfig.persistenceUnits()
+                    .get(pud.getPersistenceUnitName());
+            // Persistence units defined in persistence.xml have no Quarkus configuration: precompile by default
+            List<String> precompiledQueries = persistenceUnitConfig == null || persistenceUnitConfig.query().precompile()
+                    ? QueryPrecompilationUtil.queriesToPrecompile(pud.getPersistenceUnitName(), pud.getManagedClassNames(),
+                            precompiledQueryBuildItems)
+                    : Collections.emptyList();
             finalStagePUDescriptors.add(
                     pud.asOutputPersistenceUnitDefinition(integrationStaticDescriptors
-                            .getOrDefault(pud.getPersistenceUnitName(), Collections.emptyList())));
+                            .getOrDefault(pud.getPersistenceUnitName(), Collections.emptyList()),
+                            precompiledQueries));
         }
 
         if (hasXmlMappings(persistenceUnitDescriptorBuildItems)) {
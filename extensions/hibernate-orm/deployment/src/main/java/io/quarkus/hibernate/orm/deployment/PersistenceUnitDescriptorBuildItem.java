@@ -83,9 +83,10 @@ public boolean isHibernateValidatorPresent() {
     }
 
     public QuarkusPersistenceUnitDefinition asOutputPersistenceUnitDefinition(
-            List<HibernateOrmIntegrationStaticDescriptor> integrationStaticDescriptors) {
+            List<HibernateOrmIntegrationStaticDescriptor> integrationStaticDescriptors,
+            List<String> precompiledQueries) {
         return new QuarkusPersistenceUnitDefinition(descriptor, config,
                 xmlMappings, fromPersistenceXml, isHibernateValidatorPresent, jsonMapper, xmlMapper,
-                integrationStaticDescriptors);
+                integrationStaticDescriptors, precompiledQueries);
     }
 }
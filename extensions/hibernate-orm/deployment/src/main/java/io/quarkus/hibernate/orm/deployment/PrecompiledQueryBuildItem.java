@@ -0,0 +1,38 @@
+package io.quarkus.hibernate.orm.deployment;
+
+import java.util.Objects;
+
+import io.quarkus.builder.item.MultiBuildItem;
+
+/**
+ * An HQL query known at build time, e.g. a named query or a query generated by Panache,
+ * that should be parsed at build time and interpreted when the persistence units owning the given entity start,
+ * so that its interpretation is already in the query plan cache on first use.
+ *
+ * @see HibernateOrmConfigPersistenceUnit.HibernateOrmConfigPersistenceUnitQuery#precompile()
+ */
+public final class PrecompiledQueryBuildItem extends MultiBuildItem {
+
+    private final String entityClassName;
+    private final String query;
+
+    /**
+     * @param entityClassName The name of the entity class the query relates to,
+     *        used to determine the persistence units the query should be precompiled for.
+     * @param query The HQL query.
+     */
+    public PrecompiledQueryBuildItem(String entityClassName, String query) {
+        Objects.requireNonNull(entityClassName);
+        Objects.requireNonNull(query);
+        this.entityClassName = entityClassName;
+        this.query = query;
+    }
+
+    public String getEntityClassName() {
+        return entityClassName;
+    }
+
+    public String getQuery() {
+        return query;
+    }
+}
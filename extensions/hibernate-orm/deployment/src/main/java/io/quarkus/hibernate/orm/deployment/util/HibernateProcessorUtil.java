@@ -43,6 +43,8 @@
 import io.quarkus.hibernate.orm.deployment.HibernateConfigUtil;
 import io.quarkus.hibernate.orm.deployment.HibernateOrmConfig;
 import io.quarkus.hibernate.orm.deployment.HibernateOrmConfigPersistenceUnit;
+import io.quarkus.hibernate.orm.deployment.HibernateOrmConfigPersistenceUnit.HibernateOrmConfigPersistenceUnitSecondLevelCaching;
+import io.quarkus.hibernate.orm.deployment.HibernateOrmConfigPersistenceUnit.SecondLevelCachingBackend;
 import io.quarkus.hibernate.orm.deployment.spi.DatabaseKindDialectBuildItem;
 import io.quarkus.hibernate.orm.deployment.spi.SqlLoadScriptDefaultBuildItem;
 import io.quarkus.hibernate.orm.runtime.HibernateOrmRuntimeConfig;
@@ -51,6 +53,7 @@
 import io.quarkus.hibernate.orm.runtime.customized.BuiltinFormatMapperBehaviour;
 import io.quarkus.hibernate.orm.runtime.customized.FormatMapperKind;
 import io.quarkus.hibernate.orm.runtime.customized.JsonFormatterCustomizationCheck;
+import io.quarkus.hibernate.orm.runtime.service.sharedcache.SharedCacheSettings;
 import io.quarkus.runtime.LaunchMode;
 import io.quarkus.runtime.configuration.ConfigurationException;
 
@@ -467,6 +470,21 @@ private static void configureCaching(QuarkusPersistenceUnitDescriptor descriptor
             for (Map.Entry<String, String> entry : cacheConfigEntries.entrySet()) {
                 descriptor.getProperties().setProperty(entry.getKey(), entry.getValue());
             }
+            HibernateOrmConfigPersistenceUnitSecondLevelCaching secondLevelCaching = config.secondLevelCaching();
+            if (secondLevelCaching.backend() == SecondLevelCachingBackend.QUARKUS_CACHE) {
+                // entries are serialized, so storing references to immutable entities brings nothing
+                p.put(AvailableSettings.USE_DIRECT_REFERENCE_CACHE_ENTRIES, Boolean.FALSE);
+                p.setProperty(SharedCacheSettings.CACHE_NAME, secondLevelCachingCacheName(descriptor.getName(), config));
+                p.setProperty(SharedCacheSettings.NEAR_CACHE_ENABLED,
+                        String.valueOf(secondLevelCaching.nearCache().enabled()));
+                p.setProperty(SharedCacheSettings.NEAR_CACHE_EXPIRE_AFTER_WRITE,
+                        String.valueOf(secondLevelCaching.nearCache().expireAfterWrite().toMillis()));
+                secondLevelCaching.invalidationChannel()
+                        .ifPresent(channel -> p.setProperty(SharedCacheSettings.INVALIDATION_CHANNEL, channel));
+                // entries are deserialized with an allow list, which includes the entity and embeddable classes
+                p.setProperty(SharedCacheSettings.DESERIALIZATION_ALLOWED_CLASSES,
+                        String.join(",", descriptor.getManagedClassNames()));
+            }
         } else {
             Properties p = descriptor.getProperties();
             p.put(AvailableSettings.USE_DIRECT_REFERENCE_CACHE_ENTRIES, Boolean.FALSE);
@@ -476,6 +494,11 @@ private static void configureCaching(QuarkusPersistenceUnitDescriptor descriptor
         }
     }
 
+    public static String secondLevelCachingCacheName(String persistenceUnitName, HibernateOrmConfigPersistenceUnit config) {
+        return config.secondLevelCaching().cacheName()
+                .orElseGet(() -> SharedCacheSettings.defaultCacheName(persistenceUnitName));
+    }
+
     private static void configureValidation(QuarkusPersistenceUnitDescriptor descriptor,
             HibernateOrmConfigPersistenceUnit config) {
         if (!config.validation().enabled()) {
@@ -0,0 +1,85 @@
+package io.quarkus.hibernate.orm.deployment.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.antlr.v4.runtime.BailErrorStrategy;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
+import org.hibernate.grammars.hql.HqlLexer;
+import org.hibernate.grammars.hql.HqlParser;
+import org.hibernate.query.hql.internal.HqlParseTreeBuilder;
+import org.jboss.logging.Logger;
+
+import io.quarkus.hibernate.orm.deployment.PrecompiledQueryBuildItem;
+
+/**
+ * Selects the HQL queries to precompile for a given persistence unit.
+ * <p>
+ * Queries are only parsed at build time: their semantic interpretation requires the runtime metamodel,
+ * so it happens when the persistence unit starts,
+ * see {@link io.quarkus.hibernate.orm.runtime.observers.SessionFactoryObserverForQueryPrecompilation}.
+ */
+public final class QueryPrecompilationUtil {
+
+    private static final Logger LOG = Logger.getLogger(QueryPrecompilationUtil.class);
+
+    private QueryPrecompilationUtil() {
+    }
+
+    /**
+     * @param persistenceUnitName The name of the persistence unit.
+     * @param managedClassNames The classes managed by the persistence unit.
+     * @param queryBuildItems All the queries that could be precompiled.
+     * @return The queries related to classes managed by the persistence unit and that could be parsed,
+     *         in a stable order and without duplicates.
+     */
+    public static List<String> queriesToPrecompile(String persistenceUnitName, Collection<String> managedClassNames,
+            List<PrecompiledQueryBuildItem> queryBuildItems) {
+        Set<String> queries = new LinkedHashSet<>();
+        for (PrecompiledQueryBuildItem queryBuildItem : queryBuildItems) {
+            if (managedClassNames.contains(queryBuildItem.getEntityClassName())) {
+                queries.add(queryBuildItem.getQuery());
+            }
+        }
+
+        List<String> result = new ArrayList<>(queries.size());
+        List<String> failures = new ArrayList<>();
+        for (String query : queries) {
+            String failure = checkSyntax(query);
+            if (failure == null) {
+                result.add(query);
+            } else {
+                failures.add(query + " (" + failure + ")");
+            }
+        }
+        if (!failures.isEmpty()) {
+            LOG.warnf("Persistence unit '%s': %d HQL queries could not be precompiled,"
+                    + " they will be interpreted on first use:\n\t- %s",
+                    persistenceUnitName, failures.size(), String.join("\n\t- ", failures));
+        }
+        LOG.debugf("Persistence unit '%s': %d HQL queries will be precompiled", persistenceUnitName, result.size());
+        return result;
+    }
+
+    /**
+     * @return {@code null} if the query is syntactically valid, a description of the problem otherwise.
+     */
+    private static String checkSyntax(String query) {
+        try {
+            HqlLexer lexer = HqlParseTreeBuilder.INSTANCE.buildHqlLexer(query);
+            HqlParser parser = HqlParseTreeBuilder.INSTANCE.buildHqlParser(query, lexer);
+            lexer.removeErrorListeners();
+            parser.removeErrorListeners();
+            parser.setErrorHandler(new BailErrorStrategy());
+            parser.statement();
+            return null;
+        } catch (ParseCancellationException e) {
+            return "syntax error";
+        } catch (RuntimeException e) {
+            return e.getMessage();
+        }
+    }
+}
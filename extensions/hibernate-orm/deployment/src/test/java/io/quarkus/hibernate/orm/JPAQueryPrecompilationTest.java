@@ -0,0 +1,58 @@
+package io.quarkus.hibernate.orm;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jakarta.inject.Inject;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.NamedQuery;
+import jakarta.transaction.Transactional;
+
+import org.hibernate.Session;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+
+public class JPAQueryPrecompilationTest {
+
+    private static final String NAMED_QUERY = "select e from PrecompiledEntity e where e.name = :name";
+
+    @RegisterExtension
+    static QuarkusUnitTest runner = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClass(PrecompiledEntity.class))
+            .withConfigurationResource("application.properties")
+            .overrideConfigKey("quarkus.hibernate-orm.statistics", "true")
+            // Named query validation would also interpret the query on startup
+            .overrideConfigKey("quarkus.hibernate-orm.unsupported-properties.\"hibernate.query.startup_check\"", "false");
+
+    @Inject
+    Session session;
+
+    @Test
+    @Transactional
+    public void namedQueryInterpretationIsCachedOnStartup() {
+        Statistics statistics = session.getSessionFactory().getStatistics();
+        long hits = statistics.getQueryPlanCacheHitCount();
+
+        assertThat(session.createSelectionQuery(NAMED_QUERY, PrecompiledEntity.class)
+                .setParameter("name", "foo")
+                .getResultList())
+                .isEmpty();
+
+        // the HQL interpretation was found in the cache
+        assertThat(statistics.getQueryPlanCacheHitCount()).isGreaterThan(hits);
+    }
+
+    @Entity(name = "PrecompiledEntity")
+    @NamedQuery(name = "PrecompiledEntity.byName", query = NAMED_QUERY)
+    public static class PrecompiledEntity {
+
+        @Id
+        public Long id;
+
+        public String name;
+    }
+}
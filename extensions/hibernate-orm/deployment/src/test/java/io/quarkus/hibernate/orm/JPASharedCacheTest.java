@@ -0,0 +1,114 @@
+package io.quarkus.hibernate.orm;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.Base64;
+import java.util.concurrent.CompletableFuture;
+
+import jakarta.inject.Inject;
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import org.hibernate.Session;
+import org.hibernate.cache.spi.CacheImplementor;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheName;
+import io.quarkus.cache.CaffeineCache;
+import io.quarkus.hibernate.orm.runtime.service.sharedcache.QuarkusCacheRegionFactory;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class JPASharedCacheTest {
+
+    private static final String ENTITY_KEY = entityKey(1L);
+
+    @RegisterExtension
+    static QuarkusUnitTest runner = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(CachedEntity.class, Payload.class))
+            .withConfigurationResource("application.properties")
+            .overrideConfigKey("quarkus.hibernate-orm.second-level-caching.backend", "quarkus-cache");
+
+    @Inject
+    Session session;
+
+    @Inject
+    @CacheName("hibernate-orm")
+    Cache cache;
+
+    @Test
+    public void entitiesAreStoredInQuarkusCache() {
+        CacheImplementor secondLevelCache = (CacheImplementor) session.getSessionFactory().getCache();
+        assertThat(secondLevelCache.getRegionFactory()).isInstanceOf(QuarkusCacheRegionFactory.class);
+
+        QuarkusTransaction.requiringNew().run(() -> session.persist(new CachedEntity(1L, "foo")));
+        assertThat(cache.as(CaffeineCache.class).keySet()).contains(ENTITY_KEY);
+
+        QuarkusTransaction.requiringNew().run(() -> session.find(CachedEntity.class, 1L).name = "bar");
+        QuarkusTransaction.requiringNew().run(() -> {
+            assertThat(secondLevelCache.containsEntity(CachedEntity.class, 1L)).isTrue();
+            assertThat(session.find(CachedEntity.class, 1L).name).isEqualTo("bar");
+        });
+
+        secondLevelCache.evictEntityData(CachedEntity.class, 1L);
+        assertThat(cache.as(CaffeineCache.class).keySet()).doesNotContain(ENTITY_KEY);
+    }
+
+    @Test
+    public void disallowedClassesAreNotDeserialized() throws IOException {
+        QuarkusTransaction.requiringNew().run(() -> session.persist(new CachedEntity(2L, "foo")));
+
+        // anything able to write to the shared cache could try to have arbitrary classes deserialized
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(new Payload());
+        }
+        cache.as(CaffeineCache.class).put(entityKey(2L),
+                CompletableFuture.completedFuture(Base64.getEncoder().encodeToString(bytes.toByteArray())));
+
+        QuarkusTransaction.requiringNew()
+                .run(() -> assertThat(session.find(CachedEntity.class, 2L).name).isEqualTo("foo"));
+        assertThat(Payload.deserialized).isFalse();
+    }
+
+    private static String entityKey(long id) {
+        return CachedEntity.class.getName() + ':' + CachedEntity.class.getName() + "#" + id;
+    }
+
+    public static class Payload implements Serializable {
+
+        static volatile boolean deserialized;
+
+        private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+            deserialized = true;
+            in.defaultReadObject();
+        }
+    }
+
+    @Entity
+    @Cacheable
+    public static class CachedEntity {
+
+        @Id
+        public Long id;
+
+        public String name;
+
+        public CachedEntity() {
+        }
+
+        public CachedEntity(Long id, String name) {
+            this.id = id;
+            this.name = name;
+        }
+    }
+}
@@ -60,6 +60,12 @@ public static RecordedState popRecordedState(String persistenceUnitName, boolean
         return persistenceUnits.recordedStates.remove(key);
     }
 
+    public static List<String> getPrecompiledQueries(String persistenceUnitName, boolean isReactive) {
+        checkJPAInitialization();
+        PersistenceUnitKey key = new PersistenceUnitKey(unitName(persistenceUnitName), isReactive);
+        return persistenceUnits.precompiledQueries.getOrDefault(key, Collections.emptyList());
+    }
+
     private static PersistenceUnits constructMetadataAdvance(
             final List<QuarkusPersistenceUnitDefinition> parsedPersistenceXmlDescriptors, Scanner scanner,
             Collection<Class<? extends Integrator>> additionalIntegrators,
@@ -67,6 +73,7 @@ private static PersistenceUnits constructMetadataAdvance(
         int size = parsedPersistenceXmlDescriptors.size();
         Map<PersistenceUnitKey, QuarkusPersistenceUnitDescriptor> units = new HashMap<>(size);
         Map<PersistenceUnitKey, RecordedState> recordedStates = new HashMap<>(size);
+        Map<PersistenceUnitKey, List<String>> precompiledQueries = new HashMap<>(size);
 
         for (QuarkusPersistenceUnitDefinition unit : parsedPersistenceXmlDescriptors) {
             PersistenceUnitKey key = new PersistenceUnitKey(unitName(unit.getName()), unit.isReactive());
@@ -80,9 +87,12 @@ private static PersistenceUnits constructMetadataAdvance(
 
             RecordedState metadata = createMetadata(unit, scanner, additionalIntegrators, proxyClassDefinitions);
             recordedStates.put(key, metadata);
+            if (unit.getPrecompiledQueries() != null && !unit.getPrecompiledQueries().isEmpty()) {
+                precompiledQueries.put(key, unit.getPrecompiledQueries());
+            }
         }
 
-        return new PersistenceUnits(units, recordedStates);
+        return new PersistenceUnits(units, recordedStates, precompiledQueries);
     }
 
     private static void checkJPAInitialization() {
@@ -111,10 +121,14 @@ private static class PersistenceUnits {
 
         private final Map<PersistenceUnitKey, RecordedState> recordedStates;
 
+        private final Map<PersistenceUnitKey, List<String>> precompiledQueries;
+
         public PersistenceUnits(final Map<PersistenceUnitKey, QuarkusPersistenceUnitDescriptor> units,
-                final Map<PersistenceUnitKey, RecordedState> recordedStates) {
+                final Map<PersistenceUnitKey, RecordedState> recordedStates,
+                final Map<PersistenceUnitKey, List<String>> precompiledQueries) {
             this.units = Collections.unmodifiableMap(units);
             this.recordedStates = recordedStates;
+            this.precompiledQueries = Collections.unmodifiableMap(precompiledQueries);
         }
     }
 
@@ -2,6 +2,7 @@
 
 import java.io.Serializable;
 import java.security.NoSuchAlgorithmException;
+import java.util.List;
 
 import javax.sql.DataSource;
 
@@ -35,12 +36,14 @@
 import io.quarkus.hibernate.orm.JsonFormat;
 import io.quarkus.hibernate.orm.XmlFormat;
 import io.quarkus.hibernate.orm.runtime.PersistenceUnitUtil;
+import io.quarkus.hibernate.orm.runtime.PersistenceUnitsHolder;
 import io.quarkus.hibernate.orm.runtime.RuntimeSettings;
 import io.quarkus.hibernate.orm.runtime.customized.BuiltinFormatMapperBehaviour;
 import io.quarkus.hibernate.orm.runtime.customized.JsonFormatterCustomizationCheck;
 import io.quarkus.hibernate.orm.runtime.migration.MultiTenancyStrategy;
 import io.quarkus.hibernate.orm.runtime.observers.QuarkusSessionFactoryObserverForDbVersionCheck;
 import io.quarkus.hibernate.orm.runtime.observers.SessionFactoryObserverForNamedQueryValidation;
+import io.quarkus.hibernate.orm.runtime.observers.SessionFactoryObserverForQueryPrecompilation;
 import io.quarkus.hibernate.orm.runtime.observers.SessionFactoryObserverForSchemaExport;
 import io.quarkus.hibernate.orm.runtime.recording.PrevalidatedQuarkusMetadata;
 import io.quarkus.hibernate.orm.runtime.tenant.HibernateCurrentTenantIdentifierResolver;
@@ -168,6 +171,14 @@ protected void populate(String persistenceUnitName, SessionFactoryOptionsBuilder
         //New in ORM 6.2:
         options.addSessionFactoryObservers(new SessionFactoryObserverForNamedQueryValidation(metadata));
 
+        // This one is specific to Quarkus
+        List<String> precompiledQueries = PersistenceUnitsHolder.getPrecompiledQueries(persistenceUnitName,
+                puDescriptor.isReactive());
+        if (!precompiledQueries.isEmpty()) {
+            options.addSessionFactoryObservers(
+                    new SessionFactoryObserverForQueryPrecompilation(persistenceUnitName, precompiledQueries));
+        }
+
         // We should avoid running schema migrations multiple times
         if (shouldApplySchemaMigration) {
             options.addSessionFactoryObservers(new SessionFactoryObserverForSchemaExport(metadata));
@@ -24,6 +24,7 @@ public final class QuarkusPersistenceUnitDefinition {
     private final Optional<FormatMapperKind> jsonMapperCreator;
     private final Optional<FormatMapperKind> xmlMapperCreator;
     private final List<HibernateOrmIntegrationStaticDescriptor> integrationStaticDescriptors;
+    private final List<String> precompiledQueries;
 
     @RecordableConstructor
     public QuarkusPersistenceUnitDefinition(QuarkusPersistenceUnitDescriptor persistenceUnitDescriptor,
@@ -33,7 +34,8 @@ public QuarkusPersistenceUnitDefinition(QuarkusPersistenceUnitDescriptor persist
             boolean hibernateValidatorPresent,
             Optional<FormatMapperKind> jsonMapperCreator,
             Optional<FormatMapperKind> xmlMapperCreator,
-            List<HibernateOrmIntegrationStaticDescriptor> integrationStaticDescriptors) {
+            List<HibernateOrmIntegrationStaticDescriptor> integrationStaticDescriptors,
+            List<String> precompiledQueries) {
         Objects.requireNonNull(persistenceUnitDescriptor);
         Objects.requireNonNull(config);
         this.persistenceUnitDescriptor = persistenceUnitDescriptor;
@@ -44,6 +46,7 @@ public QuarkusPersistenceUnitDefinition(QuarkusPersistenceUnitDescriptor persist
         this.jsonMapperCreator = jsonMapperCreator;
         this.xmlMapperCreator = xmlMapperCreator;
         this.integrationStaticDescriptors = integrationStaticDescriptors;
+        this.precompiledQueries = precompiledQueries;
     }
 
     public QuarkusPersistenceUnitDescriptor getPersistenceUnitDescriptor() {
@@ -87,4 +90,8 @@ public List<HibernateOrmIntegrationStaticDescriptor> getIntegrationStaticDescrip
         return integrationStaticDescriptors;
     }
 
+    public List<String> getPrecompiledQueries() {
+        return precompiledQueries;
+    }
+
 }
@@ -0,0 +1,56 @@
+package io.quarkus.hibernate.orm.runtime.observers;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.SessionFactoryObserver;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.query.spi.QueryEngine;
+import org.jboss.logging.Logger;
+
+/**
+ * Interprets the HQL queries collected and parsed at build time,
+ * so that their interpretation is already in the query plan cache
+ * when the application serves its first requests.
+ * <p>
+ * Interpretations are cached regardless of the expected result type,
+ * so they will be used both by typed and untyped queries.
+ */
+public class SessionFactoryObserverForQueryPrecompilation implements SessionFactoryObserver {
+
+    private static final Logger LOG = Logger.getLogger(SessionFactoryObserverForQueryPrecompilation.class);
+
+    private final String persistenceUnitName;
+    private final List<String> queries;
+
+    public SessionFactoryObserverForQueryPrecompilation(String persistenceUnitName, List<String> queries) {
+        this.persistenceUnitName = persistenceUnitName;
+        this.queries = queries;
+    }
+
+    @Override
+    public void sessionFactoryCreated(SessionFactory factory) {
+        QueryEngine queryEngine = ((SessionFactoryImplementor) factory).getQueryEngine();
+        if (!queryEngine.getInterpretationCache().isEnabled()) {
+            return;
+        }
+        long start = System.nanoTime();
+        List<String> failures = new ArrayList<>();
+        for (String query : queries) {
+            try {
+                queryEngine.interpretHql(query, null);
+            } catch (RuntimeException e) {
+                LOG.debugf(e, "Unable to precompile query %s", query);
+                failures.add(query + " (" + e.getMessage() + ")");
+            }
+        }
+        if (!failures.isEmpty()) {
+            LOG.warnf("Persistence unit '%s': %d HQL queries could not be precompiled,"
+                    + " they will be interpreted on first use:\n\t- %s",
+                    persistenceUnitName, failures.size(), String.join("\n\t- ", failures));
+        }
+        LOG.debugf("Persistence unit '%s': precompiled %d HQL queries in %d ms", persistenceUnitName,
+                queries.size() - failures.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+}
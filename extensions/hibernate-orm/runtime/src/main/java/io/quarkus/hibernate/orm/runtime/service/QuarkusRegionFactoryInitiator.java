@@ -12,6 +12,9 @@
 import org.hibernate.service.spi.ServiceRegistryImplementor;
 import org.infinispan.quarkus.hibernate.cache.QuarkusInfinispanRegionFactory;
 
+import io.quarkus.hibernate.orm.runtime.service.sharedcache.QuarkusCacheRegionFactory;
+import io.quarkus.hibernate.orm.runtime.service.sharedcache.SharedCacheSettings;
+
 public final class QuarkusRegionFactoryInitiator implements StandardServiceInitiator<RegionFactory> {
 
     public static final QuarkusRegionFactoryInitiator INSTANCE = new QuarkusRegionFactoryInitiator();
@@ -44,6 +47,10 @@ public RegionFactory initiateService(Map configurationValues, ServiceRegistryImp
             }
         }
 
+        if (configurationValues.get(SharedCacheSettings.CACHE_NAME) != null) {
+            return new QuarkusCacheRegionFactory();
+        }
+
         return new QuarkusInfinispanRegionFactory();
     }
 
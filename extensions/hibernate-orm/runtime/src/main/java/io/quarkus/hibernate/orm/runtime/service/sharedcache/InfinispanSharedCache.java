@@ -0,0 +1,45 @@
+package io.quarkus.hibernate.orm.runtime.service.sharedcache;
+
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.infinispan.runtime.InfinispanCacheImpl;
+
+/**
+ * Uses the plain get and put operations of the Infinispan cache.
+ * <p>
+ * Kept in its own class as the Infinispan cache extension is an optional dependency.
+ */
+final class InfinispanSharedCache extends SharedCache {
+
+    private static final boolean INFINISPAN_CACHE_PRESENT = isClassPresent(
+            "io.quarkus.cache.infinispan.runtime.InfinispanCacheImpl");
+
+    private final InfinispanCacheImpl infinispanCache;
+
+    InfinispanSharedCache(Cache cache) {
+        super(cache);
+        this.infinispanCache = (InfinispanCacheImpl) cache;
+    }
+
+    static boolean isInfinispanCache(Cache cache) {
+        return INFINISPAN_CACHE_PRESENT && cache instanceof InfinispanCacheImpl;
+    }
+
+    @Override
+    String get(String key) {
+        return infinispanCache.<String, String> getIfPresent(key).await().indefinitely();
+    }
+
+    @Override
+    void put(String key, String value) {
+        infinispanCache.put(key, value).await().indefinitely();
+    }
+
+    private static boolean isClassPresent(String className) {
+        try {
+            Class.forName(className, false, InfinispanSharedCache.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package io.quarkus.hibernate.orm.runtime.service.sharedcache;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.cache.CacheException;
+import org.hibernate.cache.cfg.spi.DomainDataRegionBuildingContext;
+import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.cache.spi.support.RegionFactoryTemplate;
+import org.hibernate.cache.spi.support.StorageAccess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.internal.util.config.ConfigurationHelper;
+import org.jboss.logging.Logger;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.InstanceHandle;
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheManager;
+
+/**
+ * A region factory storing the second-level cache entries in a cache of the Quarkus cache extension, so that they can be
+ * shared by all the instances of an application when using a remote backend such as Redis or Infinispan.
+ * <p>
+ * All regions of a persistence unit share the same Quarkus cache. Recently used entries of the domain data and query
+ * results regions can also be kept in a local near cache, which requires an invalidation channel: when an instance
+ * changes an entry, it publishes an invalidation message on this channel so that the other instances drop it from their
+ * near cache. The timestamps region is never near cached, as stale timestamps would lead to stale query results.
+ * <p>
+ * Like other region factories based on {@link RegionFactoryTemplate}, the read-write access strategy relies on soft locks
+ * stored in the cache, without distributed locking.
+ */
+public final class QuarkusCacheRegionFactory extends RegionFactoryTemplate {
+
+    private static final Logger LOG = Logger.getLogger(QuarkusCacheRegionFactory.class);
+
+    private static final char MESSAGE_SEPARATOR = '\n';
+
+    private final String instanceId = UUID.randomUUID().toString();
+    private final Map<String, SharedCacheStorageAccess> storageAccesses = new ConcurrentHashMap<>();
+
+    private SharedCacheSerialization serialization;
+    private SharedCache sharedCache;
+    private boolean nearCacheEnabled;
+    private Duration nearCacheExpireAfterWrite;
+    private Map<String, Object> configValues;
+    private RedisInvalidationChannel invalidationChannel;
+
+    @Override
+    protected void prepareForUse(SessionFactoryOptions settings, Map<String, Object> configValues) {
+        this.configValues = configValues;
+        String allowedClasses = ConfigurationHelper.getString(SharedCacheSettings.DESERIALIZATION_ALLOWED_CLASSES,
+                configValues, "");
+        this.serialization = new SharedCacheSerialization(Thread.currentThread().getContextClassLoader(),
+                allowedClasses.isEmpty() ? Set.of() : Set.of(allowedClasses.split(",")));
+
+        String cacheName = ConfigurationHelper.getString(SharedCacheSettings.CACHE_NAME, configValues);
+        InstanceHandle<CacheManager> cacheManager = Arc.container().instance(CacheManager.class);
+        if (!cacheManager.isAvailable()) {
+            throw new CacheException("Unable to find the cache manager of the Quarkus cache extension");
+        }
+        Cache cache = cacheManager.get().getCache(cacheName)
+                .orElseThrow(() -> new CacheException("Unable to find second-level cache " + cacheName));
+        this.sharedCache = SharedCache.of(cache);
+
+        this.nearCacheEnabled = ConfigurationHelper.getBoolean(SharedCacheSettings.NEAR_CACHE_ENABLED, configValues, false);
+        this.nearCacheExpireAfterWrite = Duration.ofMillis(
+                ConfigurationHelper.getLong(SharedCacheSettings.NEAR_CACHE_EXPIRE_AFTER_WRITE, configValues, 60_000));
+
+        String channel = ConfigurationHelper.getString(SharedCacheSettings.INVALIDATION_CHANNEL, configValues);
+        if (nearCacheEnabled) {
+            if (channel == null) {
+                // other instances would keep serving the entries changed by this one until they expire
+                throw new CacheException("The second-level cache near cache requires an invalidation channel, set "
+                        + SharedCacheSettings.INVALIDATION_CHANNEL);
+            }
+            this.invalidationChannel = new RedisInvalidationChannel(channel, this::onInvalidationMessage);
+        }
+    }
+
+    @Override
+    protected void releaseFromUse() {
+        if (invalidationChannel != null) {
+            invalidationChannel.close();
+            invalidationChannel = null;
+        }
+        for (SharedCacheStorageAccess storageAccess : storageAccesses.values()) {
+            storageAccess.release();
+        }
+        storageAccesses.clear();
+        sharedCache = null;
+    }
+
+    @Override
+    public boolean isMinimalPutsEnabledByDefault() {
+        // puts are remote calls
+        return true;
+    }
+
+    @Override
+    protected DomainDataStorageAccess createDomainDataStorageAccess(DomainDataRegionConfig regionConfig,
+            DomainDataRegionBuildingContext buildingContext) {
+        return createStorageAccess(regionConfig.getRegionName(), nearCacheEnabled);
+    }
+
+    @Override
+    protected StorageAccess createQueryResultsRegionStorageAccess(String regionName,
+            SessionFactoryImplementor sessionFactory) {
+        return createStorageAccess(regionName, nearCacheEnabled);
+    }
+
+    @Override
+    protected StorageAccess createTimestampsRegionStorageAccess(String regionName,
+            SessionFactoryImplementor sessionFactory) {
+        return createStorageAccess(regionName, false);
+    }
+
+    private SharedCacheStorageAccess createStorageAccess(String regionName, boolean nearCached) {
+        verifyStarted();
+        SharedCacheStorageAccess storageAccess = new SharedCacheStorageAccess(regionName, sharedCache,
+                nearCached ? createNearCache(regionName) : null, this);
+        storageAccesses.put(regionName, storageAccess);
+        return storageAccess;
+    }
+
+    private com.github.benmanes.caffeine.cache.Cache<String, Object> createNearCache(String regionName) {
+        String prefix = SharedCacheSettings.REGION_PREFIX + regionName;
+        Caffeine<Object, Object> builder = Caffeine.newBuilder()
+                .maximumSize(ConfigurationHelper.getLong(prefix + SharedCacheSettings.MEMORY_OBJECT_COUNT, configValues,
+                        SharedCacheSettings.DEFAULT_NEAR_CACHE_OBJECT_COUNT))
+                .expireAfterWrite(nearCacheExpireAfterWrite);
+        long maxIdleSeconds = ConfigurationHelper.getLong(prefix + SharedCacheSettings.EXPIRATION_MAX_IDLE, configValues, -1);
+        if (maxIdleSeconds > 0) {
+            builder.expireAfterAccess(Duration.ofSeconds(maxIdleSeconds));
+        }
+        return builder.build();
+    }
+
+    SharedCacheSerialization getSerialization() {
+        return serialization;
+    }
+
+    /**
+     * Tells the other instances to drop an entry, or all entries if {@code sharedKey} is {@code null}, of the given region
+     * from their near cache.
+     */
+    void invalidateRemotely(String regionName, String sharedKey) {
+        if (invalidationChannel == null) {
+            return;
+        }
+        invalidationChannel.publish(instanceId + MESSAGE_SEPARATOR + regionName + MESSAGE_SEPARATOR
+                + (sharedKey == null ? "" : sharedKey));
+    }
+
+    private void onInvalidationMessage(String message) {
+        int regionStart = message.indexOf(MESSAGE_SEPARATOR);
+        int keyStart = regionStart < 0 ? -1 : message.indexOf(MESSAGE_SEPARATOR, regionStart + 1);
+        if (keyStart < 0) {
+            LOG.debugf("Ignoring malformed second-level cache invalidation message: %s", message);
+            return;
+        }
+        if (message.regionMatches(0, instanceId, 0, regionStart) && regionStart == instanceId.length()) {
+            // sent by this instance
+            return;
+        }
+        SharedCacheStorageAccess storageAccess = storageAccesses.get(message.substring(regionStart + 1, keyStart));
+        if (storageAccess != null) {
+            String sharedKey = message.substring(keyStart + 1);
+            storageAccess.invalidateLocally(sharedKey.isEmpty() ? null : sharedKey);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package io.quarkus.hibernate.orm.runtime.service.sharedcache;
+
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import org.eclipse.microprofile.config.ConfigProvider;
+import org.jboss.logging.Logger;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.InstanceHandle;
+import io.quarkus.redis.client.RedisClientName;
+import io.quarkus.redis.datasource.ReactiveRedisDataSource;
+import io.quarkus.redis.datasource.pubsub.ReactivePubSubCommands;
+import io.quarkus.redis.datasource.pubsub.ReactivePubSubCommands.ReactiveRedisSubscriber;
+
+/**
+ * Sends and receives near cache invalidation messages through Redis pub/sub, using the Redis client of the Redis cache
+ * extension.
+ * <p>
+ * Messages are published without waiting for the acknowledgement: a lost message only means that other instances keep a
+ * stale near cache entry until it expires.
+ */
+final class RedisInvalidationChannel {
+
+    private static final Logger LOG = Logger.getLogger(RedisInvalidationChannel.class);
+
+    private final String channel;
+    private final ReactivePubSubCommands<String> pubSub;
+    private final ReactiveRedisSubscriber subscriber;
+
+    RedisInvalidationChannel(String channel, Consumer<String> onMessage) {
+        this.channel = channel;
+        this.pubSub = dataSource().pubsub(String.class);
+        this.subscriber = pubSub.subscribe(channel, onMessage).await().indefinitely();
+    }
+
+    private static ReactiveRedisDataSource dataSource() {
+        Optional<String> clientName = ConfigProvider.getConfig()
+                .getOptionalValue("quarkus.cache.redis.client-name", String.class);
+        InstanceHandle<ReactiveRedisDataSource> handle = clientName.isPresent()
+                ? Arc.container().instance(ReactiveRedisDataSource.class, RedisClientName.Literal.of(clientName.get()))
+                : Arc.container().instance(ReactiveRedisDataSource.class);
+        if (!handle.isAvailable()) {
+            throw new IllegalStateException("Unable to find the Redis data source used by the Redis cache extension");
+        }
+        return handle.get();
+    }
+
+    void publish(String message) {
+        pubSub.publish(channel, message).subscribe().with(ignored -> {
+        }, failure -> LOG.warnf(failure, "Unable to publish a second-level cache invalidation message on channel %s",
+                channel));
+    }
+
+    void close() {
+        try {
+            subscriber.unsubscribe().await().indefinitely();
+        } catch (RuntimeException e) {
+            LOG.debugf(e, "Unable to unsubscribe from channel %s", channel);
+        }
+    }
+}
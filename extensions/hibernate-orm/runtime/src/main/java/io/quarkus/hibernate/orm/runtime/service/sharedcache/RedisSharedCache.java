@@ -0,0 +1,44 @@
+package io.quarkus.hibernate.orm.runtime.service.sharedcache;
+
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.redis.runtime.RedisCache;
+
+/**
+ * Uses the plain get and set operations of the Redis cache.
+ * <p>
+ * Kept in its own class as the Redis cache extension is an optional dependency.
+ */
+final class RedisSharedCache extends SharedCache {
+
+    private static final boolean REDIS_CACHE_PRESENT = isClassPresent("io.quarkus.cache.redis.runtime.RedisCache");
+
+    private final RedisCache redisCache;
+
+    RedisSharedCache(Cache cache) {
+        super(cache);
+        this.redisCache = (RedisCache) cache;
+    }
+
+    static boolean isRedisCache(Cache cache) {
+        return REDIS_CACHE_PRESENT && cache instanceof RedisCache;
+    }
+
+    @Override
+    String get(String key) {
+        return redisCache.getOrNull(key, String.class).await().indefinitely();
+    }
+
+    @Override
+    void put(String key, String value) {
+        redisCache.put(key, value).await().indefinitely();
+    }
+
+    private static boolean isClassPresent(String className) {
+        try {
+            Class.forName(className, false, RedisSharedCache.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+}
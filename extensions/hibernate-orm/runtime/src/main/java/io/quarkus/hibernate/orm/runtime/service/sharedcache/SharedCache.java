@@ -0,0 +1,83 @@
+package io.quarkus.hibernate.orm.runtime.service.sharedcache;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import org.hibernate.cache.CacheException;
+
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CaffeineCache;
+
+/**
+ * Blocking access to the Quarkus cache storing the second-level cache entries, with string keys and values.
+ * <p>
+ * The generic {@link Cache} API has no plain put nor "get if present" operation, and emulating them with
+ * {@link Cache#get(Object, Function)} is neither atomic nor free of side effects, so each supported backend is used
+ * through its specific API.
+ */
+abstract class SharedCache {
+
+    final Cache cache;
+
+    SharedCache(Cache cache) {
+        this.cache = cache;
+    }
+
+    static SharedCache of(Cache cache) {
+        if (cache instanceof CaffeineCache caffeineCache) {
+            return new CaffeineSharedCache(caffeineCache);
+        }
+        if (RedisSharedCache.isRedisCache(cache)) {
+            return new RedisSharedCache(cache);
+        }
+        if (InfinispanSharedCache.isInfinispanCache(cache)) {
+            return new InfinispanSharedCache(cache);
+        }
+        throw new CacheException("Cache " + cache.getName() + " of type " + cache.getClass().getName()
+                + " cannot store the second-level cache, use a Caffeine, Redis or Infinispan cache");
+    }
+
+    /**
+     * @return the value, or {@code null} if the cache does not contain the key
+     */
+    abstract String get(String key);
+
+    abstract void put(String key, String value);
+
+    void remove(String key) {
+        cache.invalidate(key).await().indefinitely();
+    }
+
+    void removeAll(String keyPrefix) {
+        cache.invalidateIf(new KeyPrefixPredicate(keyPrefix)).await().indefinitely();
+    }
+
+    private record KeyPrefixPredicate(String prefix) implements Predicate<Object> {
+        @Override
+        public boolean test(Object key) {
+            return key instanceof String s && s.startsWith(prefix);
+        }
+    }
+
+    private static final class CaffeineSharedCache extends SharedCache {
+
+        private final CaffeineCache caffeineCache;
+
+        CaffeineSharedCache(CaffeineCache cache) {
+            super(cache);
+            this.caffeineCache = cache;
+        }
+
+        @Override
+        String get(String key) {
+            CompletableFuture<String> value = caffeineCache.getIfPresent(key);
+            return value == null ? null : value.join();
+        }
+
+        @Override
+        void put(String key, String value) {
+            caffeineCache.put(key, CompletableFuture.completedFuture(value));
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package io.quarkus.hibernate.orm.runtime.service.sharedcache;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InvalidClassException;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectStreamClass;
+import java.io.Serializable;
+import java.util.Base64;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.hibernate.cache.CacheException;
+import org.hibernate.internal.util.SerializationHelper;
+import org.jboss.logging.Logger;
+
+/**
+ * Serializes the second-level cache entries stored in a {@link SharedCache}, and deserializes them with an
+ * {@link ObjectInputFilter}.
+ * <p>
+ * Anything able to write to the shared cache could otherwise have arbitrary classes deserialized by every application
+ * instance, so only the classes that Hibernate ORM puts in the cache are accepted: the cache entries and keys, the
+ * JDK value types of the disassembled state, enums, and the classes managed by the persistence unit.
+ */
+final class SharedCacheSerialization {
+
+    private static final Logger LOG = Logger.getLogger(SharedCacheSerialization.class);
+
+    private static final long MAX_DEPTH = 64;
+
+    /**
+     * The packages of the JDK value types, subpackages excluded.
+     */
+    private static final Set<String> ALLOWED_JDK_PACKAGES = Set.of("java.lang", "java.util", "java.math", "java.time",
+            "java.sql");
+
+    private static final String ALLOWED_HIBERNATE_PACKAGE_PREFIX = "org.hibernate.cache.";
+
+    /**
+     * The markers that may be part of the disassembled state of an entity.
+     */
+    private static final Set<String> ALLOWED_HIBERNATE_CLASSES = Set.of(
+            "org.hibernate.bytecode.enhance.spi.LazyPropertyInitializer$1",
+            "org.hibernate.property.access.internal.PropertyAccessStrategyBackRefImpl$1");
+
+    private final ClassLoader classLoader;
+    private final Set<String> allowedClassNames;
+    private final Set<String> reportedClassNames = ConcurrentHashMap.newKeySet();
+
+    /**
+     * @param classLoader the class loader of the application classes
+     * @param allowedClassNames the names of the classes managed by the persistence unit
+     */
+    SharedCacheSerialization(ClassLoader classLoader, Set<String> allowedClassNames) {
+        this.classLoader = classLoader;
+        this.allowedClassNames = allowedClassNames;
+    }
+
+    static String serialize(Object value) {
+        if (!(value instanceof Serializable serializable)) {
+            throw new CacheException("Second-level cache entries must be serializable, got " + value.getClass().getName());
+        }
+        return Base64.getEncoder().encodeToString(SerializationHelper.serialize(serializable));
+    }
+
+    /**
+     * @throws CacheException if the value cannot be deserialized or contains a class that is not allowed
+     */
+    Object deserialize(String value) {
+        try (ObjectInputStream in = new FilteredObjectInputStream(Base64.getDecoder().decode(value))) {
+            return in.readObject();
+        } catch (IOException | ClassNotFoundException | IllegalArgumentException e) {
+            throw new CacheException("Unable to deserialize a second-level cache entry", e);
+        }
+    }
+
+    boolean isAllowed(Class<?> type) {
+        while (type.isArray()) {
+            type = type.getComponentType();
+        }
+        if (type.isPrimitive() || Enum.class.isAssignableFrom(type)) {
+            return true;
+        }
+        String name = type.getName();
+        if (ALLOWED_JDK_PACKAGES.contains(type.getPackageName())) {
+            return true;
+        }
+        return name.startsWith(ALLOWED_HIBERNATE_PACKAGE_PREFIX)
+                || ALLOWED_HIBERNATE_CLASSES.contains(name)
+                || allowedClassNames.contains(name);
+    }
+
+    private ObjectInputFilter.Status check(ObjectInputFilter.FilterInfo filterInfo) {
+        if (filterInfo.depth() > MAX_DEPTH) {
+            return ObjectInputFilter.Status.REJECTED;
+        }
+        Class<?> type = filterInfo.serialClass();
+        if (type == null) {
+            return ObjectInputFilter.Status.UNDECIDED;
+        }
+        if (isAllowed(type)) {
+            return ObjectInputFilter.Status.ALLOWED;
+        }
+        if (reportedClassNames.add(type.getName())) {
+            LOG.warnf("Rejected class %s while reading an entry from the second-level cache;"
+                    + " entries containing this class are read from the database instead", type.getName());
+        }
+        return ObjectInputFilter.Status.REJECTED;
+    }
+
+    private final class FilteredObjectInputStream extends ObjectInputStream {
+
+        FilteredObjectInputStream(byte[] bytes) throws IOException {
+            super(new ByteArrayInputStream(bytes));
+            setObjectInputFilter(SharedCacheSerialization.this::check);
+        }
+
+        @Override
+        protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+            try {
+                return Class.forName(desc.getName(), false, classLoader);
+            } catch (ClassNotFoundException e) {
+                // primitive types
+                return super.resolveClass(desc);
+            }
+        }
+
+        @Override
+        protected Class<?> resolveProxyClass(String[] interfaces) throws IOException {
+            throw new InvalidClassException("proxy", "Proxies are not allowed in second-level cache entries");
+        }
+    }
+}
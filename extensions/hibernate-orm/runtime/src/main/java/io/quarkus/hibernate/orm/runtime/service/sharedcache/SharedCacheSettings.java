@@ -0,0 +1,56 @@
+package io.quarkus.hibernate.orm.runtime.service.sharedcache;
+
+import io.quarkus.hibernate.orm.runtime.PersistenceUnitUtil;
+
+/**
+ * Settings of {@link QuarkusCacheRegionFactory}, set from the Quarkus configuration at build time.
+ * <p>
+ * Kept separate from the region factory so that it can be referenced without the optional cache extension.
+ */
+public final class SharedCacheSettings {
+
+    /**
+     * The name of the Quarkus cache storing the second-level cache entries.
+     * The {@link QuarkusCacheRegionFactory} is only used when this setting is present.
+     */
+    public static final String CACHE_NAME = "quarkus.hibernate-orm.second-level-caching.cache-name";
+
+    /**
+     * Whether recently used entries are also kept in a local near cache.
+     */
+    public static final String NEAR_CACHE_ENABLED = "quarkus.hibernate-orm.second-level-caching.near-cache.enabled";
+
+    /**
+     * The maximum time, in milliseconds, an entry is kept in the near cache after it was written.
+     */
+    public static final String NEAR_CACHE_EXPIRE_AFTER_WRITE = "quarkus.hibernate-orm.second-level-caching.near-cache.expire-after-write";
+
+    /**
+     * The Redis pub/sub channel used to send and receive near cache invalidation messages.
+     */
+    public static final String INVALIDATION_CHANNEL = "quarkus.hibernate-orm.second-level-caching.invalidation-channel";
+
+    /**
+     * The comma-separated names of the classes managed by the persistence unit, which may be deserialized from the
+     * shared cache along with the Hibernate ORM cache entries.
+     */
+    public static final String DESERIALIZATION_ALLOWED_CLASSES = "quarkus.hibernate-orm.second-level-caching.deserialization-allowed-classes";
+
+    /**
+     * Same as the keys used by the embedded region factory for the near cache of each region.
+     */
+    static final String REGION_PREFIX = "hibernate.cache.";
+    static final String EXPIRATION_MAX_IDLE = ".expiration.max-idle";
+    static final String MEMORY_OBJECT_COUNT = ".memory.object-count";
+
+    static final int DEFAULT_NEAR_CACHE_OBJECT_COUNT = 10_000;
+
+    private SharedCacheSettings() {
+    }
+
+    public static String defaultCacheName(String persistenceUnitName) {
+        return PersistenceUnitUtil.isDefaultPersistenceUnit(persistenceUnitName)
+                ? "hibernate-orm"
+                : "hibernate-orm-" + persistenceUnitName;
+    }
+}
@@ -0,0 +1,206 @@
+package io.quarkus.hibernate.orm.runtime.service.sharedcache;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.UUID;
+
+import org.hibernate.cache.CacheException;
+import org.hibernate.cache.internal.CacheKeyImplementation;
+import org.hibernate.cache.spi.access.SoftLock;
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.jboss.logging.Logger;
+
+import com.github.benmanes.caffeine.cache.Cache;
+
+/**
+ * Storage of a second-level cache region in a {@link SharedCache}, with an optional local near cache.
+ * <p>
+ * Entries are stored in the shared cache under a key made of the region name and a string form of the Hibernate ORM key,
+ * and their values are serialized. The near cache keeps the deserialized values of recently used entries, except the soft
+ * locks of entries being updated; changes made by this instance are sent to the other instances so that they drop the
+ * corresponding near cache entries.
+ * <p>
+ * Errors while reading the shared cache or populating it from the database are logged and handled as cache misses, as
+ * the database is still there; errors while updating or removing entries are propagated, as they could leave stale data
+ * in the cache.
+ */
+final class SharedCacheStorageAccess implements DomainDataStorageAccess {
+
+    private static final Logger LOG = Logger.getLogger(SharedCacheStorageAccess.class);
+
+    private final String regionName;
+    private final String keyPrefix;
+    private final SharedCache sharedCache;
+    private final Cache<String, Object> nearCache;
+    private final QuarkusCacheRegionFactory regionFactory;
+
+    SharedCacheStorageAccess(String regionName, SharedCache sharedCache, Cache<String, Object> nearCache,
+            QuarkusCacheRegionFactory regionFactory) {
+        this.regionName = regionName;
+        this.keyPrefix = regionName + ':';
+        this.sharedCache = sharedCache;
+        this.nearCache = nearCache;
+        this.regionFactory = regionFactory;
+    }
+
+    @Override
+    public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+        String sharedKey = sharedKey(key);
+        if (nearCache != null) {
+            Object value = nearCache.getIfPresent(sharedKey);
+            if (value != null) {
+                return value;
+            }
+        }
+        String serializedValue;
+        try {
+            serializedValue = sharedCache.get(sharedKey);
+        } catch (RuntimeException e) {
+            LOG.debugf(e, "Unable to read key %s from the second-level cache", sharedKey);
+            return null;
+        }
+        if (serializedValue == null) {
+            return null;
+        }
+        Object value;
+        try {
+            value = regionFactory.getSerialization().deserialize(serializedValue);
+        } catch (CacheException e) {
+            LOG.debugf(e, "Unable to read key %s from the second-level cache", sharedKey);
+            return null;
+        }
+        if (nearCache != null && !(value instanceof SoftLock)) {
+            nearCache.put(sharedKey, value);
+        }
+        return value;
+    }
+
+    @Override
+    public void putFromLoad(Object key, Object value, SharedSessionContractImplementor session) {
+        String sharedKey = sharedKey(key);
+        try {
+            put(sharedKey, value);
+        } catch (RuntimeException e) {
+            // the value comes from the database, so the shared cache cannot hold a more recent one: just skip it
+            LOG.debugf(e, "Unable to write key %s to the second-level cache", sharedKey);
+        }
+    }
+
+    @Override
+    public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+        String sharedKey = sharedKey(key);
+        try {
+            put(sharedKey, value);
+        } catch (RuntimeException e) {
+            // the shared cache may still hold the previous value
+            throw new CacheException("Unable to write key " + sharedKey + " to the second-level cache", e);
+        } finally {
+            regionFactory.invalidateRemotely(regionName, sharedKey);
+        }
+    }
+
+    private void put(String sharedKey, Object value) {
+        String serializedValue = SharedCacheSerialization.serialize(value);
+        if (nearCache != null) {
+            if (value instanceof SoftLock) {
+                // a locked entry must be read from the shared cache, where other instances may unlock it
+                nearCache.invalidate(sharedKey);
+            } else {
+                nearCache.put(sharedKey, value);
+            }
+        }
+        try {
+            sharedCache.put(sharedKey, serializedValue);
+        } catch (RuntimeException e) {
+            invalidateLocally(sharedKey);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean contains(Object key) {
+        String sharedKey = sharedKey(key);
+        if (nearCache != null && nearCache.getIfPresent(sharedKey) != null) {
+            return true;
+        }
+        try {
+            return sharedCache.get(sharedKey) != null;
+        } catch (RuntimeException e) {
+            LOG.debugf(e, "Unable to read key %s from the second-level cache", sharedKey);
+            return false;
+        }
+    }
+
+    @Override
+    public void evictData() {
+        invalidateLocally(null);
+        try {
+            sharedCache.removeAll(keyPrefix);
+        } catch (RuntimeException e) {
+            throw new CacheException("Unable to clear second-level cache region " + regionName, e);
+        }
+        regionFactory.invalidateRemotely(regionName, null);
+    }
+
+    @Override
+    public void evictData(Object key) {
+        evictData(sharedKey(key));
+    }
+
+    private void evictData(String sharedKey) {
+        invalidateLocally(sharedKey);
+        try {
+            sharedCache.remove(sharedKey);
+        } catch (RuntimeException e) {
+            throw new CacheException("Unable to remove key " + sharedKey + " from the second-level cache", e);
+        }
+        regionFactory.invalidateRemotely(regionName, sharedKey);
+    }
+
+    /**
+     * Drops an entry, or all entries if {@code sharedKey} is {@code null}, from the near cache.
+     */
+    void invalidateLocally(String sharedKey) {
+        if (nearCache == null) {
+            return;
+        }
+        if (sharedKey == null) {
+            nearCache.invalidateAll();
+        } else {
+            nearCache.invalidate(sharedKey);
+        }
+    }
+
+    @Override
+    public void release() {
+        invalidateLocally(null);
+    }
+
+    String sharedKey(Object key) {
+        StringBuilder sb = new StringBuilder(keyPrefix.length() + 32).append(keyPrefix);
+        if (key instanceof CacheKeyImplementation cacheKey) {
+            // entity and role names contain neither '@' nor '#', so this cannot be ambiguous
+            sb.append(cacheKey.getEntityOrRoleName());
+            String tenantId = cacheKey.getTenantId();
+            if (tenantId != null) {
+                sb.append('@').append(tenantId.length()).append(':').append(tenantId);
+            }
+            sb.append('#');
+            appendValue(sb, cacheKey.getId());
+        } else {
+            appendValue(sb, key);
+        }
+        return sb.toString();
+    }
+
+    private static void appendValue(StringBuilder sb, Object value) {
+        if (value instanceof String || value instanceof Long || value instanceof Integer || value instanceof Short
+                || value instanceof BigInteger || value instanceof BigDecimal || value instanceof UUID) {
+            sb.append(value);
+        } else {
+            // composite identifiers, natural ids, query keys...: their toString() is not guaranteed to be stable
+            sb.append('~').append(SharedCacheSerialization.serialize(value));
+        }
+    }
+}
@@ -14,18 +14,23 @@
 import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.AdditionalIndexedClassesBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
+import io.quarkus.deployment.metrics.MetricsCapabilityBuildItem;
+import io.quarkus.deployment.metrics.MetricsFactoryConsumerBuildItem;
 import io.quarkus.hibernate.orm.deployment.spi.AdditionalJpaModelBuildItem;
 import io.quarkus.hibernate.search.orm.elasticsearch.deployment.HibernateSearchElasticsearchPersistenceUnitConfiguredBuildItem;
 import io.quarkus.hibernate.search.orm.elasticsearch.deployment.HibernateSearchEnabled;
 import io.quarkus.hibernate.search.orm.elasticsearch.deployment.HibernateSearchIntegrationRuntimeConfiguredBuildItem;
 import io.quarkus.hibernate.search.orm.elasticsearch.deployment.HibernateSearchIntegrationStaticConfiguredBuildItem;
 import io.quarkus.hibernate.search.orm.elasticsearch.runtime.HibernateSearchElasticsearchBuildTimeConfigPersistenceUnit;
+import io.quarkus.hibernate.search.orm.outboxpolling.runtime.HibernateSearchOutboxPollingBuildTimeConfig;
+import io.quarkus.hibernate.search.orm.outboxpolling.runtime.HibernateSearchOutboxPollingBuildTimeConfigPersistenceUnit;
 import io.quarkus.hibernate.search.orm.outboxpolling.runtime.HibernateSearchOutboxPollingRecorder;
 
 @BuildSteps(onlyIf = HibernateSearchEnabled.class)
 class HibernateSearchOutboxPollingProcessor {
 
     private static final String HIBERNATE_SEARCH_ORM_COORDINATION_OUTBOX_POLLING = "Hibernate Search ORM - Outbox polling";
+    private static final String OUTBOX_EVENT_SIMPLE_CLASS_NAME = ".OutboxEvent";
 
     @BuildStep
     void registerInternalModel(BuildProducer<AdditionalIndexedClassesBuildItem> additionalIndexedClasses,
@@ -82,6 +87,41 @@ void setRuntimeConfig(HibernateSearchOutboxPollingRecorder recorder,
         }
     }
 
+    @BuildStep
+    @Record(ExecutionTime.RUNTIME_INIT)
+    void metrics(HibernateSearchOutboxPollingRecorder recorder,
+            HibernateSearchOutboxPollingBuildTimeConfig buildTimeConfig,
+            List<HibernateSearchElasticsearchPersistenceUnitConfiguredBuildItem> configuredPersistenceUnits,
+            Optional<MetricsCapabilityBuildItem> metricsCapability,
+            BuildProducer<MetricsFactoryConsumerBuildItem> metrics) {
+        if (metricsCapability.isEmpty()) {
+            return;
+        }
+        for (HibernateSearchElasticsearchPersistenceUnitConfiguredBuildItem configuredPersistenceUnit : configuredPersistenceUnits) {
+            if (!isUsingOutboxPolling(configuredPersistenceUnit)) {
+                continue;
+            }
+            String puName = configuredPersistenceUnit.getPersistenceUnitName();
+            HibernateSearchOutboxPollingBuildTimeConfigPersistenceUnit puConfig = buildTimeConfig.persistenceUnits()
+                    .get(puName);
+            if (puConfig == null || !puConfig.coordination().metrics().enabled()) {
+                continue;
+            }
+            metrics.produce(new MetricsFactoryConsumerBuildItem(
+                    recorder.consumeMetricsFactory(puName, outboxEventEntityName())));
+        }
+    }
+
+    private static String outboxEventEntityName() {
+        for (String className : HibernateOrmMapperOutboxPollingClasses.hibernateOrmTypes()) {
+            if (className.endsWith(OUTBOX_EVENT_SIMPLE_CLASS_NAME)) {
+                return className;
+            }
+        }
+        throw new IllegalStateException("Unable to find the outbox event entity among "
+                + HibernateOrmMapperOutboxPollingClasses.hibernateOrmTypes());
+    }
+
     private boolean isUsingOutboxPolling(HibernateSearchElasticsearchPersistenceUnitConfiguredBuildItem persistenceUnit) {
         HibernateSearchElasticsearchBuildTimeConfigPersistenceUnit puConfig = persistenceUnit.getBuildTimeConfig();
         if (puConfig == null) {
@@ -0,0 +1,71 @@
+package io.quarkus.hibernate.search.orm.outboxpolling.test.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jakarta.inject.Inject;
+
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.quarkus.hibernate.orm.PersistenceUnit;
+import io.quarkus.hibernate.search.orm.outboxpolling.test.configuration.defaultpu.IndexedEntity;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.QuarkusUnitTest;
+
+/**
+ * Tests that the metrics of the outbox reflect the events waiting in the outbox event table.
+ */
+public class OutboxPollingMetricsTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addPackage(IndexedEntity.class.getPackage()))
+            .withConfigurationResource("application.properties")
+            .overrideConfigKey("quarkus.micrometer.binder-enabled-default", "false")
+            .overrideConfigKey("quarkus.micrometer.registry-enabled-default", "false")
+            .overrideConfigKey("quarkus.hibernate-search-orm.coordination.metrics.enabled", "true")
+            .overrideConfigKey("quarkus.hibernate-search-orm.coordination.metrics.refresh-interval", "0S")
+            // the events are left in the outbox event table
+            .overrideConfigKey("quarkus.hibernate-search-orm.coordination.event-processor.enabled", "false");
+
+    @BeforeAll
+    static void addSimpleRegistry() {
+        Metrics.globalRegistry.add(new SimpleMeterRegistry());
+    }
+
+    @Inject
+    MeterRegistry registry;
+
+    @Inject
+    Session session;
+
+    @Test
+    public void testPendingEvents() {
+        assertThat(pendingEvents()).isZero();
+
+        QuarkusTransaction.requiringNew().run(() -> {
+            session.persist(new IndexedEntity());
+            session.persist(new IndexedEntity());
+        });
+
+        assertThat(pendingEvents()).isEqualTo(2);
+        assertThat(registry.find("hibernate.search.outbox.events.lag")
+                .tag("persistenceUnit", PersistenceUnit.DEFAULT).gauge())
+                .isNotNull()
+                .satisfies(gauge -> assertThat(gauge.value()).isGreaterThanOrEqualTo(0));
+    }
+
+    private double pendingEvents() {
+        Gauge gauge = registry.find("hibernate.search.outbox.events.pending")
+                .tag("persistenceUnit", PersistenceUnit.DEFAULT).gauge();
+        assertThat(gauge).isNotNull();
+        return gauge.value();
+    }
+}
@@ -7,6 +7,7 @@
 import io.quarkus.runtime.annotations.ConfigDocDefault;
 import io.quarkus.runtime.annotations.ConfigDocSection;
 import io.quarkus.runtime.annotations.ConfigGroup;
+import io.smallrye.config.WithDefault;
 
 @ConfigGroup
 public interface HibernateSearchOutboxPollingBuildTimeConfigPersistenceUnit {
@@ -25,6 +26,35 @@ interface CoordinationConfig {
         @ConfigDocSection
         EntityMappingConfig entityMapping();
 
+        /**
+         * Configuration for the metrics of outbox-polling coordination.
+         */
+        MetricsConfig metrics();
+
+    }
+
+    @ConfigGroup
+    interface MetricsConfig {
+
+        // @formatter:off
+        /**
+         * Whether metrics about the outbox events are published if a metrics extension is enabled.
+         *
+         * The metrics are tagged with the persistence unit name:
+         *
+         * * `hibernate.search.outbox.events.pending`: the number of events in the outbox event table.
+         * * `hibernate.search.outbox.events.lag`: how long, in seconds, the oldest event has been waiting to be processed.
+         *
+         * The outbox event table is sampled periodically (see `coordination.metrics.refresh-interval`).
+         * These metrics only observe the outbox event table: the event processors are left unchanged.
+         * When using multi-tenancy, only the outbox event table reachable without a tenant identifier is sampled.
+         *
+         * @asciidoclet
+         */
+        // @formatter:on
+        @WithDefault("false")
+        boolean enabled();
+
     }
 
     @ConfigGroup
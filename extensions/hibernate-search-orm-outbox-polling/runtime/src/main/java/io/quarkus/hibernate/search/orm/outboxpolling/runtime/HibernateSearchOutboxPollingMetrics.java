@@ -0,0 +1,97 @@
+package io.quarkus.hibernate.search.orm.outboxpolling.runtime;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.jboss.logging.Logger;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.hibernate.orm.runtime.JPAConfig;
+import io.quarkus.runtime.metrics.MetricsFactory;
+
+/**
+ * Samples the outbox event table of a persistence unit to expose how far behind the event processors are.
+ * <p>
+ * The event processors are internal to Hibernate Search, so the table is queried directly,
+ * at most once per refresh interval whatever the number of metrics and scrapes.
+ */
+final class HibernateSearchOutboxPollingMetrics {
+
+    private static final Logger log = Logger.getLogger(HibernateSearchOutboxPollingMetrics.class);
+
+    private static final String PERSISTENCE_UNIT_TAG_NAME = "persistenceUnit";
+
+    // the default of the runtime configuration, for persistence units without any runtime configuration
+    private static final Duration DEFAULT_REFRESH_INTERVAL = Duration.ofSeconds(10);
+
+    private final String persistenceUnitName;
+    private final String outboxEventEntityName;
+    private final long refreshIntervalNanos;
+
+    private long lastSampleTime;
+    private boolean sampled;
+    private long pendingEvents;
+    private double lagSeconds;
+
+    HibernateSearchOutboxPollingMetrics(String persistenceUnitName, String outboxEventEntityName) {
+        this(persistenceUnitName, outboxEventEntityName, DEFAULT_REFRESH_INTERVAL);
+    }
+
+    HibernateSearchOutboxPollingMetrics(String persistenceUnitName, String outboxEventEntityName,
+            Duration refreshInterval) {
+        this.persistenceUnitName = persistenceUnitName;
+        this.outboxEventEntityName = outboxEventEntityName;
+        this.refreshIntervalNanos = refreshInterval.toNanos();
+    }
+
+    void register(MetricsFactory metricsFactory) {
+        metricsFactory.builder("hibernate.search.outbox.events.pending")
+                .description("The number of events in the outbox event table")
+                .tag(PERSISTENCE_UNIT_TAG_NAME, persistenceUnitName)
+                .buildGauge(this, HibernateSearchOutboxPollingMetrics::pendingEvents);
+        metricsFactory.builder("hibernate.search.outbox.events.lag")
+                .description("How long the oldest event of the outbox event table has been waiting to be processed")
+                .tag(PERSISTENCE_UNIT_TAG_NAME, persistenceUnitName)
+                .unit("seconds")
+                .buildGauge(this, HibernateSearchOutboxPollingMetrics::lagSeconds);
+    }
+
+    synchronized long pendingEvents() {
+        refresh();
+        return pendingEvents;
+    }
+
+    synchronized double lagSeconds() {
+        refresh();
+        return lagSeconds;
+    }
+
+    private void refresh() {
+        long now = System.nanoTime();
+        if (sampled && now - lastSampleTime < refreshIntervalNanos) {
+            return;
+        }
+        sampled = true;
+        lastSampleTime = now;
+        JPAConfig jpaConfig = Arc.container().instance(JPAConfig.class).get();
+        if (!jpaConfig.getPersistenceUnits().contains(persistenceUnitName)) {
+            return;
+        }
+        SessionFactory sessionFactory = jpaConfig.getEntityManagerFactory(persistenceUnitName, false)
+                .unwrap(SessionFactory.class);
+        try (StatelessSession session = sessionFactory.openStatelessSession()) {
+            Instant currentTime = Instant.now();
+            Object[] result = session.createSelectionQuery("select count(e), min(e.processAfter) from "
+                    + outboxEventEntityName + " e", Object[].class)
+                    .getSingleResult();
+            pendingEvents = ((Number) result[0]).longValue();
+            Instant oldest = (Instant) result[1];
+            lagSeconds = oldest == null || oldest.isAfter(currentTime) ? 0
+                    : Duration.between(oldest, currentTime).toMillis() / 1000.0;
+        } catch (RuntimeException e) {
+            log.debugf(e, "Unable to sample the outbox event table of persistence unit %s", persistenceUnitName);
+        }
+    }
+}
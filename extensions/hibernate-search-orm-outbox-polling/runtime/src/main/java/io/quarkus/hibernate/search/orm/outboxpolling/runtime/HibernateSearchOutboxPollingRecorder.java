@@ -3,6 +3,7 @@
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 
 import org.hibernate.boot.Metadata;
 import org.hibernate.boot.spi.BootstrapContext;
@@ -12,6 +13,7 @@
 import io.quarkus.hibernate.orm.runtime.integration.HibernateOrmIntegrationStaticInitListener;
 import io.quarkus.runtime.RuntimeValue;
 import io.quarkus.runtime.annotations.Recorder;
+import io.quarkus.runtime.metrics.MetricsFactory;
 
 @Recorder
 public class HibernateSearchOutboxPollingRecorder {
@@ -37,6 +39,21 @@ public HibernateOrmIntegrationRuntimeInitListener createRuntimeInitListener(Stri
         return new RuntimeInitListener(puConfig);
     }
 
+    public Consumer<MetricsFactory> consumeMetricsFactory(String persistenceUnitName, String outboxEventEntityName) {
+        HibernateSearchOutboxPollingRuntimeConfigPersistenceUnit puConfig = runtimeConfig.getValue().persistenceUnits()
+                .get(persistenceUnitName);
+        HibernateSearchOutboxPollingMetrics metrics = puConfig == null
+                ? new HibernateSearchOutboxPollingMetrics(persistenceUnitName, outboxEventEntityName)
+                : new HibernateSearchOutboxPollingMetrics(persistenceUnitName, outboxEventEntityName,
+                        puConfig.coordination().metrics().refreshInterval());
+        return new Consumer<MetricsFactory>() {
+            @Override
+            public void accept(MetricsFactory metricsFactory) {
+                metrics.register(metricsFactory);
+            }
+        };
+    }
+
     private static final class StaticInitListener
             implements HibernateOrmIntegrationStaticInitListener {
 
@@ -36,6 +36,32 @@ interface CoordinationConfig {
         @ConfigDocMapKey("tenant-id")
         Map<String, AgentsConfig> tenants();
 
+        /**
+         * Configuration for the metrics of outbox-polling coordination.
+         */
+        MetricsConfig metrics();
+
+    }
+
+    @ConfigGroup
+    interface MetricsConfig {
+
+        // @formatter:off
+        /**
+         * How long the last sample of the outbox event table is reused by the metrics
+         * before querying the table again.
+         *
+         * Only relevant when metrics are enabled (see `coordination.metrics.enabled`).
+         *
+         * Lower values make the metrics more accurate,
+         * but will increase the stress on the database when the metrics are scraped often.
+         *
+         * @asciidoclet
+         */
+        // @formatter:on
+        @WithDefault("10S")
+        Duration refreshInterval();
+
     }
 
     @ConfigGroup
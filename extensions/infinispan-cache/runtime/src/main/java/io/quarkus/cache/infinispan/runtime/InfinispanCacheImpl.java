@@ -265,6 +265,39 @@ public void accept(Object existing, Throwable ex) {
                 }, executor);
     }
 
+    /**
+     * Returns the value associated with the key, without computing it if the cache does not contain it.
+     *
+     * @return a {@link Uni} emitting the value, or {@code null} if the cache does not contain the key
+     */
+    public <K, V> Uni<V> getIfPresent(K key) {
+        return Uni.createFrom().completionStage(new Supplier<CompletionStage<Object>>() {
+            @Override
+            public CompletionStage<Object> get() {
+                return remoteCache.getAsync(key);
+            }
+        }).map(new Function<Object, V>() {
+            @Override
+            public V apply(Object value) {
+                return value == null ? null : InfinispanCacheImpl.this.decodeNull(value);
+            }
+        });
+    }
+
+    /**
+     * Associates the value with the key, replacing the previous value if any, with the lifespan and max idle time of the
+     * cache.
+     */
+    public <K, V> Uni<Void> put(K key, V value) {
+        return Uni.createFrom().completionStage(new Supplier<CompletionStage<Object>>() {
+            @Override
+            public CompletionStage<Object> get() {
+                return remoteCache.putAsync(key, encodeNull(value), lifespan, TimeUnit.MILLISECONDS,
+                        maxIdle, TimeUnit.MILLISECONDS);
+            }
+        }).replaceWithVoid();
+    }
+
     @Override
     public Uni<Void> invalidate(Object key) {
         return Uni.createFrom().completionStage(new Supplier<CompletionStage<Void>>() {
@@ -270,7 +270,7 @@ private Path getRunner(OutputTargetBuildItem outputTarget,
         return switch (jarType) {
             case LEGACY_JAR, UBER_JAR -> outputTarget.getOutputDirectory()
                     .resolve(outputTarget.getBaseName() + packageConfig.computedRunnerSuffix() + ".jar");
-            case FAST_JAR, MUTABLE_JAR, AOT_JAR -> {
+            case FAST_JAR, MUTABLE_JAR, AOT_JAR, INDEXED_JAR -> {
                 //thin JAR
                 Path buildDir;
 
@@ -307,9 +307,7 @@ ServiceStartBuildItem startLiquibase(LiquibaseRecorder recorder,
             BuildProducer<JdbcDataSourceSchemaReadyBuildItem> schemaReadyBuildItem) {
 
         Set<String> dataSourceNames = getDataSourceNames(jdbcDataSourceBuildItems);
-        for (String dataSourceName : dataSourceNames) {
-            recorder.doStartActions(dataSourceName);
-        }
+        recorder.doStartActions(dataSourceNames);
         // once we are done running the migrations, we produce a build item indicating that the
         // schema is "ready"
         schemaReadyBuildItem.produce(new JdbcDataSourceSchemaReadyBuildItem(dataSourceNames));
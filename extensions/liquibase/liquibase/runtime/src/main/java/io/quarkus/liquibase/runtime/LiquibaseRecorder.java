@@ -1,6 +1,14 @@
 package io.quarkus.liquibase.runtime;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -66,6 +74,47 @@ public LiquibaseFactory apply(SyntheticCreationalContext<LiquibaseFactory> conte
         };
     }
 
+    public void doStartActions(Collection<String> dataSourceNames) {
+        if (!config.getValue().parallelStartActions() || dataSourceNames.size() < 2) {
+            for (String dataSourceName : dataSourceNames) {
+                doStartActions(dataSourceName);
+            }
+            return;
+        }
+
+        AtomicInteger threadCount = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(dataSourceNames.size(),
+                r -> new Thread(r, "liquibase-start-actions-" + threadCount.incrementAndGet()));
+        try {
+            List<Future<?>> results = new ArrayList<>(dataSourceNames.size());
+            for (String dataSourceName : dataSourceNames) {
+                results.add(executor.submit(() -> doStartActions(dataSourceName)));
+            }
+            RuntimeException failure = null;
+            for (Future<?> result : results) {
+                try {
+                    result.get();
+                } catch (ExecutionException e) {
+                    RuntimeException cause = e.getCause() instanceof RuntimeException re ? re
+                            : new IllegalStateException(e.getCause());
+                    if (failure == null) {
+                        failure = cause;
+                    } else {
+                        failure.addSuppressed(cause);
+                    }
+                }
+            }
+            if (failure != null) {
+                throw failure;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while executing the Liquibase start actions", e);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
     public void doStartActions(String dataSourceName) {
         if (!config.getValue().enabled()) {
             return;
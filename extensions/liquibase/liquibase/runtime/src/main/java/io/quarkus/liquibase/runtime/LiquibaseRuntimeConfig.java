@@ -27,6 +27,17 @@ public interface LiquibaseRuntimeConfig {
     @WithDefault("true")
     boolean enabled();
 
+    /**
+     * Whether the start actions of the datasources are executed in parallel, one thread per datasource.
+     * <p>
+     * The datasources must be independent: the changelog of a datasource must not rely on the changelog of another one
+     * having been applied.
+     * The startup fails if the start actions of any datasource fail, once the start actions of all the datasources are
+     * done.
+     */
+    @WithDefault("false")
+    boolean parallelStartActions();
+
     /**
      * Datasources.
      */
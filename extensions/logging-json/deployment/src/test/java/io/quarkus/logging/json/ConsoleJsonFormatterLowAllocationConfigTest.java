@@ -0,0 +1,89 @@
+package io.quarkus.logging.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.logging.Formatter;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+
+import org.jboss.logmanager.ExtLogRecord;
+import org.jboss.logmanager.formatters.StructuredFormatter;
+import org.jboss.logmanager.handlers.ConsoleHandler;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.quarkus.bootstrap.logging.InitialConfigurator;
+import io.quarkus.logging.json.runtime.JsonFormatter;
+import io.quarkus.logging.json.runtime.LowAllocationJsonFormatter;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class ConsoleJsonFormatterLowAllocationConfigTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addAsResource(new StringAsset("""
+                            quarkus.log.level=INFO
+                            quarkus.log.console.enabled=true
+                            quarkus.log.console.level=WARNING
+                            quarkus.log.console.json.enabled=true
+                            quarkus.log.console.json.low-allocation=true
+                            quarkus.log.console.json.exception-output-type=formatted
+                            quarkus.log.console.json.key-overrides=level=HEY
+                            quarkus.log.console.json.excluded-keys=sequence
+                            quarkus.log.console.json.additional-field.foo.value=42
+                            quarkus.log.console.json.additional-field.foo.type=int
+                            quarkus.log.console.json.additional-field.bar.value=baz
+                            """), "application.properties"));
+
+    @Test
+    public void lowAllocationFormatterIsInstalled() {
+        LowAllocationJsonFormatter formatter = getLowAllocationJsonFormatter();
+        JsonFormatter delegate = formatter.getDelegate();
+        assertThat(delegate.getExceptionOutputType()).isEqualTo(StructuredFormatter.ExceptionOutputType.FORMATTED);
+        assertThat(delegate.isDefaultDateFormat()).isTrue();
+        assertThat(delegate.getExcludedKeys()).containsExactly("sequence");
+    }
+
+    @Test
+    public void outputMatchesDefaultFormatter() throws Exception {
+        LowAllocationJsonFormatter formatter = getLowAllocationJsonFormatter();
+        JsonFormatter delegate = formatter.getDelegate();
+
+        ExtLogRecord record = new ExtLogRecord(Level.WARNING, "Hello \"{0}\"\n\t\u0001 € 😀",
+                ExtLogRecord.FormatStyle.MESSAGE_FORMAT, ConsoleJsonFormatterLowAllocationConfigTest.class.getName());
+        record.setParameters(new Object[] { "World" });
+        record.setLoggerName("io.quarkus.test");
+        record.putMdc("requestId", "r\"1");
+        assertThat(formatter.format(record)).isEqualTo(delegate.format(record));
+
+        record.setThrown(new IllegalStateException("boom", new RuntimeException("cause")));
+        String line = formatter.format(record);
+        assertThat(line).isEqualTo(delegate.format(record));
+
+        JsonNode node = new ObjectMapper().readTree(line);
+        assertThat(node.has("sequence")).isFalse();
+        assertThat(node.get("HEY").asText()).isEqualTo("WARNING");
+        assertThat(node.get("message").asText()).isEqualTo("Hello \"World\"\n\t\u0001 € 😀");
+        assertThat(node.get("mdc").get("requestId").asText()).isEqualTo("r\"1");
+        assertThat(node.get("stackTrace").asText()).contains("java.lang.IllegalStateException: boom");
+        assertThat(node.get("foo").asInt()).isEqualTo(42);
+        assertThat(node.get("bar").asText()).isEqualTo("baz");
+    }
+
+    public static LowAllocationJsonFormatter getLowAllocationJsonFormatter() {
+        Handler handler = Arrays.stream(InitialConfigurator.DELAYED_HANDLER.getHandlers())
+                .filter(h -> (h instanceof ConsoleHandler))
+                .findFirst().orElse(null);
+        assertThat(handler).isNotNull();
+
+        Formatter formatter = handler.getFormatter();
+        assertThat(formatter).isInstanceOf(LowAllocationJsonFormatter.class);
+        return (LowAllocationJsonFormatter) formatter;
+    }
+}
@@ -22,6 +22,7 @@ public class JsonFormatter extends org.jboss.logmanager.formatters.JsonFormatter
     private Map<String, AdditionalField> additionalFields;
     private LogFormat logFormat = LogFormat.DEFAULT;
     private String tracePrefix = "";
+    private boolean defaultDateFormat = true;
 
     public enum AdditionalKey {
         ECS_VERSION("ecs.version"),
@@ -104,14 +105,37 @@ public void setAdditionalFields(Map<String, AdditionalField> additionalFields) {
         this.additionalFields = additionalFields;
     }
 
+    public LogFormat getLogFormat() {
+        return this.logFormat;
+    }
+
     public void setLogFormat(LogFormat logFormat) {
         this.logFormat = logFormat;
     }
 
+    public String getTracePrefix() {
+        return this.tracePrefix;
+    }
+
     public void setTracePrefix(String tracePrefix) {
         this.tracePrefix = tracePrefix;
     }
 
+    /**
+     * Returns whether the timestamp is rendered with the default {@code ISO_OFFSET_DATE_TIME} format.
+     *
+     * @return {@code true} if no custom date format has been set
+     */
+    public boolean isDefaultDateFormat() {
+        return this.defaultDateFormat;
+    }
+
+    @Override
+    public void setDateFormat(final String pattern) {
+        super.setDateFormat(pattern);
+        this.defaultDateFormat = pattern == null;
+    }
+
     @Override
     protected Generator createGenerator(final Writer writer) {
         Generator superGenerator = super.createGenerator(writer);
@@ -73,6 +73,17 @@ public interface JsonConfig {
         @WithDefault("false")
         boolean prettyPrint();
 
+        /**
+         * Use a low-allocation JSON writer which encodes records directly to UTF-8 into a reusable per-thread buffer,
+         * pre-encodes keys and additional fields once and caches the formatted timestamp.
+         * <p>
+         * The output is the same as with the default writer. This setting is ignored when pretty printing is enabled,
+         * and records carrying an exception are still written by the default writer when the exception output type
+         * includes {@code detailed}.
+         */
+        @WithDefault("false")
+        boolean lowAllocation();
+
         /**
          * The date format to use. The special string "default" indicates that the default format should be used.
          */
@@ -105,6 +105,9 @@ private RuntimeValue<Optional<Formatter>> getDefaultFormatter(JsonConfig config,
         if (!zoneId.equals("default")) {
             formatter.setZoneId(zoneId);
         }
+        if (config.lowAllocation() && !config.prettyPrint()) {
+            return new RuntimeValue<>(Optional.of(new LowAllocationJsonFormatter(formatter)));
+        }
         return new RuntimeValue<>(Optional.of(formatter));
     }
 
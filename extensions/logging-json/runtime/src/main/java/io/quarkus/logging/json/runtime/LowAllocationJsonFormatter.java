@@ -0,0 +1,297 @@
+package io.quarkus.logging.json.runtime;
+
+import static io.quarkus.logging.json.runtime.JsonFormatter.AdditionalKey.SPAN_ID;
+import static io.quarkus.logging.json.runtime.JsonFormatter.AdditionalKey.TRACE;
+import static io.quarkus.logging.json.runtime.JsonFormatter.AdditionalKey.TRACE_SAMPLED;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.zone.ZoneRules;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.jboss.logmanager.ExtFormatter;
+import org.jboss.logmanager.ExtLogRecord;
+import org.jboss.logmanager.PropertyValues;
+import org.jboss.logmanager.formatters.StackTraceFormatter;
+import org.jboss.logmanager.formatters.StructuredFormatter.ExceptionOutputType;
+import org.jboss.logmanager.formatters.StructuredFormatter.Key;
+
+import io.quarkus.logging.json.runtime.JsonLogConfig.JsonConfig.LogFormat;
+
+/**
+ * A JSON formatter producing the same output as {@link JsonFormatter}, but writing each record directly as UTF-8 into a
+ * reusable per-thread buffer instead of going through a {@code jakarta.json} generator.
+ * <p>
+ * Field names and additional fields are encoded once, and the date-time part of the timestamp is cached per second.
+ * The configuration is captured from the given {@link JsonFormatter} when this formatter is created.
+ * Records that need features this formatter does not implement (the {@code detailed} exception output) are
+ * delegated to the wrapped formatter.
+ */
+public class LowAllocationJsonFormatter extends ExtFormatter {
+
+    private static final byte[] EMPTY_OBJECT = Utf8JsonWriter.encodeAscii("{}");
+
+    private final ThreadLocal<Utf8JsonWriter> writers = ThreadLocal.withInitial(Utf8JsonWriter::new);
+
+    private final JsonFormatter delegate;
+    private final EnumMap<Key, byte[]> names = new EnumMap<>(Key.class);
+    private final List<EncodedField> additionalFields = new ArrayList<>();
+    private final ZoneRules zoneRules;
+    private final DateTimeFormatter dateTimeFormatter;
+    private final boolean defaultDateFormat;
+    private final boolean printDetails;
+    private final boolean detailedExceptions;
+    private final boolean formattedExceptions;
+    private final boolean gcp;
+    private final String tracePrefix;
+    private final byte[] recordDelimiter;
+    private final byte[] traceName;
+    private final byte[] spanIdName;
+    private final byte[] traceSampledName;
+
+    private volatile CachedTimestamp cachedTimestamp = new CachedTimestamp(Long.MIN_VALUE, -1, null, null);
+
+    public LowAllocationJsonFormatter(final JsonFormatter delegate) {
+        this.delegate = delegate;
+        final Set<String> excludedKeys = delegate.getExcludedKeys();
+        final EnumMap<Key, String> keyOverrides = PropertyValues.stringToEnumMap(Key.class, delegate.getKeyOverrides());
+        for (Key key : Key.values()) {
+            final String name = keyOverrides.getOrDefault(key, key.getKey());
+            if (!excludedKeys.contains(name)) {
+                names.put(key, Utf8JsonWriter.encodeName(name));
+            }
+        }
+        for (Map.Entry<String, AdditionalField> entry : delegate.getAdditionalFields().entrySet()) {
+            if (!excludedKeys.contains(entry.getKey())) {
+                additionalFields.add(new EncodedField(entry.getKey(), entry.getValue()));
+            }
+        }
+        this.dateTimeFormatter = delegate.getDateTimeFormatter();
+        final ZoneId zoneId = delegate.getZoneId();
+        this.zoneRules = zoneId.getRules();
+        this.defaultDateFormat = delegate.isDefaultDateFormat();
+        this.printDetails = delegate.isPrintDetails();
+        final ExceptionOutputType exceptionOutputType = delegate.getExceptionOutputType();
+        this.detailedExceptions = exceptionOutputType == ExceptionOutputType.DETAILED
+                || exceptionOutputType == ExceptionOutputType.DETAILED_AND_FORMATTED;
+        this.formattedExceptions = exceptionOutputType == ExceptionOutputType.FORMATTED
+                || exceptionOutputType == ExceptionOutputType.DETAILED_AND_FORMATTED;
+        this.gcp = delegate.getLogFormat() == LogFormat.GCP;
+        this.tracePrefix = delegate.getTracePrefix();
+        final String delimiter = delegate.getRecordDelimiter();
+        this.recordDelimiter = delimiter == null ? null : delimiter.getBytes(StandardCharsets.UTF_8);
+        this.traceName = Utf8JsonWriter.encodeName(TRACE.getKey());
+        this.spanIdName = Utf8JsonWriter.encodeName(SPAN_ID.getKey());
+        this.traceSampledName = Utf8JsonWriter.encodeName(TRACE_SAMPLED.getKey());
+    }
+
+    /**
+     * Returns the formatter this formatter was configured from, and which handles the records it does not support.
+     *
+     * @return the wrapped formatter
+     */
+    public JsonFormatter getDelegate() {
+        return delegate;
+    }
+
+    @Override
+    public boolean isCallerCalculationRequired() {
+        return printDetails;
+    }
+
+    @Override
+    public String format(final ExtLogRecord record) {
+        final Throwable thrown = record.getThrown();
+        if (thrown != null && detailedExceptions) {
+            return delegate.format(record);
+        }
+        Utf8JsonWriter writer = writers.get();
+        if (!writer.acquire()) {
+            // re-entrant call, e.g. a log message parameter whose toString() logs
+            writer = new Utf8JsonWriter();
+            writer.acquire();
+        }
+        try {
+            write(writer, record, thrown);
+            return writer.toString();
+        } finally {
+            writer.release();
+        }
+    }
+
+    private void write(final Utf8JsonWriter writer, final ExtLogRecord record, final Throwable thrown) {
+        writer.beginObject();
+        byte[] name;
+        if ((name = names.get(Key.TIMESTAMP)) != null) {
+            writer.name(name);
+            writeTimestamp(writer, record.getInstant());
+        }
+        if ((name = names.get(Key.SEQUENCE)) != null) {
+            writer.name(name);
+            writer.value(record.getSequenceNumber());
+        }
+        writeString(writer, Key.LOGGER_CLASS_NAME, record.getLoggerClassName());
+        writeString(writer, Key.LOGGER_NAME, record.getLoggerName());
+        writeString(writer, Key.LEVEL, record.getLevel().getName());
+        writeString(writer, Key.MESSAGE, formatMessage(record));
+        writeString(writer, Key.THREAD_NAME, record.getThreadName());
+        if ((name = names.get(Key.THREAD_ID)) != null) {
+            writer.name(name);
+            writer.value(record.getThreadID());
+        }
+        final Map<String, String> mdc;
+        if ((name = names.get(Key.MDC)) != null || gcp) {
+            mdc = record.getMdcCopy();
+        } else {
+            mdc = Map.of();
+        }
+        if (name != null) {
+            writer.name(name);
+            if (mdc.isEmpty()) {
+                writer.rawValue(EMPTY_OBJECT);
+            } else {
+                writer.beginObject();
+                for (Map.Entry<String, String> entry : mdc.entrySet()) {
+                    writer.name(entry.getKey());
+                    writer.value(entry.getValue());
+                }
+                writer.endObject();
+            }
+        }
+        writeString(writer, Key.NDC, record.getNdc());
+        final String hostName = record.getHostName();
+        if (hostName != null && !hostName.isEmpty()) {
+            writeString(writer, Key.HOST_NAME, hostName);
+        }
+        final String processName = record.getProcessName();
+        if (processName != null && !processName.isEmpty()) {
+            writeString(writer, Key.PROCESS_NAME, processName);
+        }
+        final long processId = record.getProcessId();
+        if (processId >= 0 && (name = names.get(Key.PROCESS_ID)) != null) {
+            writer.name(name);
+            writer.value(processId);
+        }
+        if (thrown != null && formattedExceptions && (name = names.get(Key.STACK_TRACE)) != null) {
+            final StringBuilder stackTrace = writer.scratch;
+            stackTrace.setLength(0);
+            StackTraceFormatter.renderStackTrace(stackTrace, thrown, -1);
+            writer.name(name);
+            writer.value(stackTrace);
+            stackTrace.setLength(0);
+        }
+        if (printDetails) {
+            writeString(writer, Key.SOURCE_CLASS_NAME, record.getSourceClassName());
+            writeString(writer, Key.SOURCE_FILE_NAME, record.getSourceFileName());
+            writeString(writer, Key.SOURCE_METHOD_NAME, record.getSourceMethodName());
+            if ((name = names.get(Key.SOURCE_LINE_NUMBER)) != null) {
+                writer.name(name);
+                writer.value(record.getSourceLineNumber());
+            }
+            writeString(writer, Key.SOURCE_MODULE_NAME, record.getSourceModuleName());
+            writeString(writer, Key.SOURCE_MODULE_VERSION, record.getSourceModuleVersion());
+        }
+        writeAdditionalFields(writer, mdc);
+        writer.endObject();
+        if (recordDelimiter != null) {
+            writer.writeRaw(recordDelimiter);
+        }
+    }
+
+    private void writeString(final Utf8JsonWriter writer, final Key key, final String value) {
+        final byte[] name = names.get(key);
+        if (name != null) {
+            writer.name(name);
+            writer.value(value);
+        }
+    }
+
+    private void writeAdditionalFields(final Utf8JsonWriter writer, final Map<String, String> mdc) {
+        // same semantics as JsonFormatter#after: the GCP trace fields are only taken from a non-empty MDC
+        final boolean dynamic = gcp && !mdc.isEmpty();
+        for (int i = 0; i < additionalFields.size(); i++) {
+            final EncodedField field = additionalFields.get(i);
+            if (dynamic && field.key() == TRACE) {
+                final String traceId = mdc.get("traceId");
+                if (traceId != null && !traceId.isEmpty()) {
+                    writer.name(traceName);
+                    final StringBuilder value = writer.scratch;
+                    value.setLength(0);
+                    value.append(tracePrefix).append(traceId);
+                    writer.value(value);
+                    value.setLength(0);
+                } else {
+                    writer.field(field.encoded());
+                }
+            } else if (dynamic && field.key() == SPAN_ID) {
+                writer.name(spanIdName);
+                writer.value(mdc.getOrDefault("spanId", ""));
+            } else if (dynamic && field.key() == TRACE_SAMPLED) {
+                writer.name(traceSampledName);
+                writer.value(mdc.getOrDefault("sampled", ""));
+            } else {
+                writer.field(field.encoded());
+            }
+        }
+    }
+
+    private void writeTimestamp(final Utf8JsonWriter writer, final Instant instant) {
+        final long second = instant.getEpochSecond();
+        final int nano = instant.getNano();
+        CachedTimestamp cached = cachedTimestamp;
+        if (defaultDateFormat) {
+            if (cached.second() != second) {
+                final ZoneOffset offset = zoneRules.getOffset(instant);
+                final String dateTime = DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(LocalDateTime.ofEpochSecond(second, 0,
+                        offset));
+                cached = new CachedTimestamp(second, -1, Utf8JsonWriter.encodeAscii("\"" + dateTime),
+                        Utf8JsonWriter.encodeAscii(offset.getId() + "\""));
+                cachedTimestamp = cached;
+            }
+            writer.writeRaw(cached.prefix());
+            writer.writeFraction(nano);
+            writer.rawValue(cached.suffix());
+        } else {
+            // a custom pattern may contain any field, so only identical instants can share the formatted value
+            if (cached.second() != second || cached.nano() != nano) {
+                cached = new CachedTimestamp(second, nano, Utf8JsonWriter.encodeString(dateTimeFormatter.format(instant)),
+                        null);
+                cachedTimestamp = cached;
+            }
+            writer.rawValue(cached.prefix());
+        }
+    }
+
+    private record CachedTimestamp(long second, int nano, byte[] prefix, byte[] suffix) {
+    }
+
+    private record EncodedField(JsonFormatter.AdditionalKey key, byte[] encoded) {
+
+        EncodedField(String name, AdditionalField field) {
+            this(additionalKey(name), switch (field.type()) {
+                case STRING -> Utf8JsonWriter.encodeField(name, field.value());
+                case INT -> Utf8JsonWriter.encodeField(name, Integer.parseInt(field.value()));
+                case LONG -> Utf8JsonWriter.encodeField(name, Long.parseLong(field.value()));
+            });
+        }
+
+        private static JsonFormatter.AdditionalKey additionalKey(String name) {
+            if (TRACE.getKey().equals(name)) {
+                return TRACE;
+            } else if (SPAN_ID.getKey().equals(name)) {
+                return SPAN_ID;
+            } else if (TRACE_SAMPLED.getKey().equals(name)) {
+                return TRACE_SAMPLED;
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,305 @@
+package io.quarkus.logging.json.runtime;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * A minimal, reusable JSON writer that escapes and encodes directly to UTF-8 into a growable byte array.
+ * <p>
+ * Instances are not thread-safe; {@link LowAllocationJsonFormatter} keeps one per thread.
+ */
+final class Utf8JsonWriter {
+
+    private static final int INITIAL_CAPACITY = 1024;
+    /**
+     * Buffers that grew beyond this size, e.g. because of a huge stack trace, are released after use.
+     */
+    private static final int MAX_RETAINED_CAPACITY = 64 * 1024;
+
+    private static final byte[] HEX = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] NULL = "null".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] MIN_LONG = Long.toString(Long.MIN_VALUE).getBytes(StandardCharsets.US_ASCII);
+
+    private byte[] buffer = new byte[INITIAL_CAPACITY];
+    private int position;
+    private boolean needsComma;
+    private boolean inUse;
+
+    /**
+     * Scratch space used to render stack traces without creating an intermediate {@code String}.
+     */
+    final StringBuilder scratch = new StringBuilder(256);
+
+    boolean acquire() {
+        if (inUse) {
+            return false;
+        }
+        inUse = true;
+        position = 0;
+        needsComma = false;
+        return true;
+    }
+
+    void release() {
+        inUse = false;
+        if (buffer.length > MAX_RETAINED_CAPACITY) {
+            buffer = new byte[INITIAL_CAPACITY];
+        }
+        if (scratch.capacity() > MAX_RETAINED_CAPACITY) {
+            scratch.setLength(0);
+            scratch.trimToSize();
+        }
+    }
+
+    void beginObject() {
+        ensureCapacity(1);
+        buffer[position++] = '{';
+        needsComma = false;
+    }
+
+    void endObject() {
+        ensureCapacity(1);
+        buffer[position++] = '}';
+        needsComma = true;
+    }
+
+    /**
+     * Writes a field name.
+     *
+     * @param encodedName the name, already quoted, escaped and followed by a colon, see {@link #encodeName(String)}
+     */
+    void name(byte[] encodedName) {
+        separator();
+        writeRaw(encodedName);
+    }
+
+    /**
+     * Writes a field name that is only known at runtime.
+     */
+    void name(String name) {
+        separator();
+        writeString(name);
+        writeAscii(':');
+    }
+
+    /**
+     * Writes a complete, pre-encoded {@code "name":value} pair.
+     */
+    void field(byte[] encodedField) {
+        separator();
+        writeRaw(encodedField);
+        needsComma = true;
+    }
+
+    void value(CharSequence value) {
+        if (value == null) {
+            writeRaw(NULL);
+        } else {
+            writeString(value);
+        }
+        needsComma = true;
+    }
+
+    void value(long value) {
+        writeLong(value);
+        needsComma = true;
+    }
+
+    void rawValue(byte[] encodedValue) {
+        writeRaw(encodedValue);
+        needsComma = true;
+    }
+
+    void writeRaw(byte[] bytes) {
+        ensureCapacity(bytes.length);
+        System.arraycopy(bytes, 0, buffer, position, bytes.length);
+        position += bytes.length;
+    }
+
+    void writeAscii(char c) {
+        ensureCapacity(1);
+        buffer[position++] = (byte) c;
+    }
+
+    /**
+     * Writes the fractional part of an ISO-8601 time, as {@code DateTimeFormatter.ISO_LOCAL_TIME} does:
+     * nothing if {@code nano} is zero, otherwise a decimal point followed by the digits without trailing zeros.
+     */
+    void writeFraction(int nano) {
+        if (nano == 0) {
+            return;
+        }
+        int digits = 9;
+        while (nano % 10 == 0) {
+            nano /= 10;
+            digits--;
+        }
+        ensureCapacity(digits + 1);
+        buffer[position] = '.';
+        for (int i = digits; i > 0; i--) {
+            buffer[position + i] = (byte) ('0' + nano % 10);
+            nano /= 10;
+        }
+        position += digits + 1;
+    }
+
+    void writeLong(long value) {
+        if (value == Long.MIN_VALUE) {
+            writeRaw(MIN_LONG);
+            return;
+        }
+        ensureCapacity(20);
+        if (value < 0) {
+            buffer[position++] = '-';
+            value = -value;
+        }
+        int length = 1;
+        for (long v = value; v >= 10; v /= 10) {
+            length++;
+        }
+        for (int i = position + length - 1; i >= position; i--) {
+            buffer[i] = (byte) ('0' + value % 10);
+            value /= 10;
+        }
+        position += length;
+    }
+
+    void writeString(CharSequence value) {
+        final int length = value.length();
+        // worst case is 6 bytes per char for \\u00XX escapes, plus quotes
+        ensureCapacity(length + 2);
+        buffer[position++] = '"';
+        for (int i = 0; i < length; i++) {
+            final char c = value.charAt(i);
+            if (c >= 0x20 && c < 0x80 && c != '"' && c != '\\') {
+                if (position == buffer.length) {
+                    ensureCapacity(length - i + 1);
+                }
+                buffer[position++] = (byte) c;
+            } else if (c < 0x80) {
+                writeEscaped(c);
+            } else if (c < 0x800) {
+                ensureCapacity(2);
+                buffer[position++] = (byte) (0xc0 | c >> 6);
+                buffer[position++] = (byte) (0x80 | c & 0x3f);
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+                final int cp = Character.toCodePoint(c, value.charAt(++i));
+                ensureCapacity(4);
+                buffer[position++] = (byte) (0xf0 | cp >> 18);
+                buffer[position++] = (byte) (0x80 | cp >> 12 & 0x3f);
+                buffer[position++] = (byte) (0x80 | cp >> 6 & 0x3f);
+                buffer[position++] = (byte) (0x80 | cp & 0x3f);
+            } else if (Character.isSurrogate(c)) {
+                // unpaired surrogate, replaced the same way String.getBytes(UTF_8) does
+                ensureCapacity(1);
+                buffer[position++] = '?';
+            } else {
+                ensureCapacity(3);
+                buffer[position++] = (byte) (0xe0 | c >> 12);
+                buffer[position++] = (byte) (0x80 | c >> 6 & 0x3f);
+                buffer[position++] = (byte) (0x80 | c & 0x3f);
+            }
+        }
+        ensureCapacity(1);
+        buffer[position++] = '"';
+    }
+
+    private void writeEscaped(char c) {
+        ensureCapacity(6);
+        buffer[position++] = '\\';
+        switch (c) {
+            case '"':
+            case '\\':
+                buffer[position++] = (byte) c;
+                break;
+            case '\b':
+                buffer[position++] = 'b';
+                break;
+            case '\f':
+                buffer[position++] = 'f';
+                break;
+            case '\n':
+                buffer[position++] = 'n';
+                break;
+            case '\r':
+                buffer[position++] = 'r';
+                break;
+            case '\t':
+                buffer[position++] = 't';
+                break;
+            default:
+                buffer[position++] = 'u';
+                buffer[position++] = '0';
+                buffer[position++] = '0';
+                buffer[position++] = HEX[c >> 4];
+                buffer[position++] = HEX[c & 0xf];
+        }
+    }
+
+    private void separator() {
+        if (needsComma) {
+            ensureCapacity(1);
+            buffer[position++] = ',';
+        }
+        needsComma = false;
+    }
+
+    private void ensureCapacity(int additional) {
+        final int required = position + additional;
+        if (required > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(required, buffer.length << 1));
+        }
+    }
+
+    int size() {
+        return position;
+    }
+
+    @Override
+    public String toString() {
+        return new String(buffer, 0, position, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Encodes a field name as {@code "name":}.
+     */
+    static byte[] encodeName(String name) {
+        final Utf8JsonWriter writer = new Utf8JsonWriter();
+        writer.writeString(name);
+        writer.writeAscii(':');
+        return Arrays.copyOf(writer.buffer, writer.position);
+    }
+
+    /**
+     * Encodes a quoted and escaped string value.
+     */
+    static byte[] encodeString(String value) {
+        final Utf8JsonWriter writer = new Utf8JsonWriter();
+        writer.writeString(value);
+        return Arrays.copyOf(writer.buffer, writer.position);
+    }
+
+    /**
+     * Encodes a complete {@code "name":"value"} pair.
+     */
+    static byte[] encodeField(String name, String value) {
+        final Utf8JsonWriter writer = new Utf8JsonWriter();
+        writer.writeRaw(encodeName(name));
+        writer.value(value);
+        return Arrays.copyOf(writer.buffer, writer.position);
+    }
+
+    /**
+     * Encodes a complete {@code "name":number} pair.
+     */
+    static byte[] encodeField(String name, long value) {
+        final Utf8JsonWriter writer = new Utf8JsonWriter();
+        writer.writeRaw(encodeName(name));
+        writer.value(value);
+        return Arrays.copyOf(writer.buffer, writer.position);
+    }
+
+    static byte[] encodeAscii(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+}
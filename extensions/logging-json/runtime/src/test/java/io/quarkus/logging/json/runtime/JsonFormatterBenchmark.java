@@ -0,0 +1,80 @@
+package io.quarkus.logging.json.runtime;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+
+import org.jboss.logmanager.ExtLogRecord;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.quarkus.logging.json.runtime.JsonLogConfig.AdditionalFieldConfig.Type;
+
+/**
+ * Compares the default {@link JsonFormatter} with the {@link LowAllocationJsonFormatter}.
+ * <p>
+ * Run with {@code -prof gc} to compare the allocation rate per record, which is the main point of the latter, e.g. from
+ * the IDE through {@link #main(String[])}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@Fork(2)
+public class JsonFormatterBenchmark {
+
+    @Param({ "false", "true" })
+    public boolean withMdc;
+
+    private JsonFormatter jsonFormatter;
+    private LowAllocationJsonFormatter lowAllocationJsonFormatter;
+    private ExtLogRecord record;
+
+    @Setup
+    public void setup() {
+        Map<String, AdditionalField> additionalFields = new LinkedHashMap<>();
+        additionalFields.put("service.name", new AdditionalField("benchmark", Type.STRING));
+        additionalFields.put("service.instance", new AdditionalField("42", Type.INT));
+
+        jsonFormatter = new JsonFormatter();
+        jsonFormatter.setAdditionalFields(additionalFields);
+        lowAllocationJsonFormatter = new LowAllocationJsonFormatter(jsonFormatter);
+
+        record = new ExtLogRecord(Level.INFO, "Processed order {0} for customer \"{1}\" in {2} ms",
+                ExtLogRecord.FormatStyle.MESSAGE_FORMAT, JsonFormatterBenchmark.class.getName());
+        record.setParameters(new Object[] { "ORD-1234567", "ACME Corp.", 17 });
+        record.setLoggerName("io.quarkus.logging.json.benchmark");
+        if (withMdc) {
+            record.putMdc("traceId", "4bf92f3577b34da6a3ce929d0e0e4736");
+            record.putMdc("spanId", "00f067aa0ba902b7");
+            record.putMdc("sampled", "true");
+        }
+    }
+
+    @Benchmark
+    public String jsonFormatter() {
+        return jsonFormatter.format(record);
+    }
+
+    @Benchmark
+    public String lowAllocationJsonFormatter() {
+        return lowAllocationJsonFormatter.format(record);
+    }
+
+    public static void main(String[] args) throws Exception {
+        org.openjdk.jmh.Main.main(new String[] { JsonFormatterBenchmark.class.getSimpleName(), "-prof", "gc" });
+    }
+}
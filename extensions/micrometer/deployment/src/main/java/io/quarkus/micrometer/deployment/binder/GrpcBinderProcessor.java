@@ -18,9 +18,11 @@ public class GrpcBinderProcessor {
 
     static final String CLIENT_GRPC_METRICS_INTERCEPTOR = "io.quarkus.micrometer.runtime.binder.grpc.GrpcMetricsClientInterceptor";
     static final String SERVER_GRPC_METRICS_INTERCEPTOR = "io.quarkus.micrometer.runtime.binder.grpc.GrpcMetricsServerInterceptor";
+    static final String SERVER_GRPC_STALLED_STREAMS_METRICS = "io.quarkus.micrometer.runtime.binder.grpc.GrpcStalledStreamsMetrics";
 
     static final String CLIENT_INTERCEPTOR = "io.grpc.ClientInterceptor";
     static final String SERVER_INTERCEPTOR = "io.grpc.ServerInterceptor";
+    static final String STALLED_STREAMS = "io.quarkus.grpc.stubs.StalledStreams";
 
     static class GrpcClientSupportEnabled implements BooleanSupplier {
         MicrometerConfig mConfig;
@@ -52,4 +54,13 @@ AdditionalBeanBuildItem addGrpcServerMetricInterceptor(BuildProducer<AdditionalI
         return AdditionalBeanBuildItem.unremovableOf(SERVER_GRPC_METRICS_INTERCEPTOR);
     }
 
+    @BuildStep(onlyIf = GrpcServerSupportEnabled.class)
+    void addGrpcStalledStreamsMetrics(BuildProducer<AdditionalIndexedClassesBuildItem> indexedClasses,
+            BuildProducer<AdditionalBeanBuildItem> beans) {
+        if (QuarkusClassLoader.isClassPresentAtRuntime(STALLED_STREAMS)) {
+            indexedClasses.produce(new AdditionalIndexedClassesBuildItem(SERVER_GRPC_STALLED_STREAMS_METRICS));
+            beans.produce(AdditionalBeanBuildItem.unremovableOf(SERVER_GRPC_STALLED_STREAMS_METRICS));
+        }
+    }
+
 }
@@ -0,0 +1,32 @@
+package io.quarkus.micrometer.runtime.binder.grpc;
+
+import java.util.concurrent.TimeUnit;
+
+import jakarta.inject.Singleton;
+
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.quarkus.grpc.stubs.StalledStreams;
+
+/**
+ * {@link MeterBinder} for the gRPC server streams waiting for the client to consume the items already sent.
+ */
+@Singleton
+public class GrpcStalledStreamsMetrics implements MeterBinder {
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        StalledStreams stalledStreams = StalledStreams.get();
+
+        Gauge.builder("grpc.server.streams.stalled", stalledStreams, StalledStreams::getCurrent)
+                .description("The number of server streams currently waiting for the client to consume the items sent")
+                .register(registry);
+
+        FunctionTimer.builder("grpc.server.stream.stalls", stalledStreams, StalledStreams::getCount,
+                s -> s.getTotalTime(TimeUnit.NANOSECONDS), TimeUnit.NANOSECONDS)
+                .description("The time server streams spent waiting for the client to consume the items sent")
+                .register(registry);
+    }
+}
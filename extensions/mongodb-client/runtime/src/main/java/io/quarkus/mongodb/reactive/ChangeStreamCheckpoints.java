@@ -0,0 +1,153 @@
+package io.quarkus.mongodb.reactive;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.bson.BsonDocument;
+import org.jboss.logging.Logger;
+
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Tracks the batches of changes emitted to a subscriber of a {@link ChangeStreamConsumer}, to save the resume token of
+ * the last change of which all the previous changes were processed.
+ * <p>
+ * The batches may complete out of order when they are processed concurrently, so a batch is only committed once all the
+ * batches emitted before it completed. The committed resume token is saved at most once per checkpoint interval, and a
+ * single save runs at a time: a flush waits for the save in progress, then saves the last committed token.
+ */
+final class ChangeStreamCheckpoints {
+
+    private static final Logger log = Logger.getLogger(ChangeStreamCheckpoints.class);
+
+    private final String consumerName;
+    private final ResumeTokenStore store;
+    private final long intervalNanos;
+
+    private final Map<Long, BsonDocument> completedAhead = new HashMap<>();
+    private long emittedSequence;
+    private long committedSequence;
+    private BsonDocument emittedToken;
+    private BsonDocument committedToken;
+    private BsonDocument savedToken;
+    private long lastSaveTime;
+    private boolean saving;
+    private boolean savePending;
+    // completes once the save in progress is done, whether it succeeded or not
+    private Uni<Void> inFlight;
+
+    ChangeStreamCheckpoints(String consumerName, ResumeTokenStore store, Duration interval) {
+        this.consumerName = consumerName;
+        this.store = store;
+        this.intervalNanos = interval.toNanos();
+        this.lastSaveTime = System.nanoTime();
+    }
+
+    /**
+     * Registers a batch of changes about to be emitted.
+     */
+    synchronized <D> Batch<D> emit(List<ChangeStreamDocument<D>> events) {
+        emittedToken = events.get(events.size() - 1).getResumeToken();
+        return new Batch<>(++emittedSequence, events, emittedToken);
+    }
+
+    /**
+     * @return the resume token of the last change emitted, or {@code null} if no change was emitted yet
+     */
+    synchronized BsonDocument emittedToken() {
+        return emittedToken;
+    }
+
+    /**
+     * @return the resume token of the last change committed, or {@code null} if no change was committed yet
+     */
+    synchronized BsonDocument committedToken() {
+        return committedToken;
+    }
+
+    /**
+     * Records that a batch was processed, and saves the committed resume token if the checkpoint interval elapsed.
+     */
+    Uni<Void> complete(Batch<?> batch) {
+        synchronized (this) {
+            completedAhead.put(batch.sequence(), batch.resumeToken());
+            BsonDocument token;
+            while ((token = completedAhead.remove(committedSequence + 1)) != null) {
+                committedSequence++;
+                committedToken = token;
+            }
+        }
+        return save(false);
+    }
+
+    /**
+     * Saves the committed resume token, whether the checkpoint interval elapsed or not, once the save in progress if any
+     * is done.
+     */
+    Uni<Void> flush() {
+        return save(true);
+    }
+
+    private Uni<Void> save(boolean force) {
+        BsonDocument token;
+        Uni<Void> completion;
+        synchronized (this) {
+            if (store == null || committedToken == null || committedToken == savedToken) {
+                return Uni.createFrom().voidItem();
+            }
+            long now = System.nanoTime();
+            if (!force && now - lastSaveTime < intervalNanos) {
+                return Uni.createFrom().voidItem();
+            }
+            if (saving) {
+                if (force) {
+                    // the save in progress may be for an older token
+                    return inFlight.chain(() -> save(true));
+                }
+                savePending = true;
+                return Uni.createFrom().voidItem();
+            }
+            saving = true;
+            lastSaveTime = now;
+            token = committedToken;
+            completion = store.save(consumerName, token)
+                    .onItemOrFailure().invoke((ignored, failure) -> {
+                        synchronized (this) {
+                            saving = false;
+                            if (failure == null) {
+                                savedToken = token;
+                            }
+                        }
+                        if (failure != null) {
+                            log.warnf(failure, "Unable to save the resume token of the change stream consumer %s",
+                                    consumerName);
+                        }
+                    })
+                    .onFailure().recoverWithNull()
+                    .memoize().indefinitely();
+            inFlight = completion;
+        }
+        return completion.chain(() -> {
+            boolean again;
+            synchronized (this) {
+                again = savePending;
+                savePending = false;
+            }
+            return again ? save(true) : Uni.createFrom().voidItem();
+        });
+    }
+
+    /**
+     * A batch of changes emitted to the subscriber.
+     *
+     * @param sequence the position of the batch in the emitted batches
+     * @param events the changes
+     * @param resumeToken the resume token of the last change of the batch
+     */
+    record Batch<D>(long sequence, List<ChangeStreamDocument<D>> events, BsonDocument resumeToken) {
+    }
+}
@@ -0,0 +1,312 @@
+package io.quarkus.mongodb.reactive;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.jboss.logging.Logger;
+
+import com.mongodb.MongoCursorNotFoundException;
+import com.mongodb.MongoException;
+import com.mongodb.MongoNodeIsRecoveringException;
+import com.mongodb.MongoNotPrimaryException;
+import com.mongodb.MongoSocketException;
+import com.mongodb.MongoTimeoutException;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.mongodb.client.model.changestream.FullDocument;
+
+import io.quarkus.mongodb.ChangeStreamOptions;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Consumes the change stream of a collection in batches, and saves its position periodically so that it resumes where it
+ * stopped.
+ * <p>
+ * The changes are grouped in batches of at most {@link #batchSize(int)} changes, a batch being emitted early when no
+ * change comes within {@link #batchTimeout(Duration)}. Up to {@link #concurrency(int)} batches are processed at the same
+ * time. Once a batch and all the batches before it are processed, the resume token of its last change becomes the
+ * position of the consumer, which is saved to the {@link #resumeTokenStore(ResumeTokenStore) resume token store} at most
+ * once per {@link #checkpointInterval(Duration)} and when the consumer stops. The changes are therefore processed at
+ * least once: the changes processed since the last checkpoint are processed again after a restart.
+ * <p>
+ * When the change stream fails with a resumable error, because the primary stepped down for instance, the consumer resumes
+ * after the last change it emitted, with an exponential back-off. Other errors stop the consumer, in particular when its
+ * resume token is invalid or no longer in the oplog: it then has to be removed from the store, and the changes missed
+ * since reconciled by other means.
+ * <p>
+ * With SmallRye Reactive Messaging, {@link ChangeStreamMessages} exposes the batches as messages, for a method annotated
+ * with {@code @Outgoing} to use the consumer as the source of a channel.
+ *
+ * @param <D> the type of the documents of the changes
+ */
+public final class ChangeStreamConsumer<D> {
+
+    private static final Logger log = Logger.getLogger(ChangeStreamConsumer.class);
+
+    private static final String RESUMABLE_CHANGE_STREAM_ERROR_LABEL = "ResumableChangeStreamError";
+    // CappedPositionLost, InvalidResumeToken, ChangeStreamFatalError and ChangeStreamHistoryLost
+    private static final Set<Integer> NON_RESUMABLE_ERROR_CODES = Set.of(136, 260, 280, 286);
+
+    private final ReactiveMongoCollection<?> collection;
+    private final String name;
+    private final Class<D> documentClass;
+
+    private List<? extends Bson> pipeline = Collections.emptyList();
+    private FullDocument fullDocument;
+    private Duration maxAwaitTime;
+    private int batchSize = 100;
+    private Duration batchTimeout = Duration.ofMillis(500);
+    private int concurrency = 1;
+    private ResumeTokenStore resumeTokenStore;
+    private Duration checkpointInterval = Duration.ofSeconds(5);
+    private Duration initialBackOff = Duration.ofSeconds(1);
+    private Duration maxBackOff = Duration.ofMinutes(1);
+
+    // the position reached by the last subscription, to resume from there without reading the store again
+    private volatile BsonDocument resumeToken;
+
+    private ChangeStreamConsumer(ReactiveMongoCollection<?> collection, String name, Class<D> documentClass) {
+        this.collection = Objects.requireNonNull(collection, "collection must not be null");
+        this.name = Objects.requireNonNull(name, "name must not be null");
+        this.documentClass = Objects.requireNonNull(documentClass, "documentClass must not be null");
+    }
+
+    /**
+     * Creates a consumer of the change stream of the given collection.
+     *
+     * @param collection the collection to watch
+     * @param name the name of the consumer, under which its resume token is saved
+     * @return the consumer
+     */
+    public static ChangeStreamConsumer<Document> of(ReactiveMongoCollection<?> collection, String name) {
+        return new ChangeStreamConsumer<>(collection, name, Document.class);
+    }
+
+    /**
+     * Creates a consumer of the change stream of the given collection.
+     *
+     * @param collection the collection to watch
+     * @param name the name of the consumer, under which its resume token is saved
+     * @param documentClass the class to decode each document into
+     * @param <D> the type of the documents of the changes
+     * @return the consumer
+     */
+    public static <D> ChangeStreamConsumer<D> of(ReactiveMongoCollection<?> collection, String name,
+            Class<D> documentClass) {
+        return new ChangeStreamConsumer<>(collection, name, documentClass);
+    }
+
+    /**
+     * Sets the aggregation pipeline applied to the change stream, to filter the changes on the server.
+     *
+     * @param pipeline the aggregation pipeline
+     * @return this
+     */
+    public ChangeStreamConsumer<D> pipeline(List<? extends Bson> pipeline) {
+        this.pipeline = Objects.requireNonNull(pipeline, "pipeline must not be null");
+        return this;
+    }
+
+    /**
+     * Sets the fullDocument value.
+     *
+     * @param fullDocument the fullDocument
+     * @return this
+     */
+    public ChangeStreamConsumer<D> fullDocument(FullDocument fullDocument) {
+        this.fullDocument = fullDocument;
+        return this;
+    }
+
+    /**
+     * Sets the maximum time the server waits for new changes before answering a request for more changes.
+     *
+     * @param maxAwaitTime the max await time
+     * @return this
+     */
+    public ChangeStreamConsumer<D> maxAwaitTime(Duration maxAwaitTime) {
+        this.maxAwaitTime = maxAwaitTime;
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of changes of a batch, 100 by default.
+     *
+     * @param batchSize the maximum number of changes of a batch
+     * @return this
+     */
+    public ChangeStreamConsumer<D> batchSize(int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("batchSize must be greater than 0");
+        }
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    /**
+     * Sets how long to wait for more changes before emitting an incomplete batch, 500 milliseconds by default.
+     *
+     * @param batchTimeout the maximum time to wait for a batch to be complete
+     * @return this
+     */
+    public ChangeStreamConsumer<D> batchTimeout(Duration batchTimeout) {
+        this.batchTimeout = Objects.requireNonNull(batchTimeout, "batchTimeout must not be null");
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of batches processed at the same time by {@link #process(Function)}, 1 by default.
+     *
+     * @param concurrency the maximum number of batches processed at the same time
+     * @return this
+     */
+    public ChangeStreamConsumer<D> concurrency(int concurrency) {
+        if (concurrency < 1) {
+            throw new IllegalArgumentException("concurrency must be greater than 0");
+        }
+        this.concurrency = concurrency;
+        return this;
+    }
+
+    /**
+     * Sets the store of the resume token. Without a store, the consumer starts from the current time when the application
+     * starts.
+     *
+     * @param resumeTokenStore the resume token store
+     * @return this
+     */
+    public ChangeStreamConsumer<D> resumeTokenStore(ResumeTokenStore resumeTokenStore) {
+        this.resumeTokenStore = resumeTokenStore;
+        return this;
+    }
+
+    /**
+     * Sets the minimum time between two saves of the resume token, 5 seconds by default.
+     *
+     * @param checkpointInterval the minimum time between two saves of the resume token
+     * @return this
+     */
+    public ChangeStreamConsumer<D> checkpointInterval(Duration checkpointInterval) {
+        this.checkpointInterval = Objects.requireNonNull(checkpointInterval, "checkpointInterval must not be null");
+        return this;
+    }
+
+    /**
+     * Sets the back-off between the attempts to resume the change stream after a failure, from 1 second to 1 minute by
+     * default.
+     *
+     * @param initialBackOff the back-off before the first attempt
+     * @param maxBackOff the maximum back-off
+     * @return this
+     */
+    public ChangeStreamConsumer<D> retryBackOff(Duration initialBackOff, Duration maxBackOff) {
+        this.initialBackOff = Objects.requireNonNull(initialBackOff, "initialBackOff must not be null");
+        this.maxBackOff = Objects.requireNonNull(maxBackOff, "maxBackOff must not be null");
+        return this;
+    }
+
+    /**
+     * Processes the changes in batches.
+     * <p>
+     * Nothing happens until the returned {@link Multi} is subscribed to. Cancelling the subscription stops the consumer
+     * and saves its position. A failure of the processor also stops the consumer, after saving the position of the
+     * batches processed before the failed one.
+     *
+     * @param processor the function processing a batch of changes
+     * @return a stream emitting each batch once it is processed
+     */
+    public Multi<List<ChangeStreamDocument<D>>> process(
+            Function<List<ChangeStreamDocument<D>>, Uni<Void>> processor) {
+        Objects.requireNonNull(processor, "processor must not be null");
+        return Multi.createFrom().deferred(() -> {
+            ChangeStreamCheckpoints checkpoints = newCheckpoints();
+            return batches(checkpoints)
+                    .onItem().transformToUni(batch -> processor.apply(batch.events())
+                            .chain(() -> checkpoints.complete(batch))
+                            .replaceWith(batch.events()))
+                    .merge(concurrency)
+                    .onTermination().call(() -> stop(checkpoints));
+        });
+    }
+
+    ChangeStreamCheckpoints newCheckpoints() {
+        return new ChangeStreamCheckpoints(name, resumeTokenStore, checkpointInterval);
+    }
+
+    /**
+     * Saves the position of the consumer, for a later subscription to resume from there.
+     */
+    Uni<Void> stop(ChangeStreamCheckpoints checkpoints) {
+        BsonDocument committed = checkpoints.committedToken();
+        if (committed != null) {
+            resumeToken = committed;
+        }
+        return checkpoints.flush();
+    }
+
+    /**
+     * @return the batches of changes, registered to the given checkpoints when they are emitted
+     */
+    Multi<ChangeStreamCheckpoints.Batch<D>> batches(ChangeStreamCheckpoints checkpoints) {
+        return Multi.createFrom().deferred(() -> startToken(checkpoints).onItem().transformToMulti(this::watch))
+                .group().intoLists().of(batchSize, batchTimeout)
+                .select().where(events -> !events.isEmpty())
+                .map(checkpoints::emit)
+                .onFailure(ChangeStreamConsumer::isResumable).invoke(failure -> log.warnf(failure,
+                        "The change stream of the consumer %s failed, resuming after a back-off", name))
+                .onFailure(failure -> !isResumable(failure)).invoke(failure -> log.errorf(failure,
+                        "The change stream of the consumer %s failed with an error that cannot be resumed", name))
+                .onFailure(ChangeStreamConsumer::isResumable).retry().withBackOff(initialBackOff, maxBackOff)
+                .indefinitely();
+    }
+
+    /**
+     * @return whether the change stream can be opened again after the given failure, from the last resume token
+     */
+    static boolean isResumable(Throwable failure) {
+        if (!(failure instanceof MongoException mongoException)
+                || NON_RESUMABLE_ERROR_CODES.contains(mongoException.getCode())) {
+            return false;
+        }
+        return mongoException.hasErrorLabel(RESUMABLE_CHANGE_STREAM_ERROR_LABEL)
+                || mongoException instanceof MongoSocketException
+                || mongoException instanceof MongoTimeoutException
+                || mongoException instanceof MongoNotPrimaryException
+                || mongoException instanceof MongoNodeIsRecoveringException
+                || mongoException instanceof MongoCursorNotFoundException;
+    }
+
+    private Uni<BsonDocument> startToken(ChangeStreamCheckpoints checkpoints) {
+        // after a failure of the change stream, the changes already emitted are being processed
+        BsonDocument token = checkpoints.emittedToken();
+        if (token == null) {
+            token = resumeToken;
+        }
+        if (token != null || resumeTokenStore == null) {
+            return Uni.createFrom().item(token);
+        }
+        return resumeTokenStore.load(name);
+    }
+
+    private Multi<ChangeStreamDocument<D>> watch(BsonDocument token) {
+        ChangeStreamOptions options = new ChangeStreamOptions();
+        if (fullDocument != null) {
+            options.fullDocument(fullDocument);
+        }
+        if (maxAwaitTime != null) {
+            options.maxAwaitTime(maxAwaitTime.toMillis(), TimeUnit.MILLISECONDS);
+        }
+        if (token != null) {
+            options.resumeAfter(token);
+        }
+        return collection.watch(pipeline, documentClass, options);
+    }
+}
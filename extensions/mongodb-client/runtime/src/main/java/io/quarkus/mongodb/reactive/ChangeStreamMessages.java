@@ -0,0 +1,58 @@
+package io.quarkus.mongodb.reactive;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.eclipse.microprofile.reactive.messaging.Message;
+
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+
+import io.smallrye.mutiny.Multi;
+
+/**
+ * Exposes the batches of a {@link ChangeStreamConsumer} as Reactive Messaging messages:
+ *
+ * <pre>
+ * &#64;Outgoing("orders-changes")
+ * Multi&lt;Message&lt;List&lt;ChangeStreamDocument&lt;Document&gt;&gt;&gt;&gt; changes() {
+ *     return ChangeStreamMessages.of(ChangeStreamConsumer.of(orders, "orders-sync")
+ *             .resumeTokenStore(new MongoResumeTokenStore(checkpoints)));
+ * }
+ * </pre>
+ *
+ * A batch is processed when its message is acknowledged. A negatively acknowledged batch ends the stream with a
+ * failure: the position of the consumer is saved before this batch, so that it is consumed again after a restart. The
+ * number of batches processed at the same time is the one of the downstream channel,
+ * {@link ChangeStreamConsumer#concurrency(int)} does not apply.
+ */
+public final class ChangeStreamMessages {
+
+    private ChangeStreamMessages() {
+    }
+
+    /**
+     * @param consumer the consumer of the change stream
+     * @param <D> the type of the documents of the changes
+     * @return a stream emitting a message for each batch of changes
+     */
+    public static <D> Multi<Message<List<ChangeStreamDocument<D>>>> of(ChangeStreamConsumer<D> consumer) {
+        return Multi.createFrom().deferred(() -> {
+            ChangeStreamCheckpoints checkpoints = consumer.newCheckpoints();
+            CompletableFuture<Void> nacked = new CompletableFuture<>();
+            Multi<Message<List<ChangeStreamDocument<D>>>> messages = consumer.batches(checkpoints)
+                    .map(batch -> Message.of(batch.events(),
+                            () -> checkpoints.complete(batch).subscribeAsCompletionStage(),
+                            failure -> {
+                                nacked.completeExceptionally(new IllegalStateException("A batch of "
+                                        + batch.events().size() + " changes was not processed, the change stream"
+                                        + " consumer stops before this batch", failure));
+                                return CompletableFuture.completedFuture(null);
+                            }));
+            // the batches acknowledged after a negatively acknowledged one are never committed
+            Multi<Message<List<ChangeStreamDocument<D>>>> stopOnNack = Multi.createFrom()
+                    .emitter(emitter -> nacked.whenComplete((ignored, failure) -> emitter.fail(failure)));
+            return Multi.createBy().merging().streams(messages, stopOnNack)
+                    .onTermination().call(() -> consumer.stop(checkpoints));
+        });
+    }
+}
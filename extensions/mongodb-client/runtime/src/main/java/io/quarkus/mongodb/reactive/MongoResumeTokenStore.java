@@ -0,0 +1,45 @@
+package io.quarkus.mongodb.reactive;
+
+import org.bson.BsonDateTime;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.ReplaceOptions;
+
+import io.smallrye.mutiny.Uni;
+
+/**
+ * A {@link ResumeTokenStore} keeping the resume tokens in a MongoDB collection, one document per consumer.
+ */
+public class MongoResumeTokenStore implements ResumeTokenStore {
+
+    private static final String ID_FIELD = "_id";
+    private static final String RESUME_TOKEN_FIELD = "resumeToken";
+    private static final String UPDATED_AT_FIELD = "updatedAt";
+
+    private final ReactiveMongoCollection<BsonDocument> collection;
+
+    /**
+     * @param collection the collection in which the resume tokens are stored
+     */
+    public MongoResumeTokenStore(ReactiveMongoCollection<?> collection) {
+        this.collection = collection.withDocumentClass(BsonDocument.class);
+    }
+
+    @Override
+    public Uni<BsonDocument> load(String consumerName) {
+        return collection.find(Filters.eq(ID_FIELD, consumerName))
+                .collect().first()
+                .map(document -> document == null ? null : document.getDocument(RESUME_TOKEN_FIELD, null));
+    }
+
+    @Override
+    public Uni<Void> save(String consumerName, BsonDocument resumeToken) {
+        BsonDocument document = new BsonDocument(ID_FIELD, new BsonString(consumerName))
+                .append(RESUME_TOKEN_FIELD, resumeToken)
+                .append(UPDATED_AT_FIELD, new BsonDateTime(System.currentTimeMillis()));
+        return collection.replaceOne(Filters.eq(ID_FIELD, consumerName), document, new ReplaceOptions().upsert(true))
+                .replaceWithVoid();
+    }
+}
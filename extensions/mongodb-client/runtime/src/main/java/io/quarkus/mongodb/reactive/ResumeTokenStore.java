@@ -0,0 +1,31 @@
+package io.quarkus.mongodb.reactive;
+
+import org.bson.BsonDocument;
+
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Stores the resume tokens of the {@link ChangeStreamConsumer change stream consumers}, so that they resume where they
+ * stopped after a restart.
+ *
+ * @see MongoResumeTokenStore
+ */
+public interface ResumeTokenStore {
+
+    /**
+     * Loads the resume token of a consumer.
+     *
+     * @param consumerName the name of the consumer
+     * @return a {@link Uni} emitting the last resume token saved for the consumer, or {@code null} if there is none
+     */
+    Uni<BsonDocument> load(String consumerName);
+
+    /**
+     * Saves the resume token of a consumer, replacing the previous one.
+     *
+     * @param consumerName the name of the consumer
+     * @param resumeToken the resume token of the last change processed by the consumer
+     * @return a {@link Uni} completed when the resume token is saved
+     */
+    Uni<Void> save(String consumerName, BsonDocument resumeToken);
+}
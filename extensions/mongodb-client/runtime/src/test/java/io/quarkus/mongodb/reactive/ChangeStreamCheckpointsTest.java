@@ -0,0 +1,85 @@
+package io.quarkus.mongodb.reactive;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.helpers.test.UniAssertSubscriber;
+
+class ChangeStreamCheckpointsTest {
+
+    private final ControlledStore store = new ControlledStore();
+    private final ChangeStreamCheckpoints checkpoints = new ChangeStreamCheckpoints("consumer", store, Duration.ZERO);
+
+    @Test
+    void testFlushWaitsForTheSaveInProgress() {
+        BsonDocument first = token("first");
+        BsonDocument second = token("second");
+        checkpoints.complete(new ChangeStreamCheckpoints.Batch<>(1, List.of(), first))
+                .subscribe().withSubscriber(UniAssertSubscriber.create());
+        // the first token is being saved when the second batch completes
+        checkpoints.complete(new ChangeStreamCheckpoints.Batch<>(2, List.of(), second))
+                .subscribe().withSubscriber(UniAssertSubscriber.create())
+                .assertCompleted();
+
+        UniAssertSubscriber<Void> flush = checkpoints.flush().subscribe().withSubscriber(UniAssertSubscriber.create());
+        flush.assertNotTerminated();
+
+        store.completeSave(0);
+        flush.assertNotTerminated();
+        assertThat(store.saved).containsExactly(first);
+
+        store.completeSave(1);
+        flush.assertCompleted();
+        assertThat(store.saved).containsExactly(first, second);
+    }
+
+    @Test
+    void testFlushSavesTheCommittedTokenAfterAFailedSave() {
+        BsonDocument first = token("first");
+        checkpoints.complete(new ChangeStreamCheckpoints.Batch<>(1, List.of(), first))
+                .subscribe().withSubscriber(UniAssertSubscriber.create());
+
+        UniAssertSubscriber<Void> flush = checkpoints.flush().subscribe().withSubscriber(UniAssertSubscriber.create());
+        store.saves.get(0).completeExceptionally(new IllegalStateException("unavailable"));
+        flush.assertNotTerminated();
+
+        store.completeSave(1);
+        flush.assertCompleted();
+        assertThat(store.saved).containsExactly(first);
+    }
+
+    private static BsonDocument token(String data) {
+        return new BsonDocument("_data", new BsonString(data));
+    }
+
+    static class ControlledStore implements ResumeTokenStore {
+
+        final List<CompletableFuture<Void>> saves = new CopyOnWriteArrayList<>();
+        final List<BsonDocument> saved = new CopyOnWriteArrayList<>();
+
+        @Override
+        public Uni<BsonDocument> load(String consumerName) {
+            return Uni.createFrom().nullItem();
+        }
+
+        @Override
+        public Uni<Void> save(String consumerName, BsonDocument resumeToken) {
+            CompletableFuture<Void> save = new CompletableFuture<>();
+            saves.add(save);
+            return Uni.createFrom().completionStage(save).invoke(() -> saved.add(resumeToken));
+        }
+
+        void completeSave(int index) {
+            saves.get(index).complete(null);
+        }
+    }
+}
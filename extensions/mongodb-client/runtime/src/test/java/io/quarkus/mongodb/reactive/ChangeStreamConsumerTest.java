@@ -0,0 +1,174 @@
+package io.quarkus.mongodb.reactive;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+
+import com.mongodb.MongoCommandException;
+import com.mongodb.MongoException;
+import com.mongodb.MongoSocketReadException;
+import com.mongodb.ServerAddress;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.mongodb.client.model.changestream.FullDocument;
+import com.mongodb.reactivestreams.client.MongoClients;
+
+import io.quarkus.mongodb.impl.ReactiveMongoClientImpl;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.subscription.Cancellable;
+
+@DisabledOnOs(value = OS.WINDOWS, disabledReason = "Flapdoodle doesn't work very well on Windows with replicas")
+class ChangeStreamConsumerTest extends MongoWithReplicasTestBase {
+
+    private static final String CONSUMER_NAME = "items-consumer";
+
+    private ReactiveMongoClient client;
+    private ReactiveMongoCollection<Document> items;
+    private ResumeTokenStore store;
+
+    @BeforeEach
+    void init() {
+        client = new ReactiveMongoClientImpl(
+                MongoClients.create("mongodb://localhost:27018,localhost:27019/?replicaSet=test001"));
+        ReactiveMongoDatabase database = client.getDatabase("change-stream-consumer");
+        database.drop().await().indefinitely();
+        items = database.getCollection("items");
+        store = new MongoResumeTokenStore(database.getCollection("resume-tokens"));
+    }
+
+    @AfterEach
+    void cleanup() {
+        client.close();
+    }
+
+    @Test
+    void testThatConsumerResumesFromSavedPosition() {
+        List<ChangeStreamDocument<Document>> received = new CopyOnWriteArrayList<>();
+        Cancellable subscription = consumer().process(batch -> {
+            assertThat(batch).hasSizeLessThanOrEqualTo(2);
+            received.addAll(batch);
+            return Uni.createFrom().voidItem();
+        }).subscribe().with(batch -> {
+        });
+
+        // the change stream starts from the current time, wait for it to be opened
+        await().pollInterval(Duration.ofMillis(200)).until(() -> {
+            items.insertOne(new Document("warmup", true)).await().indefinitely();
+            return !received.isEmpty();
+        });
+        for (int i = 0; i < 5; i++) {
+            items.insertOne(new Document("value", i)).await().indefinitely();
+        }
+        await().until(() -> values(received).equals(List.of(0, 1, 2, 3, 4)));
+        subscription.cancel();
+        await().until(() -> received.get(received.size() - 1).getResumeToken()
+                .equals(store.load(CONSUMER_NAME).await().indefinitely()));
+
+        for (int i = 5; i < 8; i++) {
+            items.insertOne(new Document("value", i)).await().indefinitely();
+        }
+        List<ChangeStreamDocument<Document>> resumed = new CopyOnWriteArrayList<>();
+        subscription = consumer().process(batch -> {
+            resumed.addAll(batch);
+            return Uni.createFrom().voidItem();
+        }).subscribe().with(batch -> {
+        });
+        await().until(() -> resumed.size() >= 3);
+        subscription.cancel();
+        assertThat(values(resumed)).containsExactly(5, 6, 7);
+    }
+
+    @Test
+    void testThatANackedBatchStopsTheMessagesBeforeIt() {
+        List<ChangeStreamDocument<Document>> received = new CopyOnWriteArrayList<>();
+        List<BsonDocument> acked = new CopyOnWriteArrayList<>();
+        AtomicReference<BsonDocument> ackedBeforeNack = new AtomicReference<>();
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        ChangeStreamMessages.of(consumer()).subscribe().with(message -> {
+            List<ChangeStreamDocument<Document>> batch = message.getPayload();
+            received.addAll(batch);
+            if (values(batch).contains(0)) {
+                ackedBeforeNack.set(acked.get(acked.size() - 1));
+                message.nack(new IllegalStateException("rejected"));
+            } else {
+                message.ack();
+                acked.add(batch.get(batch.size() - 1).getResumeToken());
+            }
+        }, failure::set);
+
+        await().pollInterval(Duration.ofMillis(200)).until(() -> {
+            items.insertOne(new Document("warmup", true)).await().indefinitely();
+            return !received.isEmpty();
+        });
+        // the batches after the nacked one are acknowledged, until the stream fails
+        for (int i = 0; i < 4; i++) {
+            items.insertOne(new Document("value", i)).await().indefinitely();
+        }
+        await().until(() -> failure.get() != null);
+        assertThat(failure.get()).isInstanceOf(IllegalStateException.class)
+                .hasRootCauseMessage("rejected");
+
+        // the position was saved before the nacked batch, whatever the batches acknowledged after it
+        assertThat(store.load(CONSUMER_NAME).await().indefinitely()).isEqualTo(ackedBeforeNack.get());
+
+        List<ChangeStreamDocument<Document>> resumed = new CopyOnWriteArrayList<>();
+        Cancellable subscription = consumer().process(batch -> {
+            resumed.addAll(batch);
+            return Uni.createFrom().voidItem();
+        }).subscribe().with(batch -> {
+        });
+        await().until(() -> values(resumed).size() >= 4);
+        subscription.cancel();
+        assertThat(values(resumed)).containsExactly(0, 1, 2, 3);
+    }
+
+    @Test
+    void testThatOnlyResumableErrorsAreRetried() {
+        assertThat(ChangeStreamConsumer.isResumable(new MongoSocketReadException("closed", new ServerAddress())))
+                .isTrue();
+        MongoException labelled = new MongoException("interrupted");
+        labelled.addLabel("ResumableChangeStreamError");
+        assertThat(ChangeStreamConsumer.isResumable(labelled)).isTrue();
+
+        assertThat(ChangeStreamConsumer.isResumable(commandError(286, "ChangeStreamHistoryLost"))).isFalse();
+        assertThat(ChangeStreamConsumer.isResumable(commandError(260, "InvalidResumeToken"))).isFalse();
+        assertThat(ChangeStreamConsumer.isResumable(commandError(13, "Unauthorized"))).isFalse();
+        assertThat(ChangeStreamConsumer.isResumable(new IllegalStateException())).isFalse();
+    }
+
+    private static MongoCommandException commandError(int code, String codeName) {
+        return new MongoCommandException(BsonDocument.parse(
+                "{ok: 0, code: " + code + ", codeName: '" + codeName + "', errmsg: '" + codeName + "'}"),
+                new ServerAddress());
+    }
+
+    private ChangeStreamConsumer<Document> consumer() {
+        return ChangeStreamConsumer.of(items, CONSUMER_NAME)
+                .fullDocument(FullDocument.UPDATE_LOOKUP)
+                .batchSize(2)
+                .batchTimeout(Duration.ofMillis(100))
+                .concurrency(2)
+                .checkpointInterval(Duration.ZERO)
+                .resumeTokenStore(store);
+    }
+
+    private static List<Integer> values(List<ChangeStreamDocument<Document>> changes) {
+        return changes.stream()
+                .map(ChangeStreamDocument::getFullDocument)
+                .filter(document -> document.containsKey("value"))
+                .map(document -> document.getInteger("value"))
+                .collect(Collectors.toList());
+    }
+}
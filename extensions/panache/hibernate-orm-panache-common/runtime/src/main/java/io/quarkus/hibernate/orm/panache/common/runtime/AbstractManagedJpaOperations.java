@@ -1,6 +1,10 @@
 package io.quarkus.hibernate.orm.panache.common.runtime;
 
+import java.time.Duration;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Stream;
 
@@ -8,9 +12,16 @@
 import jakarta.persistence.LockModeType;
 
 import org.hibernate.Session;
+import org.jboss.logging.Logger;
+
+import io.quarkus.panache.common.BulkPersist;
+import io.quarkus.panache.common.BulkPersistResult;
+import io.quarkus.panache.hibernate.common.runtime.PanacheJpaUtil;
 
 public abstract class AbstractManagedJpaOperations<PanacheQueryType> extends AbstractJpaOperations<PanacheQueryType, Session> {
 
+    private static final Logger LOG = Logger.getLogger(AbstractManagedJpaOperations.class);
+
     protected AbstractManagedJpaOperations() {
         super(Session.class);
     }
@@ -58,6 +69,46 @@ public void persist(Stream<?> entities) {
         entities.forEach(entity -> persist(entity));
     }
 
+    /**
+     * Persists the given entities in chunks: each chunk is flushed as a single JDBC batch,
+     * then the sessions it was persisted through are cleared.
+     * The JDBC batch size of these sessions is set to the chunk size for the duration of the operation.
+     */
+    public BulkPersistResult bulkPersist(Iterator<?> entities, BulkPersist options) {
+        long start = System.nanoTime();
+        // the sessions used so far, and their JDBC batch size before the operation
+        Map<Session, Integer> previousBatchSizes = new IdentityHashMap<>();
+        Map<Session, Boolean> chunkSessions = new IdentityHashMap<>();
+        long entityCount = 0;
+        int chunkCount = 0;
+        try {
+            List<Object> chunk;
+            while (!(chunk = PanacheJpaUtil.nextBulkChunk(entities, options)).isEmpty()) {
+                for (Object entity : chunk) {
+                    Session session = getSession(entity.getClass());
+                    if (chunkSessions.put(session, Boolean.TRUE) == null && !previousBatchSizes.containsKey(session)) {
+                        previousBatchSizes.put(session, session.getJdbcBatchSize());
+                        session.setJdbcBatchSize(options.chunkSize);
+                    }
+                    session.persist(entity);
+                }
+                for (Session session : chunkSessions.keySet()) {
+                    session.flush();
+                    session.clear();
+                }
+                chunkSessions.clear();
+                entityCount += chunk.size();
+                chunkCount++;
+            }
+        } finally {
+            previousBatchSizes.forEach(Session::setJdbcBatchSize);
+        }
+        BulkPersistResult result = new BulkPersistResult(entityCount, chunkCount,
+                Duration.ofNanos(System.nanoTime() - start));
+        LOG.debugf("Bulk persisted %s", result);
+        return result;
+    }
+
     public void delete(Object entity) {
         Session session = getSession(entity.getClass());
         session.remove(session.contains(entity) ? entity : session.getReference(entity));
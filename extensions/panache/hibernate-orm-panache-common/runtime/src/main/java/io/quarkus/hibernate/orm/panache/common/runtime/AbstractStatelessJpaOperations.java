@@ -1,6 +1,11 @@
 package io.quarkus.hibernate.orm.panache.common.runtime;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Stream;
 
@@ -8,10 +13,17 @@
 
 import org.hibernate.LockMode;
 import org.hibernate.StatelessSession;
+import org.jboss.logging.Logger;
+
+import io.quarkus.panache.common.BulkPersist;
+import io.quarkus.panache.common.BulkPersistResult;
+import io.quarkus.panache.hibernate.common.runtime.PanacheJpaUtil;
 
 public abstract class AbstractStatelessJpaOperations<PanacheQueryType>
         extends AbstractJpaOperations<PanacheQueryType, StatelessSession> {
 
+    private static final Logger LOG = Logger.getLogger(AbstractStatelessJpaOperations.class);
+
     protected AbstractStatelessJpaOperations() {
         super(StatelessSession.class);
     }
@@ -42,6 +54,44 @@ public void insert(Stream<?> entities) {
         entities.forEach(entity -> insert(entity));
     }
 
+    /**
+     * Inserts the given entities in chunks, each chunk being sent to the database as JDBC batches of the chunk size.
+     * The JDBC batch size of the sessions is set to the chunk size for the duration of the operation.
+     */
+    public BulkPersistResult bulkInsert(Iterator<?> entities, BulkPersist options) {
+        long start = System.nanoTime();
+        // the sessions used so far, and their JDBC batch size before the operation
+        Map<StatelessSession, Integer> previousBatchSizes = new IdentityHashMap<>();
+        Map<StatelessSession, List<Object>> chunkSessions = new IdentityHashMap<>();
+        long entityCount = 0;
+        int chunkCount = 0;
+        try {
+            List<Object> chunk;
+            while (!(chunk = PanacheJpaUtil.nextBulkChunk(entities, options)).isEmpty()) {
+                for (Object entity : chunk) {
+                    StatelessSession session = getSession(entity.getClass());
+                    chunkSessions.computeIfAbsent(session, s -> {
+                        if (!previousBatchSizes.containsKey(s)) {
+                            previousBatchSizes.put(s, s.getJdbcBatchSize());
+                            s.setJdbcBatchSize(options.chunkSize);
+                        }
+                        return new ArrayList<>();
+                    }).add(entity);
+                }
+                chunkSessions.forEach(StatelessSession::insertMultiple);
+                chunkSessions.clear();
+                entityCount += chunk.size();
+                chunkCount++;
+            }
+        } finally {
+            previousBatchSizes.forEach(StatelessSession::setJdbcBatchSize);
+        }
+        BulkPersistResult result = new BulkPersistResult(entityCount, chunkCount,
+                Duration.ofNanos(System.nanoTime() - start));
+        LOG.debugf("Bulk inserted %s", result);
+        return result;
+    }
+
     public void update(Object entity) {
         StatelessSession session = getSession(entity.getClass());
         update(session, entity);
@@ -32,7 +32,9 @@
 import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
 import io.quarkus.deployment.util.JandexUtil;
+import io.quarkus.hibernate.orm.deployment.JpaModelBuildItem;
 import io.quarkus.hibernate.orm.deployment.JpaModelPersistenceUnitMappingBuildItem;
+import io.quarkus.hibernate.orm.deployment.PrecompiledQueryBuildItem;
 import io.quarkus.hibernate.orm.deployment.spi.AdditionalJpaModelBuildItem;
 import io.quarkus.hibernate.orm.panache.PanacheEntity;
 import io.quarkus.hibernate.orm.panache.PanacheEntityBase;
@@ -139,6 +141,27 @@ void build(
                 .forEach((e, pu) -> entityToPersistenceUnit.produce(new EntityToPersistenceUnitBuildItem(e, pu)));
     }
 
+    @BuildStep
+    void precompileEntityQueries(Optional<JpaModelBuildItem> jpaModel,
+            List<EntityToPersistenceUnitBuildItem> panacheEntities,
+            BuildProducer<PrecompiledQueryBuildItem> precompiledQueries) {
+        if (jpaModel.isEmpty()) {
+            return;
+        }
+        // the entities of Panache entity classes and repositories, other entities are not queried through Panache
+        for (EntityToPersistenceUnitBuildItem panacheEntity : panacheEntities) {
+            String entityClassName = panacheEntity.getEntityClass();
+            if (!jpaModel.get().getEntityClassNames().contains(entityClassName)) {
+                // mapped superclasses
+                continue;
+            }
+            // same queries as the ones created by findAll(), count() and deleteAll(), see PanacheJpaUtil#getEntityName
+            String entityName = '`' + entityClassName + '`';
+            precompiledQueries.produce(new PrecompiledQueryBuildItem(entityClassName, "FROM " + entityName));
+            precompiledQueries.produce(new PrecompiledQueryBuildItem(entityClassName, "DELETE FROM " + entityName));
+        }
+    }
+
     @BuildStep
     @Record(ExecutionTime.STATIC_INIT)
     void recordEntityToPersistenceUnit(Optional<JpaModelPersistenceUnitMappingBuildItem> jpaModelPersistenceUnitMapping,
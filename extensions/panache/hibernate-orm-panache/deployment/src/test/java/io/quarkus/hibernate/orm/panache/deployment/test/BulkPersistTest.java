@@ -0,0 +1,84 @@
+package io.quarkus.hibernate.orm.panache.deployment.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import jakarta.transaction.Transactional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.hibernate.orm.panache.Panache;
+import io.quarkus.panache.common.BulkPersist;
+import io.quarkus.panache.common.BulkPersistResult;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class BulkPersistTest {
+
+    @RegisterExtension
+    static QuarkusUnitTest runner = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addAsResource("application-test.properties", "application.properties")
+                    .addClasses(MyEntity.class, MyOtherEntity.class));
+
+    @Test
+    @Transactional
+    void bulkPersistIterable() {
+        List<Object> entities = new ArrayList<>();
+        for (int i = 0; i < 120; i++) {
+            // alternate types, so that inserts need to be ordered to be batched
+            entities.add(i % 2 == 0 ? myEntity("iterable-" + i) : myOtherEntity("iterable-" + i));
+        }
+        Integer batchSize = Panache.getSession().getJdbcBatchSize();
+
+        BulkPersistResult result = Panache.bulkPersist(entities, BulkPersist.ofChunkSize(50));
+
+        assertEquals(120, result.entityCount);
+        assertEquals(3, result.chunkCount);
+        assertNotNull(result.duration);
+        assertEquals(batchSize, Panache.getSession().getJdbcBatchSize());
+        // the persistence context was cleared after each chunk
+        assertFalse(Panache.getSession().contains(entities.get(0)));
+        assertEquals(60, MyEntity.count("name like ?1", "iterable-%"));
+        assertEquals(60, MyOtherEntity.count("name like ?1", "iterable-%"));
+    }
+
+    @Test
+    @Transactional
+    void bulkPersistStream() {
+        BulkPersistResult result = Panache.bulkPersist(IntStream.range(0, 75).mapToObj(i -> myEntity("stream-" + i)));
+
+        assertEquals(75, result.entityCount);
+        assertEquals(2, result.chunkCount);
+        assertEquals(75, MyEntity.count("name like ?1", "stream-%"));
+    }
+
+    @Test
+    @Transactional
+    void bulkInsertStateless() {
+        BulkPersistResult result = Panache.bulkPersist(
+                IntStream.range(0, 30).mapToObj(i -> myEntity("stateless-" + i)),
+                BulkPersist.ofChunkSize(20).stateless());
+
+        assertEquals(30, result.entityCount);
+        assertEquals(2, result.chunkCount);
+        assertEquals(30, MyEntity.count("name like ?1", "stateless-%"));
+    }
+
+    private static MyEntity myEntity(String name) {
+        MyEntity entity = new MyEntity();
+        entity.name = name;
+        return entity;
+    }
+
+    private static MyOtherEntity myOtherEntity(String name) {
+        MyOtherEntity entity = new MyOtherEntity();
+        entity.name = name;
+        return entity;
+    }
+}
@@ -0,0 +1,61 @@
+package io.quarkus.hibernate.orm.panache.deployment.test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jakarta.inject.Inject;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.transaction.Transactional;
+
+import org.hibernate.Session;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+
+public class PrecompiledQueriesTest {
+
+    @RegisterExtension
+    static QuarkusUnitTest runner = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addAsResource("application-test.properties", "application.properties")
+                    .addClasses(MyOtherEntity.class, PlainEntity.class))
+            .overrideConfigKey("quarkus.hibernate-orm.statistics", "true");
+
+    @Inject
+    Session session;
+
+    @Test
+    @Transactional
+    void panacheEntityQueriesArePrecompiled() {
+        Statistics statistics = session.getSessionFactory().getStatistics();
+        long hits = statistics.getQueryPlanCacheHitCount();
+
+        assertThat(MyOtherEntity.listAll()).isEmpty();
+
+        assertThat(statistics.getQueryPlanCacheHitCount()).isGreaterThan(hits);
+    }
+
+    @Test
+    @Transactional
+    void otherEntityQueriesAreNotPrecompiled() {
+        Statistics statistics = session.getSessionFactory().getStatistics();
+        long misses = statistics.getQueryPlanCacheMissCount();
+
+        assertThat(session.createSelectionQuery("FROM `" + PlainEntity.class.getName() + "`", PlainEntity.class)
+                .getResultList())
+                .isEmpty();
+
+        assertThat(statistics.getQueryPlanCacheMissCount()).isEqualTo(misses + 1);
+    }
+
+    @Entity
+    public static class PlainEntity {
+
+        @Id
+        public Long id;
+
+        public String name;
+    }
+}
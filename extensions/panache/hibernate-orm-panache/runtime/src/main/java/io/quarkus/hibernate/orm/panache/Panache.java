@@ -1,6 +1,7 @@
 package io.quarkus.hibernate.orm.panache;
 
 import java.util.Map;
+import java.util.stream.Stream;
 
 import jakarta.persistence.EntityManager;
 import jakarta.transaction.TransactionManager;
@@ -9,6 +10,9 @@
 
 import io.quarkus.hibernate.orm.panache.common.runtime.AbstractJpaOperations;
 import io.quarkus.hibernate.orm.panache.runtime.JpaOperations;
+import io.quarkus.hibernate.orm.panache.runtime.JpaStatelessOperations;
+import io.quarkus.panache.common.BulkPersist;
+import io.quarkus.panache.common.BulkPersistResult;
 import io.quarkus.panache.common.Parameters;
 
 /**
@@ -152,4 +156,66 @@ public static void flush(Class<?> clazz) {
     public static void flush(String persistenceUnit) {
         getSession(persistenceUnit).flush();
     }
+
+    /**
+     * Persists all the given entities in chunks, using the {@link BulkPersist#defaults() default options}.
+     * <p>
+     * Each chunk is sent to the database as a JDBC batch, then the persistence context is cleared:
+     * entities that were managed before calling this method become detached.
+     *
+     * @param entities the entities to persist
+     * @return the number of persisted entities and the throughput of the operation
+     * @see BulkPersist
+     */
+    public static BulkPersistResult bulkPersist(Iterable<?> entities) {
+        return bulkPersist(entities, BulkPersist.defaults());
+    }
+
+    /**
+     * Persists all the given entities in chunks, using the given options.
+     * <p>
+     * Each chunk is sent to the database as a JDBC batch, then the persistence context is cleared:
+     * entities that were managed before calling this method become detached.
+     *
+     * @param entities the entities to persist
+     * @param options the chunk size and insert strategy
+     * @return the number of persisted entities and the throughput of the operation
+     * @see BulkPersist
+     */
+    public static BulkPersistResult bulkPersist(Iterable<?> entities, BulkPersist options) {
+        return options.stateless ? JpaStatelessOperations.INSTANCE.bulkInsert(entities.iterator(), options)
+                : JpaOperations.INSTANCE.bulkPersist(entities.iterator(), options);
+    }
+
+    /**
+     * Persists all the given entities in chunks, using the {@link BulkPersist#defaults() default options}.
+     * The stream is consumed lazily, so it does not need to fit in memory.
+     * <p>
+     * Each chunk is sent to the database as a JDBC batch, then the persistence context is cleared:
+     * entities that were managed before calling this method become detached.
+     *
+     * @param entities the entities to persist
+     * @return the number of persisted entities and the throughput of the operation
+     * @see BulkPersist
+     */
+    public static BulkPersistResult bulkPersist(Stream<?> entities) {
+        return bulkPersist(entities, BulkPersist.defaults());
+    }
+
+    /**
+     * Persists all the given entities in chunks, using the given options.
+     * The stream is consumed lazily, so it does not need to fit in memory.
+     * <p>
+     * Each chunk is sent to the database as a JDBC batch, then the persistence context is cleared:
+     * entities that were managed before calling this method become detached.
+     *
+     * @param entities the entities to persist
+     * @param options the chunk size and insert strategy
+     * @return the number of persisted entities and the throughput of the operation
+     * @see BulkPersist
+     */
+    public static BulkPersistResult bulkPersist(Stream<?> entities, BulkPersist options) {
+        return options.stateless ? JpaStatelessOperations.INSTANCE.bulkInsert(entities.iterator(), options)
+                : JpaOperations.INSTANCE.bulkPersist(entities.iterator(), options);
+    }
 }
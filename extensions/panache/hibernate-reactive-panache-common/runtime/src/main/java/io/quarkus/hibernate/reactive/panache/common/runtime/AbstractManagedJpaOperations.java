@@ -1,8 +1,12 @@
 package io.quarkus.hibernate.reactive.panache.common.runtime;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -10,11 +14,18 @@
 
 import org.hibernate.LockMode;
 import org.hibernate.reactive.mutiny.Mutiny;
+import org.jboss.logging.Logger;
 
+import io.quarkus.panache.common.BulkPersist;
+import io.quarkus.panache.common.BulkPersistResult;
+import io.quarkus.panache.hibernate.common.runtime.PanacheJpaUtil;
 import io.smallrye.mutiny.Uni;
 
 public abstract class AbstractManagedJpaOperations<PanacheQueryType>
         extends AbstractJpaOperations<PanacheQueryType, Mutiny.Session> {
+
+    private static final Logger LOG = Logger.getLogger(AbstractManagedJpaOperations.class);
+
     protected AbstractManagedJpaOperations() {
         super(Mutiny.Session.class);
     }
@@ -64,6 +75,71 @@ public Uni<Void> persist(Object... entities) {
         return Uni.combine().all().unis(results).discardItems();
     }
 
+    /**
+     * Persists the given entities in chunks, one chunk after the other.
+     * <p>
+     * With a regular session, each chunk is flushed in batches of the chunk size, then the session is cleared.
+     * The batch size of the sessions is set to the chunk size for the duration of the operation.
+     * With a stateless session, each chunk is inserted in batches of the chunk size.
+     */
+    public Uni<BulkPersistResult> bulkPersist(Iterator<?> entities, BulkPersist options) {
+        BulkPersistState state = new BulkPersistState(options);
+        return persistChunks(entities, state)
+                .eventually(() -> state.previousBatchSizes.forEach(Mutiny.Session::setBatchSize))
+                .map(v -> {
+                    BulkPersistResult result = new BulkPersistResult(state.entityCount, state.chunkCount,
+                            Duration.ofNanos(System.nanoTime() - state.start));
+                    LOG.debugf("Bulk persisted %s", result);
+                    return result;
+                });
+    }
+
+    private Uni<Void> persistChunks(Iterator<?> entities, BulkPersistState state) {
+        List<Object> chunk = PanacheJpaUtil.nextBulkChunk(entities, state.options);
+        if (chunk.isEmpty()) {
+            return Uni.createFrom().voidItem();
+        }
+        Map<String, List<Object>> chunkPerPersistenceUnit = chunk.stream()
+                .collect(Collectors.groupingBy(e -> entityToPersistenceUnit.get(e.getClass().getName()),
+                        LinkedHashMap::new, Collectors.toList()));
+        // sessions must not be used concurrently, so the persistence units are processed one after the other
+        Uni<Void> result = Uni.createFrom().voidItem();
+        for (Map.Entry<String, List<Object>> entry : chunkPerPersistenceUnit.entrySet()) {
+            Object[] chunkEntities = entry.getValue().toArray();
+            result = result.chain(() -> state.options.stateless
+                    ? SessionOperations.getStatelessSession(entry.getKey())
+                            .chain(session -> session.insertAll(state.options.chunkSize, chunkEntities))
+                    : getSession(entry.getKey()).chain(session -> {
+                        if (!state.previousBatchSizes.containsKey(session)) {
+                            state.previousBatchSizes.put(session, session.getBatchSize());
+                            session.setBatchSize(state.options.chunkSize);
+                        }
+                        return session.persistAll(chunkEntities)
+                                .chain(session::flush)
+                                .invoke(session::clear);
+                    }));
+        }
+        return result
+                .invoke(() -> {
+                    state.entityCount += chunk.size();
+                    state.chunkCount++;
+                })
+                .chain(() -> persistChunks(entities, state));
+    }
+
+    private static final class BulkPersistState {
+        final BulkPersist options;
+        final long start = System.nanoTime();
+        // the sessions used so far, and their batch size before the operation
+        final Map<Mutiny.Session, Integer> previousBatchSizes = new IdentityHashMap<>();
+        long entityCount;
+        int chunkCount;
+
+        BulkPersistState(BulkPersist options) {
+            this.options = options;
+        }
+    }
+
     public Uni<Void> delete(Object entity) {
         return getSession(entity.getClass()).chain(session -> session.remove(entity));
     }
@@ -0,0 +1,92 @@
+package io.quarkus.hibernate.reactive.panache.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.hibernate.reactive.panache.Panache;
+import io.quarkus.hibernate.reactive.panache.common.runtime.SessionOperations;
+import io.quarkus.panache.common.BulkPersist;
+import io.quarkus.test.QuarkusUnitTest;
+import io.quarkus.test.vertx.RunOnVertxContext;
+import io.quarkus.test.vertx.UniAsserter;
+
+public class BulkPersistTest {
+
+    @RegisterExtension
+    static QuarkusUnitTest runner = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(MyEntity.class, MyOtherEntity.class));
+
+    @Test
+    @RunOnVertxContext
+    void bulkPersistIterable(UniAsserter asserter) {
+        List<Object> entities = new ArrayList<>();
+        for (int i = 0; i < 120; i++) {
+            // alternate types, so that inserts need to be ordered to be batched
+            entities.add(i % 2 == 0 ? myEntity("iterable-" + i) : myOtherEntity("iterable-" + i));
+        }
+
+        asserter.assertThat(() -> Panache.withTransaction(() -> Panache.getSession().chain(session -> {
+            Integer batchSize = session.getBatchSize();
+            return Panache.bulkPersist(entities, BulkPersist.ofChunkSize(50))
+                    .invoke(result -> {
+                        assertEquals(batchSize, session.getBatchSize());
+                        // the session was cleared after each chunk
+                        assertFalse(session.contains(entities.get(0)));
+                    });
+        })), result -> {
+            assertEquals(120, result.entityCount);
+            assertEquals(3, result.chunkCount);
+            assertNotNull(result.duration);
+        });
+        asserter.assertEquals(() -> Panache.withTransaction(() -> MyEntity.count("name like ?1", "iterable-%")), 60L);
+        asserter.assertEquals(() -> Panache.withTransaction(() -> MyOtherEntity.count("name like ?1", "iterable-%")),
+                60L);
+    }
+
+    @Test
+    @RunOnVertxContext
+    void bulkPersistStream(UniAsserter asserter) {
+        asserter.assertThat(() -> Panache.withTransaction(
+                () -> Panache.bulkPersist(IntStream.range(0, 75).mapToObj(i -> myEntity("stream-" + i)))),
+                result -> {
+                    assertEquals(75, result.entityCount);
+                    assertEquals(2, result.chunkCount);
+                });
+        asserter.assertEquals(() -> Panache.withTransaction(() -> MyEntity.count("name like ?1", "stream-%")), 75L);
+    }
+
+    @Test
+    @RunOnVertxContext
+    void bulkInsertStateless(UniAsserter asserter) {
+        // a stateless session cannot be opened while a regular session is
+        asserter.assertThat(() -> SessionOperations.withStatelessTransaction(() -> Panache.bulkPersist(
+                IntStream.range(0, 30).mapToObj(i -> myEntity("stateless-" + i)),
+                BulkPersist.ofChunkSize(20).stateless())),
+                result -> {
+                    assertEquals(30, result.entityCount);
+                    assertEquals(2, result.chunkCount);
+                });
+        asserter.assertEquals(() -> Panache.withTransaction(() -> MyEntity.count("name like ?1", "stateless-%")), 30L);
+    }
+
+    private static MyEntity myEntity(String name) {
+        MyEntity entity = new MyEntity();
+        entity.name = name;
+        return entity;
+    }
+
+    private static MyOtherEntity myOtherEntity(String name) {
+        MyOtherEntity entity = new MyOtherEntity();
+        entity.name = name;
+        return entity;
+    }
+}
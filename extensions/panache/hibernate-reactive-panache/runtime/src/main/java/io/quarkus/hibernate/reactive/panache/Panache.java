@@ -4,11 +4,14 @@
 
 import java.util.Map;
 import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import org.hibernate.reactive.mutiny.Mutiny;
 
 import io.quarkus.hibernate.reactive.panache.common.runtime.SessionOperations;
 import io.quarkus.hibernate.reactive.panache.runtime.JpaOperations;
+import io.quarkus.panache.common.BulkPersist;
+import io.quarkus.panache.common.BulkPersistResult;
 import io.quarkus.panache.common.Parameters;
 import io.smallrye.mutiny.Uni;
 
@@ -137,4 +140,64 @@ public static Uni<Void> flush() {
     public static Uni<Mutiny.Transaction> currentTransaction() {
         return getSession().map(session -> session.currentTransaction());
     }
+
+    /**
+     * Persists all the given entities in chunks, using the {@link BulkPersist#defaults() default options}.
+     * <p>
+     * Each chunk is sent to the database in batches, then the session is cleared:
+     * entities that were managed before calling this method become detached.
+     *
+     * @param entities the entities to persist
+     * @return the number of persisted entities and the throughput of the operation
+     * @see BulkPersist
+     */
+    public static Uni<BulkPersistResult> bulkPersist(Iterable<?> entities) {
+        return bulkPersist(entities, BulkPersist.defaults());
+    }
+
+    /**
+     * Persists all the given entities in chunks, using the given options.
+     * <p>
+     * Each chunk is sent to the database in batches, then the session is cleared:
+     * entities that were managed before calling this method become detached.
+     *
+     * @param entities the entities to persist
+     * @param options the chunk size and insert strategy
+     * @return the number of persisted entities and the throughput of the operation
+     * @see BulkPersist
+     */
+    public static Uni<BulkPersistResult> bulkPersist(Iterable<?> entities, BulkPersist options) {
+        return Uni.createFrom().deferred(() -> JpaOperations.INSTANCE.bulkPersist(entities.iterator(), options));
+    }
+
+    /**
+     * Persists all the given entities in chunks, using the {@link BulkPersist#defaults() default options}.
+     * The stream is consumed lazily, one chunk at a time.
+     * <p>
+     * Each chunk is sent to the database in batches, then the session is cleared:
+     * entities that were managed before calling this method become detached.
+     *
+     * @param entities the entities to persist
+     * @return the number of persisted entities and the throughput of the operation
+     * @see BulkPersist
+     */
+    public static Uni<BulkPersistResult> bulkPersist(Stream<?> entities) {
+        return bulkPersist(entities, BulkPersist.defaults());
+    }
+
+    /**
+     * Persists all the given entities in chunks, using the given options.
+     * The stream is consumed lazily, one chunk at a time.
+     * <p>
+     * Each chunk is sent to the database in batches, then the session is cleared:
+     * entities that were managed before calling this method become detached.
+     *
+     * @param entities the entities to persist
+     * @param options the chunk size and insert strategy
+     * @return the number of persisted entities and the throughput of the operation
+     * @see BulkPersist
+     */
+    public static Uni<BulkPersistResult> bulkPersist(Stream<?> entities, BulkPersist options) {
+        return Uni.createFrom().deferred(() -> JpaOperations.INSTANCE.bulkPersist(entities.iterator(), options));
+    }
 }
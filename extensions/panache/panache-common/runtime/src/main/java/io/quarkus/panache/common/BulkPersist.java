@@ -0,0 +1,116 @@
+package io.quarkus.panache.common;
+
+/**
+ * <p>
+ * Utility class to represent the options of a bulk persist operation. BulkPersist instances are immutable.
+ * </p>
+ *
+ * <p>
+ * Entities are persisted in chunks of {@link #chunkSize} entities: each chunk is flushed as a JDBC batch
+ * of that size, then the persistence context is cleared so that memory usage does not grow with the
+ * number of persisted entities.
+ * </p>
+ *
+ * <p>
+ * Usage:
+ * </p>
+ *
+ * <code><pre>
+ * BulkPersist options = BulkPersist.ofChunkSize(500).stateless();
+ * </pre></code>
+ */
+public class BulkPersist {
+
+    /**
+     * The chunk size used when none is specified.
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 50;
+
+    private static final BulkPersist DEFAULTS = new BulkPersist(DEFAULT_CHUNK_SIZE, true, false);
+
+    /**
+     * The number of entities persisted, and sent to the database as a single JDBC batch, before the
+     * persistence context is cleared.
+     */
+    public final int chunkSize;
+
+    /**
+     * Whether the entities of each chunk are grouped by type, so that inserts into the same table are
+     * consecutive and can be batched together.
+     */
+    public final boolean orderInserts;
+
+    /**
+     * Whether the entities are inserted through a stateless session, bypassing the persistence context,
+     * cascades and lifecycle callbacks.
+     */
+    public final boolean stateless;
+
+    private BulkPersist(int chunkSize, boolean orderInserts, boolean stateless) {
+        if (chunkSize <= 0)
+            throw new IllegalArgumentException("Chunk size must be > 0 : " + chunkSize);
+        this.chunkSize = chunkSize;
+        this.orderInserts = orderInserts;
+        this.stateless = stateless;
+    }
+
+    /**
+     * Returns the default options: chunks of {@link #DEFAULT_CHUNK_SIZE} entities, ordered inserts, and a regular session.
+     *
+     * @return the default options
+     */
+    public static BulkPersist defaults() {
+        return DEFAULTS;
+    }
+
+    /**
+     * Builds the default options with the given chunk size.
+     *
+     * @param chunkSize the chunk size
+     * @return the new options
+     * @throws IllegalArgumentException if the chunk size is less than or equal to 0
+     */
+    public static BulkPersist ofChunkSize(int chunkSize) {
+        return new BulkPersist(chunkSize, true, false);
+    }
+
+    /**
+     * Returns new options with the given chunk size.
+     *
+     * @param chunkSize the chunk size
+     * @return the new options
+     * @throws IllegalArgumentException if the chunk size is less than or equal to 0
+     */
+    public BulkPersist withChunkSize(int chunkSize) {
+        return new BulkPersist(chunkSize, orderInserts, stateless);
+    }
+
+    /**
+     * Returns new options that keep the entities of each chunk in the order they were given.
+     * <p>
+     * Use this when entities of different types are passed in an order that matters,
+     * for instance because of foreign keys and database-generated identifiers.
+     *
+     * @return the new options
+     */
+    public BulkPersist withoutInsertOrdering() {
+        return new BulkPersist(chunkSize, false, stateless);
+    }
+
+    /**
+     * Returns new options that insert the entities through a stateless session.
+     * <p>
+     * Stateless inserts do not cascade to associations and do not trigger lifecycle callbacks,
+     * but they do not need to track the persisted entities either.
+     *
+     * @return the new options
+     */
+    public BulkPersist stateless() {
+        return new BulkPersist(chunkSize, orderInserts, true);
+    }
+
+    @Override
+    public String toString() {
+        return "BulkPersist{chunkSize=" + chunkSize + ", orderInserts=" + orderInserts + ", stateless=" + stateless + "}";
+    }
+}
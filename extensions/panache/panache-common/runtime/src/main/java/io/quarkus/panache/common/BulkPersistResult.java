@@ -0,0 +1,51 @@
+package io.quarkus.panache.common;
+
+import java.time.Duration;
+
+/**
+ * The outcome of a bulk persist operation, see {@link BulkPersist}. BulkPersistResult instances are immutable.
+ */
+public class BulkPersistResult {
+
+    /**
+     * The number of persisted entities.
+     */
+    public final long entityCount;
+
+    /**
+     * The number of chunks the entities were persisted in.
+     */
+    public final int chunkCount;
+
+    /**
+     * The time spent persisting the entities.
+     */
+    public final Duration duration;
+
+    /**
+     * Builds a bulk persist result.
+     *
+     * @param entityCount the number of persisted entities
+     * @param chunkCount the number of chunks the entities were persisted in
+     * @param duration the time spent persisting the entities
+     */
+    public BulkPersistResult(long entityCount, int chunkCount, Duration duration) {
+        this.entityCount = entityCount;
+        this.chunkCount = chunkCount;
+        this.duration = duration;
+    }
+
+    /**
+     * @return the throughput of the operation, in entities per second
+     */
+    public double entitiesPerSecond() {
+        long nanos = duration.toNanos();
+        return nanos == 0 ? 0 : entityCount * 1_000_000_000.0 / nanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d entities in %d chunks in %d ms (%.1f entities/s)", entityCount, chunkCount,
+                duration.toMillis(), entitiesPerSecond());
+    }
+}
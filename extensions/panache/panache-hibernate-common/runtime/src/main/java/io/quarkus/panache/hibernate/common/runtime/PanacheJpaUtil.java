@@ -1,8 +1,14 @@
 package io.quarkus.panache.hibernate.common.runtime;
 
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.regex.Pattern;
 
+import io.quarkus.panache.common.BulkPersist;
 import io.quarkus.panache.common.Sort;
 import io.quarkus.panache.common.exception.PanacheQueryException;
 
@@ -216,4 +222,33 @@ private static String unquoteColumnName(String columnName) {
         }
         return unquotedColumnName;
     }
+
+    /**
+     * Takes the next chunk of a bulk persist operation from the given entities.
+     * If requested, the entities of the chunk are grouped by type, keeping the order in which the types first appear,
+     * so that inserts into the same table are consecutive and can be sent in the same JDBC batch.
+     *
+     * @return the next chunk, empty if there are no more entities
+     */
+    public static List<Object> nextBulkChunk(Iterator<?> entities, BulkPersist options) {
+        List<Object> chunk = new ArrayList<>(options.chunkSize);
+        while (chunk.size() < options.chunkSize && entities.hasNext()) {
+            chunk.add(entities.next());
+        }
+        if (!options.orderInserts || chunk.size() < 2) {
+            return chunk;
+        }
+        Map<Class<?>, List<Object>> byType = new LinkedHashMap<>();
+        for (Object entity : chunk) {
+            byType.computeIfAbsent(entity.getClass(), k -> new ArrayList<>()).add(entity);
+        }
+        if (byType.size() == 1) {
+            return chunk;
+        }
+        chunk.clear();
+        for (List<Object> entitiesOfType : byType.values()) {
+            chunk.addAll(entitiesOfType);
+        }
+        return chunk;
+    }
 }
@@ -0,0 +1,36 @@
+package io.quarkus.panache.hibernate.common.runtime;
+
+import java.util.Iterator;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.panache.common.BulkPersist;
+
+public class BulkChunkTest {
+
+    @Test
+    public void testChunkSize() {
+        Iterator<Integer> entities = List.of(1, 2, 3, 4, 5).iterator();
+        BulkPersist options = BulkPersist.ofChunkSize(2);
+        Assertions.assertEquals(List.of(1, 2), PanacheJpaUtil.nextBulkChunk(entities, options));
+        Assertions.assertEquals(List.of(3, 4), PanacheJpaUtil.nextBulkChunk(entities, options));
+        Assertions.assertEquals(List.of(5), PanacheJpaUtil.nextBulkChunk(entities, options));
+        Assertions.assertEquals(List.of(), PanacheJpaUtil.nextBulkChunk(entities, options));
+    }
+
+    @Test
+    public void testInsertOrdering() {
+        List<Object> entities = List.of(1, "a", 2L, 3, "b", 4L, 5);
+        Assertions.assertEquals(List.of(1, 3, 5, "a", "b", 2L, 4L),
+                PanacheJpaUtil.nextBulkChunk(entities.iterator(), BulkPersist.defaults()));
+        Assertions.assertEquals(entities,
+                PanacheJpaUtil.nextBulkChunk(entities.iterator(), BulkPersist.defaults().withoutInsertOrdering()));
+    }
+
+    @Test
+    public void testInvalidChunkSize() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> BulkPersist.ofChunkSize(0));
+    }
+}
@@ -362,6 +362,24 @@ public interface RestClientsConfig {
     @WithDefault("false")
     boolean captureStacktrace();
 
+    /**
+     * If {@code true}, the identical {@code GET} and {@code HEAD} requests sent concurrently by the REST Clients are
+     * coalesced: while a request is in flight, the identical requests wait for its response instead of being sent.
+     * Coalescing can be enabled per method with {@code @CoalesceRequests}.
+     * <p>
+     * This property is not applicable to the RESTEasy Client.
+     */
+    @WithDefault("false")
+    boolean coalesceRequests();
+
+    /**
+     * The names of the headers whose values must be equal for requests to be coalesced, in addition to {@code Accept},
+     * {@code Accept-Language}, {@code Accept-Encoding}, {@code Authorization} and {@code Cookie}.
+     * <p>
+     * This property is not applicable to the RESTEasy Client.
+     */
+    Optional<Set<String>> coalesceRequestsHeaders();
+
     /**
      * Logging configuration.
      */
@@ -761,6 +779,22 @@ default Optional<String> uriReload() {
          */
         Optional<Boolean> captureStacktrace();
 
+        /**
+         * If {@code true}, the identical {@code GET} and {@code HEAD} requests sent concurrently by this REST Client are
+         * coalesced: while a request is in flight, the identical requests wait for its response instead of being sent.
+         * <p>
+         * This property is not applicable to the RESTEasy Client.
+         */
+        Optional<Boolean> coalesceRequests();
+
+        /**
+         * The names of the headers whose values must be equal for requests to be coalesced, in addition to
+         * {@code Accept}, {@code Accept-Language}, {@code Accept-Encoding}, {@code Authorization} and {@code Cookie}.
+         * <p>
+         * This property is not applicable to the RESTEasy Client.
+         */
+        Optional<Set<String>> coalesceRequestsHeaders();
+
         /**
          * If set to {@code true}, then this REST Client will not the default exception mapper which
          * always throws an exception if HTTP response code >= 400.
@@ -0,0 +1,109 @@
+package io.quarkus.rest.client.reactive;
+
+import static io.quarkus.rest.client.reactive.RestClientTestUtil.setUrlForClass;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.HeaderParam;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+
+import org.eclipse.microprofile.rest.client.inject.RegisterRestClient;
+import org.eclipse.microprofile.rest.client.inject.RestClient;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.smallrye.mutiny.Uni;
+
+public class CoalesceRequestsTest {
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(Client.class, Resource.class)
+                    .addAsResource(
+                            new StringAsset(setUrlForClass(Client.class)),
+                            "application.properties"));
+
+    @RestClient
+    Client client;
+
+    @BeforeEach
+    void reset() {
+        Resource.INVOCATIONS.set(0);
+    }
+
+    @Test
+    void identicalRequestsShareTheResponse() {
+        List<String> products = join(20, () -> client.product("1", "a"));
+
+        assertThat(products).hasSize(20).containsOnly("product-1-1");
+        assertThat(Resource.INVOCATIONS).hasValue(1);
+    }
+
+    @Test
+    void keyHeaders() {
+        List<Uni<String>> unis = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            unis.add(client.product("1", i % 2 == 0 ? "a" : "b"));
+        }
+        List<String> products = Uni.join().all(unis).andFailFast().await().atMost(Duration.ofSeconds(10));
+
+        assertThat(products).hasSize(10);
+        assertThat(Resource.INVOCATIONS).hasValue(2);
+    }
+
+    @Test
+    void methodsNotAnnotated() {
+        join(5, () -> client.productNotCoalesced("2"));
+
+        assertThat(Resource.INVOCATIONS).hasValue(5);
+    }
+
+    private static List<String> join(int count, Supplier<Uni<String>> request) {
+        List<Uni<String>> unis = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            unis.add(request.get());
+        }
+        return Uni.join().all(unis).andFailFast().await().atMost(Duration.ofSeconds(10));
+    }
+
+    @Path("/products")
+    @RegisterRestClient
+    @Produces(MediaType.TEXT_PLAIN)
+    interface Client {
+        @GET
+        @Path("/{id}")
+        @CoalesceRequests(headers = "X-Tenant")
+        Uni<String> product(@PathParam("id") String id, @HeaderParam("X-Tenant") String tenant);
+
+        @GET
+        @Path("/{id}")
+        Uni<String> productNotCoalesced(@PathParam("id") String id);
+    }
+
+    @Path("/products")
+    static class Resource {
+
+        static final AtomicInteger INVOCATIONS = new AtomicInteger();
+
+        @GET
+        @Path("/{id}")
+        @Produces(MediaType.TEXT_PLAIN)
+        public Uni<String> product(@PathParam("id") String id) {
+            int invocation = INVOCATIONS.incrementAndGet();
+            // keeps the request in flight while the identical requests are sent
+            return Uni.createFrom().item("product-" + id + "-" + invocation).onItem().delayIt().by(Duration.ofMillis(500));
+        }
+    }
+}
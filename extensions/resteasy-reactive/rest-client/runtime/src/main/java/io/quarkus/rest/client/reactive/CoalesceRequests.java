@@ -0,0 +1,29 @@
+package io.quarkus.rest.client.reactive;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Coalesces the identical {@code GET} and {@code HEAD} requests sent concurrently by the annotated method, or by all the
+ * methods of the annotated REST Client interface: while a request is in flight, the identical requests wait for its
+ * response instead of being sent.
+ * <p>
+ * Requests are identical when they have the same HTTP method, URI, and values for the headers used as key: {@code Accept},
+ * {@code Accept-Language}, {@code Accept-Encoding}, {@code Authorization}, {@code Cookie} and the {@link #headers()}.
+ * The body of the response is buffered once and deserialized for each caller. If the response cannot be shared, because
+ * its body is streamed or because the request failed, the waiting requests are sent.
+ * <p>
+ * Coalescing can also be enabled for all the methods of a REST Client with the
+ * {@code quarkus.rest-client."client".coalesce-requests} configuration property.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.METHOD, ElementType.TYPE })
+public @interface CoalesceRequests {
+
+    /**
+     * The names of the additional headers whose values must be equal for requests to be coalesced.
+     */
+    String[] headers() default {};
+}
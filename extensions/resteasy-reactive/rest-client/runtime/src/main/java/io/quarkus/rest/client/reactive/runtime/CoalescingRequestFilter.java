@@ -0,0 +1,227 @@
+package io.quarkus.rest.client.reactive.runtime;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+
+import jakarta.ws.rs.client.ClientResponseContext;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.core.Response;
+
+import org.jboss.resteasy.reactive.client.impl.RestClientRequestContext;
+import org.jboss.resteasy.reactive.client.spi.ResteasyReactiveClientRequestContext;
+import org.jboss.resteasy.reactive.client.spi.ResteasyReactiveClientRequestFilter;
+import org.jboss.resteasy.reactive.client.spi.ResteasyReactiveClientResponseFilter;
+import org.jboss.resteasy.reactive.common.util.QuarkusMultivaluedHashMap;
+
+import io.netty.buffer.ByteBufInputStream;
+import io.quarkus.rest.client.reactive.CoalesceRequests;
+
+/**
+ * Coalesces the identical {@code GET} and {@code HEAD} requests in flight, see {@link CoalesceRequests}.
+ * <p>
+ * The first request is sent, the identical requests received while it is in flight are suspended until its response is
+ * received. They are then aborted with a copy of the response, whose body was buffered once, or resumed, and thus sent,
+ * if the response cannot be shared.
+ */
+public class CoalescingRequestFilter implements ResteasyReactiveClientRequestFilter, ResteasyReactiveClientResponseFilter {
+
+    static final Set<String> DEFAULT_KEY_HEADERS = Set.of("accept", "accept-language", "accept-encoding", "authorization",
+            "cookie");
+
+    private static final String FLIGHT_PROPERTY = CoalescingRequestFilter.class.getName() + ".flight";
+
+    private final boolean allMethods;
+    private final Set<String> keyHeaders;
+    private final Map<Key, Flight> inFlight = new ConcurrentHashMap<>();
+    private final Map<Method, Optional<Set<String>>> methods = new ConcurrentHashMap<>();
+
+    /**
+     * @param allMethods whether the requests of all the methods are coalesced, or only the requests of the methods
+     *        annotated with {@link CoalesceRequests}, or declared by an interface annotated with {@link CoalesceRequests}
+     * @param keyHeaders the names of the headers used as key, in addition to the default ones
+     */
+    public CoalescingRequestFilter(boolean allMethods, Collection<String> keyHeaders) {
+        this.allMethods = allMethods;
+        this.keyHeaders = lowerCase(DEFAULT_KEY_HEADERS, keyHeaders);
+    }
+
+    @Override
+    public void filter(ResteasyReactiveClientRequestContext requestContext) {
+        RestClientRequestContext restClientContext = requestContext.unwrap(RestClientRequestContext.class);
+        Set<String> headers = keyHeaders(requestContext, restClientContext);
+        if (headers == null) {
+            return;
+        }
+        Key key = key(requestContext, headers);
+        Flight flight = new Flight(key);
+        Flight leader = inFlight.putIfAbsent(key, flight);
+        if (leader == null) {
+            requestContext.setProperty(FLIGHT_PROPERTY, flight);
+            // the response filters are not invoked if the request fails
+            restClientContext.getResult().whenComplete(new BiConsumer<>() {
+                @Override
+                public void accept(Object response, Throwable failure) {
+                    land(flight, null);
+                }
+            });
+            return;
+        }
+        requestContext.suspend();
+        leader.whenComplete(new BiConsumer<>() {
+            @Override
+            public void accept(SharedResponse response, Throwable failure) {
+                if (response != null) {
+                    Response copy = response.toResponse();
+                    requestContext.abortWith(copy);
+                    // the request filter handler only propagates the response when the filter aborts synchronously
+                    restClientContext.setResponseStatus(copy.getStatus());
+                    restClientContext.setResponseHeaders(copy.getStringHeaders());
+                    restClientContext.setResponseReasonPhrase(copy.getStatusInfo().getReasonPhrase());
+                }
+                requestContext.resume();
+            }
+        });
+    }
+
+    @Override
+    public void filter(ResteasyReactiveClientRequestContext requestContext, ClientResponseContext responseContext) {
+        Flight flight = (Flight) requestContext.getProperty(FLIGHT_PROPERTY);
+        if (flight == null) {
+            return;
+        }
+        requestContext.removeProperty(FLIGHT_PROPERTY);
+        SharedResponse response = null;
+        try {
+            InputStream entity = responseContext.getEntityStream();
+            if (entity == null) {
+                if (responseContext.getStatus() == Response.Status.NO_CONTENT.getStatusCode()
+                        || "HEAD".equals(requestContext.getMethod())) {
+                    response = new SharedResponse(responseContext, null);
+                }
+            } else if (entity instanceof ByteBufInputStream || entity instanceof ByteArrayInputStream) {
+                // the body was already received, streamed bodies are not shared
+                byte[] body;
+                try (entity) {
+                    body = entity.readAllBytes();
+                }
+                responseContext.setEntityStream(new ByteArrayInputStream(body));
+                response = new SharedResponse(responseContext, body);
+            }
+        } catch (IOException e) {
+            // the waiting requests are sent
+        } finally {
+            land(flight, response);
+        }
+    }
+
+    private void land(Flight flight, SharedResponse response) {
+        if (inFlight.remove(flight.key, flight)) {
+            flight.complete(response);
+        }
+    }
+
+    /**
+     * @return the names of the headers used as key, or {@code null} if the request is not coalesced
+     */
+    private Set<String> keyHeaders(ResteasyReactiveClientRequestContext requestContext,
+            RestClientRequestContext restClientContext) {
+        String method = requestContext.getMethod();
+        if ((!"GET".equals(method) && !"HEAD".equals(method)) || requestContext.hasEntity()
+                || restClientContext.isFileDownload() || restClientContext.isInputStreamDownload()) {
+            return null;
+        }
+        Method invokedMethod = restClientContext.getInvokedMethod();
+        if (invokedMethod == null) {
+            return allMethods ? keyHeaders : null;
+        }
+        return methods.computeIfAbsent(invokedMethod, this::keyHeaders).orElse(null);
+    }
+
+    private Optional<Set<String>> keyHeaders(Method method) {
+        CoalesceRequests annotation = method.getAnnotation(CoalesceRequests.class);
+        if (annotation == null) {
+            annotation = method.getDeclaringClass().getAnnotation(CoalesceRequests.class);
+        }
+        if (annotation == null) {
+            return allMethods ? Optional.of(keyHeaders) : Optional.empty();
+        }
+        return Optional.of(lowerCase(keyHeaders, Arrays.asList(annotation.headers())));
+    }
+
+    private static Key key(ResteasyReactiveClientRequestContext requestContext, Set<String> headers) {
+        List<String> values = new ArrayList<>(headers.size());
+        for (String header : headers) {
+            values.add(header + ":" + requestContext.getHeaderString(header));
+        }
+        return new Key(requestContext.getMethod(), requestContext.getUri(), values);
+    }
+
+    private static Set<String> lowerCase(Collection<String> first, Collection<String> second) {
+        Set<String> result = new LinkedHashSet<>(first);
+        for (String header : second) {
+            result.add(header.toLowerCase(Locale.ROOT));
+        }
+        return Collections.unmodifiableSet(result);
+    }
+
+    private record Key(String method, URI uri, List<String> headers) {
+    }
+
+    /**
+     * Completed with the response to share, or {@code null} if the waiting requests must be sent.
+     */
+    private static final class Flight extends CompletableFuture<SharedResponse> {
+
+        private final Key key;
+
+        private Flight(Key key) {
+            this.key = key;
+        }
+    }
+
+    private static final class SharedResponse {
+
+        private final int status;
+        private final String reasonPhrase;
+        private final MultivaluedMap<String, String> headers;
+        private final byte[] body;
+
+        private SharedResponse(ClientResponseContext responseContext, byte[] body) {
+            this.status = responseContext.getStatus();
+            this.reasonPhrase = responseContext.getStatusInfo().getReasonPhrase();
+            this.headers = new QuarkusMultivaluedHashMap<>();
+            this.headers.putAll(responseContext.getHeaders());
+            this.body = body;
+        }
+
+        private Response toResponse() {
+            Response.ResponseBuilder builder = Response.status(status, reasonPhrase);
+            for (Map.Entry<String, List<String>> header : headers.entrySet()) {
+                for (String value : header.getValue()) {
+                    builder.header(header.getKey(), value);
+                }
+            }
+            if (body != null) {
+                // each caller deserializes its own copy of the body
+                builder.entity(body);
+            }
+            return builder.build();
+        }
+    }
+}
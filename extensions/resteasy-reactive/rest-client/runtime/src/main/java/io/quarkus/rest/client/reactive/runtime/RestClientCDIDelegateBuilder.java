@@ -8,6 +8,7 @@
 import java.io.IOException;
 import java.io.InputStream;
 import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.security.KeyStore;
@@ -19,6 +20,7 @@
 import java.util.Map;
 import java.util.Optional;
 import java.util.OptionalInt;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -34,6 +36,7 @@
 import io.quarkus.arc.Arc;
 import io.quarkus.proxy.ProxyConfiguration;
 import io.quarkus.proxy.ProxyConfigurationRegistry;
+import io.quarkus.rest.client.reactive.CoalesceRequests;
 import io.quarkus.rest.client.reactive.QuarkusRestClientBuilder;
 import io.quarkus.restclient.config.RestClientsConfig;
 import io.quarkus.restclient.config.RestClientsConfig.RestClientConfig;
@@ -89,6 +92,7 @@ void configureBuilder(QuarkusRestClientBuilder builder) {
         configureProxy(builder);
         configureShared(builder);
         configureLogging(builder);
+        configureCoalescing(builder);
         configureCustomProperties(builder);
         configureClientOptionsCustomizer(builder);
     }
@@ -104,6 +108,27 @@ private void configureLogging(QuarkusRestClientBuilder builder) {
         }
     }
 
+    private void configureCoalescing(QuarkusRestClientBuilder builder) {
+        boolean allMethods = restClientConfig.coalesceRequests().orElse(configRoot.coalesceRequests());
+        if (allMethods || isCoalescingRequests(jaxrsInterface)) {
+            Set<String> headers = oneOf(restClientConfig.coalesceRequestsHeaders(), configRoot.coalesceRequestsHeaders())
+                    .orElse(Collections.emptySet());
+            builder.register(new CoalescingRequestFilter(allMethods, headers));
+        }
+    }
+
+    private static boolean isCoalescingRequests(Class<?> jaxrsInterface) {
+        if (jaxrsInterface.isAnnotationPresent(CoalesceRequests.class)) {
+            return true;
+        }
+        for (Method method : jaxrsInterface.getMethods()) {
+            if (method.isAnnotationPresent(CoalesceRequests.class)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     private void configureCustomProperties(QuarkusRestClientBuilder builder) {
         Optional<String> encoder = oneOf(restClientConfig.multipartPostEncoderMode(), configRoot.multipartPostEncoderMode());
         if (encoder != null && encoder.isPresent()) {
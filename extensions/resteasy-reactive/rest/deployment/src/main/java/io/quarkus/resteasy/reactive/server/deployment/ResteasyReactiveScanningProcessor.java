@@ -80,6 +80,7 @@
 import io.quarkus.resteasy.reactive.spi.ParamConverterBuildItem;
 import io.quarkus.runtime.BlockingOperationNotAllowedException;
 import io.quarkus.vertx.http.runtime.VertxHttpBuildTimeConfig;
+import io.quarkus.virtual.threads.VirtualThreadsConfig;
 
 /**
  * Processor that handles scanning for types and turning them into build items
@@ -111,6 +112,11 @@ public MethodScannerBuildItem compressionSupport(VertxHttpBuildTimeConfig httpBu
         return new MethodScannerBuildItem(new CompressionScanner(httpBuildTimeConfig));
     }
 
+    @BuildStep
+    public MethodScannerBuildItem virtualThreadBulkheadSupport(VirtualThreadsConfig virtualThreadsConfig) {
+        return new MethodScannerBuildItem(new VirtualThreadBulkheadScanner(virtualThreadsConfig));
+    }
+
     @BuildStep
     public ResourceInterceptorsContributorBuildItem scanForInterceptors(CombinedIndexBuildItem combinedIndexBuildItem,
             ApplicationResultBuildItem applicationResultBuildItem) {
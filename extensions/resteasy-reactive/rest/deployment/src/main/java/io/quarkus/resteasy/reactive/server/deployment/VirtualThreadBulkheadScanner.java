@@ -0,0 +1,60 @@
+package io.quarkus.resteasy.reactive.server.deployment;
+
+import static org.jboss.resteasy.reactive.common.processor.ResteasyReactiveDotNames.BLOCKING;
+import static org.jboss.resteasy.reactive.common.processor.ResteasyReactiveDotNames.RUN_ON_VIRTUAL_THREAD;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.MethodInfo;
+import org.jboss.resteasy.reactive.common.processor.EndpointIndexer;
+import org.jboss.resteasy.reactive.common.processor.transformation.AnnotationStore;
+import org.jboss.resteasy.reactive.server.model.FixedHandlerChainCustomizer;
+import org.jboss.resteasy.reactive.server.model.HandlerChainCustomizer;
+import org.jboss.resteasy.reactive.server.processor.scanning.MethodScanner;
+
+import io.quarkus.resteasy.reactive.server.runtime.VirtualThreadBulkheadHandler;
+import io.quarkus.virtual.threads.VirtualThreadsConfig;
+import io.quarkus.virtual.threads.deployment.VirtualThreadBulkheads;
+
+/**
+ * Applies the {@link io.quarkus.virtual.threads.VirtualThreadBulkhead} of the endpoints running on virtual threads.
+ */
+public class VirtualThreadBulkheadScanner implements MethodScanner {
+
+    private final VirtualThreadsConfig virtualThreadsConfig;
+
+    public VirtualThreadBulkheadScanner(VirtualThreadsConfig virtualThreadsConfig) {
+        this.virtualThreadsConfig = virtualThreadsConfig;
+    }
+
+    @Override
+    public List<HandlerChainCustomizer> scan(MethodInfo method, ClassInfo actualEndpointClass,
+            Map<String, Object> methodContext) {
+        AnnotationStore annotationStore = (AnnotationStore) methodContext.get(EndpointIndexer.METHOD_CONTEXT_ANNOTATION_STORE);
+        boolean runOnVirtualThread = !annotationStore.hasAnnotation(method, BLOCKING)
+                && (annotationStore.hasAnnotation(method, RUN_ON_VIRTUAL_THREAD)
+                        || annotationStore.hasAnnotation(actualEndpointClass, RUN_ON_VIRTUAL_THREAD)
+                        || annotationStore.hasAnnotation(method.declaringClass(), RUN_ON_VIRTUAL_THREAD));
+        if (!runOnVirtualThread) {
+            if (annotationStore.hasAnnotation(method, VirtualThreadBulkheads.VIRTUAL_THREAD_BULKHEAD)) {
+                throw new IllegalStateException(String.format(
+                        "@VirtualThreadBulkhead can only be declared on resource methods annotated with @RunOnVirtualThread,"
+                                + " method %s declared on %s",
+                        method, actualEndpointClass));
+            }
+            return Collections.emptyList();
+        }
+        VirtualThreadBulkheads.Bulkhead bulkhead = VirtualThreadBulkheads.resolve(virtualThreadsConfig, method,
+                actualEndpointClass);
+        if (bulkhead == null) {
+            return Collections.emptyList();
+        }
+        // the requests have to be admitted before the blocking handler dispatches them on a virtual thread
+        return List.of(new FixedHandlerChainCustomizer(
+                new VirtualThreadBulkheadHandler(bulkhead.name(), bulkhead.maxConcurrency(), bulkhead.maxQueued()),
+                HandlerChainCustomizer.Phase.AFTER_MATCH));
+    }
+}
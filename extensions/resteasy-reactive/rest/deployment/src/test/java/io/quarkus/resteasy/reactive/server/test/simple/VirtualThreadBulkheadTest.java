@@ -0,0 +1,78 @@
+package io.quarkus.resteasy.reactive.server.test.simple;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+
+import org.jboss.resteasy.reactive.common.processor.TargetJavaVersion;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.resteasy.reactive.server.spi.TargetJavaVersionBuildItem;
+import io.quarkus.test.QuarkusUnitTest;
+import io.quarkus.virtual.threads.VirtualThreadBulkhead;
+import io.restassured.RestAssured;
+import io.smallrye.common.annotation.RunOnVirtualThread;
+
+@EnabledForJreRange(min = JRE.JAVA_21)
+public class VirtualThreadBulkheadTest {
+
+    @RegisterExtension
+    static QuarkusUnitTest test = new QuarkusUnitTest()
+            // we need this to make sure that the build doesn't fail because of the target bytecode version being JDK 17
+            .addBuildChainCustomizer(buildChainBuilder -> buildChainBuilder.addBuildStep(context -> {
+                context.produce(new TargetJavaVersionBuildItem(new DummyTargetJavaVersion()));
+            }).produces(TargetJavaVersionBuildItem.class).build())
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(BulkheadResource.class, DummyTargetJavaVersion.class));
+
+    @Test
+    public void testSaturatedBulkheadRejectsRequests() throws Exception {
+        BulkheadResource.entered = new CountDownLatch(1);
+        BulkheadResource.release = new CountDownLatch(1);
+        CompletableFuture<Integer> first = CompletableFuture
+                .supplyAsync(() -> RestAssured.get("/bulkhead").then().extract().statusCode());
+        assertThat(BulkheadResource.entered.await(10, TimeUnit.SECONDS)).isTrue();
+
+        // the only permit is taken, and no request can be queued
+        RestAssured.get("/bulkhead").then().statusCode(503);
+
+        BulkheadResource.release.countDown();
+        assertThat(first.get(10, TimeUnit.SECONDS)).isEqualTo(200);
+
+        // the permit was released once the first request completed
+        BulkheadResource.entered = new CountDownLatch(1);
+        RestAssured.get("/bulkhead").then().statusCode(200);
+    }
+
+    @Path("bulkhead")
+    public static class BulkheadResource {
+
+        static volatile CountDownLatch entered = new CountDownLatch(1);
+        static volatile CountDownLatch release = new CountDownLatch(0);
+
+        @GET
+        @RunOnVirtualThread
+        @VirtualThreadBulkhead(maxConcurrency = 1, maxQueued = 0)
+        public String get() throws InterruptedException {
+            entered.countDown();
+            release.await(10, TimeUnit.SECONDS);
+            return "ok";
+        }
+    }
+
+    public static class DummyTargetJavaVersion implements TargetJavaVersion {
+
+        @Override
+        public Status isJava19OrHigher() {
+            return Status.TRUE;
+        }
+    }
+}
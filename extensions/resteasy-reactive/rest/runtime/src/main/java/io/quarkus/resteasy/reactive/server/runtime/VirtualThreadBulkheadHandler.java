@@ -0,0 +1,94 @@
+package io.quarkus.resteasy.reactive.server.runtime;
+
+import jakarta.ws.rs.container.CompletionCallback;
+import jakarta.ws.rs.core.Response;
+
+import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
+import org.jboss.resteasy.reactive.server.spi.ServerRestHandler;
+
+import io.quarkus.virtual.threads.VirtualThreadsBulkhead;
+
+/**
+ * Admits the requests of an endpoint running on virtual threads in its {@link VirtualThreadsBulkhead}, before they are
+ * dispatched on a virtual thread.
+ * <p>
+ * Queued requests are suspended until they are admitted, and requests rejected by the bulkhead are aborted with a
+ * {@code 503 Service Unavailable} response.
+ */
+public class VirtualThreadBulkheadHandler implements ServerRestHandler {
+
+    private String name;
+    private int maxConcurrency;
+    private int maxQueued;
+    private volatile VirtualThreadsBulkhead bulkhead;
+
+    public VirtualThreadBulkheadHandler() {
+    }
+
+    public VirtualThreadBulkheadHandler(String name, int maxConcurrency, int maxQueued) {
+        this.name = name;
+        this.maxConcurrency = maxConcurrency;
+        this.maxQueued = maxQueued;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    public void setMaxConcurrency(int maxConcurrency) {
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    public int getMaxQueued() {
+        return maxQueued;
+    }
+
+    public void setMaxQueued(int maxQueued) {
+        this.maxQueued = maxQueued;
+    }
+
+    @Override
+    public void handle(ResteasyReactiveRequestContext requestContext) throws Exception {
+        VirtualThreadsBulkhead bulkhead = this.bulkhead;
+        if (bulkhead == null) {
+            // the bulkheads are shared between endpoints, and reset on restarts in dev mode
+            bulkhead = this.bulkhead = VirtualThreadsBulkhead.get(name, maxConcurrency, maxQueued);
+        }
+        // suspend first, as a queued request can be resumed by another thread before this method returns
+        requestContext.suspend();
+        switch (bulkhead.acquire(requestContext::resume)) {
+            case ACQUIRED:
+                requestContext.registerCompletionCallback(new ReleaseCallback(bulkhead));
+                requestContext.resume();
+                break;
+            case QUEUED:
+                // the request can only complete once it has been resumed, and therefore admitted
+                requestContext.registerCompletionCallback(new ReleaseCallback(bulkhead));
+                break;
+            case REJECTED:
+                requestContext.abortWith(Response.status(Response.Status.SERVICE_UNAVAILABLE).build());
+                break;
+        }
+    }
+
+    private static final class ReleaseCallback implements CompletionCallback {
+        private final VirtualThreadsBulkhead bulkhead;
+
+        private ReleaseCallback(VirtualThreadsBulkhead bulkhead) {
+            this.bulkhead = bulkhead;
+        }
+
+        @Override
+        public void onComplete(Throwable throwable) {
+            bulkhead.release();
+        }
+    }
+}
@@ -35,6 +35,8 @@
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.Consume;
+import io.quarkus.deployment.annotations.ExecutionTime;
+import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
 import io.quarkus.deployment.builditem.GeneratedClassBuildItem;
@@ -43,10 +45,12 @@
 import io.quarkus.deployment.builditem.RuntimeConfigSetupCompleteBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
 import io.quarkus.deployment.logging.LogCleanupFilterBuildItem;
+import io.quarkus.deployment.metrics.MetricsFactoryConsumerBuildItem;
 import io.quarkus.hibernate.orm.deployment.spi.AdditionalJpaModelBuildItem;
 import io.quarkus.smallrye.reactivemessaging.deployment.ReactiveMessagingDotNames;
 import io.quarkus.smallrye.reactivemessaging.deployment.items.ChannelDirection;
 import io.quarkus.smallrye.reactivemessaging.deployment.items.ConnectorManagedChannelBuildItem;
+import io.quarkus.smallrye.reactivemessaging.kafka.CheckpointMetricsRecorder;
 import io.quarkus.smallrye.reactivemessaging.kafka.DatabindProcessingStateCodec;
 import io.quarkus.smallrye.reactivemessaging.kafka.HibernateOrmStateStore;
 import io.quarkus.smallrye.reactivemessaging.kafka.HibernateReactiveStateStore;
@@ -165,6 +169,20 @@ public void checkpointHibernateOrm(BuildProducer<AdditionalBeanBuildItem> additi
         }
     }
 
+    @BuildStep
+    @Record(ExecutionTime.RUNTIME_INIT)
+    public void checkpointMetrics(CheckpointMetricsRecorder recorder, Capabilities capabilities,
+            BuildProducer<MetricsFactoryConsumerBuildItem> metrics) {
+        if (!capabilities.isPresent(Capability.METRICS)) {
+            return;
+        }
+        for (String stateStore : List.of(REDIS_STATE_STORE, HIBERNATE_REACTIVE_STATE_STORE, HIBERNATE_ORM_STATE_STORE)) {
+            if (hasStateStoreConfig(stateStore, ConfigProvider.getConfig())) {
+                metrics.produce(new MetricsFactoryConsumerBuildItem(recorder.registerCheckpointMetrics(stateStore)));
+            }
+        }
+    }
+
     @BuildStep
     public void additionalJpaModel(BuildProducer<AdditionalJpaModelBuildItem> additionalJpaModel) {
         // Only added to persistence units actually using this class, using Jandex-based discovery,
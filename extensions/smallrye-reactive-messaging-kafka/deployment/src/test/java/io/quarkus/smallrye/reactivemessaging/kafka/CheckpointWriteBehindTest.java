@@ -0,0 +1,99 @@
+package io.quarkus.smallrye.reactivemessaging.kafka;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.core.Vertx;
+
+class CheckpointWriteBehindTest {
+
+    Vertx vertx;
+    List<Map<String, Long>> batches;
+
+    @BeforeEach
+    void setUp() {
+        vertx = Vertx.vertx();
+        batches = new CopyOnWriteArrayList<>();
+    }
+
+    @AfterEach
+    void tearDown() {
+        vertx.closeAndAwait();
+    }
+
+    CheckpointWriteBehind<String, Long> writeBehind(int maxBatchSize) {
+        return new CheckpointWriteBehind<>("test", vertx, maxBatchSize, batch -> {
+            batches.add(Map.copyOf(batch));
+            return Uni.createFrom().voidItem();
+        });
+    }
+
+    @Test
+    void coalesceChannelsPerInterval() throws Exception {
+        CheckpointWriteBehind<String, Long> writeBehind = writeBehind(100);
+        writeBehind.register(50);
+        writeBehind.register(5000);
+
+        CompletableFuture<Void> written = new CompletableFuture<>();
+        vertx.runOnContext(() -> {
+            Uni<Void> first = writeBehind.write(Map.of("prices:0", 1L, "prices:1", 2L));
+            Uni<Void> second = writeBehind.write(Map.of("orders:0", 3L));
+            Uni<Void> third = writeBehind.write(Map.of("prices:0", 4L));
+            Uni.join().all(first, second, third).andFailFast().subscribe()
+                    .with(ignored -> written.complete(null), written::completeExceptionally);
+        });
+        written.get(5, TimeUnit.SECONDS);
+
+        assertThat(batches).containsExactly(Map.of("prices:0", 4L, "prices:1", 2L, "orders:0", 3L));
+    }
+
+    @Test
+    void flushWhenMaxBatchSizeIsReached() {
+        CheckpointWriteBehind<String, Long> writeBehind = writeBehind(2);
+        writeBehind.register(60_000);
+
+        CompletableFuture<Void> written = new CompletableFuture<>();
+        vertx.runOnContext(() -> writeBehind.write(Map.of("prices:0", 1L, "prices:1", 2L)).subscribe()
+                .with(ignored -> written.complete(null), written::completeExceptionally));
+
+        assertThat(written).succeedsWithin(Duration.ofSeconds(5));
+        assertThat(batches).hasSize(1);
+    }
+
+    @Test
+    void flushOutsideOfVertxThreads() {
+        CheckpointWriteBehind<String, Long> writeBehind = writeBehind(100);
+        writeBehind.register(60_000);
+
+        // as when the partitions are revoked from the polling thread
+        writeBehind.write(Map.of("prices:0", 1L)).await().atMost(Duration.ofSeconds(5));
+
+        assertThat(batches).containsExactly(Map.of("prices:0", 1L));
+    }
+
+    @Test
+    void flushOnRelease() throws Exception {
+        CheckpointWriteBehind<String, Long> writeBehind = writeBehind(100);
+        writeBehind.register(60_000);
+
+        CompletableFuture<Uni<Void>> pending = new CompletableFuture<>();
+        vertx.runOnContext(() -> pending.complete(writeBehind.write(Map.of("prices:0", 1L))));
+        pending.get(5, TimeUnit.SECONDS);
+        assertThat(batches).isEmpty();
+
+        writeBehind.release();
+
+        assertThat(batches).hasSize(1);
+    }
+}
@@ -1,5 +1,11 @@
 package io.quarkus.smallrye.reactivemessaging.kafka;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.EmbeddedId;
 import jakarta.persistence.MappedSuperclass;
@@ -31,6 +37,33 @@ public static TopicPartition topicPartition(CheckpointEntity entity) {
         return new TopicPartition(id.getTopic(), id.getPartition());
     }
 
+    /**
+     * @return the entities of the given non-empty processing states, by id
+     */
+    @SuppressWarnings("unchecked")
+    static Map<CheckpointEntityId, CheckpointEntity> entities(String consumerGroupId,
+            Map<TopicPartition, ProcessingState<?>> states) {
+        Map<CheckpointEntityId, CheckpointEntity> entities = new LinkedHashMap<>();
+        for (Map.Entry<TopicPartition, ProcessingState<?>> state : states.entrySet()) {
+            if (!ProcessingState.isEmptyOrNull(state.getValue())) {
+                CheckpointEntityId id = new CheckpointEntityId(consumerGroupId, state.getKey());
+                entities.put(id, from((ProcessingState<? extends CheckpointEntity>) state.getValue(), id));
+            }
+        }
+        return entities;
+    }
+
+    /**
+     * @return the ids of the given entities, by entity type
+     */
+    static Map<Class<? extends CheckpointEntity>, List<Object>> idsByType(Collection<? extends CheckpointEntity> entities) {
+        Map<Class<? extends CheckpointEntity>, List<Object>> ids = new LinkedHashMap<>();
+        for (CheckpointEntity entity : entities) {
+            ids.computeIfAbsent(entity.getClass(), c -> new ArrayList<>()).add(entity.getId());
+        }
+        return ids;
+    }
+
     @EmbeddedId
     CheckpointEntityId id;
 
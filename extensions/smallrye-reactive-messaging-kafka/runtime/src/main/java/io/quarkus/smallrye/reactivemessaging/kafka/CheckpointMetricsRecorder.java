@@ -0,0 +1,41 @@
+package io.quarkus.smallrye.reactivemessaging.kafka;
+
+import java.util.function.Consumer;
+
+import io.quarkus.runtime.annotations.Recorder;
+import io.quarkus.runtime.metrics.MetricsFactory;
+
+@Recorder
+public class CheckpointMetricsRecorder {
+
+    /* RUNTIME_INIT */
+    public Consumer<MetricsFactory> registerCheckpointMetrics(String stateStore) {
+        return new Consumer<MetricsFactory>() {
+            @Override
+            public void accept(MetricsFactory metricsFactory) {
+                CheckpointWriteBehind.Statistics statistics = CheckpointWriteBehind.statistics(stateStore);
+
+                metricsFactory.builder("kafka.checkpoint.pending")
+                        .description("Number of processing states waiting to be written to the state store.")
+                        .tag("state-store", stateStore)
+                        .buildGauge(statistics::getPending);
+                metricsFactory.builder("kafka.checkpoint.batches")
+                        .description("Number of batches of processing states written to the state store.")
+                        .tag("state-store", stateStore)
+                        .buildCounter(statistics::getBatches);
+                metricsFactory.builder("kafka.checkpoint.states")
+                        .description("Number of processing states written to the state store by batches.")
+                        .tag("state-store", stateStore)
+                        .buildCounter(statistics::getStates);
+                metricsFactory.builder("kafka.checkpoint.failures")
+                        .description("Number of batches of processing states that could not be written to the state store.")
+                        .tag("state-store", stateStore)
+                        .buildCounter(statistics::getFailures);
+                statistics.setWriteTime(metricsFactory.builder("kafka.checkpoint.write")
+                        .description("Time taken to write a batch of processing states to the state store.")
+                        .tag("state-store", stateStore)
+                        .buildTimer());
+            }
+        };
+    }
+}
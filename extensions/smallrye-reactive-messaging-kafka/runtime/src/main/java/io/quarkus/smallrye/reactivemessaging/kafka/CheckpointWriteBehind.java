@@ -0,0 +1,249 @@
+package io.quarkus.smallrye.reactivemessaging.kafka;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.runtime.metrics.MetricsFactory;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.reactive.messaging.kafka.KafkaConnectorIncomingConfiguration;
+import io.smallrye.reactive.messaging.kafka.commit.KafkaCommitHandler;
+import io.vertx.core.Context;
+import io.vertx.mutiny.core.Vertx;
+
+/**
+ * Coalesces the processing states persisted by the state stores of all the channels sharing the same backend, and
+ * writes them with a single batched write per interval.
+ * <p>
+ * The {@link Uni} returned by {@link #write(Map)} completes once the batch containing the given states is written, so
+ * that a state is only considered persisted by the checkpoint commit strategy once it is. The states persisted outside
+ * of the Vert.x threads, i.e. when the partitions are revoked during a rebalance, are written immediately, along with
+ * the states pending for the other channels. The pending states are also written when a state store is closed.
+ *
+ * @param <K> the type of the key identifying the state of a topic partition in the backend
+ * @param <V> the type of the states
+ */
+final class CheckpointWriteBehind<K, V> {
+
+    private static final Logger LOGGER = Logger.getLogger(CheckpointWriteBehind.class);
+
+    static final String WRITE_BEHIND = "write-behind";
+    static final String WRITE_BEHIND_INTERVAL = "write-behind-interval";
+    static final String WRITE_BEHIND_MAX_BATCH_SIZE = "write-behind-max-batch-size";
+
+    static final long DEFAULT_INTERVAL = 1000;
+    static final int DEFAULT_MAX_BATCH_SIZE = 1024;
+
+    private static final long CLOSE_TIMEOUT = 10_000;
+
+    private static final Map<String, Statistics> STATISTICS = new ConcurrentHashMap<>();
+
+    private final Vertx vertx;
+    private final int maxBatchSize;
+    private final Function<Map<K, V>, Uni<Void>> writer;
+    private final Statistics statistics;
+
+    // guarded by this
+    private Map<K, V> pending = new LinkedHashMap<>();
+    private CompletableFuture<Void> pendingWritten = new CompletableFuture<>();
+    private CompletableFuture<Void> inFlight;
+    private boolean flushRequested;
+    private long interval = Long.MAX_VALUE;
+    private long timerId = -1;
+    private int stores;
+
+    /**
+     * @param stateStore the name of the state store, used to report the statistics
+     * @param writer writes a batch of states to the backend
+     */
+    CheckpointWriteBehind(String stateStore, Vertx vertx, int maxBatchSize, Function<Map<K, V>, Uni<Void>> writer) {
+        this.vertx = vertx;
+        this.maxBatchSize = maxBatchSize;
+        this.writer = writer;
+        this.statistics = statistics(stateStore);
+    }
+
+    static boolean isEnabled(KafkaConnectorIncomingConfiguration config, String stateStore) {
+        return config.config().getOptionalValue(property(stateStore, WRITE_BEHIND), Boolean.class).orElse(false);
+    }
+
+    static long interval(KafkaConnectorIncomingConfiguration config, String stateStore) {
+        return config.config().getOptionalValue(property(stateStore, WRITE_BEHIND_INTERVAL), Long.class)
+                .orElse(DEFAULT_INTERVAL);
+    }
+
+    static int maxBatchSize(KafkaConnectorIncomingConfiguration config, String stateStore) {
+        return config.config().getOptionalValue(property(stateStore, WRITE_BEHIND_MAX_BATCH_SIZE), Integer.class)
+                .orElse(DEFAULT_MAX_BATCH_SIZE);
+    }
+
+    private static String property(String stateStore, String name) {
+        return KafkaCommitHandler.Strategy.CHECKPOINT + "." + stateStore + "." + name;
+    }
+
+    static Statistics statistics(String stateStore) {
+        return STATISTICS.computeIfAbsent(stateStore, s -> new Statistics());
+    }
+
+    /**
+     * Registers a state store writing its states to this buffer. The pending states are written at least every
+     * {@code interval} milliseconds, the smallest interval of the registered state stores.
+     */
+    synchronized void register(long interval) {
+        stores++;
+        if (interval < this.interval) {
+            this.interval = interval;
+            if (timerId >= 0) {
+                vertx.cancelTimer(timerId);
+            }
+            timerId = vertx.setPeriodic(interval, id -> flush());
+        }
+    }
+
+    /**
+     * Unregisters a state store, writing the pending states. Waits for them to be written unless invoked on an event
+     * loop.
+     */
+    void release() {
+        synchronized (this) {
+            if (--stores == 0 && timerId >= 0) {
+                vertx.cancelTimer(timerId);
+                timerId = -1;
+                interval = Long.MAX_VALUE;
+            }
+        }
+        CompletableFuture<Void> written = flush();
+        if (Context.isOnEventLoopThread()) {
+            return;
+        }
+        try {
+            written.get(CLOSE_TIMEOUT, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            LOGGER.warnf(e, "Unable to write the pending processing states before closing the state store");
+        }
+    }
+
+    /**
+     * Adds the given states to the pending batch, replacing the pending states of the same topic partitions.
+     *
+     * @return a {@link Uni} completed once the batch containing the given states is written
+     */
+    Uni<Void> write(Map<K, V> states) {
+        if (states.isEmpty()) {
+            return Uni.createFrom().voidItem();
+        }
+        CompletableFuture<Void> written;
+        boolean flush;
+        synchronized (this) {
+            int size = pending.size();
+            pending.putAll(states);
+            statistics.pending.add(pending.size() - size);
+            written = pendingWritten;
+            // the partitions revoked during a rebalance are persisted from the polling thread
+            flush = pending.size() >= maxBatchSize || !Context.isOnVertxThread();
+        }
+        if (flush) {
+            flush();
+        }
+        // a copy, so that a cancelled subscriber does not cancel the batch for the others
+        return Uni.createFrom().completionStage(written.copy());
+    }
+
+    /**
+     * Writes the pending states, or requests them to be written once the batch being written is.
+     *
+     * @return a future completed once the pending states are written
+     */
+    CompletableFuture<Void> flush() {
+        Map<K, V> batch;
+        CompletableFuture<Void> written;
+        synchronized (this) {
+            if (pending.isEmpty()) {
+                return inFlight != null ? inFlight : CompletableFuture.completedFuture(null);
+            }
+            written = pendingWritten;
+            if (inFlight != null) {
+                flushRequested = true;
+                return written;
+            }
+            batch = pending;
+            pending = new LinkedHashMap<>();
+            pendingWritten = new CompletableFuture<>();
+            inFlight = written;
+            statistics.pending.add(-batch.size());
+        }
+        long start = System.nanoTime();
+        Uni.createFrom().deferred(() -> writer.apply(batch)).subscribe().with(
+                ignored -> written(batch.size(), System.nanoTime() - start, written, null),
+                failure -> written(batch.size(), System.nanoTime() - start, written, failure));
+        return written;
+    }
+
+    private void written(int size, long nanos, CompletableFuture<Void> written, Throwable failure) {
+        boolean flush;
+        synchronized (this) {
+            inFlight = null;
+            flush = flushRequested || pending.size() >= maxBatchSize;
+            flushRequested = false;
+        }
+        if (failure == null) {
+            statistics.written(size, nanos);
+            written.complete(null);
+        } else {
+            statistics.failures.increment();
+            written.completeExceptionally(failure);
+        }
+        if (flush) {
+            flush();
+        }
+    }
+
+    /**
+     * Statistics about the batches written by the write-behind buffers of a state store.
+     */
+    static final class Statistics {
+
+        private final LongAdder pending = new LongAdder();
+        private final LongAdder batches = new LongAdder();
+        private final LongAdder states = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private volatile MetricsFactory.TimeRecorder writeTime;
+
+        private void written(int size, long nanos) {
+            batches.increment();
+            states.add(size);
+            MetricsFactory.TimeRecorder recorder = writeTime;
+            if (recorder != null) {
+                recorder.update(nanos, TimeUnit.NANOSECONDS);
+            }
+        }
+
+        void setWriteTime(MetricsFactory.TimeRecorder writeTime) {
+            this.writeTime = writeTime;
+        }
+
+        long getPending() {
+            return pending.sum();
+        }
+
+        long getBatches() {
+            return batches.sum();
+        }
+
+        long getStates() {
+            return states.sum();
+        }
+
+        long getFailures() {
+            return failures.sum();
+        }
+    }
+}
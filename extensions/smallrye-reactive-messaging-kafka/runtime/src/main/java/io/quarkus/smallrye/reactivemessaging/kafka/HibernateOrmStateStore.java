@@ -4,6 +4,7 @@
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import jakarta.enterprise.context.ApplicationScoped;
@@ -33,12 +34,19 @@ public class HibernateOrmStateStore implements CheckpointStateStore {
     private final String consumerGroupId;
     private final SessionFactory sf;
     private final Class<? extends CheckpointEntity> stateType;
+    private final CheckpointWriteBehind<CheckpointEntityId, CheckpointEntity> writeBehind;
 
     public HibernateOrmStateStore(String consumerGroupId, SessionFactory sf,
             Class<? extends CheckpointEntity> stateType) {
+        this(consumerGroupId, sf, stateType, null);
+    }
+
+    HibernateOrmStateStore(String consumerGroupId, SessionFactory sf, Class<? extends CheckpointEntity> stateType,
+            CheckpointWriteBehind<CheckpointEntityId, CheckpointEntity> writeBehind) {
         this.consumerGroupId = consumerGroupId;
         this.sf = sf;
         this.stateType = stateType;
+        this.writeBehind = writeBehind;
     }
 
     @ApplicationScoped
@@ -49,6 +57,10 @@ public static class Factory implements CheckpointStateStore.Factory {
         @Any
         Instance<SessionFactory> sessionFactories;
 
+        // the write-behind buffers shared by the channels, by persistence unit
+        private final Map<String, CheckpointWriteBehind<CheckpointEntityId, CheckpointEntity>> writeBehinds =
+                new ConcurrentHashMap<>();
+
         @Override
         public CheckpointStateStore create(KafkaConnectorIncomingConfiguration config, Vertx vertx,
                 KafkaConsumer<?, ?> consumer, Class<?> stateType) {
@@ -62,7 +74,26 @@ public CheckpointStateStore create(KafkaConnectorIncomingConfiguration config, V
             SessionFactory sf = persistenceUnit != null
                     ? sessionFactories.select(new PersistenceUnit.PersistenceUnitLiteral(persistenceUnit)).get()
                     : sessionFactories.get();
-            return new HibernateOrmStateStore(consumerGroupId, sf, (Class<? extends CheckpointEntity>) stateType);
+            CheckpointWriteBehind<CheckpointEntityId, CheckpointEntity> writeBehind = null;
+            if (CheckpointWriteBehind.isEnabled(config, HIBERNATE_ORM_STATE_STORE)) {
+                writeBehind = writeBehinds.computeIfAbsent(persistenceUnit != null ? persistenceUnit : "<default>",
+                        pu -> new CheckpointWriteBehind<>(HIBERNATE_ORM_STATE_STORE, vertx,
+                                CheckpointWriteBehind.maxBatchSize(config, HIBERNATE_ORM_STATE_STORE),
+                                batch -> vertx.executeBlocking(Uni.createFrom().<Void> item(() -> {
+                                    persist(sf, batch.values());
+                                    return null;
+                                }))));
+                writeBehind.register(CheckpointWriteBehind.interval(config, HIBERNATE_ORM_STATE_STORE));
+            }
+            return new HibernateOrmStateStore(consumerGroupId, sf, (Class<? extends CheckpointEntity>) stateType,
+                    writeBehind);
+        }
+    }
+
+    @Override
+    public void close() {
+        if (writeBehind != null) {
+            writeBehind.release();
         }
     }
 
@@ -103,30 +134,46 @@ public Uni<Map<TopicPartition, ProcessingState<?>>> fetchProcessingState(Collect
 
     @Override
     public Uni<Void> persistProcessingState(Map<TopicPartition, ProcessingState<?>> state) {
+        if (writeBehind != null) {
+            return Uni.createFrom().deferred(() -> writeBehind.write(CheckpointEntity.entities(consumerGroupId, state)));
+        }
         return Uni.createFrom().deferred(() -> {
-            Object[] entities = state.entrySet().stream()
-                    .filter(e -> !ProcessingState.isEmptyOrNull(e.getValue()))
-                    .map(e -> CheckpointEntity.from((ProcessingState<? extends CheckpointEntity>) e.getValue(),
-                            new CheckpointEntityId(consumerGroupId, e.getKey())))
-                    .toArray();
+            Collection<CheckpointEntity> entities = CheckpointEntity.entities(consumerGroupId, state).values();
             return Vertx.currentContext().executeBlocking(Uni.createFrom().emitter(e -> {
-                Transaction tx = null;
-                try (Session session = sf.openSession()) {
-                    tx = session.beginTransaction();
-                    for (Object entity : entities) {
-                        session.merge(entity);
-                    }
-                    session.flush();
-                    tx.commit();
+                try {
+                    persist(sf, entities);
                     e.complete(null);
                 } catch (Throwable t) {
-                    if (tx != null) {
-                        tx.rollback();
-                    }
                     e.fail(t);
                 }
             }));
         });
     }
 
+    private static void persist(SessionFactory sf, Collection<CheckpointEntity> entities) {
+        if (entities.isEmpty()) {
+            return;
+        }
+        Transaction tx = null;
+        try (Session session = sf.openSession()) {
+            tx = session.beginTransaction();
+            session.setJdbcBatchSize(entities.size());
+            // loads the existing states with one query per entity type, instead of one per entity on merge
+            for (Map.Entry<Class<? extends CheckpointEntity>, List<Object>> ids : CheckpointEntity.idsByType(entities)
+                    .entrySet()) {
+                session.findMultiple(ids.getKey(), ids.getValue());
+            }
+            for (CheckpointEntity entity : entities) {
+                session.merge(entity);
+            }
+            session.flush();
+            tx.commit();
+        } catch (Throwable t) {
+            if (tx != null) {
+                tx.rollback();
+            }
+            throw t;
+        }
+    }
+
 }
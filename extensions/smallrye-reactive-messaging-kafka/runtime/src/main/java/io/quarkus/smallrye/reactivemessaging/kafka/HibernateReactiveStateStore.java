@@ -2,6 +2,7 @@
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
@@ -29,12 +30,20 @@ public class HibernateReactiveStateStore implements CheckpointStateStore {
     private final String consumerGroupId;
     private final Mutiny.SessionFactory sf;
     private final Class<? extends CheckpointEntity> stateType;
+    private final CheckpointWriteBehind<CheckpointEntityId, CheckpointEntity> writeBehind;
 
     public HibernateReactiveStateStore(String consumerGroupId, Mutiny.SessionFactory sf,
             Class<? extends CheckpointEntity> stateType) {
+        this(consumerGroupId, sf, stateType, null);
+    }
+
+    HibernateReactiveStateStore(String consumerGroupId, Mutiny.SessionFactory sf,
+            Class<? extends CheckpointEntity> stateType,
+            CheckpointWriteBehind<CheckpointEntityId, CheckpointEntity> writeBehind) {
         this.consumerGroupId = consumerGroupId;
         this.sf = sf;
         this.stateType = stateType;
+        this.writeBehind = writeBehind;
     }
 
     @ApplicationScoped
@@ -44,6 +53,9 @@ public static class Factory implements CheckpointStateStore.Factory {
         @Inject
         Mutiny.SessionFactory sf;
 
+        // the write-behind buffer shared by the channels
+        private volatile CheckpointWriteBehind<CheckpointEntityId, CheckpointEntity> writeBehind;
+
         @Override
         public CheckpointStateStore create(KafkaConnectorIncomingConfiguration config, Vertx vertx,
                 KafkaConsumer<?, ?> consumer, Class<?> stateType) {
@@ -51,7 +63,31 @@ public CheckpointStateStore create(KafkaConnectorIncomingConfiguration config, V
             if (!CheckpointEntity.class.isAssignableFrom(stateType)) {
                 throw new IllegalArgumentException("State type needs to extend `CheckpointEntity`");
             }
-            return new HibernateReactiveStateStore(consumerGroupId, sf, (Class<? extends CheckpointEntity>) stateType);
+            CheckpointWriteBehind<CheckpointEntityId, CheckpointEntity> writeBehind = null;
+            if (CheckpointWriteBehind.isEnabled(config, HIBERNATE_REACTIVE_STATE_STORE)) {
+                writeBehind = writeBehind(config, vertx);
+                writeBehind.register(CheckpointWriteBehind.interval(config, HIBERNATE_REACTIVE_STATE_STORE));
+            }
+            return new HibernateReactiveStateStore(consumerGroupId, sf, (Class<? extends CheckpointEntity>) stateType,
+                    writeBehind);
+        }
+
+        private synchronized CheckpointWriteBehind<CheckpointEntityId, CheckpointEntity> writeBehind(
+                KafkaConnectorIncomingConfiguration config, Vertx vertx) {
+            if (writeBehind == null) {
+                writeBehind = new CheckpointWriteBehind<>(HIBERNATE_REACTIVE_STATE_STORE, vertx,
+                        CheckpointWriteBehind.maxBatchSize(config, HIBERNATE_REACTIVE_STATE_STORE),
+                        batch -> persist(sf, batch.values())
+                                .runSubscriptionOn(HibernateReactiveStateStore::runOnSafeContext));
+            }
+            return writeBehind;
+        }
+    }
+
+    @Override
+    public void close() {
+        if (writeBehind != null) {
+            writeBehind.release();
         }
     }
 
@@ -77,14 +113,27 @@ public Uni<Map<TopicPartition, ProcessingState<?>>> fetchProcessingState(Collect
 
     @Override
     public Uni<Void> persistProcessingState(Map<TopicPartition, ProcessingState<?>> state) {
-        return Uni.createFrom().deferred(() -> {
-            Object[] entities = state.entrySet().stream()
-                    .filter(e -> !ProcessingState.isEmptyOrNull(e.getValue()))
-                    .map(e -> CheckpointEntity.from((ProcessingState<? extends CheckpointEntity>) e.getValue(),
-                            new CheckpointEntityId(consumerGroupId, e.getKey())))
-                    .toArray();
-            return sf.withTransaction(s -> s.mergeAll(entities));
-        }).runSubscriptionOn(HibernateReactiveStateStore::runOnSafeContext);
+        if (writeBehind != null) {
+            return Uni.createFrom().deferred(() -> writeBehind.write(CheckpointEntity.entities(consumerGroupId, state)));
+        }
+        return Uni.createFrom().deferred(() -> persist(sf, CheckpointEntity.entities(consumerGroupId, state).values()))
+                .runSubscriptionOn(HibernateReactiveStateStore::runOnSafeContext);
+    }
+
+    private static Uni<Void> persist(Mutiny.SessionFactory sf, Collection<CheckpointEntity> entities) {
+        if (entities.isEmpty()) {
+            return Uni.createFrom().voidItem();
+        }
+        return sf.withTransaction(s -> {
+            s.setBatchSize(entities.size());
+            // loads the existing states with one query per entity type, instead of one per entity on merge
+            Uni<?> loaded = Uni.createFrom().voidItem();
+            for (Map.Entry<Class<? extends CheckpointEntity>, List<Object>> ids : CheckpointEntity.idsByType(entities)
+                    .entrySet()) {
+                loaded = loaded.chain(() -> s.find(ids.getKey(), ids.getValue().toArray()));
+            }
+            return loaded.chain(() -> s.mergeAll(entities.toArray()));
+        });
     }
 
     private static void runOnSafeContext(Runnable r) {
@@ -2,8 +2,10 @@
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 
@@ -38,12 +40,19 @@ public class RedisStateStore implements CheckpointStateStore {
     private final ReactiveRedisDataSource redis;
     private final String consumerGroupId;
     private final ProcessingStateCodec stateCodec;
+    private final CheckpointWriteBehind<String, Checkpoint> writeBehind;
     private final AtomicBoolean closed = new AtomicBoolean(false);
 
     public RedisStateStore(ReactiveRedisDataSource redis, String consumerGroupId, ProcessingStateCodec stateCodec) {
+        this(redis, consumerGroupId, stateCodec, null);
+    }
+
+    RedisStateStore(ReactiveRedisDataSource redis, String consumerGroupId, ProcessingStateCodec stateCodec,
+            CheckpointWriteBehind<String, Checkpoint> writeBehind) {
         this.redis = redis;
         this.consumerGroupId = consumerGroupId;
         this.stateCodec = stateCodec;
+        this.writeBehind = writeBehind;
     }
 
     @ApplicationScoped
@@ -57,6 +66,9 @@ public static class Factory implements CheckpointStateStore.Factory {
         @Inject
         Instance<ProcessingStateCodec.Factory> stateCodecFactory;
 
+        // the write-behind buffers shared by the channels, by client name
+        private final Map<String, CheckpointWriteBehind<String, Checkpoint>> writeBehinds = new ConcurrentHashMap<>();
+
         @Override
         public CheckpointStateStore create(KafkaConnectorIncomingConfiguration config, Vertx vertx,
                 KafkaConsumer<?, ?> consumer, Class<?> stateType) {
@@ -74,13 +86,23 @@ public CheckpointStateStore create(KafkaConnectorIncomingConfiguration config, V
                     return stateCodecFactory.get();
                 }
             }).create(stateType);
-            return new RedisStateStore(rds, consumerGroupId, stateCodec);
+            CheckpointWriteBehind<String, Checkpoint> writeBehind = null;
+            if (CheckpointWriteBehind.isEnabled(config, REDIS_STATE_STORE)) {
+                writeBehind = writeBehinds.computeIfAbsent(clientName != null ? clientName : "<default>",
+                        name -> new CheckpointWriteBehind<>(REDIS_STATE_STORE, vertx,
+                                CheckpointWriteBehind.maxBatchSize(config, REDIS_STATE_STORE),
+                                batch -> persist(rds, batch)));
+                writeBehind.register(CheckpointWriteBehind.interval(config, REDIS_STATE_STORE));
+            }
+            return new RedisStateStore(rds, consumerGroupId, stateCodec, writeBehind);
         }
     }
 
     @Override
     public void close() {
-        closed.set(true);
+        if (closed.compareAndSet(false, true) && writeBehind != null) {
+            writeBehind.release();
+        }
     }
 
     @Override
@@ -112,18 +134,30 @@ public Uni<Void> persistProcessingState(Map<TopicPartition, ProcessingState<?>>
         if (states.isEmpty() || closed.get()) {
             return Uni.createFrom().voidItem();
         }
-        String[] keys = states.keySet().stream().map(this::getKey).toArray(String[]::new);
+        Map<String, Checkpoint> checkpoints = new LinkedHashMap<>();
+        for (Map.Entry<TopicPartition, ProcessingState<?>> state : states.entrySet()) {
+            checkpoints.put(getKey(state.getKey()), new Checkpoint(state.getValue(), stateCodec));
+        }
+        if (writeBehind != null) {
+            return writeBehind.write(checkpoints);
+        }
+        return persist(redis, checkpoints);
+    }
+
+    private static Uni<Void> persist(ReactiveRedisDataSource redis, Map<String, Checkpoint> checkpoints) {
+        String[] keys = checkpoints.keySet().toArray(String[]::new);
         return redis.withTransaction(r -> r.value(byte[].class).mget(keys), (current, r) -> {
-            Map<String, byte[]> map = states.entrySet().stream().filter(toPersist -> {
-                String key = getKey(toPersist.getKey());
-                ProcessingState<?> newState = toPersist.getValue();
+            Map<String, byte[]> map = checkpoints.entrySet().stream().filter(toPersist -> {
+                String key = toPersist.getKey();
+                ProcessingStateCodec stateCodec = toPersist.getValue().codec();
+                ProcessingState<?> newState = toPersist.getValue().state();
                 if (!current.containsKey(key)) {
                     return true;
                 }
                 ProcessingState<?> currentState = stateCodec.decode(current.get(key));
                 return ProcessingState.isEmptyOrNull(currentState) ||
                         (!ProcessingState.isEmptyOrNull(newState) && newState.getOffset() >= currentState.getOffset());
-            }).collect(Collectors.toMap(e -> getKey(e.getKey()), e -> stateCodec.encode(e.getValue())));
+            }).collect(Collectors.toMap(Map.Entry::getKey, e -> e.getValue().codec().encode(e.getValue().state())));
             if (map.isEmpty()) {
                 return Uni.createFrom().voidItem();
             } else {
@@ -132,4 +166,10 @@ public Uni<Void> persistProcessingState(Map<TopicPartition, ProcessingState<?>>
         }, keys).replaceWithVoid();
     }
 
+    /**
+     * A processing state to persist, with the codec of its channel.
+     */
+    record Checkpoint(ProcessingState<?> state, ProcessingStateCodec codec) {
+    }
+
 }
@@ -0,0 +1,22 @@
+package io.quarkus.vertx.http.deployment;
+
+import java.util.List;
+
+import io.quarkus.builder.item.SimpleBuildItem;
+import io.quarkus.vertx.http.runtime.handlers.PrecompressedStaticResource;
+
+/**
+ * The static resources of {@code META-INF/resources} that were compressed at build time.
+ */
+public final class PrecompressedStaticResourcesBuildItem extends SimpleBuildItem {
+
+    private final List<PrecompressedStaticResource> resources;
+
+    public PrecompressedStaticResourcesBuildItem(List<PrecompressedStaticResource> resources) {
+        this.resources = resources;
+    }
+
+    public List<PrecompressedStaticResource> getResources() {
+        return resources;
+    }
+}
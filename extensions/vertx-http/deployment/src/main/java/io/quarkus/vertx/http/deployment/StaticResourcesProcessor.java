@@ -2,13 +2,28 @@
 
 import static io.quarkus.deployment.annotations.ExecutionTime.RUNTIME_INIT;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+import org.jboss.logging.Logger;
+
+import com.aayushatharva.brotli4j.Brotli4jLoader;
+import com.aayushatharva.brotli4j.encoder.Encoder;
 
 import io.quarkus.arc.deployment.BeanContainerBuildItem;
 import io.quarkus.bootstrap.classloading.ClassPathElement;
@@ -19,21 +34,31 @@
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.Record;
+import io.quarkus.deployment.builditem.GeneratedResourceBuildItem;
 import io.quarkus.deployment.builditem.HotDeploymentWatchedFileBuildItem;
 import io.quarkus.deployment.builditem.LaunchModeBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.NativeImageResourceBuildItem;
 import io.quarkus.deployment.pkg.steps.NativeOrNativeSourcesBuild;
 import io.quarkus.paths.PathVisitor;
+import io.quarkus.runtime.LaunchMode;
+import io.quarkus.runtime.configuration.ConfigurationException;
 import io.quarkus.vertx.core.deployment.CoreVertxBuildItem;
 import io.quarkus.vertx.http.deployment.spi.AdditionalStaticResourceBuildItem;
 import io.quarkus.vertx.http.deployment.spi.StaticResourcesBuildItem;
+import io.quarkus.vertx.http.runtime.StaticResourcesPrecompressionConfig;
 import io.quarkus.vertx.http.runtime.StaticResourcesRecorder;
+import io.quarkus.vertx.http.runtime.VertxHttpBuildTimeConfig;
+import io.quarkus.vertx.http.runtime.handlers.PrecompressedStaticHandler;
+import io.quarkus.vertx.http.runtime.handlers.PrecompressedStaticResource;
+import io.vertx.core.http.impl.MimeMapping;
 
 /**
  * Handles all static file resources found in {@code META-INF/resources} unless the servlet container is present.
  */
 public class StaticResourcesProcessor {
 
+    private static final Logger LOG = Logger.getLogger(StaticResourcesProcessor.class);
+
     @BuildStep(onlyIf = IsDevelopment.class)
     HotDeploymentWatchedFileBuildItem indexHtmlFile() {
         String staticRoot = StaticResourcesRecorder.META_INF_RESOURCES + "/index.html";
@@ -60,13 +85,115 @@ void collectStaticResources(Capabilities capabilities,
         }
     }
 
+    /**
+     * Compresses the static resources found in {@code META-INF/resources} with gzip and/or brotli,
+     * so that they do not need to be compressed for each response.
+     * <p>
+     * This is disabled in dev mode, as resources may change at any time.
+     */
+    @BuildStep
+    void precompressStaticResources(VertxHttpBuildTimeConfig httpBuildTimeConfig,
+            Optional<StaticResourcesBuildItem> staticResources,
+            LaunchModeBuildItem launchMode,
+            BuildProducer<GeneratedResourceBuildItem> generatedResources,
+            BuildProducer<NativeImageResourceBuildItem> nativeImageResources,
+            BuildProducer<PrecompressedStaticResourcesBuildItem> precompressedStaticResources) {
+        StaticResourcesPrecompressionConfig config = httpBuildTimeConfig.staticResourcesPrecompression();
+        if (!config.enabled()) {
+            return;
+        }
+        for (String encoding : config.encodings()) {
+            if (!PrecompressedStaticHandler.GZIP.equals(encoding) && !PrecompressedStaticHandler.BROTLI.equals(encoding)) {
+                throw new ConfigurationException("Unsupported static resources precompression encoding '" + encoding
+                        + "', the supported encodings are '" + PrecompressedStaticHandler.GZIP + "' and '"
+                        + PrecompressedStaticHandler.BROTLI + "'",
+                        Set.of("quarkus.http.static-resources.precompression.encodings"));
+            }
+        }
+        if (staticResources.isEmpty() || launchMode.getLaunchMode() == LaunchMode.DEVELOPMENT
+                || httpBuildTimeConfig.compressMediaTypes().isEmpty()) {
+            return;
+        }
+        Set<String> mediaTypes = Set.copyOf(httpBuildTimeConfig.compressMediaTypes().get());
+        Set<String> knownPaths = staticResources.get().getPaths();
+        long minSize = config.minSize().asLongValue();
+        long maxSize = config.maxSize().asLongValue();
+
+        // the first resource found for a given path is the one that is served
+        Map<String, Path> candidates = new LinkedHashMap<>();
+        final String prefix = StaticResourcesRecorder.META_INF_RESOURCES;
+        visitRuntimeMetaInfResources(visit -> {
+            Path visitPath = visit.getPath();
+            String rel = visit.getRelativePath();
+            if (!Files.isDirectory(visitPath) && rel.startsWith(prefix)) {
+                String path = rel.substring(prefix.length());
+                String contentType = MimeMapping.getMimeTypeForFilename(path);
+                if (knownPaths.contains(path) && contentType != null && mediaTypes.contains(contentType)) {
+                    candidates.putIfAbsent(path, visitPath);
+                }
+            }
+        });
+
+        boolean gzip = config.encodings().contains(PrecompressedStaticHandler.GZIP);
+        boolean brotli = config.encodings().contains(PrecompressedStaticHandler.BROTLI) && isBrotliAvailable();
+        List<PrecompressedStaticResource> resources = new ArrayList<>();
+        long originalSize = 0;
+        long compressedSize = 0;
+        for (Map.Entry<String, Path> candidate : candidates.entrySet()) {
+            String path = candidate.getKey();
+            byte[] content;
+            try {
+                long size = Files.size(candidate.getValue());
+                if (size < minSize || size > maxSize) {
+                    continue;
+                }
+                content = Files.readAllBytes(candidate.getValue());
+            } catch (IOException e) {
+                throw new UncheckedIOException("Unable to read static resource " + candidate.getValue(), e);
+            }
+            List<String> encodings = new ArrayList<>(2);
+            if (gzip) {
+                byte[] compressed = gzip(content);
+                // only keep variants that are actually smaller than the original content
+                if (compressed.length < content.length) {
+                    produceVariant(path, PrecompressedStaticHandler.GZIP, compressed, generatedResources,
+                            nativeImageResources);
+                    encodings.add(PrecompressedStaticHandler.GZIP);
+                    compressedSize += compressed.length;
+                }
+            }
+            if (brotli) {
+                byte[] compressed = brotli(content);
+                if (compressed.length < content.length) {
+                    produceVariant(path, PrecompressedStaticHandler.BROTLI, compressed, generatedResources,
+                            nativeImageResources);
+                    encodings.add(PrecompressedStaticHandler.BROTLI);
+                    compressedSize += compressed.length;
+                }
+            }
+            if (!encodings.isEmpty()) {
+                originalSize += content.length;
+                resources.add(new PrecompressedStaticResource(path, MimeMapping.getMimeTypeForFilename(path),
+                        etag(content), encodings));
+            }
+        }
+        LOG.debugf("Precompressed %d static resources (%d bytes of original content, %d bytes of compressed variants)",
+                resources.size(), originalSize, compressedSize);
+        if (!resources.isEmpty()) {
+            precompressedStaticResources.produce(new PrecompressedStaticResourcesBuildItem(resources));
+        }
+    }
+
     @BuildStep
     @Record(RUNTIME_INIT)
     public void runtimeInit(Optional<StaticResourcesBuildItem> staticResources, StaticResourcesRecorder recorder,
+            Optional<PrecompressedStaticResourcesBuildItem> precompressedStaticResources,
             CoreVertxBuildItem vertx, BeanContainerBuildItem beanContainer,
             BuildProducer<DefaultRouteBuildItem> defaultRoutes) {
         if (staticResources.isPresent()) {
-            defaultRoutes.produce(new DefaultRouteBuildItem(recorder.start(staticResources.get().getPaths())));
+            defaultRoutes.produce(new DefaultRouteBuildItem(recorder.start(staticResources.get().getPaths(),
+                    precompressedStaticResources.map(PrecompressedStaticResourcesBuildItem::getResources)
+                            .orElse(List.of()))));
         }
     }
 
@@ -101,6 +228,57 @@ public void nativeImageResource(Optional<StaticResourcesBuildItem> staticResourc
         }
     }
 
+    private static void produceVariant(String path, String encoding, byte[] content,
+            BuildProducer<GeneratedResourceBuildItem> generatedResources,
+            BuildProducer<NativeImageResourceBuildItem> nativeImageResources) {
+        String name = PrecompressedStaticHandler.PRECOMPRESSED_RESOURCES + path + '.' + encoding;
+        generatedResources.produce(new GeneratedResourceBuildItem(name, content));
+        nativeImageResources.produce(new NativeImageResourceBuildItem(name));
+    }
+
+    private static byte[] gzip(byte[] content) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(content.length / 2);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out) {
+            {
+                def.setLevel(Deflater.BEST_COMPRESSION);
+            }
+        }) {
+            gzip.write(content);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private static boolean isBrotliAvailable() {
+        if (Brotli4jLoader.isAvailable()) {
+            return true;
+        }
+        LOG.warnf(Brotli4jLoader.getUnavailabilityCause(),
+                "Brotli is not available on this platform, static resources will only be precompressed with gzip");
+        return false;
+    }
+
+    private static byte[] brotli(byte[] content) {
+        try {
+            return Encoder.compress(content, new Encoder.Parameters().setQuality(11));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * @return a strong entity tag for the given content
+     */
+    private static String etag(byte[] content) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(content);
+            return HexFormat.of().formatHex(digest, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
     /**
      * Find all static file resources that are available from classpath.
      *
@@ -0,0 +1,30 @@
+package io.quarkus.vertx.http.deployment;
+
+import io.quarkus.deployment.annotations.BuildProducer;
+import io.quarkus.deployment.annotations.BuildStep;
+import io.quarkus.deployment.pkg.steps.NativeOrNativeSourcesBuild;
+import io.quarkus.vertx.http.runtime.management.VirtualThreadsMonitorHandler;
+import io.quarkus.virtual.threads.VirtualThreadsConfig;
+
+/**
+ * Exposes the reports of the virtual threads monitor on the management interface. The monitor itself is started by the
+ * virtual threads extension, which cannot depend on this extension.
+ */
+class VirtualThreadsMonitorProcessor {
+
+    @BuildStep(onlyIfNot = NativeOrNativeSourcesBuild.class)
+    void registerEndpoint(VirtualThreadsConfig config,
+            NonApplicationRootPathBuildItem nonApplicationRootPathBuildItem,
+            BuildProducer<RouteBuildItem> routes) {
+        if (!config.enabled() || !config.monitor().enabled()) {
+            return;
+        }
+        routes.produce(nonApplicationRootPathBuildItem.routeBuilder()
+                .management()
+                .route(config.monitor().path())
+                .routeConfigKey("quarkus.virtual-threads.monitor.path")
+                .handler(new VirtualThreadsMonitorHandler())
+                .displayOnNotFoundPage("Virtual threads monitor")
+                .build());
+    }
+}
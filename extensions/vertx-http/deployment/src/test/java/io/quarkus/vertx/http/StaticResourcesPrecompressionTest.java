@@ -0,0 +1,105 @@
+package io.quarkus.vertx.http;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.endsWith;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.startsWith;
+
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+
+public class StaticResourcesPrecompressionTest {
+
+    private static final String SCRIPT = "console.log('This is a precompressed script!');\n".repeat(100);
+
+    @RegisterExtension
+    final static QuarkusUnitTest test = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .add(new StringAsset(
+                            "quarkus.http.static-resources.precompression.enabled=true\n" +
+                                    "quarkus.http.static-resources.precompression.encodings=gzip\n"),
+                            "application.properties")
+                    .addAsResource(new StringAsset(SCRIPT), "META-INF/resources/script.js")
+                    .addAsResource("static-file.html", "META-INF/resources/index.html"));
+
+    @Test
+    public void shouldServeCompressedVariant() {
+        RestAssured.given().header("Accept-Encoding", "gzip")
+                .get("/script.js")
+                .then()
+                .statusCode(200)
+                .header("Content-Encoding", "gzip")
+                .header("Vary", "accept-encoding")
+                .header("ETag", endsWith("-gzip\""))
+                .header("Content-Type", startsWith("text/javascript"))
+                .body(containsString("This is a precompressed script!"));
+    }
+
+    @Test
+    public void shouldServeIdentityVariant() {
+        RestAssured.given().header("Accept-Encoding", "identity")
+                .get("/script.js")
+                .then()
+                .statusCode(200)
+                .header("Content-Encoding", nullValue())
+                .header("ETag", startsWith("\""))
+                .header("Content-Length", String.valueOf(SCRIPT.length()))
+                .body(containsString("This is a precompressed script!"));
+    }
+
+    @Test
+    public void shouldHonorIdentityExclusion() {
+        RestAssured.given().header("Accept-Encoding", "gzip, identity;q=0")
+                .get("/script.js")
+                .then()
+                .statusCode(200)
+                .header("Content-Encoding", "gzip");
+
+        // brotli is not enabled, so no variant is acceptable
+        RestAssured.given().header("Accept-Encoding", "br, identity;q=0")
+                .get("/script.js")
+                .then()
+                .statusCode(406)
+                .header("Vary", "accept-encoding");
+
+        RestAssured.given().header("Accept-Encoding", "*;q=0")
+                .get("/script.js")
+                .then()
+                .statusCode(406);
+    }
+
+    @Test
+    public void shouldReturnNotModified() {
+        String etag = RestAssured.given().header("Accept-Encoding", "gzip")
+                .get("/script.js")
+                .then()
+                .statusCode(200)
+                .extract().header("ETag");
+
+        RestAssured.given().header("Accept-Encoding", "gzip").header("If-None-Match", etag)
+                .get("/script.js")
+                .then()
+                .statusCode(304)
+                .header("ETag", etag);
+
+        // the identity variant has a different entity tag
+        RestAssured.given().header("Accept-Encoding", "identity").header("If-None-Match", etag)
+                .get("/script.js")
+                .then()
+                .statusCode(200);
+    }
+
+    @Test
+    public void shouldServeIndexPage() {
+        RestAssured.given().header("Accept-Encoding", "gzip")
+                .get("/")
+                .then()
+                .statusCode(200)
+                .header("Content-Type", startsWith("text/html"))
+                .body(containsString("This is the title of the webpage!"));
+    }
+}
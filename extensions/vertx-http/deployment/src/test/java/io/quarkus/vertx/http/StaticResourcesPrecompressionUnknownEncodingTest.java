@@ -0,0 +1,29 @@
+package io.quarkus.vertx.http;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.runtime.configuration.ConfigurationException;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class StaticResourcesPrecompressionUnknownEncodingTest {
+
+    @RegisterExtension
+    final static QuarkusUnitTest test = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addAsResource(new StringAsset("console.log('script');\n".repeat(100)), "META-INF/resources/script.js"))
+            .overrideConfigKey("quarkus.http.static-resources.precompression.enabled", "true")
+            .overrideConfigKey("quarkus.http.static-resources.precompression.encodings", "gzip,zstd")
+            .assertException(t -> assertThat(t)
+                    .isInstanceOf(ConfigurationException.class)
+                    .hasMessageContaining("'zstd'"));
+
+    @Test
+    public void test() {
+        fail("Should not be called");
+    }
+}
@@ -0,0 +1,45 @@
+package io.quarkus.vertx.http.runtime;
+
+import java.util.List;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.configuration.MemorySize;
+import io.smallrye.config.WithDefault;
+
+@ConfigGroup
+public interface StaticResourcesPrecompressionConfig {
+
+    /**
+     * If enabled, the static resources found in `META-INF/resources` whose media type is listed in
+     * `quarkus.http.compress-media-types` are compressed at build time.
+     * <p>
+     * The compressed variants are loaded in memory on startup and served according to the `Accept-Encoding`
+     * request header, together with a strong `ETag` so that conditional requests can be answered with
+     * `304 Not Modified`. Other static resources are served as usual.
+     */
+    @WithDefault("false")
+    boolean enabled();
+
+    /**
+     * The encodings used to compress static resources at build time: `gzip` and/or `br`.
+     * Any other encoding fails the build.
+     * <p>
+     * Brotli compression requires the Brotli4J native library to be available for the build platform.
+     * If it is not, resources are only compressed with `gzip`.
+     */
+    @WithDefault("gzip,br")
+    List<String> encodings();
+
+    /**
+     * Static resources smaller than this size are not compressed.
+     */
+    @WithDefault("1K")
+    MemorySize minSize();
+
+    /**
+     * The maximum size of a static resource to compress and keep in memory.
+     * Larger resources are served as usual.
+     */
+    @WithDefault("10M")
+    MemorySize maxSize();
+}
@@ -122,4 +122,10 @@ public interface VertxHttpBuildTimeConfig {
      */
     @WithName("static-dir")
     Optional<HttpStaticDirConfig> httpStaticDirConfig();
+
+    /**
+     * Build-time compression of the static resources found in `META-INF/resources`.
+     */
+    @WithName("static-resources.precompression")
+    StaticResourcesPrecompressionConfig staticResourcesPrecompression();
 }
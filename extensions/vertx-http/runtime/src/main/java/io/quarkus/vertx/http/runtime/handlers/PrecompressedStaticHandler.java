@@ -0,0 +1,279 @@
+package io.quarkus.vertx.http.runtime.handlers;
+
+import static io.quarkus.vertx.http.runtime.RoutingUtils.resolvePath;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jboss.logging.Logger;
+
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.quarkus.vertx.http.runtime.StaticResourcesConfig;
+import io.quarkus.vertx.http.runtime.StaticResourcesRecorder;
+import io.vertx.core.Handler;
+import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Serves the static resources that were compressed at build time.
+ * <p>
+ * All the variants of these resources are loaded in direct memory when the handler is created,
+ * and written to the response without being copied.
+ * The variant is selected according to the {@code Accept-Encoding} request header,
+ * and conditional requests are answered with {@code 304 Not Modified} when the {@code If-None-Match} request header
+ * matches the entity tag of the selected variant.
+ * When the request header excludes uncompressed content, e.g. with {@code identity;q=0}, and none of the compressed
+ * variants is acceptable, the response is {@code 406 Not Acceptable}.
+ * <p>
+ * Requests for other resources, range requests and {@code OPTIONS} requests are passed to the next handler.
+ */
+public class PrecompressedStaticHandler implements Handler<RoutingContext> {
+
+    /**
+     * The location of the compressed variants of the static resources, followed by the resource path and the encoding.
+     */
+    public static final String PRECOMPRESSED_RESOURCES = "META-INF/quarkus-precompressed-resources";
+
+    public static final String GZIP = "gzip";
+    public static final String BROTLI = "br";
+
+    private static final String IDENTITY = "identity";
+
+    private static final Logger LOG = Logger.getLogger(PrecompressedStaticHandler.class);
+
+    private final Map<String, Resource> resources;
+    private final String indexPage;
+    private final String cacheControl;
+    private final ClassLoader currentClassLoader;
+
+    public PrecompressedStaticHandler(List<PrecompressedStaticResource> precompressedResources,
+            StaticResourcesConfig config) {
+        this.currentClassLoader = Thread.currentThread().getContextClassLoader();
+        this.indexPage = config.indexPage().charAt(0) == '/' ? config.indexPage().substring(1) : config.indexPage();
+        this.cacheControl = config.cachingEnabled() ? "public, immutable, max-age=" + config.maxAge().toSeconds() : null;
+        this.resources = new HashMap<>(precompressedResources.size() * 4 / 3 + 1);
+        long size = 0;
+        for (PrecompressedStaticResource precompressedResource : precompressedResources) {
+            Resource resource = load(precompressedResource);
+            resources.put(precompressedResource.getPath(), resource);
+            size += resource.size();
+        }
+        LOG.debugf("Loaded %d precompressed static resources (%d bytes)", resources.size(), size);
+    }
+
+    @Override
+    public void handle(RoutingContext ctx) {
+        String rel = resolvePath(ctx);
+        if (rel == null) {
+            ctx.fail(HttpResponseStatus.BAD_REQUEST.code());
+            return;
+        }
+        HttpServerRequest request = ctx.request();
+        Resource resource = resources.get(rel.endsWith("/") ? rel.concat(indexPage) : rel);
+        if (resource == null || request.method() == HttpMethod.OPTIONS
+                || request.headers().contains(HttpHeaderNames.RANGE)) {
+            // make sure we don't lose the correct TCCL to Vert.x...
+            Thread.currentThread().setContextClassLoader(currentClassLoader);
+            ctx.next();
+            return;
+        }
+
+        Variant variant = resource.select(request.headers().get(HttpHeaders.ACCEPT_ENCODING));
+        HttpServerResponse response = ctx.response();
+        MultiMap headers = response.headers();
+        if (variant == null) {
+            // identity;q=0 and no acceptable compressed variant
+            headers.set(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+            response.setStatusCode(HttpResponseStatus.NOT_ACCEPTABLE.code()).end();
+            return;
+        }
+        headers.set(HttpHeaders.ETAG, variant.etag);
+        headers.set(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (cacheControl != null) {
+            headers.set(HttpHeaders.CACHE_CONTROL, cacheControl);
+        }
+        if (matches(request.headers().get(HttpHeaders.IF_NONE_MATCH), variant.etag)) {
+            response.setStatusCode(HttpResponseStatus.NOT_MODIFIED.code()).end();
+            return;
+        }
+
+        headers.set(HttpHeaders.CONTENT_TYPE, resource.contentType);
+        if (variant.encoding != null) {
+            // this also prevents the response from being compressed again
+            headers.set(HttpHeaders.CONTENT_ENCODING, variant.encoding);
+        }
+        headers.set(HttpHeaders.CONTENT_LENGTH, Integer.toString(variant.content.length()));
+        if (request.method() == HttpMethod.HEAD) {
+            response.end();
+        } else {
+            response.end(variant.content);
+        }
+    }
+
+    /**
+     * @return whether the {@code If-None-Match} header value matches the given entity tag, using the weak comparison
+     */
+    static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            candidate = candidate.trim();
+            if (candidate.equals("*")) {
+                return true;
+            }
+            if (candidate.startsWith("W/")) {
+                candidate = candidate.substring(2);
+            }
+            if (candidate.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return the quality value of the given encoding in the {@code Accept-Encoding} header value, {@code 0} if not
+     *         acceptable
+     */
+    static float quality(String acceptEncoding, String encoding) {
+        if (acceptEncoding == null) {
+            return 0;
+        }
+        return quality(acceptEncoding, encoding, 0);
+    }
+
+    /**
+     * @return whether the {@code Accept-Encoding} header value accepts uncompressed content, which is the case unless
+     *         {@code identity} or {@code *} is explicitly given a quality value of {@code 0}
+     */
+    static boolean isIdentityAcceptable(String acceptEncoding) {
+        return acceptEncoding == null || quality(acceptEncoding, IDENTITY, 1) > 0;
+    }
+
+    /**
+     * @param unlisted the quality value of the encoding if it is listed neither explicitly nor with a wildcard
+     */
+    private static float quality(String acceptEncoding, String encoding, float unlisted) {
+        float wildcard = unlisted;
+        for (String coding : acceptEncoding.split(",")) {
+            String name = coding;
+            float q = 1;
+            int paramIndex = coding.indexOf(';');
+            if (paramIndex > -1) {
+                name = coding.substring(0, paramIndex);
+                String param = coding.substring(paramIndex + 1).trim();
+                if (param.startsWith("q=")) {
+                    try {
+                        q = Float.parseFloat(param.substring(2));
+                    } catch (NumberFormatException e) {
+                        q = 0;
+                    }
+                }
+            }
+            name = name.trim();
+            if (name.equalsIgnoreCase(encoding)) {
+                return q;
+            }
+            if (name.equals("*")) {
+                wildcard = q;
+            }
+        }
+        return wildcard;
+    }
+
+    private Resource load(PrecompressedStaticResource precompressedResource) {
+        String path = precompressedResource.getPath();
+        String contentType = precompressedResource.getContentType();
+        if (contentType.startsWith("text")) {
+            contentType = contentType + ";charset=UTF-8";
+        }
+        String etag = precompressedResource.getEtag();
+        Variant identity = new Variant(null, '"' + etag + '"',
+                read(StaticResourcesRecorder.META_INF_RESOURCES + path));
+        Variant gzip = null;
+        Variant brotli = null;
+        for (String encoding : precompressedResource.getEncodings()) {
+            Variant variant = new Variant(encoding, '"' + etag + '-' + encoding + '"',
+                    read(PRECOMPRESSED_RESOURCES + path + '.' + encoding));
+            if (GZIP.equals(encoding)) {
+                gzip = variant;
+            } else if (BROTLI.equals(encoding)) {
+                brotli = variant;
+            }
+        }
+        return new Resource(contentType, identity, gzip, brotli);
+    }
+
+    private Buffer read(String name) {
+        try (InputStream in = currentClassLoader.getResourceAsStream(name)) {
+            if (in == null) {
+                throw new IllegalStateException("Precompressed static resource not found: " + name);
+            }
+            byte[] bytes = in.readAllBytes();
+            return Buffer.buffer(Unpooled.unreleasableBuffer(Unpooled.directBuffer(bytes.length).writeBytes(bytes)));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to read precompressed static resource " + name, e);
+        }
+    }
+
+    private static final class Resource {
+        final String contentType;
+        final Variant identity;
+        final Variant gzip;
+        final Variant brotli;
+
+        Resource(String contentType, Variant identity, Variant gzip, Variant brotli) {
+            this.contentType = contentType;
+            this.identity = identity;
+            this.gzip = gzip;
+            this.brotli = brotli;
+        }
+
+        /**
+         * @return the variant to serve, {@code null} if none is acceptable
+         */
+        Variant select(String acceptEncoding) {
+            if (acceptEncoding == null) {
+                return identity;
+            }
+            float brotliQuality = brotli == null ? 0 : quality(acceptEncoding, BROTLI);
+            float gzipQuality = gzip == null ? 0 : quality(acceptEncoding, GZIP);
+            if (brotliQuality > 0 && brotliQuality >= gzipQuality) {
+                return brotli;
+            }
+            if (gzipQuality > 0) {
+                return gzip;
+            }
+            return isIdentityAcceptable(acceptEncoding) ? identity : null;
+        }
+
+        long size() {
+            return identity.content.length() + (gzip == null ? 0 : gzip.content.length())
+                    + (brotli == null ? 0 : brotli.content.length());
+        }
+    }
+
+    private static final class Variant {
+        final String encoding;
+        final String etag;
+        final Buffer content;
+
+        Variant(String encoding, String etag, Buffer content) {
+            this.encoding = encoding;
+            this.etag = etag;
+            this.content = content;
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package io.quarkus.vertx.http.runtime.handlers;
+
+import java.util.List;
+
+import io.quarkus.runtime.annotations.RecordableConstructor;
+
+/**
+ * A static resource of {@code META-INF/resources} that was compressed at build time.
+ */
+public class PrecompressedStaticResource {
+
+    private final String path;
+    private final String contentType;
+    private final String etag;
+    private final List<String> encodings;
+
+    /**
+     * @param path the path of the resource, relative to {@code META-INF/resources} and starting with {@code /}
+     * @param contentType the media type of the resource
+     * @param etag the hash of the uncompressed content, used to build the entity tag of each variant
+     * @param encodings the encodings the resource was compressed with, e.g. {@code gzip} or {@code br}
+     */
+    @RecordableConstructor
+    public PrecompressedStaticResource(String path, String contentType, String etag, List<String> encodings) {
+        this.path = path;
+        this.contentType = contentType;
+        this.etag = etag;
+        this.encodings = encodings;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getEtag() {
+        return etag;
+    }
+
+    public List<String> getEncodings() {
+        return encodings;
+    }
+}
@@ -0,0 +1,32 @@
+package io.quarkus.vertx.http.runtime.management;
+
+import io.quarkus.virtual.threads.VirtualThreadsMonitor;
+import io.vertx.core.Handler;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Exposes the reports of the {@link VirtualThreadsMonitor} as JSON. A {@code DELETE} request clears the reports.
+ */
+public class VirtualThreadsMonitorHandler implements Handler<RoutingContext> {
+
+    @Override
+    public void handle(RoutingContext routingContext) {
+        HttpServerResponse response = routingContext.response();
+        VirtualThreadsMonitor monitor = VirtualThreadsMonitor.getCurrent();
+        if (monitor == null) {
+            // JFR is not available
+            response.setStatusCode(503).end();
+            return;
+        }
+        if (routingContext.request().method() == HttpMethod.DELETE) {
+            monitor.clear();
+            response.setStatusCode(204).end();
+            return;
+        }
+        response.putHeader(HttpHeaders.CONTENT_TYPE, "application/json")
+                .end(monitor.toJson().encodePrettily());
+    }
+}
@@ -0,0 +1,82 @@
+package io.quarkus.virtual.threads.deployment;
+
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.AnnotationTarget;
+import org.jboss.jandex.AnnotationValue;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.MethodInfo;
+
+import io.quarkus.runtime.configuration.ConfigurationException;
+import io.quarkus.virtual.threads.VirtualThreadBulkhead;
+import io.quarkus.virtual.threads.VirtualThreadsConfig;
+
+/**
+ * Resolves the {@link VirtualThreadBulkhead} applied to the methods running on virtual threads, for the extensions
+ * dispatching them.
+ */
+public final class VirtualThreadBulkheads {
+
+    public static final DotName VIRTUAL_THREAD_BULKHEAD = DotName.createSimple(VirtualThreadBulkhead.class.getName());
+
+    private VirtualThreadBulkheads() {
+    }
+
+    /**
+     * @param method the method running on a virtual thread
+     * @param targetClass the class of the bean on which the method is invoked, which may be a subclass of the class declaring
+     *        the method
+     * @return the bulkhead applied to the method, or {@code null} if none
+     */
+    public static Bulkhead resolve(VirtualThreadsConfig config, MethodInfo method, ClassInfo targetClass) {
+        String target = targetClass.name() + "#" + method.name();
+        AnnotationInstance annotation = method.declaredAnnotation(VIRTUAL_THREAD_BULKHEAD);
+        if (annotation == null) {
+            annotation = targetClass.declaredAnnotation(VIRTUAL_THREAD_BULKHEAD);
+        }
+        if (annotation == null) {
+            annotation = method.declaringClass().declaredAnnotation(VIRTUAL_THREAD_BULKHEAD);
+        }
+
+        String name;
+        int maxConcurrency = -1;
+        int maxQueued = -1;
+        if (annotation != null) {
+            AnnotationValue value = annotation.value();
+            if (value != null && !value.asString().isBlank()) {
+                name = value.asString();
+            } else if (annotation.target().kind() == AnnotationTarget.Kind.METHOD) {
+                name = target;
+            } else {
+                name = annotation.target().asClass().name().toString();
+            }
+            AnnotationValue maxConcurrencyValue = annotation.value("maxConcurrency");
+            if (maxConcurrencyValue != null) {
+                maxConcurrency = maxConcurrencyValue.asInt();
+            }
+            AnnotationValue maxQueuedValue = annotation.value("maxQueued");
+            if (maxQueuedValue != null) {
+                maxQueued = maxQueuedValue.asInt();
+            }
+        } else if (config.bulkhead().containsKey(target)) {
+            name = target;
+        } else {
+            return null;
+        }
+
+        VirtualThreadsConfig.BulkheadConfig bulkheadConfig = config.bulkhead().get(name);
+        if (bulkheadConfig != null) {
+            maxConcurrency = bulkheadConfig.maxConcurrency().orElse(maxConcurrency);
+            maxQueued = bulkheadConfig.maxQueued().orElse(maxQueued);
+        }
+        if (maxConcurrency < 1) {
+            throw new ConfigurationException("The max concurrency of the virtual thread bulkhead " + name + " applied to "
+                    + target + " must be set to a positive value, using either @VirtualThreadBulkhead(maxConcurrency) or "
+                    + "quarkus.virtual-threads.bulkhead.\"" + name + "\".max-concurrency");
+        }
+        return new Bulkhead(name, maxConcurrency, maxQueued < 0 ? VirtualThreadBulkhead.DEFAULT_MAX_QUEUED : maxQueued);
+    }
+
+    public record Bulkhead(String name, int maxConcurrency, int maxQueued) {
+    }
+}
@@ -1,9 +1,15 @@
 package io.quarkus.virtual.threads.deployment;
 
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 
 import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.AnnotationTarget;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.MethodInfo;
 
 import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
 import io.quarkus.arc.deployment.SyntheticBeanBuildItem;
@@ -12,13 +18,21 @@
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.ExecutionTime;
 import io.quarkus.deployment.annotations.Record;
+import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
 import io.quarkus.deployment.builditem.LaunchModeBuildItem;
 import io.quarkus.deployment.builditem.ShutdownContextBuildItem;
+import io.quarkus.deployment.metrics.MetricsCapabilityBuildItem;
+import io.quarkus.deployment.pkg.steps.NativeOrNativeSourcesBuild;
+import io.quarkus.runtime.metrics.MetricsFactory;
 import io.quarkus.virtual.threads.VirtualThreads;
+import io.quarkus.virtual.threads.VirtualThreadsConfig;
 import io.quarkus.virtual.threads.VirtualThreadsRecorder;
+import io.smallrye.common.annotation.RunOnVirtualThread;
 
 public class VirtualThreadsProcessor {
 
+    private static final DotName RUN_ON_VIRTUAL_THREAD = DotName.createSimple(RunOnVirtualThread.class);
+
     @BuildStep
     @Record(ExecutionTime.STATIC_INIT)
     public void setup(VirtualThreadsRecorder recorder,
@@ -37,4 +51,34 @@ public void setup(VirtualThreadsRecorder recorder,
                         .supplier(recorder.getCurrentSupplier())
                         .done());
     }
+
+    @BuildStep
+    @Record(ExecutionTime.RUNTIME_INIT)
+    public void bulkheadMetrics(VirtualThreadsRecorder recorder, Optional<MetricsCapabilityBuildItem> metricsCapability) {
+        if (metricsCapability.isPresent() && metricsCapability.get().metricsSupported(MetricsFactory.MICROMETER)) {
+            recorder.registerBulkheadMetrics();
+        }
+    }
+
+    @BuildStep(onlyIfNot = NativeOrNativeSourcesBuild.class)
+    @Record(ExecutionTime.RUNTIME_INIT)
+    public void monitor(VirtualThreadsRecorder recorder, VirtualThreadsConfig config,
+            CombinedIndexBuildItem combinedIndex,
+            ShutdownContextBuildItem shutdownContextBuildItem,
+            Optional<MetricsCapabilityBuildItem> metricsCapability) {
+        if (!config.enabled() || !config.monitor().enabled()) {
+            return;
+        }
+        Set<String> endpoints = new HashSet<>();
+        for (AnnotationInstance annotation : combinedIndex.getIndex().getAnnotations(RUN_ON_VIRTUAL_THREAD)) {
+            if (annotation.target().kind() == AnnotationTarget.Kind.METHOD) {
+                MethodInfo method = annotation.target().asMethod();
+                endpoints.add(method.declaringClass().name() + "#" + method.name());
+            } else if (annotation.target().kind() == AnnotationTarget.Kind.CLASS) {
+                endpoints.add(annotation.target().asClass().name().toString());
+            }
+        }
+        recorder.startMonitor(shutdownContextBuildItem, endpoints,
+                metricsCapability.isPresent() && metricsCapability.get().metricsSupported(MetricsFactory.MICROMETER));
+    }
 }
@@ -0,0 +1,29 @@
+package io.quarkus.virtual.threads.deployment.devui;
+
+import io.quarkus.deployment.IsLocalDevelopment;
+import io.quarkus.deployment.annotations.BuildProducer;
+import io.quarkus.deployment.annotations.BuildStep;
+import io.quarkus.devui.spi.JsonRPCProvidersBuildItem;
+import io.quarkus.devui.spi.page.CardPageBuildItem;
+import io.quarkus.devui.spi.page.Page;
+import io.quarkus.virtual.threads.VirtualThreadsConfig;
+import io.quarkus.virtual.threads.dev.ui.VirtualThreadsJsonRPCService;
+
+public class VirtualThreadsDevUIProcessor {
+
+    @BuildStep(onlyIf = IsLocalDevelopment.class)
+    void create(VirtualThreadsConfig config,
+            BuildProducer<CardPageBuildItem> cardPages,
+            BuildProducer<JsonRPCProvidersBuildItem> jsonRPCProviders) {
+        if (!config.enabled() || !config.monitor().enabled()) {
+            return;
+        }
+        CardPageBuildItem pageBuildItem = new CardPageBuildItem();
+        pageBuildItem.addPage(Page.webComponentPageBuilder()
+                .title("Pinning reports")
+                .componentLink("qwc-virtual-threads-reports.js")
+                .icon("font-awesome-solid:thumbtack"));
+        cardPages.produce(pageBuildItem);
+        jsonRPCProviders.produce(new JsonRPCProvidersBuildItem(VirtualThreadsJsonRPCService.class));
+    }
+}
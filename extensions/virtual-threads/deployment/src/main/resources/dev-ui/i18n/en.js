@@ -3,5 +3,18 @@ import { str } from '@lit/localize';
 
 export const templates = {
     // Metadata
-    'quarkus-virtual-threads-meta-description':'Virtual Threads Executor'
+    'quarkus-virtual-threads-meta-description':'Virtual Threads Executor',
+    // Pages
+    'quarkus-virtual-threads-pinning_reports':'Pinning reports',
+    // General
+    'quarkus-virtual-threads-loading-reports': 'Loading reports...',
+    'quarkus-virtual-threads-monitor-disabled': 'The virtual threads monitor is disabled, set quarkus.virtual-threads.monitor.enabled=true to enable it',
+    'quarkus-virtual-threads-dropped': str`${0} event(s) not kept in a report`,
+    'quarkus-virtual-threads-refresh': 'Refresh',
+    'quarkus-virtual-threads-clear': 'Clear',
+    'quarkus-virtual-threads-kind': 'Kind',
+    'quarkus-virtual-threads-endpoint': 'Endpoint',
+    'quarkus-virtual-threads-count': 'Count',
+    'quarkus-virtual-threads-max-duration': 'Max duration (ms)',
+    'quarkus-virtual-threads-stack-trace': 'Stack trace'
 };
@@ -0,0 +1,116 @@
+import { LitElement, html, css} from 'lit';
+import { JsonRpc } from 'jsonrpc';
+import '@vaadin/icon';
+import '@vaadin/button';
+import '@vaadin/details';
+import '@vaadin/grid';
+import { columnBodyRenderer } from '@vaadin/grid/lit.js';
+import '@vaadin/grid/vaadin-grid-sort-column.js';
+import { msg, str, updateWhenLocaleChanges } from 'localization';
+
+export class QwcVirtualThreadsReports extends LitElement {
+
+    jsonRpc = new JsonRpc(this);
+
+    static styles = css`
+        .reports {
+            display: flex;
+            flex-direction: column;
+            height: 100%;
+        }
+        .toolbar {
+            display: flex;
+            justify-content: space-between;
+            align-items: center;
+            padding: 0 10px;
+        }
+        .datatable {
+            height: 100%;
+        }
+        .button {
+            background-color: transparent;
+            cursor: pointer;
+        }
+        pre {
+            margin: 0;
+            font-size: var(--lumo-font-size-s);
+        }
+        `;
+
+    static properties = {
+        _reports: {state: true}
+    }
+
+    constructor() {
+        super();
+        updateWhenLocaleChanges(this);
+        this._reports = null;
+    }
+
+    connectedCallback() {
+        super.connectedCallback();
+        this._refresh();
+    }
+
+    render() {
+        if (!this._reports) {
+            return html`<span>${msg('Loading reports...', { id: 'quarkus-virtual-threads-loading-reports' })}</span>`;
+        }
+        if (!this._reports.enabled) {
+            return html`<span>${msg('The virtual threads monitor is disabled, set quarkus.virtual-threads.monitor.enabled=true to enable it',
+                    { id: 'quarkus-virtual-threads-monitor-disabled' })}</span>`;
+        }
+        return html`
+            <div class="reports">
+                <div class="toolbar">
+                    <span>${msg(str`${this._reports.dropped} event(s) not kept in a report`, { id: 'quarkus-virtual-threads-dropped' })}</span>
+                    <div>
+                        <vaadin-button theme="small" @click=${() => this._refresh()} class="button">
+                            <vaadin-icon icon="font-awesome-solid:rotate"></vaadin-icon> ${msg('Refresh', { id: 'quarkus-virtual-threads-refresh' })}
+                        </vaadin-button>
+                        <vaadin-button theme="small" @click=${() => this._clear()} class="button">
+                            <vaadin-icon icon="font-awesome-solid:broom"></vaadin-icon> ${msg('Clear', { id: 'quarkus-virtual-threads-clear' })}
+                        </vaadin-button>
+                    </div>
+                </div>
+                <vaadin-grid .items="${this._reports.reports}" class="datatable" theme="no-border wrap-cell-content">
+                    <vaadin-grid-sort-column auto-width path="kind"
+                                        header=${msg('Kind', { id: 'quarkus-virtual-threads-kind' })}>
+                    </vaadin-grid-sort-column>
+                    <vaadin-grid-sort-column auto-width path="endpoint"
+                                        header=${msg('Endpoint', { id: 'quarkus-virtual-threads-endpoint' })}>
+                    </vaadin-grid-sort-column>
+                    <vaadin-grid-sort-column auto-width path="count"
+                                        header=${msg('Count', { id: 'quarkus-virtual-threads-count' })}>
+                    </vaadin-grid-sort-column>
+                    <vaadin-grid-sort-column auto-width path="maxDurationMillis"
+                                        header=${msg('Max duration (ms)', { id: 'quarkus-virtual-threads-max-duration' })}>
+                    </vaadin-grid-sort-column>
+                    <vaadin-grid-column flex-grow="1"
+                                        header=${msg('Stack trace', { id: 'quarkus-virtual-threads-stack-trace' })}
+                                        ${columnBodyRenderer(this._stackRenderer, [])}>
+                    </vaadin-grid-column>
+                </vaadin-grid>
+            </div>`;
+    }
+
+    _stackRenderer(report) {
+        return html`
+            <vaadin-details summary="${report.reason ? report.reason : report.stack[0]}">
+                <pre>${report.stack.join('\n')}</pre>
+            </vaadin-details>`;
+    }
+
+    _refresh() {
+        this.jsonRpc.getReports().then(jsonRpcResponse => {
+            this._reports = jsonRpcResponse.result;
+        });
+    }
+
+    _clear() {
+        this.jsonRpc.clear().then(jsonRpcResponse => {
+            this._reports = jsonRpcResponse.result;
+        });
+    }
+}
+customElements.define('qwc-virtual-threads-reports', QwcVirtualThreadsReports);
@@ -0,0 +1,32 @@
+package io.quarkus.virtual.threads.dev.ui;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+import io.quarkus.runtime.annotations.JsonRpcDescription;
+import io.quarkus.virtual.threads.VirtualThreadsMonitor;
+import io.smallrye.common.annotation.NonBlocking;
+import io.vertx.core.json.JsonObject;
+
+@ApplicationScoped
+public class VirtualThreadsJsonRPCService {
+
+    @NonBlocking
+    @JsonRpcDescription("Get the reports of the virtual threads pinning their carrier thread or failing to be scheduled")
+    public JsonObject getReports() {
+        VirtualThreadsMonitor monitor = VirtualThreadsMonitor.getCurrent();
+        if (monitor == null) {
+            return new JsonObject().put("enabled", false);
+        }
+        return monitor.toJson().put("enabled", true);
+    }
+
+    @NonBlocking
+    @JsonRpcDescription("Clear the reports of the virtual threads monitor")
+    public JsonObject clear() {
+        VirtualThreadsMonitor monitor = VirtualThreadsMonitor.getCurrent();
+        if (monitor != null) {
+            monitor.clear();
+        }
+        return getReports();
+    }
+}
@@ -0,0 +1,45 @@
+package io.quarkus.virtual.threads;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+/**
+ * Limits the number of concurrent invocations of methods annotated with {@code @RunOnVirtualThread}.
+ * <p>
+ * When the limit is reached, invocations wait in a bounded queue until a running invocation completes. Once the queue is
+ * full, invocations are rejected: REST endpoints respond with {@code 503 Service Unavailable}, and gRPC methods fail with
+ * {@code RESOURCE_EXHAUSTED}.
+ * <p>
+ * The methods sharing the same bulkhead name share the same limits. The limits can be overridden with the
+ * {@code quarkus.virtual-threads.bulkhead."<name>".*} configuration properties.
+ * <p>
+ * This annotation can be used on REST endpoints and gRPC service methods.
+ */
+@Target({ TYPE, METHOD })
+@Retention(RUNTIME)
+public @interface VirtualThreadBulkhead {
+
+    /**
+     * The name of the bulkhead. By default, it is the fully qualified name of the annotated class, followed by {@code #}
+     * and the name of the method if the annotation is declared on a method, such as
+     * {@code org.acme.GreetingResource#hello}.
+     */
+    String value() default "";
+
+    /**
+     * The maximum number of invocations running concurrently. It must be set either here or in the configuration.
+     */
+    int maxConcurrency() default -1;
+
+    /**
+     * The maximum number of invocations waiting for a running invocation to complete, {@value #DEFAULT_MAX_QUEUED} if not
+     * set here or in the configuration.
+     */
+    int maxQueued() default -1;
+
+    int DEFAULT_MAX_QUEUED = 10;
+}
@@ -0,0 +1,202 @@
+package io.quarkus.virtual.threads;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Limits the number of concurrent invocations dispatched on virtual threads, see {@link VirtualThreadBulkhead}.
+ * <p>
+ * Invocations are admitted before they are dispatched: when no permit is available, the invocation is queued and
+ * dispatched by the thread releasing a permit, so that no virtual thread is created for it in the meantime.
+ */
+public final class VirtualThreadsBulkhead {
+
+    private static final Logger logger = Logger.getLogger("io.quarkus.virtual-threads");
+
+    private static final Map<String, VirtualThreadsBulkhead> BULKHEADS = new ConcurrentHashMap<>();
+    private static final Map<String, VirtualThreadsBulkhead> TARGETS = new ConcurrentHashMap<>();
+    private static final List<Consumer<VirtualThreadsBulkhead>> LISTENERS = new CopyOnWriteArrayList<>();
+
+    public enum Admission {
+        /**
+         * The invocation can be dispatched.
+         */
+        ACQUIRED,
+        /**
+         * The invocation is queued, and will be dispatched once a permit is released.
+         */
+        QUEUED,
+        /**
+         * The invocation must be rejected.
+         */
+        REJECTED
+    }
+
+    private final String name;
+    private final int maxConcurrency;
+    private final int maxQueued;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    // guarded by lock
+    private final ArrayDeque<Runnable> waiting = new ArrayDeque<>();
+    // guarded by lock
+    private int active;
+    private final LongAdder rejected = new LongAdder();
+
+    VirtualThreadsBulkhead(String name, int maxConcurrency, int maxQueued) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("The max concurrency of the bulkhead " + name + " must be positive");
+        }
+        this.name = name;
+        this.maxConcurrency = maxConcurrency;
+        this.maxQueued = Math.max(0, maxQueued);
+    }
+
+    /**
+     * Returns the bulkhead with the given name, creating it with the given limits if needed.
+     */
+    public static VirtualThreadsBulkhead get(String name, int maxConcurrency, int maxQueued) {
+        VirtualThreadsBulkhead bulkhead = BULKHEADS.get(name);
+        if (bulkhead == null) {
+            VirtualThreadsBulkhead created = new VirtualThreadsBulkhead(name, maxConcurrency, maxQueued);
+            bulkhead = BULKHEADS.putIfAbsent(name, created);
+            if (bulkhead == null) {
+                for (Consumer<VirtualThreadsBulkhead> listener : LISTENERS) {
+                    listener.accept(created);
+                }
+                return created;
+            }
+        }
+        if (bulkhead.maxConcurrency != maxConcurrency || bulkhead.maxQueued != Math.max(0, maxQueued)) {
+            logger.warnf("The bulkhead %s is declared with different limits, the limits %d/%d are ignored", name,
+                    maxConcurrency, maxQueued);
+        }
+        return bulkhead;
+    }
+
+    /**
+     * Applies the given bulkhead to the given target, usually the name of a class followed by {@code #} and the name of
+     * a method.
+     */
+    public static void bind(String target, String name, int maxConcurrency, int maxQueued) {
+        TARGETS.put(target, get(name, maxConcurrency, maxQueued));
+    }
+
+    /**
+     * @return the bulkhead applied to the given target, or {@code null}
+     */
+    public static VirtualThreadsBulkhead forTarget(String target) {
+        return TARGETS.get(target);
+    }
+
+    static Collection<VirtualThreadsBulkhead> all() {
+        return BULKHEADS.values();
+    }
+
+    /**
+     * Registers a listener notified of the existing and future bulkheads.
+     */
+    static void addListener(Consumer<VirtualThreadsBulkhead> listener) {
+        LISTENERS.add(listener);
+        for (VirtualThreadsBulkhead bulkhead : BULKHEADS.values()) {
+            listener.accept(bulkhead);
+        }
+    }
+
+    static void reset() {
+        BULKHEADS.clear();
+        TARGETS.clear();
+        LISTENERS.clear();
+    }
+
+    /**
+     * Tries to acquire a permit.
+     * <p>
+     * If the invocation is {@link Admission#QUEUED}, the given task is run by the thread releasing the permit handed over
+     * to this invocation. In both the {@link Admission#ACQUIRED} and {@link Admission#QUEUED} cases, the permit must be
+     * {@linkplain #release() released} once the invocation completes.
+     *
+     * @param onAcquired dispatches the invocation once it acquired a permit after waiting in the queue
+     */
+    public Admission acquire(Runnable onAcquired) {
+        lock.lock();
+        try {
+            if (active < maxConcurrency) {
+                active++;
+                return Admission.ACQUIRED;
+            }
+            if (waiting.size() < maxQueued) {
+                waiting.add(onAcquired);
+                return Admission.QUEUED;
+            }
+        } finally {
+            lock.unlock();
+        }
+        rejected.increment();
+        return Admission.REJECTED;
+    }
+
+    public void release() {
+        Runnable next;
+        lock.lock();
+        try {
+            next = waiting.poll();
+            if (next == null) {
+                active--;
+                return;
+            }
+            // the permit is handed over to the first waiting invocation
+        } finally {
+            lock.unlock();
+        }
+        try {
+            next.run();
+        } catch (Throwable t) {
+            logger.errorf(t, "Unable to dispatch an invocation queued in the bulkhead %s", name);
+            release();
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    public int getMaxQueued() {
+        return maxQueued;
+    }
+
+    public int getActive() {
+        lock.lock();
+        try {
+            return active;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getQueued() {
+        lock.lock();
+        try {
+            return waiting.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getRejected() {
+        return rejected.sum();
+    }
+}
@@ -0,0 +1,32 @@
+package io.quarkus.virtual.threads;
+
+import java.util.function.Consumer;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Metrics;
+
+/**
+ * Registers the Micrometer meters of the {@link VirtualThreadsBulkhead}s, only used when the application depends on a
+ * quarkus-micrometer-registry-* extension.
+ */
+class VirtualThreadsBulkheadMetrics implements Consumer<VirtualThreadsBulkhead> {
+
+    private static final String TAG = "bulkhead";
+
+    @Override
+    public void accept(VirtualThreadsBulkhead bulkhead) {
+        Gauge.builder("virtual-threads.bulkhead.active", bulkhead, VirtualThreadsBulkhead::getActive)
+                .description("The number of invocations running in the bulkhead")
+                .tag(TAG, bulkhead.getName())
+                .register(Metrics.globalRegistry);
+        Gauge.builder("virtual-threads.bulkhead.queued", bulkhead, VirtualThreadsBulkhead::getQueued)
+                .description("The number of invocations waiting in the queue of the bulkhead")
+                .tag(TAG, bulkhead.getName())
+                .register(Metrics.globalRegistry);
+        FunctionCounter.builder("virtual-threads.bulkhead.rejected", bulkhead, VirtualThreadsBulkhead::getRejected)
+                .description("The number of invocations rejected by the bulkhead")
+                .tag(TAG, bulkhead.getName())
+                .register(Metrics.globalRegistry);
+    }
+}
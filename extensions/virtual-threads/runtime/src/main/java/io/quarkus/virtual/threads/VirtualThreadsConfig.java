@@ -1,8 +1,12 @@
 package io.quarkus.virtual.threads;
 
 import java.time.Duration;
+import java.util.Map;
 import java.util.Optional;
+import java.util.OptionalInt;
 
+import io.quarkus.runtime.annotations.ConfigDocMapKey;
+import io.quarkus.runtime.annotations.ConfigGroup;
 import io.quarkus.runtime.annotations.ConfigPhase;
 import io.quarkus.runtime.annotations.ConfigRoot;
 import io.smallrye.config.ConfigMapping;
@@ -41,4 +45,74 @@ public interface VirtualThreadsConfig {
      */
     @WithDefault("true")
     boolean enabled();
+
+    /**
+     * The concurrency limits of the methods running on virtual threads, by bulkhead name.
+     * <p>
+     * The name is either the name of a {@link VirtualThreadBulkhead}, or the fully qualified name of a class followed by
+     * {@code #} and the name of one of its methods annotated with {@code @RunOnVirtualThread}, such as
+     * {@code org.acme.GreetingResource#hello}, in which case the bulkhead is applied to this method without annotating it.
+     */
+    @ConfigDocMapKey("bulkhead-name")
+    Map<String, BulkheadConfig> bulkhead();
+
+    /**
+     * The monitoring of the virtual threads pinning their carrier thread, or failing to be scheduled.
+     */
+    MonitorConfig monitor();
+
+    @ConfigGroup
+    interface MonitorConfig {
+
+        /**
+         * Whether the {@code jdk.VirtualThreadPinned} and {@code jdk.VirtualThreadSubmitFailed} JFR events are consumed
+         * and aggregated into reports.
+         * <p>
+         * The reports are logged, exposed as metrics when Micrometer is used, in the Dev UI and on the
+         * management endpoint. The monitor is not available in native executables.
+         */
+        @WithDefault("false")
+        boolean enabled();
+
+        /**
+         * The minimum duration of the pinning of a carrier thread to be reported.
+         */
+        @WithDefault("20ms")
+        Duration pinnedThreshold();
+
+        /**
+         * The maximum number of reports kept in memory. A report aggregates the events with the same stack trace.
+         * Once the limit is reached, the events of new stack traces are only counted.
+         */
+        @WithDefault("100")
+        int maxReports();
+
+        /**
+         * The maximum number of frames of the stack trace of a report.
+         */
+        @WithDefault("20")
+        int stackDepth();
+
+        /**
+         * The path of the endpoint exposing the reports, relative to the non-application root path. The endpoint is exposed
+         * on the management interface when it is enabled.
+         */
+        @WithDefault("virtual-threads")
+        String path();
+    }
+
+    @ConfigGroup
+    interface BulkheadConfig {
+
+        /**
+         * The maximum number of invocations running concurrently, overriding {@link VirtualThreadBulkhead#maxConcurrency()}.
+         */
+        OptionalInt maxConcurrency();
+
+        /**
+         * The maximum number of invocations waiting for a running invocation to complete, overriding
+         * {@link VirtualThreadBulkhead#maxQueued()}. Once the queue is full, the invocations are rejected.
+         */
+        OptionalInt maxQueued();
+    }
 }
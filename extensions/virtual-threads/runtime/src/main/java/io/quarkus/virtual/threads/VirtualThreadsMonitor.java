@@ -0,0 +1,337 @@
+package io.quarkus.virtual.threads;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+import org.jboss.logging.Logger;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+
+/**
+ * Consumes the JFR events emitted when a virtual thread pins its carrier thread, or cannot be scheduled, and aggregates
+ * them into {@link Report}s by kind, endpoint, reason and stack trace.
+ * <p>
+ * The endpoint of an event is the outermost method of its stack trace annotated with {@code @RunOnVirtualThread}, or
+ * declared by a class annotated with {@code @RunOnVirtualThread}. The number of reports is bounded, the events of new
+ * stack traces are only counted once the limit is reached.
+ */
+public final class VirtualThreadsMonitor implements Consumer<RecordedEvent> {
+
+    private static final Logger logger = Logger.getLogger("io.quarkus.virtual-threads");
+
+    static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    static final String SUBMIT_FAILED_EVENT = "jdk.VirtualThreadSubmitFailed";
+
+    public static final String UNKNOWN_ENDPOINT = "unknown";
+
+    private static volatile VirtualThreadsMonitor current;
+
+    public enum Kind {
+        /**
+         * A virtual thread pinned its carrier thread while blocking.
+         */
+        PINNED("pinned"),
+        /**
+         * A virtual thread could not be submitted to the scheduler, usually because the carrier threads are saturated.
+         */
+        SUBMIT_FAILED("submit-failed");
+
+        private final String name;
+
+        Kind(String name) {
+            this.name = name;
+        }
+
+        public String getName() {
+            return name;
+        }
+    }
+
+    /**
+     * Notified of each event consumed by the monitor, including the events not kept in a report.
+     */
+    public interface Listener {
+
+        void onEvent(Kind kind, String endpoint, Duration duration);
+    }
+
+    private final Set<String> endpoints;
+    private final int maxReports;
+    private final int stackDepth;
+    private final Map<ReportKey, Report> reports = new ConcurrentHashMap<>();
+    private final LongAdder dropped = new LongAdder();
+    private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+    private volatile RecordingStream stream;
+
+    /**
+     * @param endpoints the names of the classes, and the names of the methods prefixed with the name of their declaring class
+     *        and {@code #}, annotated with {@code @RunOnVirtualThread}
+     */
+    VirtualThreadsMonitor(Set<String> endpoints, int maxReports, int stackDepth) {
+        this.endpoints = endpoints;
+        this.maxReports = maxReports;
+        this.stackDepth = stackDepth;
+    }
+
+    /**
+     * Starts consuming the JFR events in the background.
+     *
+     * @throws IllegalStateException if JFR is not available in this JVM
+     */
+    static VirtualThreadsMonitor start(VirtualThreadsConfig.MonitorConfig config, Set<String> endpoints) {
+        VirtualThreadsMonitor monitor = new VirtualThreadsMonitor(endpoints, config.maxReports(), config.stackDepth());
+        RecordingStream stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(config.pinnedThreshold()).withStackTrace();
+        stream.enable(SUBMIT_FAILED_EVENT).withStackTrace();
+        stream.onEvent(monitor);
+        stream.startAsync();
+        monitor.stream = stream;
+        current = monitor;
+        return monitor;
+    }
+
+    void stop() {
+        current = null;
+        RecordingStream stream = this.stream;
+        if (stream != null) {
+            stream.close();
+        }
+    }
+
+    /**
+     * @return the running monitor, or {@code null} if the monitor is disabled
+     */
+    public static VirtualThreadsMonitor getCurrent() {
+        return current;
+    }
+
+    void addListener(Listener listener) {
+        listeners.add(listener);
+    }
+
+    @Override
+    public void accept(RecordedEvent event) {
+        Kind kind;
+        String reason;
+        switch (event.getEventType().getName()) {
+            case PINNED_EVENT:
+                kind = Kind.PINNED;
+                // only available since Java 24
+                reason = event.hasField("pinnedReason") ? event.getString("pinnedReason") : null;
+                break;
+            case SUBMIT_FAILED_EVENT:
+                kind = Kind.SUBMIT_FAILED;
+                reason = event.hasField("exceptionMessage") ? event.getString("exceptionMessage") : null;
+                break;
+            default:
+                return;
+        }
+        List<StackFrame> frames = new ArrayList<>();
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        if (stackTrace != null) {
+            for (RecordedFrame frame : stackTrace.getFrames()) {
+                if (frame.isJavaFrame()) {
+                    frames.add(new StackFrame(frame.getMethod().getType().getName(), frame.getMethod().getName(),
+                            frame.getLineNumber()));
+                }
+            }
+        }
+        record(kind, reason, frames, event.getDuration());
+    }
+
+    void record(Kind kind, String reason, List<StackFrame> frames, Duration duration) {
+        String endpoint = findEndpoint(frames);
+        ReportKey key = new ReportKey(kind, endpoint, reason, stack(frames));
+        Report report = reports.get(key);
+        if (report == null) {
+            if (reports.size() >= maxReports) {
+                dropped.increment();
+            } else {
+                Report created = new Report(key);
+                report = reports.putIfAbsent(key, created);
+                if (report == null) {
+                    report = created;
+                    logger.warnf("%s\n\t%s", report.describe(duration), String.join("\n\t", report.getStack()));
+                }
+            }
+        }
+        if (report != null) {
+            report.record(duration);
+        }
+        for (Listener listener : listeners) {
+            listener.onEvent(kind, endpoint, duration);
+        }
+    }
+
+    private String findEndpoint(List<StackFrame> frames) {
+        // the frames are ordered from the innermost to the outermost
+        for (int i = frames.size() - 1; i >= 0; i--) {
+            StackFrame frame = frames.get(i);
+            String method = frame.className() + "#" + frame.methodName();
+            if (endpoints.contains(method) || endpoints.contains(frame.className())) {
+                return method;
+            }
+        }
+        return UNKNOWN_ENDPOINT;
+    }
+
+    private List<String> stack(List<StackFrame> frames) {
+        List<String> stack = new ArrayList<>(Math.min(frames.size(), stackDepth));
+        for (StackFrame frame : frames) {
+            if (stack.size() == stackDepth) {
+                break;
+            }
+            stack.add(frame.toString());
+        }
+        return List.copyOf(stack);
+    }
+
+    /**
+     * @return the reports, the most frequent first
+     */
+    public List<Report> getReports() {
+        List<Report> result = new ArrayList<>(reports.values());
+        result.sort(Comparator.comparingLong(Report::getCount).reversed());
+        return result;
+    }
+
+    /**
+     * @return the number of events not kept in a report because the maximum number of reports was reached
+     */
+    public long getDropped() {
+        return dropped.sum();
+    }
+
+    public void clear() {
+        reports.clear();
+        dropped.reset();
+    }
+
+    public JsonObject toJson() {
+        JsonArray array = new JsonArray();
+        for (Report report : getReports()) {
+            array.add(report.toJson());
+        }
+        return new JsonObject()
+                .put("reports", array)
+                .put("dropped", getDropped());
+    }
+
+    record StackFrame(String className, String methodName, int lineNumber) {
+
+        @Override
+        public String toString() {
+            return className + "." + methodName + (lineNumber >= 0 ? ":" + lineNumber : "");
+        }
+    }
+
+    private record ReportKey(Kind kind, String endpoint, String reason, List<String> stack) {
+    }
+
+    public static final class Report {
+
+        private final ReportKey key;
+        private final Instant firstOccurrence = Instant.now();
+        private volatile Instant lastOccurrence = firstOccurrence;
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalDuration = new LongAdder();
+        private final AtomicLong maxDuration = new AtomicLong();
+
+        private Report(ReportKey key) {
+            this.key = key;
+        }
+
+        void record(Duration duration) {
+            long nanos = duration.toNanos();
+            count.increment();
+            totalDuration.add(nanos);
+            maxDuration.accumulateAndGet(nanos, Math::max);
+            lastOccurrence = Instant.now();
+        }
+
+        public Kind getKind() {
+            return key.kind();
+        }
+
+        /**
+         * @return the method annotated with {@code @RunOnVirtualThread} in which the event occurred, or
+         *         {@value VirtualThreadsMonitor#UNKNOWN_ENDPOINT}
+         */
+        public String getEndpoint() {
+            return key.endpoint();
+        }
+
+        /**
+         * @return the reason reported by the JVM, or {@code null}
+         */
+        public String getReason() {
+            return key.reason();
+        }
+
+        /**
+         * @return the innermost frames of the stack trace
+         */
+        public List<String> getStack() {
+            return key.stack();
+        }
+
+        public long getCount() {
+            return count.sum();
+        }
+
+        public Duration getTotalDuration() {
+            return Duration.ofNanos(totalDuration.sum());
+        }
+
+        public Duration getMaxDuration() {
+            return Duration.ofNanos(maxDuration.get());
+        }
+
+        public Instant getFirstOccurrence() {
+            return firstOccurrence;
+        }
+
+        public Instant getLastOccurrence() {
+            return lastOccurrence;
+        }
+
+        private String describe(Duration duration) {
+            String description = getKind() == Kind.PINNED
+                    ? "A virtual thread pinned its carrier thread for " + duration.toMillis() + " ms"
+                    : "A virtual thread could not be scheduled";
+            description += " in " + getEndpoint();
+            if (getReason() != null) {
+                description += " (" + getReason() + ")";
+            }
+            return description;
+        }
+
+        JsonObject toJson() {
+            return new JsonObject()
+                    .put("kind", getKind().getName())
+                    .put("endpoint", getEndpoint())
+                    .put("reason", getReason())
+                    .put("count", getCount())
+                    .put("totalDurationMillis", getTotalDuration().toMillis())
+                    .put("maxDurationMillis", getMaxDuration().toMillis())
+                    .put("firstOccurrence", firstOccurrence.toString())
+                    .put("lastOccurrence", lastOccurrence.toString())
+                    .put("stack", new JsonArray(getStack()));
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package io.quarkus.virtual.threads;
+
+import java.time.Duration;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Records the events of the {@link VirtualThreadsMonitor} as Micrometer meters tagged with their endpoint, only used when
+ * the application depends on a quarkus-micrometer-registry-* extension.
+ */
+class VirtualThreadsMonitorMetrics implements VirtualThreadsMonitor.Listener {
+
+    private static final String TAG = "endpoint";
+
+    @Override
+    public void onEvent(VirtualThreadsMonitor.Kind kind, String endpoint, Duration duration) {
+        switch (kind) {
+            case PINNED:
+                Timer.builder("virtual-threads.pinned")
+                        .description("The duration of the pinning of carrier threads by virtual threads")
+                        .tag(TAG, endpoint)
+                        .register(Metrics.globalRegistry)
+                        .record(duration);
+                break;
+            case SUBMIT_FAILED:
+                Counter.builder("virtual-threads.submit-failed")
+                        .description("The number of virtual threads that could not be scheduled")
+                        .tag(TAG, endpoint)
+                        .register(Metrics.globalRegistry)
+                        .increment();
+                break;
+        }
+    }
+}
@@ -4,6 +4,7 @@
 
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.Set;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadFactory;
@@ -52,6 +53,7 @@ public void run() {
                             service.shutdownNow();
                         }
                         current = null;
+                        VirtualThreadsBulkhead.reset();
                     }
                 });
             } else {
@@ -93,6 +95,24 @@ public void run() {
         }
     }
 
+    public void registerBulkheadMetrics() {
+        VirtualThreadsBulkhead.addListener(new VirtualThreadsBulkheadMetrics());
+    }
+
+    public void startMonitor(ShutdownContext shutdownContext, Set<String> endpoints, boolean metrics) {
+        VirtualThreadsMonitor monitor;
+        try {
+            monitor = VirtualThreadsMonitor.start(runtimeConfig.monitor(), endpoints);
+        } catch (RuntimeException | LinkageError e) {
+            logger.warn("Unable to consume the JFR events of the virtual threads, the virtual threads monitor is disabled", e);
+            return;
+        }
+        if (metrics) {
+            monitor.addListener(new VirtualThreadsMonitorMetrics());
+        }
+        shutdownContext.addShutdownTask(monitor::stop);
+    }
+
     public Supplier<ExecutorService> getCurrentSupplier() {
         return VIRTUAL_THREADS_EXECUTOR_SUPPLIER;
     }
@@ -0,0 +1,70 @@
+package io.quarkus.virtual.threads;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.virtual.threads.VirtualThreadsBulkhead.Admission;
+
+class VirtualThreadsBulkheadTest {
+
+    @AfterEach
+    void reset() {
+        VirtualThreadsBulkhead.reset();
+    }
+
+    @Test
+    void queueAndReject() {
+        VirtualThreadsBulkhead bulkhead = VirtualThreadsBulkhead.get("test", 2, 1);
+        List<String> dispatched = new ArrayList<>();
+
+        assertThat(bulkhead.acquire(() -> dispatched.add("first"))).isEqualTo(Admission.ACQUIRED);
+        assertThat(bulkhead.acquire(() -> dispatched.add("second"))).isEqualTo(Admission.ACQUIRED);
+        assertThat(bulkhead.acquire(() -> dispatched.add("third"))).isEqualTo(Admission.QUEUED);
+        assertThat(bulkhead.acquire(() -> dispatched.add("fourth"))).isEqualTo(Admission.REJECTED);
+        assertThat(dispatched).isEmpty();
+        assertThat(bulkhead.getActive()).isEqualTo(2);
+        assertThat(bulkhead.getQueued()).isEqualTo(1);
+        assertThat(bulkhead.getRejected()).isEqualTo(1);
+
+        // the permit is handed over to the queued invocation
+        bulkhead.release();
+        assertThat(dispatched).containsExactly("third");
+        assertThat(bulkhead.getActive()).isEqualTo(2);
+        assertThat(bulkhead.getQueued()).isZero();
+
+        bulkhead.release();
+        bulkhead.release();
+        assertThat(bulkhead.getActive()).isZero();
+        assertThat(bulkhead.acquire(() -> dispatched.add("fifth"))).isEqualTo(Admission.ACQUIRED);
+    }
+
+    @Test
+    void failingQueuedInvocationReleasesPermit() {
+        VirtualThreadsBulkhead bulkhead = VirtualThreadsBulkhead.get("test", 1, 1);
+        assertThat(bulkhead.acquire(() -> {
+        })).isEqualTo(Admission.ACQUIRED);
+        assertThat(bulkhead.acquire(() -> {
+            throw new IllegalStateException("expected");
+        })).isEqualTo(Admission.QUEUED);
+
+        bulkhead.release();
+        assertThat(bulkhead.getActive()).isZero();
+        assertThat(bulkhead.getQueued()).isZero();
+    }
+
+    @Test
+    void sharedBulkhead() {
+        VirtualThreadsBulkhead.bind("org.acme.Foo#hello", "shared", 1, 0);
+        VirtualThreadsBulkhead.bind("org.acme.Bar#hello", "shared", 5, 0);
+
+        VirtualThreadsBulkhead bulkhead = VirtualThreadsBulkhead.forTarget("org.acme.Foo#hello");
+        assertThat(VirtualThreadsBulkhead.forTarget("org.acme.Bar#hello")).isSameAs(bulkhead);
+        assertThat(bulkhead.getMaxConcurrency()).isEqualTo(1);
+        assertThat(VirtualThreadsBulkhead.forTarget("org.acme.Baz#hello")).isNull();
+    }
+}
@@ -0,0 +1,76 @@
+package io.quarkus.virtual.threads;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.virtual.threads.VirtualThreadsMonitor.Kind;
+import io.quarkus.virtual.threads.VirtualThreadsMonitor.Report;
+import io.quarkus.virtual.threads.VirtualThreadsMonitor.StackFrame;
+
+class VirtualThreadsMonitorTest {
+
+    private static final List<StackFrame> SYNCHRONIZED_STACK = List.of(
+            new StackFrame("org.acme.Repository", "load", 42),
+            new StackFrame("org.acme.GreetingResource", "helper", 20),
+            new StackFrame("org.acme.GreetingResource", "hello", 12),
+            new StackFrame("org.jboss.resteasy.reactive.server.handlers.InvocationHandler", "handle", 100));
+
+    @Test
+    void aggregateByStackAndEndpoint() {
+        VirtualThreadsMonitor monitor = new VirtualThreadsMonitor(Set.of("org.acme.GreetingResource#hello"), 10, 2);
+        List<String> endpoints = new ArrayList<>();
+        monitor.addListener((kind, endpoint, duration) -> endpoints.add(endpoint));
+
+        monitor.record(Kind.PINNED, null, SYNCHRONIZED_STACK, Duration.ofMillis(30));
+        monitor.record(Kind.PINNED, null, SYNCHRONIZED_STACK, Duration.ofMillis(50));
+        monitor.record(Kind.PINNED, null, List.of(new StackFrame("org.acme.Other", "run", -1)), Duration.ofMillis(25));
+
+        List<Report> reports = monitor.getReports();
+        assertThat(reports).hasSize(2);
+        Report report = reports.get(0);
+        assertThat(report.getKind()).isEqualTo(Kind.PINNED);
+        assertThat(report.getEndpoint()).isEqualTo("org.acme.GreetingResource#hello");
+        assertThat(report.getCount()).isEqualTo(2);
+        assertThat(report.getTotalDuration()).isEqualTo(Duration.ofMillis(80));
+        assertThat(report.getMaxDuration()).isEqualTo(Duration.ofMillis(50));
+        assertThat(report.getStack()).containsExactly("org.acme.Repository.load:42", "org.acme.GreetingResource.helper:20");
+        assertThat(reports.get(1).getEndpoint()).isEqualTo(VirtualThreadsMonitor.UNKNOWN_ENDPOINT);
+        assertThat(reports.get(1).getStack()).containsExactly("org.acme.Other.run");
+        assertThat(endpoints).containsExactly("org.acme.GreetingResource#hello", "org.acme.GreetingResource#hello",
+                VirtualThreadsMonitor.UNKNOWN_ENDPOINT);
+    }
+
+    @Test
+    void classLevelEndpoint() {
+        VirtualThreadsMonitor monitor = new VirtualThreadsMonitor(Set.of("org.acme.GreetingResource"), 10, 20);
+        monitor.record(Kind.SUBMIT_FAILED, "Rejected", SYNCHRONIZED_STACK, Duration.ZERO);
+
+        Report report = monitor.getReports().get(0);
+        // the outermost method of the class is the endpoint
+        assertThat(report.getEndpoint()).isEqualTo("org.acme.GreetingResource#hello");
+        assertThat(report.getReason()).isEqualTo("Rejected");
+        assertThat(report.toJson().getString("kind")).isEqualTo("submit-failed");
+    }
+
+    @Test
+    void boundedReports() {
+        VirtualThreadsMonitor monitor = new VirtualThreadsMonitor(Set.of(), 1, 20);
+        monitor.record(Kind.PINNED, null, List.of(new StackFrame("org.acme.A", "run", 1)), Duration.ofMillis(30));
+        monitor.record(Kind.PINNED, null, List.of(new StackFrame("org.acme.B", "run", 1)), Duration.ofMillis(30));
+        monitor.record(Kind.PINNED, null, List.of(new StackFrame("org.acme.A", "run", 1)), Duration.ofMillis(30));
+
+        assertThat(monitor.getReports()).hasSize(1);
+        assertThat(monitor.getReports().get(0).getCount()).isEqualTo(2);
+        assertThat(monitor.getDropped()).isEqualTo(1);
+
+        monitor.clear();
+        assertThat(monitor.getReports()).isEmpty();
+        assertThat(monitor.getDropped()).isZero();
+    }
+}
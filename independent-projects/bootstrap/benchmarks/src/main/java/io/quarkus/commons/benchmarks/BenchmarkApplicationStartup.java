@@ -0,0 +1,194 @@
+package io.quarkus.commons.benchmarks;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.ConnectException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the time to first request of a packaged application, which must be given with
+ * {@code -p app=path/to/target/quarkus-app/quarkus-run.jar}.
+ * <p>
+ * The code generated by the bytecode recorders is only run once at startup, so it is interpreted. Running the
+ * application with {@code -Xint} shows how much the recorded code costs before the JIT kicks in, and the size of the
+ * recorded bytecode is printed when the benchmark starts, to compare the recording formats.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 10)
+@Fork(1)
+public class BenchmarkApplicationStartup {
+
+    private static final String RECORDED_CLASSES = "io/quarkus/runner/recorded/";
+
+    @Param({ "" })
+    public String app;
+
+    @Param({ "http://localhost:8080/" })
+    public String url;
+
+    @Param({ "", "-Xint" })
+    public String jvmArgs;
+
+    private HttpClient client;
+    private Process process;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        if (app.isBlank()) {
+            throw new IllegalStateException("The application to start must be set with -p app=<path of quarkus-run.jar>");
+        }
+        client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+        Path generatedBytecode = Path.of(app).toAbsolutePath().getParent().resolve("quarkus/generated-bytecode.jar");
+        if (Files.exists(generatedBytecode)) {
+            long[] size = recordedBytecodeSize(generatedBytecode);
+            System.out.printf("Recorded startup code: %d classes, %d methods, %d bytes of bytecode%n", size[0], size[1],
+                    size[2]);
+        }
+    }
+
+    @Benchmark
+    public int timeToFirstRequest() throws Exception {
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        if (!jvmArgs.isBlank()) {
+            command.addAll(List.of(jvmArgs.trim().split("\\s+")));
+        }
+        command.add("-jar");
+        command.add(app);
+        process = new ProcessBuilder(command).redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .start();
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url)).timeout(Duration.ofSeconds(10)).build();
+        long deadline = System.nanoTime() + TimeUnit.MINUTES.toNanos(2);
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("The application exited with " + process.exitValue());
+            }
+            try {
+                return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+            } catch (ConnectException e) {
+                Thread.onSpinWait();
+            }
+        }
+        throw new IllegalStateException("The application did not answer " + url);
+    }
+
+    @TearDown(Level.Invocation)
+    public void stop() throws InterruptedException {
+        if (process != null) {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly().waitFor();
+            }
+            process = null;
+        }
+    }
+
+    /**
+     * @return the number of recorded classes, the number of their methods that have code, and the size of their code
+     */
+    static long[] recordedBytecodeSize(Path jar) throws IOException {
+        long[] size = new long[3];
+        try (JarFile file = new JarFile(jar.toFile())) {
+            for (Enumeration<JarEntry> entries = file.entries(); entries.hasMoreElements();) {
+                JarEntry entry = entries.nextElement();
+                if (entry.getName().startsWith(RECORDED_CLASSES) && entry.getName().endsWith(".class")) {
+                    try (InputStream in = file.getInputStream(entry)) {
+                        size[0]++;
+                        addCodeSize(new DataInputStream(in), size);
+                    }
+                }
+            }
+        }
+        return size;
+    }
+
+    private static void addCodeSize(DataInputStream in, long[] size) throws IOException {
+        in.skipNBytes(8); // magic and version
+        int constantPoolCount = in.readUnsignedShort();
+        String[] utf8 = new String[constantPoolCount];
+        for (int i = 1; i < constantPoolCount; i++) {
+            int tag = in.readUnsignedByte();
+            switch (tag) {
+                case 1 -> utf8[i] = in.readUTF();
+                case 7, 8, 16, 19, 20 -> in.skipNBytes(2);
+                case 15 -> in.skipNBytes(3);
+                case 3, 4, 9, 10, 11, 12, 17, 18 -> in.skipNBytes(4);
+                case 5, 6 -> {
+                    in.skipNBytes(8);
+                    // long and double constants take two entries
+                    i++;
+                }
+                default -> throw new IOException("Unknown constant pool tag " + tag);
+            }
+        }
+        in.skipNBytes(6); // access flags, this class, super class
+        in.skipNBytes(2L * in.readUnsignedShort()); // interfaces
+        skipMembers(in);
+        int methods = in.readUnsignedShort();
+        for (int i = 0; i < methods; i++) {
+            in.skipNBytes(6); // access flags, name, descriptor
+            int attributes = in.readUnsignedShort();
+            for (int j = 0; j < attributes; j++) {
+                String name = utf8[in.readUnsignedShort()];
+                int length = in.readInt();
+                if ("Code".equals(name)) {
+                    in.skipNBytes(4); // max stack, max locals
+                    int codeLength = in.readInt();
+                    size[1]++;
+                    size[2] += codeLength;
+                    in.skipNBytes(length - 8L);
+                } else {
+                    in.skipNBytes(length);
+                }
+            }
+        }
+    }
+
+    private static void skipMembers(DataInputStream in) throws IOException {
+        int members = in.readUnsignedShort();
+        for (int i = 0; i < members; i++) {
+            in.skipNBytes(6);
+            int attributes = in.readUnsignedShort();
+            for (int j = 0; j < attributes; j++) {
+                in.skipNBytes(2);
+                in.skipNBytes(Integer.toUnsignedLong(in.readInt()));
+            }
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        org.openjdk.jmh.Main.main(args);
+    }
+
+}
@@ -0,0 +1,127 @@
+package io.quarkus.bootstrap.runner;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Keeps track of the {@link ClassLoadingResource}s allowed to retain their internal buffers (typically an open jar file)
+ * after the application has booted, releasing the buffers of the others.
+ * <p>
+ * This is a lock-free CLOCK (second chance) buffer: a hit only reads the slots, and sets the reference bit of the slot
+ * if it's not set already, so that concurrent class and resource loading do not contend on a monitor,
+ * and virtual threads cannot be pinned.
+ * A miss claims a slot whose reference bit is clear with a CAS, and releases the buffers of the resource it evicts.
+ * <p>
+ * This is not a cache aiming to accurately retain the most hot resources: it's too small to benefit from traditional hit
+ * metrics, we rather prefer to keep it very light. However, its capacity adapts to the working set of the application:
+ * it grows when evicted resources are frequently accessed again, and shrinks back when they are not.
+ */
+final class BufferedResources {
+
+    static final int INITIAL_CAPACITY = 4; //Experimentally found to be a reasonable number
+    static final int MAX_CAPACITY = 32;
+    /**
+     * The number of misses after which the capacity is adapted.
+     */
+    static final int ADAPTATION_WINDOW = 256;
+
+    private final AtomicReferenceArray<ClassLoadingResource> slots = new AtomicReferenceArray<>(MAX_CAPACITY);
+    private final AtomicIntegerArray referenced = new AtomicIntegerArray(MAX_CAPACITY);
+    private final AtomicInteger hand = new AtomicInteger();
+    private volatile int capacity = INITIAL_CAPACITY;
+
+    // statistics for the adaptation of the capacity
+    private final Set<ClassLoadingResource> evicted = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger misses = new AtomicInteger();
+    private final AtomicInteger reopened = new AtomicInteger();
+
+    /**
+     * Records an access to the given resource, possibly evicting another one.
+     */
+    void access(ClassLoadingResource resource) {
+        final int capacity = this.capacity;
+        for (int i = 0; i < capacity; i++) {
+            if (slots.get(i) == resource) {
+                if (referenced.get(i) == 0) {
+                    referenced.lazySet(i, 1);
+                }
+                return;
+            }
+        }
+        miss(resource, capacity);
+    }
+
+    private void miss(ClassLoadingResource resource, int capacity) {
+        if (evicted.remove(resource)) {
+            reopened.incrementAndGet();
+        }
+        ClassLoadingResource toEvict = null;
+        // every slot gets a second chance at most once: if we could not claim any slot after that,
+        // other threads are racing for them and this resource is simply not buffered
+        for (int attempt = 0; attempt < capacity * 2; attempt++) {
+            final int i = Math.floorMod(hand.getAndIncrement(), capacity);
+            if (referenced.getAndSet(i, 0) == 1) {
+                continue;
+            }
+            final ClassLoadingResource current = slots.get(i);
+            if (current == resource) {
+                // another thread buffered it in the meantime
+                return;
+            }
+            if (slots.compareAndSet(i, current, resource)) {
+                toEvict = current;
+                break;
+            }
+        }
+        if (toEvict != null) {
+            evict(toEvict, capacity);
+        }
+        if (misses.incrementAndGet() % ADAPTATION_WINDOW == 0) {
+            adapt(capacity);
+        }
+    }
+
+    private void evict(ClassLoadingResource resource, int capacity) {
+        evicted.add(resource);
+        RunnerClassLoaderEvents.jarEvicted(resource, capacity);
+        resource.resetInternalCaches();
+    }
+
+    /**
+     * Grows the buffer if more than a quarter of the misses of the last window were due to resources that had been evicted,
+     * shrinks it by one slot if none were.
+     */
+    private void adapt(int capacity) {
+        final int reopened = this.reopened.getAndSet(0);
+        if (reopened * 4 > ADAPTATION_WINDOW && capacity < MAX_CAPACITY) {
+            this.capacity = Math.min(capacity * 2, MAX_CAPACITY);
+            RunnerClassLoaderEvents.bufferResized(capacity, this.capacity, reopened);
+        } else if (reopened == 0 && capacity > INITIAL_CAPACITY) {
+            this.capacity = capacity - 1;
+            RunnerClassLoaderEvents.bufferResized(capacity, this.capacity, reopened);
+            final ClassLoadingResource toEvict = slots.getAndSet(capacity - 1, null);
+            if (toEvict != null) {
+                evict(toEvict, capacity - 1);
+            }
+        }
+    }
+
+    int capacity() {
+        return capacity;
+    }
+
+    /**
+     * Releases the buffers of all the tracked resources.
+     */
+    void clear() {
+        for (int i = 0; i < MAX_CAPACITY; i++) {
+            final ClassLoadingResource resource = slots.getAndSet(i, null);
+            if (resource != null) {
+                resource.resetInternalCaches();
+            }
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package io.quarkus.bootstrap.runner;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Records the classes defined by the {@link RunnerClassLoader}, and the phase of the application in which they were defined.
+ * <p>
+ * The recording is enabled by the {@value #RECORD_FILE_PROPERTY} system property, and is written to the file it points to
+ * when the JVM exits, using the format of the {@code META-INF/quarkus-preload-classes.txt} files, in which each phase
+ * starts with a {@value #PHASE_MARKER} comment.
+ */
+public final class ClassLoadingRecording {
+
+    public static final String RECORD_FILE_PROPERTY = "quarkus.class-loading.record-file";
+    public static final String PHASE_MARKER = "#phase=";
+
+    private static final Logger LOGGER = Logger.getLogger(ClassLoadingRecording.class);
+
+    private static final ClassLoadingRecording INSTANCE = create();
+
+    public enum Phase {
+        STATIC_INIT("static-init"),
+        RUNTIME_INIT("runtime-init"),
+        FIRST_REQUEST("first-request");
+
+        private final String name;
+
+        Phase(String name) {
+            this.name = name;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public static Phase fromName(String name) {
+            for (Phase phase : values()) {
+                if (phase.name.equals(name)) {
+                    return phase;
+                }
+            }
+            return null;
+        }
+    }
+
+    private final Path file;
+    private final Map<Phase, ConcurrentLinkedQueue<String>> classes = new EnumMap<>(Phase.class);
+    private volatile Phase phase = Phase.STATIC_INIT;
+
+    private ClassLoadingRecording(Path file) {
+        this.file = file;
+        for (Phase phase : Phase.values()) {
+            classes.put(phase, new ConcurrentLinkedQueue<>());
+        }
+    }
+
+    private static ClassLoadingRecording create() {
+        String file = System.getProperty(RECORD_FILE_PROPERTY);
+        if (file == null || file.isBlank()) {
+            return null;
+        }
+        ClassLoadingRecording recording = new ClassLoadingRecording(Path.of(file).toAbsolutePath());
+        Runtime.getRuntime().addShutdownHook(new Thread(recording::write, "quarkus-class-loading-recording"));
+        return recording;
+    }
+
+    public static boolean isEnabled() {
+        return INSTANCE != null;
+    }
+
+    /**
+     * Marks the start of a new phase of the application, the classes defined from now on are recorded in this phase.
+     */
+    public static void startPhase(Phase phase) {
+        if (INSTANCE != null) {
+            INSTANCE.phase = phase;
+        }
+    }
+
+    static void classDefined(String className) {
+        if (INSTANCE != null) {
+            // a class is only defined once, so there is no need to check for duplicates
+            INSTANCE.classes.get(INSTANCE.phase).add(className);
+        }
+    }
+
+    private void write() {
+        List<String> lines = new ArrayList<>();
+        for (Phase phase : Phase.values()) {
+            lines.add(PHASE_MARKER + phase.getName());
+            lines.addAll(classes.get(phase));
+        }
+        try {
+            Path parent = file.getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+                for (String line : lines) {
+                    writer.write(line);
+                    writer.newLine();
+                }
+            }
+        } catch (IOException e) {
+            LOGGER.errorf(e, "Unable to write the recorded classes to %s", file);
+        }
+    }
+}
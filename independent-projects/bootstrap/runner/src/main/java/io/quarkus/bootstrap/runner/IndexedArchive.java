@@ -0,0 +1,126 @@
+package io.quarkus.bootstrap.runner;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A single, uncompressed archive containing the entries of all the jars of the application,
+ * which is memory-mapped at runtime so that class bytes can be read without opening and inflating the jars.
+ * <p>
+ * The entries of each jar are stored in a page-aligned segment, and each entry is stored as its UTF-8 encoded name
+ * followed by its data. The location of the entries is given by the {@link PerfectHashIndex} of each jar,
+ * which is serialized in the {@link SerializedApplication}.
+ * <p>
+ * This format is subject to change, and gives no compatibility guarantees, it is only intended to be used
+ * with the same version of Quarkus that created it.
+ */
+final class IndexedArchive {
+
+    private static final int MAGIC = 0x51415243;
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 2 * Integer.BYTES;
+
+    /**
+     * A {@link ByteBuffer}, and thus a single mapping, cannot address more than 2 GB.
+     */
+    static final long MAX_SIZE = Integer.MAX_VALUE;
+
+    private static final int PAGE_SIZE = 4096;
+    private static final int ENTRY_ALIGNMENT = 8;
+
+    private final ByteBuffer buffer;
+
+    private IndexedArchive(ByteBuffer buffer) {
+        this.buffer = buffer;
+    }
+
+    static IndexedArchive map(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            // the mapping stays valid once the channel is closed
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.getInt(0) != MAGIC) {
+                throw new RuntimeException("Wrong magic number in " + path);
+            }
+            if (buffer.getInt(Integer.BYTES) != VERSION) {
+                throw new RuntimeException("Wrong archive version in " + path);
+            }
+            return new IndexedArchive(buffer);
+        }
+    }
+
+    /**
+     * @return the data of the given entry, or {@code null} if the index does not contain it
+     */
+    byte[] read(PerfectHashIndex index, String name) {
+        // absolute reads do not change the state of the buffer so it can be shared between threads
+        int slot = index.find(buffer, name.getBytes(StandardCharsets.UTF_8));
+        if (slot == -1) {
+            return null;
+        }
+        return index.read(buffer, slot);
+    }
+
+    static final class Writer implements Closeable {
+
+        private final OutputStream out;
+        private final long maxSize;
+        private long position;
+
+        Writer(Path path) throws IOException {
+            this(path, MAX_SIZE);
+        }
+
+        Writer(Path path, long maxSize) throws IOException {
+            this.maxSize = maxSize;
+            this.out = new BufferedOutputStream(Files.newOutputStream(path), 65_536);
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).putInt(MAGIC).putInt(VERSION);
+            out.write(header.array());
+            position = HEADER_SIZE;
+        }
+
+        /**
+         * Starts the segment of a new jar on a new page.
+         */
+        void startSegment() throws IOException {
+            align(PAGE_SIZE);
+        }
+
+        /**
+         * @return the position of the entry in the archive
+         * @throws IllegalStateException if the archive would exceed {@link #MAX_SIZE}, which fails the build
+         */
+        int add(byte[] name, byte[] data) throws IOException {
+            align(ENTRY_ALIGNMENT);
+            if (position + name.length + data.length > maxSize) {
+                throw new IllegalStateException("The application is too large to be packaged in an indexed archive"
+                        + " of at most " + maxSize + " bytes, use the fast-jar packaging instead");
+            }
+            int entryPosition = (int) position;
+            out.write(name);
+            out.write(data);
+            position += name.length + data.length;
+            return entryPosition;
+        }
+
+        private void align(int alignment) throws IOException {
+            long aligned = (position + alignment - 1) & -alignment;
+            while (position < aligned) {
+                out.write(0);
+                position++;
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            out.close();
+        }
+    }
+}
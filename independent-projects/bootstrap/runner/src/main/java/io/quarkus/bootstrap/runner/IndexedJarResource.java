@@ -0,0 +1,33 @@
+package io.quarkus.bootstrap.runner;
+
+import java.nio.file.Path;
+
+/**
+ * A jar whose entries are read from the memory-mapped {@link IndexedArchive} of the application.
+ * <p>
+ * The jar itself is still used as the code source of its classes, and is only opened when the URL of one of its resources
+ * is requested, as these URLs are expected to point to the jar.
+ */
+final class IndexedJarResource extends JarResource {
+
+    private final IndexedArchive archive;
+    private final PerfectHashIndex index;
+
+    IndexedJarResource(ManifestInfo manifestInfo, Path jarPath, IndexedArchive archive, PerfectHashIndex index) {
+        super(manifestInfo, jarPath);
+        this.archive = archive;
+        this.index = index;
+    }
+
+    @Override
+    public byte[] getResourceData(String resource) {
+        return archive.read(index, resource);
+    }
+
+    @Override
+    public String toString() {
+        return "IndexedJarResource{" +
+                jarPath.getFileName() +
+                '}';
+    }
+}
@@ -8,8 +8,6 @@
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.jar.JarFile;
 
-import io.smallrye.common.io.jar.JarFiles;
-
 public class JarFileReference {
 
     // This is required to perform cleanup of JarResource::jarFileReference without breaking racy updates
@@ -189,7 +187,7 @@ private static <T> T consumeUnsharedJarFile(CompletableFuture<JarFileReference>
 
     private static CompletableFuture<JarFileReference> syncLoadAcquiredJarFile(JarResource jarResource) {
         try {
-            return new JarFileReference(JarFiles.create(jarResource.jarPath.toFile()),
+            return new JarFileReference(RunnerClassLoaderEvents.openJarFile(jarResource.jarPath),
                     new CompletableFuture<>()).completedFuture;
         } catch (IOException e) {
             throw new RuntimeException("Failed to open " + jarResource.jarPath, e);
@@ -204,7 +202,7 @@ private static JarFileReference asyncLoadAcquiredJarFile(JarResource jarResource
         do {
             if (jarResource.jarFileReference.compareAndSet(null, newJarRefFuture)) {
                 try {
-                    return new JarFileReference(JarFiles.create(jarResource.jarPath.toFile()), newJarRefFuture);
+                    return new JarFileReference(RunnerClassLoaderEvents.openJarFile(jarResource.jarPath), newJarRefFuture);
                 } catch (IOException e) {
                     throw new RuntimeException(e);
                 }
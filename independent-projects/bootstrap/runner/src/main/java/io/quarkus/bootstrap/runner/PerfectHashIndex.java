@@ -0,0 +1,199 @@
+package io.quarkus.bootstrap.runner;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * A perfect hash index of the entries of a jar stored in an {@link IndexedArchive}.
+ * <p>
+ * The index is computed at build time using the hash and displace algorithm: the keys are first distributed in buckets,
+ * then, starting with the largest buckets, a displacement is searched for each bucket so that all its keys land in
+ * free slots. A lookup thus computes two hashes and reads a single slot, whatever the number of entries.
+ * <p>
+ * The names of the entries are not kept in memory: they are stored in the archive, right before the data,
+ * and compared to the looked up name to rule out the names that are not part of the index.
+ */
+final class PerfectHashIndex {
+
+    static final PerfectHashIndex EMPTY = new PerfectHashIndex(new int[0], new int[0], new int[0], new int[0]);
+
+    // average number of keys per bucket
+    private static final int BUCKET_SIZE = 4;
+    private static final int MAX_DISPLACEMENT_ATTEMPTS = 1 << 16;
+
+    private final int[] displacements;
+    private final int[] positions;
+    private final int[] nameLengths;
+    private final int[] dataLengths;
+
+    private PerfectHashIndex(int[] displacements, int[] positions, int[] nameLengths, int[] dataLengths) {
+        this.displacements = displacements;
+        this.positions = positions;
+        this.nameLengths = nameLengths;
+        this.dataLengths = dataLengths;
+    }
+
+    /**
+     * Computes the index of the given entries.
+     *
+     * @param names the UTF-8 encoded names of the entries, which must be unique
+     * @param positions the positions of the entries in the archive, where the name is followed by the data
+     * @param dataLengths the length of the data of the entries
+     */
+    static PerfectHashIndex build(List<byte[]> names, int[] positions, int[] dataLengths) {
+        if (names.isEmpty()) {
+            return EMPTY;
+        }
+        int slotCount = names.size();
+        while (true) {
+            PerfectHashIndex index = tryBuild(names, positions, dataLengths, slotCount);
+            if (index != null) {
+                return index;
+            }
+            // very unlikely, trade some memory for an easier search
+            slotCount += Math.max(1, slotCount / 10);
+        }
+    }
+
+    private static PerfectHashIndex tryBuild(List<byte[]> names, int[] positions, int[] dataLengths, int slotCount) {
+        int bucketCount = (names.size() + BUCKET_SIZE - 1) / BUCKET_SIZE;
+        List<List<Integer>> buckets = new ArrayList<>(bucketCount);
+        for (int i = 0; i < bucketCount; i++) {
+            buckets.add(new ArrayList<>(BUCKET_SIZE));
+        }
+        for (int i = 0; i < names.size(); i++) {
+            buckets.get(Math.floorMod(hash(names.get(i), 0), bucketCount)).add(i);
+        }
+        Integer[] order = new Integer[bucketCount];
+        for (int i = 0; i < bucketCount; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, Comparator.comparingInt((Integer b) -> buckets.get(b).size()).reversed());
+
+        int[] displacements = new int[bucketCount];
+        int[] slotPositions = new int[slotCount];
+        int[] slotNameLengths = new int[slotCount];
+        int[] slotDataLengths = new int[slotCount];
+        Arrays.fill(slotNameLengths, -1);
+        int[] bucketSlots = new int[0];
+        for (Integer b : order) {
+            List<Integer> bucket = buckets.get(b);
+            if (bucket.isEmpty()) {
+                break;
+            }
+            if (bucketSlots.length < bucket.size()) {
+                bucketSlots = new int[bucket.size()];
+            }
+            int displacement = 1;
+            while (!fits(names, bucket, displacement, slotNameLengths, bucketSlots)) {
+                if (++displacement > MAX_DISPLACEMENT_ATTEMPTS) {
+                    return null;
+                }
+            }
+            displacements[b] = displacement;
+            for (int i = 0; i < bucket.size(); i++) {
+                int key = bucket.get(i);
+                int slot = bucketSlots[i];
+                slotPositions[slot] = positions[key];
+                slotNameLengths[slot] = names.get(key).length;
+                slotDataLengths[slot] = dataLengths[key];
+            }
+        }
+        return new PerfectHashIndex(displacements, slotPositions, slotNameLengths, slotDataLengths);
+    }
+
+    private static boolean fits(List<byte[]> names, List<Integer> bucket, int displacement, int[] slotNameLengths,
+            int[] bucketSlots) {
+        for (int i = 0; i < bucket.size(); i++) {
+            int slot = Math.floorMod(hash(names.get(bucket.get(i)), displacement), slotNameLengths.length);
+            if (slotNameLengths[slot] != -1) {
+                return false;
+            }
+            for (int j = 0; j < i; j++) {
+                if (bucketSlots[j] == slot) {
+                    return false;
+                }
+            }
+            bucketSlots[i] = slot;
+        }
+        return true;
+    }
+
+    /**
+     * @return the slot of the entry with the given name, or {@code -1} if there is no such entry
+     */
+    int find(ByteBuffer archive, byte[] name) {
+        if (displacements.length == 0) {
+            return -1;
+        }
+        int displacement = displacements[Math.floorMod(hash(name, 0), displacements.length)];
+        int slot = Math.floorMod(hash(name, displacement), positions.length);
+        if (nameLengths[slot] != name.length) {
+            return -1;
+        }
+        int position = positions[slot];
+        for (int i = 0; i < name.length; i++) {
+            if (archive.get(position + i) != name[i]) {
+                return -1;
+            }
+        }
+        return slot;
+    }
+
+    /**
+     * @return the data of the entry stored in the given slot
+     */
+    byte[] read(ByteBuffer archive, int slot) {
+        byte[] data = new byte[dataLengths[slot]];
+        archive.get(positions[slot] + nameLengths[slot], data);
+        return data;
+    }
+
+    void write(DataOutputStream out) throws IOException {
+        out.writeInt(displacements.length);
+        out.writeInt(positions.length);
+        ByteBuffer buffer = ByteBuffer.allocate((displacements.length + 3 * positions.length) * Integer.BYTES);
+        buffer.asIntBuffer().put(displacements).put(positions).put(nameLengths).put(dataLengths);
+        out.write(buffer.array());
+    }
+
+    static PerfectHashIndex read(DataInputStream in) throws IOException {
+        int bucketCount = in.readInt();
+        int slotCount = in.readInt();
+        if (slotCount == 0) {
+            return EMPTY;
+        }
+        // read the whole index at once, it's much faster than reading each int
+        byte[] bytes = new byte[(bucketCount + 3 * slotCount) * Integer.BYTES];
+        in.readFully(bytes);
+        var ints = ByteBuffer.wrap(bytes).asIntBuffer();
+        int[] displacements = new int[bucketCount];
+        int[] positions = new int[slotCount];
+        int[] nameLengths = new int[slotCount];
+        int[] dataLengths = new int[slotCount];
+        ints.get(displacements).get(positions).get(nameLengths).get(dataLengths);
+        return new PerfectHashIndex(displacements, positions, nameLengths, dataLengths);
+    }
+
+    /**
+     * A seeded FNV-1a hash, followed by the MurmurHash3 finalizer to spread the bits.
+     */
+    static int hash(byte[] key, int seed) {
+        int h = 0x811C9DC5 ^ (seed * 0x9E3779B9);
+        for (byte b : key) {
+            h = (h ^ (b & 0xFF)) * 0x01000193;
+        }
+        h ^= h >>> 16;
+        h *= 0x85EBCA6B;
+        h ^= h >>> 13;
+        h *= 0xC2B2AE35;
+        h ^= h >>> 16;
+        return h;
+    }
+}
@@ -50,10 +50,9 @@ public final class RunnerClassLoader extends ClassLoader {
     private final ClassLoadingResource transformedBytecodeClassLoadingResource;
     private final Set<String> transformedBytecode;
 
-    //Mutations protected by synchronization on the field value itself:
-    private final ClassLoadingResource[] currentlyBufferedResources = new ClassLoadingResource[4];//Experimentally found to be a reasonable number
-    //Protected by synchronization on the above field, as they are related.
-    private boolean postBootPhase = false;
+    private final BufferedResources currentlyBufferedResources = new BufferedResources();
+    //We only want to limit the jar buffers after the initial bootstrap has been completed
+    private volatile boolean postBootPhase = false;
 
     RunnerClassLoader(ClassLoader parent, Map<String, ClassLoadingResource[]> resourceDirectoryMap,
             Set<String> parentFirstPackages,
@@ -167,7 +166,9 @@ private Class<?> defineClass(String name, byte[] data, ClassLoadingResource reso
             return loaded;
         }
         try {
-            return defineClass(name, data, 0, data.length, resource.getProtectionDomain());
+            Class<?> defined = defineClass(name, data, 0, data.length, resource.getProtectionDomain());
+            ClassLoadingRecording.classDefined(name);
+            return defined;
         } catch (LinkageError e) {
             loaded = findLoadedClass(name);
             if (loaded != null) {
@@ -178,44 +179,9 @@ private Class<?> defineClass(String name, byte[] data, ClassLoadingResource reso
     }
 
     private void accessingResource(final ClassLoadingResource resource) {
-        final ClassLoadingResource toEvict;
-        synchronized (this.currentlyBufferedResources) {
-            if (!postBootPhase) {
-                //We only want to limit the jar buffers after the initial bootstrap has been completed
-                return;
-            }
-            // This is not a cache aiming to accurately retain the most hot resources:
-            // it's too small to benefit from traditional hit metrics,
-            // we rather prefer to keep it very light.
-            if (currentlyBufferedResources[0] == resource) {
-                //it's already on the head of the cache: nothing to be done.
-                return;
-            }
-
-            for (int i = 1; i < currentlyBufferedResources.length; i++) {
-                final ClassLoadingResource currentI = currentlyBufferedResources[i];
-                if (currentI == resource || currentI == null) {
-                    //it was already cached, or we found an empty slot: bubble it up by one position to give it a boost
-                    bubbleUpCachedResource(resource, i);
-                    return;
-                }
-            }
-
-            // else, we drop one element from the cache,
-            // and inserting the latest resource on the tail:
-            toEvict = currentlyBufferedResources[currentlyBufferedResources.length - 1];
-            bubbleUpCachedResource(resource, currentlyBufferedResources.length - 1);
+        if (postBootPhase) {
+            currentlyBufferedResources.access(resource);
         }
-
-        // Finally, release the cache for the dropped element:
-        toEvict.resetInternalCaches();
-    }
-
-    private void bubbleUpCachedResource(ClassLoadingResource resource, int i) {
-        for (int j = i; j > 0; j--) {
-            currentlyBufferedResources[j] = currentlyBufferedResources[j - 1];
-        }
-        currentlyBufferedResources[0] = resource;
     }
 
     @Override
@@ -324,27 +290,18 @@ public void close() {
     }
 
     public void resetInternalCaches() {
-        synchronized (this.currentlyBufferedResources) {
-            for (Map.Entry<String, ClassLoadingResource[]> entry : resourceDirectoryMap.entrySet()) {
-                for (ClassLoadingResource i : entry.getValue()) {
-                    i.resetInternalCaches();
-                }
+        for (Map.Entry<String, ClassLoadingResource[]> entry : resourceDirectoryMap.entrySet()) {
+            for (ClassLoadingResource i : entry.getValue()) {
+                i.resetInternalCaches();
             }
-            this.postBootPhase = true;
         }
+        this.postBootPhase = true;
     }
 
     class CracResource implements Resource {
         @Override
         public void beforeCheckpoint(Context<? extends Resource> ctx) {
-            synchronized (currentlyBufferedResources) {
-                for (int i = 0; i < currentlyBufferedResources.length; ++i) {
-                    if (currentlyBufferedResources[i] != null) {
-                        currentlyBufferedResources[i].resetInternalCaches();
-                        currentlyBufferedResources[i] = null;
-                    }
-                }
-            }
+            currentlyBufferedResources.clear();
         }
 
         @Override
@@ -0,0 +1,47 @@
+package io.quarkus.bootstrap.runner;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.jar.JarFile;
+
+import io.smallrye.common.io.jar.JarFiles;
+
+/**
+ * Emits the JFR events of the {@link RunnerClassLoader}, if the {@code jdk.jfr} module is available.
+ * <p>
+ * The event classes are only loaded when that's the case.
+ */
+final class RunnerClassLoaderEvents {
+
+    static final boolean ENABLED = isJfrAvailable();
+
+    private RunnerClassLoaderEvents() {
+    }
+
+    private static boolean isJfrAvailable() {
+        try {
+            return ModuleLayer.boot().findModule("jdk.jfr").isPresent();
+        } catch (Throwable t) {
+            return false;
+        }
+    }
+
+    static JarFile openJarFile(Path jarPath) throws IOException {
+        if (ENABLED) {
+            return RunnerClassLoaderJfrEvents.JarOpenEvent.open(jarPath);
+        }
+        return JarFiles.create(jarPath.toFile());
+    }
+
+    static void jarEvicted(ClassLoadingResource resource, int capacity) {
+        if (ENABLED) {
+            RunnerClassLoaderJfrEvents.JarEvictEvent.emit(resource, capacity);
+        }
+    }
+
+    static void bufferResized(int previousCapacity, int capacity, int reopened) {
+        if (ENABLED) {
+            RunnerClassLoaderJfrEvents.JarBufferResizeEvent.emit(previousCapacity, capacity, reopened);
+        }
+    }
+}
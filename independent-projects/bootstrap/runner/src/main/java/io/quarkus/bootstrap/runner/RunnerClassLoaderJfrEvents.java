@@ -0,0 +1,98 @@
+package io.quarkus.bootstrap.runner;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.jar.JarFile;
+
+import io.smallrye.common.io.jar.JarFiles;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * The JFR events of the {@link RunnerClassLoader}, see {@link RunnerClassLoaderEvents}.
+ */
+final class RunnerClassLoaderJfrEvents {
+
+    private RunnerClassLoaderJfrEvents() {
+    }
+
+    @Name("quarkus.RunnerClassLoaderJarOpen")
+    @Label("Jar Open")
+    @Category({ "Quarkus", "Class Loading" })
+    @Description("A jar of the application was opened to load classes or resources")
+    @StackTrace(false)
+    static final class JarOpenEvent extends Event {
+
+        @Label("Jar")
+        String jar;
+
+        static JarFile open(Path jarPath) throws IOException {
+            JarOpenEvent event = new JarOpenEvent();
+            event.begin();
+            try {
+                return JarFiles.create(jarPath.toFile());
+            } finally {
+                if (event.shouldCommit()) {
+                    event.jar = jarPath.getFileName().toString();
+                    event.commit();
+                }
+            }
+        }
+    }
+
+    @Name("quarkus.RunnerClassLoaderJarEvict")
+    @Label("Jar Evict")
+    @Category({ "Quarkus", "Class Loading" })
+    @Description("A jar of the application was evicted from the buffered jars and will be closed")
+    @StackTrace(false)
+    static final class JarEvictEvent extends Event {
+
+        @Label("Jar")
+        String jar;
+
+        @Label("Buffered Jars")
+        @Description("The number of jars that can be kept open")
+        int capacity;
+
+        static void emit(ClassLoadingResource resource, int capacity) {
+            JarEvictEvent event = new JarEvictEvent();
+            if (event.shouldCommit()) {
+                event.jar = resource.toString();
+                event.capacity = capacity;
+                event.commit();
+            }
+        }
+    }
+
+    @Name("quarkus.RunnerClassLoaderJarBufferResize")
+    @Label("Jar Buffer Resize")
+    @Category({ "Quarkus", "Class Loading" })
+    @Description("The number of jars that can be kept open was adapted to the working set of the application")
+    @StackTrace(false)
+    static final class JarBufferResizeEvent extends Event {
+
+        @Label("Previous Capacity")
+        int previousCapacity;
+
+        @Label("Capacity")
+        int capacity;
+
+        @Label("Reopened Jars")
+        @Description("The number of evicted jars that were opened again during the last adaptation window")
+        int reopened;
+
+        static void emit(int previousCapacity, int capacity, int reopened) {
+            JarBufferResizeEvent event = new JarBufferResizeEvent();
+            if (event.shouldCommit()) {
+                event.previousCapacity = previousCapacity;
+                event.capacity = capacity;
+                event.reopened = reopened;
+                event.commit();
+            }
+        }
+    }
+}
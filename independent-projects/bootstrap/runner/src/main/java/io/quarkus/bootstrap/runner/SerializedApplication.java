@@ -7,8 +7,12 @@
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
@@ -35,7 +39,7 @@ public class SerializedApplication {
     private static final List<String> FULLY_INDEXED_DIRECTORIES = List.of("", "META-INF", "META-INF/services");
 
     private static final int MAGIC = 0XF0315432;
-    private static final int VERSION = 3;
+    private static final int VERSION = 4;
 
     private static final ClassLoadingResource[] EMPTY_ARRAY = new ClassLoadingResource[0];
     private static final JarResource SENTINEL = new JarResource(null, Path.of("wqxehxivam"));
@@ -58,10 +62,25 @@ public String getMainClass() {
 
     public static void write(OutputStream outputStream, String mainClass, Path applicationRoot, List<Path> classPath,
             List<Path> parentFirst) throws IOException {
-        try (DataOutputStream data = new DataOutputStream(outputStream)) {
+        write(outputStream, mainClass, applicationRoot, classPath, parentFirst, null);
+    }
+
+    /**
+     * Writes the serialized application, and if {@code indexedArchive} is not {@code null}, the {@link IndexedArchive}
+     * containing the entries of the jars of the class path, from which the classes will be loaded at runtime.
+     * <p>
+     * Multi-release jars and exploded directories are not added to the archive as their content depends on the runtime.
+     */
+    public static void write(OutputStream outputStream, String mainClass, Path applicationRoot, List<Path> classPath,
+            List<Path> parentFirst, Path indexedArchive) throws IOException {
+        try (DataOutputStream data = new DataOutputStream(outputStream);
+                IndexedArchive.Writer archiveWriter = indexedArchive == null ? null
+                        : new IndexedArchive.Writer(indexedArchive)) {
             data.writeInt(MAGIC);
             data.writeInt(VERSION);
             data.writeUTF(mainClass);
+            writeNullableString(data, indexedArchive == null ? null
+                    : applicationRoot.relativize(indexedArchive).toString().replace('\\', '/'));
             data.writeShort(classPath.size());
 
             Map<String, List<Integer>> fullyIndexedResourcesToCPJarIndex = new LinkedHashMap<>();
@@ -70,8 +89,14 @@ public static void write(OutputStream outputStream, String mainClass, Path appli
 
                 FullyIndexedJarVisitor fullyIndexedVisitor = new FullyIndexedJarVisitor(FULLY_INDEXED_DIRECTORIES);
                 JarInspectorVisitor jarInspectorVisitor = new JarInspectorVisitor();
+                IndexedArchiveVisitor indexedArchiveVisitor = null;
 
-                visitJar(jar, fullyIndexedVisitor, jarInspectorVisitor);
+                if (archiveWriter == null || Files.isDirectory(jar)) {
+                    visitJar(jar, fullyIndexedVisitor, jarInspectorVisitor);
+                } else {
+                    indexedArchiveVisitor = new IndexedArchiveVisitor(archiveWriter);
+                    visitJar(jar, fullyIndexedVisitor, jarInspectorVisitor, indexedArchiveVisitor);
+                }
 
                 String relativePath = applicationRoot.relativize(jar).toString().replace('\\', '/');
                 data.writeUTF(relativePath);
@@ -92,6 +117,14 @@ public static void write(OutputStream outputStream, String mainClass, Path appli
                 data.writeBoolean(jarInspectorVisitor.isGeneratedBytecode());
                 data.writeBoolean(jarInspectorVisitor.isTransformedBytecode());
 
+                PerfectHashIndex index = indexedArchiveVisitor == null ? null : indexedArchiveVisitor.getIndex();
+                if (index == null) {
+                    data.writeBoolean(false);
+                } else {
+                    data.writeBoolean(true);
+                    index.write(data);
+                }
+
                 data.writeShort(jarInspectorVisitor.getDirectories().size());
                 for (String directory : jarInspectorVisitor.getDirectories()) {
                     data.writeUTF(directory);
@@ -138,6 +171,9 @@ public static SerializedApplication read(InputStream inputStream, Path appRoot)
                 throw new RuntimeException("Wrong class path version");
             }
             String mainClass = in.readUTF();
+            String indexedArchivePath = readNullableString(in);
+            IndexedArchive indexedArchive = indexedArchivePath == null ? null
+                    : IndexedArchive.map(appRoot.resolve(indexedArchivePath));
             ResourceDirectoryTracker resourceDirectoryTracker = new ResourceDirectoryTracker();
             int numPaths = in.readUnsignedShort();
             ClassLoadingResource[] allClassLoadingResources = new ClassLoadingResource[numPaths];
@@ -153,9 +189,11 @@ public static SerializedApplication read(InputStream inputStream, Path appRoot)
                     info = new ManifestInfo(readNullableString(in), readNullableString(in), readNullableString(in),
                             readNullableString(in), readNullableString(in), readNullableString(in));
                 }
-                JarResource resource = new JarResource(info, appRoot.resolve(path));
                 boolean generatedBytecodeJar = in.readBoolean();
                 boolean transformedBytecodeJar = in.readBoolean();
+                JarResource resource = in.readBoolean()
+                        ? new IndexedJarResource(info, appRoot.resolve(path), indexedArchive, PerfectHashIndex.read(in))
+                        : new JarResource(info, appRoot.resolve(path));
                 if (generatedBytecodeJar) {
                     generatedBytecodeClassLoadingResource = resource;
                 } else if (transformedBytecodeJar) {
@@ -300,6 +338,66 @@ public void visitJarFileEntry(JarFile jarFile, ZipEntry entry) {
         }
     }
 
+    private static class IndexedArchiveVisitor implements JarVisitor {
+
+        private final IndexedArchive.Writer archiveWriter;
+        private final Set<String> names = new HashSet<>();
+        private final List<byte[]> encodedNames = new ArrayList<>();
+        private int[] positions = new int[256];
+        private int[] dataLengths = new int[256];
+        private Boolean multiRelease;
+
+        IndexedArchiveVisitor(IndexedArchive.Writer archiveWriter) {
+            this.archiveWriter = archiveWriter;
+        }
+
+        /**
+         * @return the index of the entries added to the archive, or {@code null} if the jar was not added to the archive
+         */
+        public PerfectHashIndex getIndex() {
+            if (Boolean.TRUE.equals(multiRelease)) {
+                return null;
+            }
+            int count = encodedNames.size();
+            return PerfectHashIndex.build(encodedNames, Arrays.copyOf(positions, count), Arrays.copyOf(dataLengths, count));
+        }
+
+        @Override
+        public void preVisit(Path jar) {
+            try {
+                archiveWriter.startSegment();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to write the indexed archive", e);
+            }
+        }
+
+        @Override
+        public void visitJarFileEntry(JarFile jarFile, ZipEntry fileEntry) {
+            if (multiRelease == null) {
+                // the entries of multi-release jars depend on the runtime version;
+                // this is read from the jar rather than from visitJarManifest() so that it is known before the first entry
+                multiRelease = jarFile.isMultiRelease();
+            }
+            if (multiRelease || !names.add(fileEntry.getName())) {
+                return;
+            }
+            try (InputStream is = jarFile.getInputStream(fileEntry)) {
+                byte[] name = fileEntry.getName().getBytes(StandardCharsets.UTF_8);
+                byte[] data = is.readAllBytes();
+                int count = encodedNames.size();
+                if (count == positions.length) {
+                    positions = Arrays.copyOf(positions, count * 2);
+                    dataLengths = Arrays.copyOf(dataLengths, count * 2);
+                }
+                positions[count] = archiveWriter.add(name, data);
+                dataLengths[count] = data.length;
+                encodedNames.add(name);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to add zip entry " + fileEntry.getName() + " to the indexed archive", e);
+            }
+        }
+    }
+
     private static class ParentFirstPackageVisitor implements JarVisitor {
 
         private final Set<String> parentFirstPackages = new HashSet<>();
@@ -14,6 +14,7 @@
     requires org.jboss.logmanager;
 
     requires static org.crac;
+    requires static jdk.jfr;
 
     provides org.jboss.logmanager.ConfiguratorFactory with
         io.quarkus.bootstrap.logging.EmptyLogConfiguratorFactory;
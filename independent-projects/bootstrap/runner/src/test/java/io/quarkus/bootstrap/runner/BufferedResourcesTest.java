@@ -0,0 +1,145 @@
+package io.quarkus.bootstrap.runner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URL;
+import java.security.ProtectionDomain;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+public class BufferedResourcesTest {
+
+    @Test
+    public void testHitsDoNotEvict() {
+        BufferedResources buffered = new BufferedResources();
+        List<CountingResource> resources = resources(BufferedResources.INITIAL_CAPACITY);
+        for (int round = 0; round < 10; round++) {
+            for (CountingResource resource : resources) {
+                buffered.access(resource);
+            }
+        }
+        for (CountingResource resource : resources) {
+            assertThat(resource.resets).hasValue(0);
+        }
+    }
+
+    @Test
+    public void testMissEvicts() {
+        BufferedResources buffered = new BufferedResources();
+        List<CountingResource> resources = resources(BufferedResources.INITIAL_CAPACITY + 1);
+        for (CountingResource resource : resources) {
+            buffered.access(resource);
+        }
+        assertThat(resources.stream().mapToInt(r -> r.resets.get()).sum()).isEqualTo(1);
+    }
+
+    @Test
+    public void testCapacityAdaptsToWorkingSet() {
+        BufferedResources buffered = new BufferedResources();
+        // a working set slightly larger than the buffer makes it thrash
+        List<CountingResource> workingSet = resources(BufferedResources.INITIAL_CAPACITY * 2);
+        for (int round = 0; round < BufferedResources.ADAPTATION_WINDOW; round++) {
+            for (CountingResource resource : workingSet) {
+                buffered.access(resource);
+            }
+        }
+        assertThat(buffered.capacity()).isGreaterThanOrEqualTo(workingSet.size());
+
+        // once the working set fits, resources are no longer evicted
+        int resets = workingSet.stream().mapToInt(r -> r.resets.get()).sum();
+        for (int round = 0; round < 10; round++) {
+            for (CountingResource resource : workingSet) {
+                buffered.access(resource);
+            }
+        }
+        assertThat(workingSet.stream().mapToInt(r -> r.resets.get()).sum()).isEqualTo(resets);
+
+        // a stream of resources that are never accessed again shrinks it back
+        for (CountingResource resource : resources(BufferedResources.ADAPTATION_WINDOW * BufferedResources.MAX_CAPACITY)) {
+            buffered.access(resource);
+        }
+        assertThat(buffered.capacity()).isEqualTo(BufferedResources.INITIAL_CAPACITY);
+    }
+
+    @Test
+    public void testConcurrentAccess() throws Exception {
+        BufferedResources buffered = new BufferedResources();
+        List<CountingResource> resources = resources(BufferedResources.MAX_CAPACITY * 2);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                int offset = t;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 100_000; i++) {
+                        buffered.access(resources.get((i * 7 + offset) % resources.size()));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(buffered.capacity()).isBetween(BufferedResources.INITIAL_CAPACITY, BufferedResources.MAX_CAPACITY);
+
+        buffered.clear();
+        for (CountingResource resource : resources) {
+            buffered.access(resource);
+        }
+    }
+
+    private static List<CountingResource> resources(int count) {
+        List<CountingResource> resources = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            resources.add(new CountingResource());
+        }
+        return resources;
+    }
+
+    private static class CountingResource implements ClassLoadingResource {
+
+        final AtomicInteger resets = new AtomicInteger();
+
+        @Override
+        public void init() {
+        }
+
+        @Override
+        public byte[] getResourceData(String resource) {
+            return null;
+        }
+
+        @Override
+        public URL getResourceURL(String resource) {
+            return null;
+        }
+
+        @Override
+        public ManifestInfo getManifestInfo() {
+            return null;
+        }
+
+        @Override
+        public ProtectionDomain getProtectionDomain() {
+            return null;
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public void resetInternalCaches() {
+            resets.incrementAndGet();
+        }
+    }
+}
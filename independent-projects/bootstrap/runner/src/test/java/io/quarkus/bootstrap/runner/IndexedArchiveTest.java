@@ -0,0 +1,134 @@
+package io.quarkus.bootstrap.runner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class IndexedArchiveTest {
+
+    private static final List<String> JARS = List.of("simple-project-1.0.jar", "easy-project-1.0.jar",
+            "trivial-project-1.0.jar");
+
+    @TempDir
+    Path appRoot;
+
+    @Test
+    public void testPerfectHashIndex() throws Exception {
+        int count = 10_000;
+        Path archivePath = appRoot.resolve("test.qar");
+        List<byte[]> names = new ArrayList<>(count);
+        int[] positions = new int[count];
+        int[] dataLengths = new int[count];
+        try (IndexedArchive.Writer writer = new IndexedArchive.Writer(archivePath)) {
+            writer.startSegment();
+            for (int i = 0; i < count; i++) {
+                byte[] name = ("org/acme/package" + (i % 37) + "/Class" + i + ".class").getBytes(StandardCharsets.UTF_8);
+                byte[] data = ("data" + i).getBytes(StandardCharsets.UTF_8);
+                names.add(name);
+                positions[i] = writer.add(name, data);
+                dataLengths[i] = data.length;
+            }
+        }
+        PerfectHashIndex built = PerfectHashIndex.build(names, positions, dataLengths);
+
+        // make sure the index survives the serialization
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (DataOutputStream data = new DataOutputStream(out)) {
+            built.write(data);
+        }
+        PerfectHashIndex index = PerfectHashIndex.read(new DataInputStream(new ByteArrayInputStream(out.toByteArray())));
+
+        IndexedArchive archive = IndexedArchive.map(archivePath);
+        for (int i = 0; i < count; i++) {
+            assertThat(archive.read(index, "org/acme/package" + (i % 37) + "/Class" + i + ".class"))
+                    .asString(StandardCharsets.UTF_8).isEqualTo("data" + i);
+        }
+        assertThat(archive.read(index, "org/acme/package0/Class1.class")).isNull();
+        assertThat(archive.read(index, "org/acme/Missing.class")).isNull();
+        assertThat(archive.read(PerfectHashIndex.EMPTY, "org/acme/package0/Class0.class")).isNull();
+    }
+
+    @Test
+    public void testLoadClassesFromIndexedArchive() throws Exception {
+        Path mainLib = Files.createDirectories(appRoot.resolve("lib/main"));
+        List<Path> classPath = new ArrayList<>();
+        for (String jar : JARS) {
+            classPath.add(Files.copy(Path.of("src/test/resources/jars").resolve(jar), mainLib.resolve(jar)));
+        }
+        Path archive = Files.createDirectories(appRoot.resolve("quarkus")).resolve("quarkus-application.qar");
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        SerializedApplication.write(out, "org.simple.Main", appRoot, classPath, List.of(), archive);
+        assertThat(Files.size(archive)).isGreaterThan(0);
+
+        SerializedApplication app = SerializedApplication.read(new ByteArrayInputStream(out.toByteArray()), appRoot);
+        assertThat(app.getMainClass()).isEqualTo("org.simple.Main");
+        RunnerClassLoader runnerClassLoader = app.getRunnerClassLoader();
+        try {
+            for (String className : List.of("org.simple.SimplePojo1", "org.easy.EasyPojo", "org.trivial.TrivialPojo")) {
+                Class<?> clazz = runnerClassLoader.loadClass(className);
+                assertThat(clazz.getClassLoader()).isSameAs(runnerClassLoader);
+                // the code source is still the original jar
+                assertThat(clazz.getProtectionDomain().getCodeSource().getLocation().getPath()).endsWith(".jar");
+            }
+        } finally {
+            runnerClassLoader.close();
+        }
+    }
+
+    @Test
+    public void testMultiReleaseJarWithTrailingManifestIsNotArchived() throws Exception {
+        Path jar = Files.createDirectories(appRoot.resolve("lib/main")).resolve("multi-release-1.0.jar");
+        try (ZipOutputStream out = new ZipOutputStream(Files.newOutputStream(jar))) {
+            addEntry(out, "data.txt", "base".repeat(4096));
+            addEntry(out, "META-INF/versions/11/data.txt", "versioned");
+            // the manifest comes after the entries
+            addEntry(out, "META-INF/MANIFEST.MF", "Manifest-Version: 1.0\nMulti-Release: true\n");
+        }
+        Path archive = Files.createDirectories(appRoot.resolve("quarkus")).resolve("quarkus-application.qar");
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        SerializedApplication.write(out, "org.simple.Main", appRoot, List.of(jar), List.of(), archive);
+
+        // nothing but the padding of the segment of the jar
+        assertThat(Files.size(archive)).isLessThanOrEqualTo(4096);
+        SerializedApplication app = SerializedApplication.read(new ByteArrayInputStream(out.toByteArray()), appRoot);
+        RunnerClassLoader runnerClassLoader = app.getRunnerClassLoader();
+        try (var in = runnerClassLoader.getResourceAsStream("data.txt")) {
+            assertThat(in).isNotNull();
+            assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo("versioned");
+        } finally {
+            runnerClassLoader.close();
+        }
+    }
+
+    @Test
+    public void testArchiveSizeLimit() throws Exception {
+        try (IndexedArchive.Writer writer = new IndexedArchive.Writer(appRoot.resolve("test.qar"), 64)) {
+            writer.startSegment();
+            assertThatThrownBy(() -> writer.add("org/acme/Large.class".getBytes(StandardCharsets.UTF_8), new byte[64]))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("fast-jar");
+        }
+    }
+
+    private static void addEntry(ZipOutputStream out, String name, String content) throws Exception {
+        out.putNextEntry(new ZipEntry(name));
+        out.write(content.getBytes(StandardCharsets.UTF_8));
+        out.closeEntry();
+    }
+}
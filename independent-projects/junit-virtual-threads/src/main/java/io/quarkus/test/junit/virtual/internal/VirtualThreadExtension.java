@@ -31,6 +31,13 @@
     private static final Logger LOGGER = Logger.getLogger(VirtualThreadExtension.class.getName());
 
     public static final String _COLLECTOR_KEY = "collector";
+
+    /**
+     * The configuration parameter enabling the fail-fast mode, in which the tests not annotated with {@link ShouldPin} fail
+     * as soon as they pin the carrier thread, as if they were annotated with {@link ShouldNotPin}.
+     */
+    public static final String FAIL_ON_PINNING = "quarkus.test.virtual-threads.fail-on-pinning";
+
     private ExtensionContext.Namespace namespace;
 
     @Override
@@ -52,7 +59,7 @@ public void afterAll(ExtensionContext extensionContext) {
     public void beforeEach(ExtensionContext extensionContext) {
         var clazz = extensionContext.getRequiredTestClass();
         var method = extensionContext.getRequiredTestMethod();
-        if (requiresRecording(clazz, method)) {
+        if (requiresRecording(clazz, method) || failOnPinning(extensionContext)) {
             var store = extensionContext.getStore(namespace);
             store.get(_COLLECTOR_KEY, Collector.class).start();
 
@@ -65,6 +72,10 @@ && getShouldNotPin(extensionContext.getRequiredTestClass(),
         }
     }
 
+    private boolean failOnPinning(ExtensionContext extensionContext) {
+        return extensionContext.getConfigurationParameter(FAIL_ON_PINNING).map(Boolean::parseBoolean).orElse(false);
+    }
+
     private boolean requiresRecording(Class<?> clazz, Method method) {
         if (clazz.isAnnotationPresent(ShouldNotPin.class) || clazz.isAnnotationPresent(ShouldPin.class)
                 || method.isAnnotationPresent(ShouldNotPin.class) || method.isAnnotationPresent(ShouldPin.class)
@@ -131,7 +142,8 @@ private ShouldNotPinRecord getShouldNotPin(Class<?> clazz, Method method) {
     public void afterEach(ExtensionContext extensionContext) {
         Method method = extensionContext.getRequiredTestMethod();
         Class<?> clazz = extensionContext.getRequiredTestClass();
-        if (!requiresRecording(clazz, method)) {
+        boolean failOnPinning = failOnPinning(extensionContext);
+        if (!requiresRecording(clazz, method) && !failOnPinning) {
             return;
         }
         var store = extensionContext.getStore(namespace);
@@ -149,6 +161,9 @@ public void afterEach(ExtensionContext extensionContext) {
 
         ShouldPinRecord pin = getShouldPin(clazz, method);
         ShouldNotPinRecord notpin = getShouldNotPin(clazz, method);
+        if (pin == null && notpin == null && failOnPinning) {
+            notpin = new ShouldNotPinRecord(0);
+        }
 
         if (pin != null) {
             if (pinEvents.isEmpty()) {
@@ -0,0 +1,52 @@
+package io.quarkus.test.junit.virtual.internal;
+
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectMethod;
+import static org.junit.platform.testkit.engine.EventConditions.event;
+import static org.junit.platform.testkit.engine.EventConditions.finishedSuccessfully;
+import static org.junit.platform.testkit.engine.EventConditions.finishedWithFailure;
+import static org.junit.platform.testkit.engine.EventConditions.test;
+
+import org.assertj.core.api.Condition;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledIfSystemProperty;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.junit.platform.testkit.engine.EngineTestKit;
+import org.junit.platform.testkit.engine.Events;
+
+import io.quarkus.test.junit.virtual.internal.ignore.LoomUnitExampleFailOnPinningTest;
+
+@DisabledIfSystemProperty(named = "java.runtime.name", matches = ".*Semeru.*", disabledReason = "Semeru doesn't support JFR yet")
+@EnabledForJreRange(min = JRE.JAVA_21)
+public class FailOnPinningTest {
+
+    @Test
+    void testNotAnnotatedTestFailsWhenPinning() {
+        runTest("failWhenPinDetected").assertThatEvents()
+                .haveExactly(1, event(test("failWhenPinDetected"), finishedWithFailure(new Condition<>(
+                        throwable -> throwable instanceof AssertionError
+                                && throwable.getMessage().contains("was expected to NOT pin the carrier thread"),
+                        ""))));
+    }
+
+    @Test
+    void testShouldPinTakesPrecedence() {
+        runTest("successWhenShouldPinAndPinDetected").assertThatEvents()
+                .haveExactly(1, event(test("successWhenShouldPinAndPinDetected"), finishedSuccessfully()));
+    }
+
+    @Test
+    void testNotPinning() {
+        runTest("successWhenNoPinDetected").assertThatEvents()
+                .haveExactly(1, event(test("successWhenNoPinDetected"), finishedSuccessfully()));
+    }
+
+    private static Events runTest(String methodName) {
+        return EngineTestKit
+                .engine("junit-jupiter")
+                .configurationParameter(VirtualThreadExtension.FAIL_ON_PINNING, "true")
+                .selectors(selectMethod(LoomUnitExampleFailOnPinningTest.class, methodName))
+                .execute()
+                .testEvents();
+    }
+}
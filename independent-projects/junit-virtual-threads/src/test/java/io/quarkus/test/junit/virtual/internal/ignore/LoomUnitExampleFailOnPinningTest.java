@@ -0,0 +1,26 @@
+package io.quarkus.test.junit.virtual.internal.ignore;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.test.junit.virtual.ShouldPin;
+import io.quarkus.test.junit.virtual.VirtualThreadUnit;
+import io.quarkus.test.junit.virtual.internal.TestPinJfrEvent;
+
+@VirtualThreadUnit
+public class LoomUnitExampleFailOnPinningTest {
+
+    @Test
+    void failWhenPinDetected() {
+        TestPinJfrEvent.pin();
+    }
+
+    @Test
+    @ShouldPin
+    void successWhenShouldPinAndPinDetected() {
+        TestPinJfrEvent.pin();
+    }
+
+    @Test
+    void successWhenNoPinDetected() {
+    }
+}
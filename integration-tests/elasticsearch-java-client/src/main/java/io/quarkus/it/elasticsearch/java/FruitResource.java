@@ -4,6 +4,7 @@
 import java.net.URI;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletionStage;
 
 import jakarta.inject.Inject;
 import jakarta.ws.rs.BadRequestException;
@@ -74,4 +75,19 @@ public Response index(List<Fruit> list) throws IOException {
         return Response.ok().build();
     }
 
+    @Path("ingester")
+    @POST
+    public Response ingest(List<Fruit> list) {
+        fruitService.ingest(list);
+        return Response.ok().build();
+    }
+
+    @Path("ingester/reactive")
+    @POST
+    public CompletionStage<Response> ingestReactively(List<Fruit> list) {
+        return fruitService.ingestReactively(list)
+                .map(ignored -> Response.ok().build())
+                .subscribeAsCompletionStage();
+    }
+
 }
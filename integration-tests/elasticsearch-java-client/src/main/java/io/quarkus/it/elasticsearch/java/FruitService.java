@@ -9,6 +9,7 @@
 import jakarta.inject.Inject;
 
 import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._helpers.bulk.BulkIngester;
 import co.elastic.clients.elasticsearch._types.FieldValue;
 import co.elastic.clients.elasticsearch._types.query_dsl.QueryBuilders;
 import co.elastic.clients.elasticsearch.core.BulkRequest;
@@ -20,12 +21,20 @@
 import co.elastic.clients.elasticsearch.core.SearchResponse;
 import co.elastic.clients.elasticsearch.core.search.Hit;
 import co.elastic.clients.elasticsearch.core.search.HitsMetadata;
+import io.quarkus.elasticsearch.javaclient.ReactiveBulkIngester;
+import io.smallrye.mutiny.Uni;
 
 @ApplicationScoped
 public class FruitService {
     @Inject
     ElasticsearchClient client;
 
+    @Inject
+    BulkIngester<Object> ingester;
+
+    @Inject
+    ReactiveBulkIngester reactiveIngester;
+
     public void index(Fruit fruit) throws IOException {
         IndexRequest<Fruit> request = IndexRequest.of(
                 b -> b.index("fruits")
@@ -89,6 +98,24 @@ public void index(List<Fruit> list) throws IOException {
         }
     }
 
+    public void ingest(List<Fruit> list) {
+        for (var fruit : list) {
+            ingester.add(op -> op
+                    .index(idx -> idx.index("fruits").id(fruit.id).document(fruit)));
+        }
+        ingester.flush();
+    }
+
+    public Uni<Void> ingestReactively(List<Fruit> list) {
+        return Uni.join().all(list.stream()
+                .map(fruit -> reactiveIngester.add(op -> op
+                        .index(idx -> idx.index("fruits").id(fruit.id).document(fruit))))
+                .toList())
+                .andFailFast()
+                .invoke(() -> ingester.flush())
+                .replaceWithVoid();
+    }
+
     public void delete(List<String> list) throws IOException {
 
         BulkRequest.Builder br = new BulkRequest.Builder();
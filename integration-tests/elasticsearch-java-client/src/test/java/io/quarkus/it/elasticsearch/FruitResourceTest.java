@@ -100,6 +100,56 @@ public void testEndpoint() {
 
     }
 
+    @Test
+    public void testBulkIngester() {
+        Fruit banana = new Fruit();
+        banana.id = "3";
+        banana.name = "Banana";
+        banana.color = "Yellow";
+        Fruit lemon = new Fruit();
+        lemon.id = "4";
+        lemon.name = "Lemon";
+        lemon.color = "Yellow";
+
+        given()
+                .contentType("application/json")
+                .body(List.of(banana, lemon))
+                .when().post("/fruits/ingester")
+                .then()
+                .statusCode(200);
+
+        await().atMost(2, TimeUnit.SECONDS).pollDelay(500, TimeUnit.MILLISECONDS).untilAsserted(() -> {
+            assertThat(get("/fruits/3").as(Fruit.class)).isNotNull().isEqualTo(banana);
+            List<Fruit> results = get("/fruits/search?color=Yellow").as(LIST_OF_FRUIT_TYPE_REF);
+            assertThat(results).containsExactlyInAnyOrder(banana, lemon);
+        });
+    }
+
+    @Test
+    public void testReactiveBulkIngester() {
+        Fruit orange = new Fruit();
+        orange.id = "5";
+        orange.name = "Orange";
+        orange.color = "Orange";
+        Fruit clementine = new Fruit();
+        clementine.id = "6";
+        clementine.name = "Clementine";
+        clementine.color = "Orange";
+
+        given()
+                .contentType("application/json")
+                .body(List.of(orange, clementine))
+                .when().post("/fruits/ingester/reactive")
+                .then()
+                .statusCode(200);
+
+        await().atMost(2, TimeUnit.SECONDS).pollDelay(500, TimeUnit.MILLISECONDS).untilAsserted(() -> {
+            assertThat(get("/fruits/5").as(Fruit.class)).isNotNull().isEqualTo(orange);
+            List<Fruit> results = get("/fruits/search?color=Orange").as(LIST_OF_FRUIT_TYPE_REF);
+            assertThat(results).containsExactlyInAnyOrder(orange, clementine);
+        });
+    }
+
     @Test
     public void testHealth() {
         RestAssured.when().get("/q/health/ready").then()
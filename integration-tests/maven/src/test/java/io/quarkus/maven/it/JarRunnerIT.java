@@ -204,6 +204,11 @@ public void testThatAotJarCustomOutputDirFormatWorks() throws Exception {
         assertThatFastJarFormatWorks("custom", "aot-jar");
     }
 
+    @Test
+    public void testThatIndexedJarFormatWorks() throws Exception {
+        assertThatFastJarFormatWorks(null, "indexed-jar");
+    }
+
     @Test
     public void testThatMutableFastJarWorks() throws Exception {
         assertThatMutableFastJarWorks("providers", "providers");
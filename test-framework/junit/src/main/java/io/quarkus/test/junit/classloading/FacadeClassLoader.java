@@ -119,6 +119,7 @@ public final class FacadeClassLoader extends ClassLoader implements Closeable {
     private QuarkusClassLoader keyMakerClassLoader;
 
     private final boolean isContinuousTesting;
+    private final boolean isolateTestClasses;
 
     private final List<FacadeClassLoaderProvider> facadeClassLoaderProviders;
 
@@ -130,7 +131,19 @@ public FacadeClassLoader(ClassLoader parent) {
     public FacadeClassLoader(ClassLoader parent, boolean isAuxiliaryApplication, CuratedApplication curatedApplication,
             final Map<String, String> profileNames,
             final Set<String> quarkusTestClasses, final String classesPath) {
+        this(parent, isAuxiliaryApplication, curatedApplication, profileNames, quarkusTestClasses, classesPath, false);
+    }
+
+    /**
+     * @param isolateTestClasses whether each test class, along with its nested classes, gets its own application, even if
+     *        it could share one with other test classes; called reflectively by JUnitTestRunner to run the test classes
+     *        in parallel
+     */
+    public FacadeClassLoader(ClassLoader parent, boolean isAuxiliaryApplication, CuratedApplication curatedApplication,
+            final Map<String, String> profileNames,
+            final Set<String> quarkusTestClasses, final String classesPath, boolean isolateTestClasses) {
         super(parent);
+        this.isolateTestClasses = isolateTestClasses;
         // Note that in normal testing, the parent is the system classloader, and in continuous testing, the parent is a quarkus classloader
         // It would be nice to resolve that inconsistency, but I'm not sure it's very possible
 
@@ -485,12 +498,12 @@ private QuarkusClassLoader getQuarkusClassLoader(Class<?> requiredTestClass, Cla
                 final String resourceKey = requiredTestClass != null ? getResourceKey(requiredTestClass, profile) : null;
 
                 // The resource key might be null, and that's ok
-                key = profileKey + resourceKey;
+                key = profileKey + resourceKey + getIsolationKey(requiredTestClass);
             } else {
                 final String resourceKey = requiredTestClass != null ? getResourceKey(requiredTestClass, profile) : null;
 
                 // The resource key might be null, and that's ok
-                key = profileKey + resourceKey;
+                key = profileKey + resourceKey + getIsolationKey(requiredTestClass);
                 classLoader = runtimeClassLoaders.get(key);
                 if (classLoader == null) {
                     // Making a classloader uses the profile key to look up a curated application
@@ -516,6 +529,18 @@ private static String getProfileKey(Class<?> profile) {
         return KEY_PREFIX + profileName;
     }
 
+    private String getIsolationKey(Class<?> requiredTestClass) {
+        if (!isolateTestClasses || requiredTestClass == null) {
+            return "";
+        }
+        // Nested classes run on the application of their enclosing class
+        Class<?> outermost = requiredTestClass;
+        while (outermost.getEnclosingClass() != null) {
+            outermost = outermost.getEnclosingClass();
+        }
+        return "$$" + outermost.getName();
+    }
+
     private String getResourceKey(Class<?> requiredTestClass, Class<?> profile)
             throws NoSuchMethodException, ClassNotFoundException, IllegalAccessException, InvocationTargetException {
 